@@ -65,6 +65,26 @@ public class TransformersEmbeddingModelAutoConfiguration {
 
 		embeddingModel.setModelOutputName(properties.getOnnx().getModelOutputName());
 
+		TransformersEmbeddingModelProperties.Onnx onnx = properties.getOnnx();
+		embeddingModel.setSessionPoolSize(onnx.getSessionPoolSize());
+		embeddingModel.setIntraOpNumThreads(onnx.getIntraOpNumThreads());
+		embeddingModel.setInterOpNumThreads(onnx.getInterOpNumThreads());
+		if (onnx.getOptimizationLevel() != null) {
+			embeddingModel.setOptimizationLevel(onnx.getOptimizationLevel());
+		}
+		if (onnx.getExecutionMode() != null) {
+			embeddingModel.setExecutionMode(onnx.getExecutionMode());
+		}
+		if (onnx.getMemoryArenaEnabled() != null) {
+			embeddingModel.setMemoryArenaEnabled(onnx.getMemoryArenaEnabled());
+		}
+		if (onnx.getMemoryPatternOptimization() != null) {
+			embeddingModel.setMemoryPatternOptimization(onnx.getMemoryPatternOptimization());
+		}
+		if (onnx.getOptimizedModelFilePath() != null) {
+			embeddingModel.setOptimizedModelFilePath(onnx.getOptimizedModelFilePath());
+		}
+
 		observationConvention.ifAvailable(embeddingModel::setObservationConvention);
 
 		return embeddingModel;
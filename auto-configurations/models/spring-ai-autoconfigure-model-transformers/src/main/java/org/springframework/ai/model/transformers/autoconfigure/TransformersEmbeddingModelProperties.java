@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 
 import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
+import ai.onnxruntime.OrtSession;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.MetadataMode;
@@ -177,6 +178,51 @@ public class TransformersEmbeddingModelProperties {
 		 */
 		private int gpuDeviceId = -1;
 
+		/**
+		 * Number of ONNX sessions serving the callers, each running one request at a
+		 * time. When 0, a single session runs all the requests concurrently.
+		 */
+		private int sessionPoolSize = 0;
+
+		/**
+		 * Graph optimization level applied when loading the model. Defaults to the
+		 * runtime default, ALL_OPT.
+		 */
+		private OrtSession.SessionOptions.OptLevel optimizationLevel;
+
+		/**
+		 * Number of threads parallelizing an operator within a session. When 0, one per
+		 * physical core.
+		 */
+		private int intraOpNumThreads = 0;
+
+		/**
+		 * Number of threads running independent operators in parallel, with the PARALLEL
+		 * execution mode. When 0, the runtime decides.
+		 */
+		private int interOpNumThreads = 0;
+
+		/**
+		 * Execution mode of the operators, SEQUENTIAL or PARALLEL.
+		 */
+		private OrtSession.SessionOptions.ExecutionMode executionMode;
+
+		/**
+		 * Whether the CPU memory arena keeps the memory of previous runs for reuse.
+		 */
+		private Boolean memoryArenaEnabled;
+
+		/**
+		 * Whether the runtime plans the memory of a run from the previous runs.
+		 */
+		private Boolean memoryPatternOptimization;
+
+		/**
+		 * File to save the optimized model to, for loading it later with a lower
+		 * optimization level.
+		 */
+		private String optimizedModelFilePath;
+
 		public String getModelUri() {
 			return this.modelUri;
 		}
@@ -201,6 +247,70 @@ public class TransformersEmbeddingModelProperties {
 			this.modelOutputName = modelOutputName;
 		}
 
+		public int getSessionPoolSize() {
+			return this.sessionPoolSize;
+		}
+
+		public void setSessionPoolSize(int sessionPoolSize) {
+			this.sessionPoolSize = sessionPoolSize;
+		}
+
+		public OrtSession.SessionOptions.OptLevel getOptimizationLevel() {
+			return this.optimizationLevel;
+		}
+
+		public void setOptimizationLevel(OrtSession.SessionOptions.OptLevel optimizationLevel) {
+			this.optimizationLevel = optimizationLevel;
+		}
+
+		public int getIntraOpNumThreads() {
+			return this.intraOpNumThreads;
+		}
+
+		public void setIntraOpNumThreads(int intraOpNumThreads) {
+			this.intraOpNumThreads = intraOpNumThreads;
+		}
+
+		public int getInterOpNumThreads() {
+			return this.interOpNumThreads;
+		}
+
+		public void setInterOpNumThreads(int interOpNumThreads) {
+			this.interOpNumThreads = interOpNumThreads;
+		}
+
+		public OrtSession.SessionOptions.ExecutionMode getExecutionMode() {
+			return this.executionMode;
+		}
+
+		public void setExecutionMode(OrtSession.SessionOptions.ExecutionMode executionMode) {
+			this.executionMode = executionMode;
+		}
+
+		public Boolean getMemoryArenaEnabled() {
+			return this.memoryArenaEnabled;
+		}
+
+		public void setMemoryArenaEnabled(Boolean memoryArenaEnabled) {
+			this.memoryArenaEnabled = memoryArenaEnabled;
+		}
+
+		public Boolean getMemoryPatternOptimization() {
+			return this.memoryPatternOptimization;
+		}
+
+		public void setMemoryPatternOptimization(Boolean memoryPatternOptimization) {
+			this.memoryPatternOptimization = memoryPatternOptimization;
+		}
+
+		public String getOptimizedModelFilePath() {
+			return this.optimizedModelFilePath;
+		}
+
+		public void setOptimizedModelFilePath(String optimizedModelFilePath) {
+			this.optimizedModelFilePath = optimizedModelFilePath;
+		}
+
 	}
 
 }
@@ -37,6 +37,7 @@ import org.springframework.boot.context.properties.PropertyMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.MimeType;
@@ -68,7 +69,7 @@ public class MongoDBAtlasVectorStoreAutoConfiguration {
 	MongoDBAtlasVectorStore vectorStore(MongoTemplate mongoTemplate, EmbeddingModel embeddingModel,
 			MongoDBAtlasVectorStoreProperties properties, ObjectProvider<ObservationRegistry> observationRegistry,
 			ObjectProvider<VectorStoreObservationConvention> customObservationConvention,
-			BatchingStrategy batchingStrategy) {
+			BatchingStrategy batchingStrategy, ObjectProvider<ReactiveMongoOperations> reactiveMongoOperations) {
 
 		MongoDBAtlasVectorStore.Builder builder = MongoDBAtlasVectorStore.builder(mongoTemplate, embeddingModel)
 			.initializeSchema(properties.isInitializeSchema())
@@ -80,6 +81,7 @@ public class MongoDBAtlasVectorStoreAutoConfiguration {
 		mapper.from(properties::getCollectionName).whenHasText().to(builder::collectionName);
 		mapper.from(properties::getPathName).whenHasText().to(builder::pathName);
 		mapper.from(properties::getIndexName).whenHasText().to(builder::vectorIndexName);
+		reactiveMongoOperations.ifUnique(builder::reactiveMongoOperations);
 
 		List<String> metadataFields = properties.getMetadataFieldsToFilter();
 		if (!CollectionUtils.isEmpty(metadataFields)) {
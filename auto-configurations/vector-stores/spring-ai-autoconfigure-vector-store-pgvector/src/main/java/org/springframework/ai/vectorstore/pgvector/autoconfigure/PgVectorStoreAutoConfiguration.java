@@ -80,6 +80,11 @@ public class PgVectorStoreAutoConfiguration {
 			.customObservationConvention(customObservationConvention.getIfAvailable(() -> null))
 			.batchingStrategy(batchingStrategy)
 			.maxDocumentBatchSize(properties.getMaxDocumentBatchSize())
+			.ingestionMode(properties.getIngestionMode())
+			.deferIndexCreation(properties.isDeferIndexCreation())
+			.quantizationType(properties.getQuantizationType())
+			.quantizationOversampling(properties.getQuantizationOversampling())
+			.fetchSize(properties.getFetchSize())
 			.build();
 	}
 
@@ -53,6 +53,16 @@ public class PgVectorStoreProperties extends CommonVectorStoreProperties {
 
 	private int maxDocumentBatchSize = PgVectorStore.MAX_DOCUMENT_BATCH_SIZE;
 
+	private PgVectorStore.PgIngestionMode ingestionMode = PgVectorStore.DEFAULT_INGESTION_MODE;
+
+	private boolean deferIndexCreation = false;
+
+	private PgVectorStore.PgQuantizationType quantizationType = PgVectorStore.DEFAULT_QUANTIZATION_TYPE;
+
+	private int quantizationOversampling = PgVectorStore.DEFAULT_QUANTIZATION_OVERSAMPLING;
+
+	private int fetchSize = PgVectorStore.DEFAULT_FETCH_SIZE;
+
 	public int getDimensions() {
 		return this.dimensions;
 	}
@@ -125,4 +135,44 @@ public class PgVectorStoreProperties extends CommonVectorStoreProperties {
 		this.maxDocumentBatchSize = maxDocumentBatchSize;
 	}
 
+	public PgVectorStore.PgIngestionMode getIngestionMode() {
+		return this.ingestionMode;
+	}
+
+	public void setIngestionMode(PgVectorStore.PgIngestionMode ingestionMode) {
+		this.ingestionMode = ingestionMode;
+	}
+
+	public boolean isDeferIndexCreation() {
+		return this.deferIndexCreation;
+	}
+
+	public void setDeferIndexCreation(boolean deferIndexCreation) {
+		this.deferIndexCreation = deferIndexCreation;
+	}
+
+	public PgVectorStore.PgQuantizationType getQuantizationType() {
+		return this.quantizationType;
+	}
+
+	public void setQuantizationType(PgVectorStore.PgQuantizationType quantizationType) {
+		this.quantizationType = quantizationType;
+	}
+
+	public int getQuantizationOversampling() {
+		return this.quantizationOversampling;
+	}
+
+	public void setQuantizationOversampling(int quantizationOversampling) {
+		this.quantizationOversampling = quantizationOversampling;
+	}
+
+	public int getFetchSize() {
+		return this.fetchSize;
+	}
+
+	public void setFetchSize(int fetchSize) {
+		this.fetchSize = fetchSize;
+	}
+
 }
@@ -17,12 +17,18 @@
 package org.springframework.ai.reader.pdf;
 
 import java.awt.Rectangle;
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-import org.apache.pdfbox.pdfparser.PDFParser;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.slf4j.Logger;
@@ -34,6 +40,7 @@ import org.springframework.ai.reader.pdf.config.PdfDocumentReaderConfig;
 import org.springframework.ai.reader.pdf.layout.PDFLayoutTextStripperByArea;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
@@ -42,10 +49,14 @@ import org.springframework.util.StringUtils;
  * into a single output document. Use {@link PdfDocumentReaderConfig} for customization
  * options. The default configuration is: - pagesPerDocument = 1 - pageTopMargin = 0 -
  * pageBottomMargin = 0
+ * <p>
+ * Use {@link #stream()} to extract the pages lazily, as the documents are consumed.
+ * <p>
+ * A PDF file is read in place, and its file handle is held until the reader is closed.
  *
  * @author Christian Tzolov
  */
-public class PagePdfDocumentReader implements DocumentReader {
+public class PagePdfDocumentReader implements DocumentReader, AutoCloseable {
 
 	public static final String METADATA_START_PAGE_NUMBER = "page_number";
 
@@ -55,6 +66,9 @@ public class PagePdfDocumentReader implements DocumentReader {
 
 	private static final String PDF_PAGE_REGION = "pdfPageRegion";
 
+	/**
+	 * The parsed PDF, open until the reader is closed.
+	 */
 	protected final PDDocument document;
 
 	private final Logger logger = LoggerFactory.getLogger(getClass());
@@ -63,6 +77,8 @@ public class PagePdfDocumentReader implements DocumentReader {
 
 	private PdfDocumentReaderConfig config;
 
+	private final PdfDocumentSource source;
+
 	public PagePdfDocumentReader(String resourceUrl) {
 		this(new DefaultResourceLoader().getResource(resourceUrl));
 	}
@@ -77,9 +93,8 @@ public class PagePdfDocumentReader implements DocumentReader {
 
 	public PagePdfDocumentReader(Resource pdfResource, PdfDocumentReaderConfig config) {
 		try {
-			PDFParser pdfParser = new PDFParser(
-					new org.apache.pdfbox.io.RandomAccessReadBuffer(pdfResource.getInputStream()));
-			this.document = pdfParser.parse();
+			this.source = new PdfDocumentSource(pdfResource);
+			this.document = this.source.document();
 
 			this.resourceFileName = pdfResource.getFilename();
 			this.config = config;
@@ -91,86 +106,203 @@ public class PagePdfDocumentReader implements DocumentReader {
 
 	@Override
 	public List<Document> get() {
+		try (Stream<Document> documents = stream()) {
+			return documents.collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * Lazily reads the pages, extracting the text of each page group only when the next
+	 * document is requested. Combined with
+	 * {@link org.springframework.ai.transformer.splitter.TokenTextSplitter#splitStream(Stream)}
+	 * it lets large PDFs be chunked without holding the text of all pages in memory.
+	 * <p>
+	 * With a {@link PdfDocumentReaderConfig#parallelism} above 1, the pages are extracted
+	 * ahead by parallel workers and the documents are still emitted in page order, as
+	 * soon as their pages are extracted. Close the stream to stop the workers when it is
+	 * not consumed entirely.
+	 * @return the documents, in page order
+	 */
+	public Stream<Document> stream() {
+		PageGroupIterator iterator = new PageGroupIterator(this.source.acquire());
+		return StreamSupport
+			.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+			.onClose(iterator::close);
+	}
+
+	protected Document toDocument(PDPage page, String docText, int startPageNumber, int endPageNumber) {
+		Document doc = new Document(docText);
+		doc.getMetadata().put(METADATA_START_PAGE_NUMBER, startPageNumber);
+		if (startPageNumber != endPageNumber) {
+			doc.getMetadata().put(METADATA_END_PAGE_NUMBER, endPageNumber);
+		}
+		doc.getMetadata().put(METADATA_FILE_NAME, this.resourceFileName);
+		return doc;
+	}
+
+	/**
+	 * Extracts the text of a page within the configured margins.
+	 * @return the formatted text, or {@code null} if the page has no text
+	 */
+	@Nullable
+	private String extractPageText(PDFLayoutTextStripperByArea pdfTextStripper, PDPage page, int pageNumber) {
+		int x0 = (int) page.getMediaBox().getLowerLeftX();
+		int xW = (int) page.getMediaBox().getWidth();
+
+		int y0 = (int) page.getMediaBox().getLowerLeftY() + this.config.pageTopMargin;
+		int yW = (int) page.getMediaBox().getHeight() - (this.config.pageTopMargin + this.config.pageBottomMargin);
 
-		List<Document> readDocuments = new ArrayList<>();
 		try {
-			var pdfTextStripper = new PDFLayoutTextStripperByArea();
+			pdfTextStripper.addRegion(PDF_PAGE_REGION, new Rectangle(x0, y0, xW, yW));
+			pdfTextStripper.extractRegions(page);
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		var pageText = pdfTextStripper.getTextForRegion(PDF_PAGE_REGION);
+		pdfTextStripper.removeRegion(PDF_PAGE_REGION);
 
-			int pageNumber = 0;
-			int pagesPerDocument = 0;
-			int startPageNumber = pageNumber;
+		return StringUtils.hasText(pageText) ? this.config.pageExtractedTextFormatter.format(pageText, pageNumber)
+				: null;
+	}
 
-			List<String> pageTextGroupList = new ArrayList<>();
+	/**
+	 * Releases the PDF. The reader cannot be read once closed.
+	 */
+	@Override
+	public void close() {
+		this.source.close();
+	}
 
-			int totalPages = this.document.getDocumentCatalog().getPages().getCount();
-			int logFrequency = totalPages > 10 ? totalPages / 10 : 1; // if less than 10
-			// pages, print
-			// each iteration
-			int counter = 0;
+	private static PDFLayoutTextStripperByArea createTextStripper() {
+		try {
+			return new PDFLayoutTextStripperByArea();
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
 
-			PDPage lastPage = this.document.getDocumentCatalog().getPages().iterator().next();
-			for (PDPage page : this.document.getDocumentCatalog().getPages()) {
-				lastPage = page;
-				if (counter % logFrequency == 0 && counter / logFrequency < 10) {
-					logger.info("Processing PDF page: {}", (counter + 1));
-				}
-				counter++;
+	/**
+	 * Extracts the pages one at a time, or takes them from a parallel extraction,
+	 * grouping them into documents.
+	 */
+	private final class PageGroupIterator implements Iterator<Document> {
 
-				pagesPerDocument++;
+		private final PDFLayoutTextStripperByArea pdfTextStripper;
 
-				if (this.config.pagesPerDocument != PdfDocumentReaderConfig.ALL_PAGES
-						&& pagesPerDocument >= this.config.pagesPerDocument) {
-					pagesPerDocument = 0;
+		@Nullable
+		private final ParallelPdfExtraction<String> extraction;
 
-					var aggregatedPageTextGroup = pageTextGroupList.stream().collect(Collectors.joining());
-					if (StringUtils.hasText(aggregatedPageTextGroup)) {
-						readDocuments.add(toDocument(page, aggregatedPageTextGroup, startPageNumber, pageNumber));
-					}
-					pageTextGroupList.clear();
+		private final Iterator<PDPage> pages;
 
-					startPageNumber = pageNumber + 1;
-				}
-				int x0 = (int) page.getMediaBox().getLowerLeftX();
-				int xW = (int) page.getMediaBox().getWidth();
+		private final List<String> pageTextGroupList = new ArrayList<>();
 
-				int y0 = (int) page.getMediaBox().getLowerLeftY() + this.config.pageTopMargin;
-				int yW = (int) page.getMediaBox().getHeight()
-						- (this.config.pageTopMargin + this.config.pageBottomMargin);
+		private final int totalPages;
 
-				pdfTextStripper.addRegion(PDF_PAGE_REGION, new Rectangle(x0, y0, xW, yW));
-				pdfTextStripper.extractRegions(page);
-				var pageText = pdfTextStripper.getTextForRegion(PDF_PAGE_REGION);
+		private final int logFrequency;
 
-				if (StringUtils.hasText(pageText)) {
+		private int pageNumber = 0;
 
-					pageText = this.config.pageExtractedTextFormatter.format(pageText, pageNumber);
+		private int pagesPerDocument = 0;
 
-					pageTextGroupList.add(pageText);
-				}
-				pageNumber++;
-				pdfTextStripper.removeRegion(PDF_PAGE_REGION);
+		private int startPageNumber = 0;
+
+		private int counter = 0;
+
+		@Nullable
+		private PDPage lastPage;
+
+		@Nullable
+		private Document next;
+
+		private boolean finished;
+
+		private PageGroupIterator(PDDocument document) {
+			this.pages = document.getDocumentCatalog().getPages().iterator();
+			this.totalPages = document.getDocumentCatalog().getPages().getCount();
+			// if less than 10 pages, print each iteration
+			this.logFrequency = this.totalPages > 10 ? this.totalPages / 10 : 1;
+			this.pdfTextStripper = createTextStripper();
+			File pdfFile = PagePdfDocumentReader.this.source.file();
+			if (PagePdfDocumentReader.this.config.parallelism > 1 && pdfFile != null && this.totalPages > 1) {
+				this.extraction = new ParallelPdfExtraction<>(pdfFile, this.totalPages,
+						PagePdfDocumentReader.this.config.parallelism, PagePdfDocumentReader.this.config.executor,
+						workerDocument -> {
+							PDFLayoutTextStripperByArea workerTextStripper = createTextStripper();
+							return index -> extractPageText(workerTextStripper, workerDocument.getPage(index), index);
+						});
 			}
-			if (!CollectionUtils.isEmpty(pageTextGroupList)) {
-				readDocuments.add(toDocument(lastPage, pageTextGroupList.stream().collect(Collectors.joining()),
-						startPageNumber, pageNumber));
+			else {
+				this.extraction = null;
 			}
-			logger.info("Processing {} pages", totalPages);
-			return readDocuments;
+		}
 
+		private void close() {
+			if (this.extraction != null) {
+				this.extraction.cancel();
+			}
 		}
-		catch (IOException e) {
-			throw new RuntimeException(e);
+
+		@Override
+		public boolean hasNext() {
+			while (this.next == null && !this.finished) {
+				if (this.pages.hasNext()) {
+					readPage(this.pages.next());
+				}
+				else {
+					if (!CollectionUtils.isEmpty(this.pageTextGroupList)) {
+						this.next = toDocument(this.lastPage,
+								this.pageTextGroupList.stream().collect(Collectors.joining()), this.startPageNumber,
+								this.pageNumber);
+					}
+					logger.info("Processing {} pages", this.totalPages);
+					this.finished = true;
+					close();
+				}
+			}
+			return this.next != null;
 		}
-	}
 
-	protected Document toDocument(PDPage page, String docText, int startPageNumber, int endPageNumber) {
-		Document doc = new Document(docText);
-		doc.getMetadata().put(METADATA_START_PAGE_NUMBER, startPageNumber);
-		if (startPageNumber != endPageNumber) {
-			doc.getMetadata().put(METADATA_END_PAGE_NUMBER, endPageNumber);
+		@Override
+		public Document next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			Document document = this.next;
+			this.next = null;
+			return document;
 		}
-		doc.getMetadata().put(METADATA_FILE_NAME, this.resourceFileName);
-		return doc;
+
+		private void readPage(PDPage page) {
+			this.lastPage = page;
+			if (this.counter % this.logFrequency == 0 && this.counter / this.logFrequency < 10) {
+				logger.info("Processing PDF page: {}", (this.counter + 1));
+			}
+			this.counter++;
+
+			this.pagesPerDocument++;
+
+			if (PagePdfDocumentReader.this.config.pagesPerDocument != PdfDocumentReaderConfig.ALL_PAGES
+					&& this.pagesPerDocument >= PagePdfDocumentReader.this.config.pagesPerDocument) {
+				this.pagesPerDocument = 0;
+
+				var aggregatedPageTextGroup = this.pageTextGroupList.stream().collect(Collectors.joining());
+				if (StringUtils.hasText(aggregatedPageTextGroup)) {
+					this.next = toDocument(page, aggregatedPageTextGroup, this.startPageNumber, this.pageNumber);
+				}
+				this.pageTextGroupList.clear();
+
+				this.startPageNumber = this.pageNumber + 1;
+			}
+			var pageText = (this.extraction != null) ? this.extraction.get(this.pageNumber)
+					: extractPageText(this.pdfTextStripper, page, this.pageNumber);
+			if (pageText != null) {
+				this.pageTextGroupList.add(pageText);
+			}
+			this.pageNumber++;
+		}
+
 	}
 
 }
@@ -18,10 +18,8 @@ package org.springframework.ai.reader.pdf;
 
 import java.awt.Rectangle;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
-import org.apache.pdfbox.pdfparser.PDFParser;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,6 +32,7 @@ import org.springframework.ai.reader.pdf.config.PdfDocumentReaderConfig;
 import org.springframework.ai.reader.pdf.layout.PDFLayoutTextStripperByArea;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
@@ -45,9 +44,11 @@ import org.springframework.util.StringUtils;
  * Apache PDFBox library for parsing PDF content and converting it into text paragraphs.
  * The paragraphs are grouped into {@link Document} objects.
  *
+ * A PDF file is read in place, and its file handle is held until the reader is closed.
+ *
  * @author Christian Tzolov
  */
-public class ParagraphPdfDocumentReader implements DocumentReader {
+public class ParagraphPdfDocumentReader implements DocumentReader, AutoCloseable {
 
 	// Constants for metadata keys
 	private static final String METADATA_START_PAGE = "page_number";
@@ -60,6 +61,9 @@ public class ParagraphPdfDocumentReader implements DocumentReader {
 
 	private static final String METADATA_FILE_NAME = "file_name";
 
+	/**
+	 * The parsed PDF, open until the reader is closed.
+	 */
 	protected final PDDocument document;
 
 	private final Logger logger = LoggerFactory.getLogger(getClass());
@@ -70,6 +74,8 @@ public class ParagraphPdfDocumentReader implements DocumentReader {
 
 	private PdfDocumentReaderConfig config;
 
+	private final PdfDocumentSource source;
+
 	/**
 	 * Constructs a ParagraphPdfDocumentReader using a resource URL.
 	 * @param resourceUrl The URL of the PDF resource.
@@ -103,13 +109,19 @@ public class ParagraphPdfDocumentReader implements DocumentReader {
 	public ParagraphPdfDocumentReader(Resource pdfResource, PdfDocumentReaderConfig config) {
 
 		try {
-			PDFParser pdfParser = new PDFParser(
-					new org.apache.pdfbox.io.RandomAccessReadBuffer(pdfResource.getInputStream()));
-			this.document = pdfParser.parse();
+			this.source = new PdfDocumentSource(pdfResource);
+
+			this.document = this.source.document();
 
 			this.config = config;
 
-			this.paragraphTextExtractor = new ParagraphManager(this.document);
+			try {
+				this.paragraphTextExtractor = new ParagraphManager(this.document);
+			}
+			catch (RuntimeException ex) {
+				this.source.close();
+				throw ex;
+			}
 
 			this.resourceFileName = pdfResource.getFilename();
 		}
@@ -122,11 +134,18 @@ public class ParagraphPdfDocumentReader implements DocumentReader {
 	}
 
 	/**
-	 * Reads and processes the PDF document to extract paragraphs.
+	 * Reads and processes the PDF document to extract paragraphs. With a
+	 * {@link PdfDocumentReaderConfig#parallelism} above 1 and a file resource, the
+	 * paragraphs are extracted by parallel workers, each loading its own copy of the PDF.
 	 * @return A list of {@link Document} objects representing paragraphs.
 	 */
 	@Override
 	public List<Document> get() {
+		this.source.acquire();
+		return readParagraphs();
+	}
+
+	private List<Document> readParagraphs() {
 
 		var paragraphs = this.paragraphTextExtractor.flatten();
 
@@ -134,21 +153,36 @@ public class ParagraphPdfDocumentReader implements DocumentReader {
 
 		if (!CollectionUtils.isEmpty(paragraphs)) {
 			logger.info("Start processing paragraphs from PDF");
-			Iterator<Paragraph> itr = paragraphs.iterator();
 
-			var current = itr.next();
+			// each paragraph spans to the start of the next one
+			List<ParagraphRange> ranges = new ArrayList<>(paragraphs.size());
+			if (paragraphs.size() == 1) {
+				ranges.add(new ParagraphRange(paragraphs.get(0), paragraphs.get(0)));
+			}
+			for (int i = 0; i + 1 < paragraphs.size(); i++) {
+				ranges.add(new ParagraphRange(paragraphs.get(i), paragraphs.get(i + 1)));
+			}
 
-			if (!itr.hasNext()) {
-				documents.add(toDocument(current, current));
+			ParallelPdfExtraction<String> extraction = null;
+			if (this.config.parallelism > 1 && this.source.file() != null && ranges.size() > 1) {
+				extraction = new ParallelPdfExtraction<>(this.source.file(), ranges.size(), this.config.parallelism,
+						this.config.executor, workerDocument -> index -> getTextBetweenParagraphs(workerDocument,
+								ranges.get(index).from(), ranges.get(index).to()));
 			}
-			else {
-				while (itr.hasNext()) {
-					var next = itr.next();
-					Document document = toDocument(current, next);
+
+			try {
+				for (int i = 0; i < ranges.size(); i++) {
+					ParagraphRange range = ranges.get(i);
+					Document document = (extraction != null) ? toDocument(range.from(), range.to(), extraction.get(i))
+							: toDocument(range.from(), range.to());
 					if (document != null && StringUtils.hasText(document.getText())) {
-						documents.add(toDocument(current, next));
+						documents.add(document);
 					}
-					current = next;
+				}
+			}
+			finally {
+				if (extraction != null) {
+					extraction.cancel();
 				}
 			}
 		}
@@ -157,8 +191,11 @@ public class ParagraphPdfDocumentReader implements DocumentReader {
 	}
 
 	protected Document toDocument(Paragraph from, Paragraph to) {
+		return toDocument(from, to, this.getTextBetweenParagraphs(from, to));
+	}
 
-		String docText = this.getTextBetweenParagraphs(from, to);
+	@Nullable
+	private Document toDocument(Paragraph from, Paragraph to, String docText) {
 
 		if (!StringUtils.hasText(docText)) {
 			return null;
@@ -179,6 +216,18 @@ public class ParagraphPdfDocumentReader implements DocumentReader {
 	}
 
 	public String getTextBetweenParagraphs(Paragraph fromParagraph, Paragraph toParagraph) {
+		return getTextBetweenParagraphs(this.source.acquire(), fromParagraph, toParagraph);
+	}
+
+	/**
+	 * Releases the PDF. The reader cannot be read once closed.
+	 */
+	@Override
+	public void close() {
+		this.source.close();
+	}
+
+	private String getTextBetweenParagraphs(PDDocument document, Paragraph fromParagraph, Paragraph toParagraph) {
 
 		// Page started from index 0, while PDFBOx getPage return them from index 1.
 		int startPage = fromParagraph.startPageNumber() - 1;
@@ -193,7 +242,7 @@ public class ParagraphPdfDocumentReader implements DocumentReader {
 
 			for (int pageNumber = startPage; pageNumber <= endPage; pageNumber++) {
 
-				var page = this.document.getPage(pageNumber);
+				var page = document.getPage(pageNumber);
 
 				int fromPosition = fromParagraph.position();
 				int toPosition = toParagraph.position();
@@ -249,4 +298,8 @@ public class ParagraphPdfDocumentReader implements DocumentReader {
 		}
 	}
 
+	private record ParagraphRange(Paragraph from, Paragraph to) {
+
+	}
+
 }
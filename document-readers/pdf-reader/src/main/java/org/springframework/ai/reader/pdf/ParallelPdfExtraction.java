@@ -0,0 +1,273 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.reader.pdf;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import org.apache.pdfbox.io.RandomAccessReadBufferedFile;
+import org.apache.pdfbox.pdfparser.PDFParser;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Runs indexed extraction tasks, such as extracting the text of each page, on several
+ * workers. A {@link PDDocument} is not thread-safe, so each worker parses its own
+ * instance of the file, read in place with a {@link RandomAccessReadBufferedFile}.
+ * Workers claim small contiguous ranges of tasks in order, so the first results are
+ * available early and the results can be consumed in order while later tasks run. The
+ * workers run at most a window of tasks ahead of the consumer, and a result is dropped
+ * once consumed, so the memory held is bounded by the window rather than by the size of
+ * the PDF.
+ *
+ * @param <T> the type of the task results
+ * @since 1.0.0
+ */
+final class ParallelPdfExtraction<T> {
+
+	private static final Logger logger = LoggerFactory.getLogger(ParallelPdfExtraction.class);
+
+	// ranges per worker, to balance pages of uneven cost across workers
+	private static final int RANGES_PER_WORKER = 8;
+
+	private static final int MAX_RANGE_SIZE = 8;
+
+	// ranges each worker may run ahead of the consumer
+	private static final int READ_AHEAD_RANGES_PER_WORKER = 2;
+
+	private final File file;
+
+	private final Function<PDDocument, IntFunction<T>> taskFactory;
+
+	private final AtomicReferenceArray<CompletableFuture<T>> results;
+
+	private final int taskCount;
+
+	private final int rangeSize;
+
+	private final int window;
+
+	private final Object claims = new Object();
+
+	private final AtomicInteger openWorkers;
+
+	private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+	// guarded by claims
+	private int nextTask;
+
+	// guarded by claims
+	private int consumed;
+
+	private volatile boolean cancelled;
+
+	/**
+	 * Starts the extraction.
+	 * @param file the PDF file
+	 * @param taskCount the number of tasks
+	 * @param parallelism the number of workers
+	 * @param executor the executor running the workers, or {@code null} to run them on
+	 * threads of their own
+	 * @param taskFactory creates, for the document of a worker, the function running a
+	 * task by index
+	 */
+	ParallelPdfExtraction(File file, int taskCount, int parallelism, @Nullable Executor executor,
+			Function<PDDocument, IntFunction<T>> taskFactory) {
+		this.file = file;
+		this.taskFactory = taskFactory;
+		this.taskCount = taskCount;
+		this.results = new AtomicReferenceArray<>(taskCount);
+		for (int i = 0; i < taskCount; i++) {
+			this.results.set(i, new CompletableFuture<>());
+		}
+		int workers = Math.max(1, Math.min(parallelism, taskCount));
+		this.rangeSize = Math.max(1, Math.min(MAX_RANGE_SIZE, taskCount / (workers * RANGES_PER_WORKER)));
+		this.window = workers * this.rangeSize * READ_AHEAD_RANGES_PER_WORKER;
+		this.openWorkers = new AtomicInteger(workers);
+		ExecutorService ownExecutor = (executor != null) ? null
+				: Executors.newFixedThreadPool(workers, workerThreadFactory());
+		try {
+			for (int i = 0; i < workers; i++) {
+				try {
+					((executor != null) ? executor : ownExecutor).execute(this::work);
+				}
+				catch (RejectedExecutionException ex) {
+					// the workers that did not start do not run, and the ones that did
+					// stop
+					this.failure.compareAndSet(null, ex);
+					cancel();
+					if (this.openWorkers.addAndGet(i - workers) == 0) {
+						failPending();
+					}
+					break;
+				}
+			}
+		}
+		finally {
+			if (ownExecutor != null) {
+				// the threads end once the workers complete
+				ownExecutor.shutdown();
+			}
+		}
+	}
+
+	/**
+	 * Waits for the result of a task. The results must be consumed in order, and each
+	 * only once.
+	 * @param index the index of the task
+	 * @return the result of the task
+	 */
+	T get(int index) {
+		CompletableFuture<T> result = this.results.get(index);
+		Assert.state(result != null, "The result of the task has already been consumed");
+		try {
+			return result.join();
+		}
+		catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new RuntimeException(e.getCause());
+		}
+		finally {
+			this.results.set(index, null);
+			synchronized (this.claims) {
+				this.consumed = Math.max(this.consumed, index + 1);
+				this.claims.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Stops the workers once they complete their current task.
+	 */
+	void cancel() {
+		this.cancelled = true;
+		synchronized (this.claims) {
+			this.claims.notifyAll();
+		}
+	}
+
+	private void work() {
+		try {
+			PDDocument document = new PDFParser(new RandomAccessReadBufferedFile(this.file)).parse();
+			try (document) {
+				IntFunction<T> task = this.taskFactory.apply(document);
+				int start;
+				while ((start = claim()) >= 0) {
+					int end = Math.min(start + this.rangeSize, this.taskCount);
+					for (int i = start; i < end; i++) {
+						run(task, i);
+					}
+				}
+			}
+			catch (IOException e) {
+				logger.debug("Failed to close the PDF document of an extraction worker", e);
+			}
+		}
+		catch (Throwable ex) {
+			// the other workers run the tasks, unless none is left
+			this.failure.compareAndSet(null, ex);
+			if (ex instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
+			if (ex instanceof Error) {
+				cancel();
+				failPending();
+				throw (Error) ex;
+			}
+		}
+		finally {
+			if (this.openWorkers.decrementAndGet() == 0) {
+				failPending();
+			}
+		}
+	}
+
+	private void run(IntFunction<T> task, int index) {
+		CompletableFuture<T> result = this.results.get(index);
+		if (result == null) {
+			// already consumed, as a failure of the extraction
+			return;
+		}
+		try {
+			result.complete(task.apply(index));
+		}
+		catch (RuntimeException e) {
+			result.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * Claims the next range of tasks, waiting while it is beyond the read-ahead window.
+	 * @return the first task of the range, or -1 once there are no more tasks to run
+	 */
+	private int claim() throws InterruptedException {
+		synchronized (this.claims) {
+			while (!this.cancelled && this.nextTask < this.taskCount && this.nextTask >= this.consumed + this.window) {
+				this.claims.wait();
+			}
+			if (this.cancelled || this.nextTask >= this.taskCount) {
+				return -1;
+			}
+			int start = this.nextTask;
+			this.nextTask += this.rangeSize;
+			return start;
+		}
+	}
+
+	/**
+	 * Completes the results no worker is left to run exceptionally, so that no consumer
+	 * waits for them.
+	 */
+	private void failPending() {
+		Throwable cause = this.failure.get();
+		IllegalStateException ex = new IllegalStateException("The PDF extraction stopped", cause);
+		for (int i = 0; i < this.taskCount; i++) {
+			CompletableFuture<T> result = this.results.get(i);
+			if (result != null) {
+				result.completeExceptionally(ex);
+			}
+		}
+	}
+
+	private static ThreadFactory workerThreadFactory() {
+		AtomicInteger threads = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "pdf-extraction-" + threads.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+}
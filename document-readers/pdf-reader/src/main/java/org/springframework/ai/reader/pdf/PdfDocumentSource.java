@@ -0,0 +1,95 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.reader.pdf;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.io.RandomAccessReadBufferedFile;
+import org.apache.pdfbox.pdfparser.PDFParser;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The parsed PDF of a reader. Files are read in place rather than buffered in memory,
+ * which keeps a file handle open until the source is closed. Other resources are buffered
+ * in memory, which holds no handle. Either way the document is parsed once, when the
+ * reader is created.
+ *
+ * @since 1.0.0
+ */
+final class PdfDocumentSource implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(PdfDocumentSource.class);
+
+	@Nullable
+	private final File file;
+
+	private final PDDocument document;
+
+	private volatile boolean closed;
+
+	PdfDocumentSource(Resource resource) throws IOException {
+		this.file = resource.isFile() ? resource.getFile() : null;
+		this.document = (this.file != null) ? new PDFParser(new RandomAccessReadBufferedFile(this.file)).parse()
+				: new PDFParser(new RandomAccessReadBuffer(resource.getInputStream())).parse();
+	}
+
+	/**
+	 * Returns the file read in place, or {@code null} if the PDF is buffered in memory.
+	 */
+	@Nullable
+	File file() {
+		return this.file;
+	}
+
+	/**
+	 * Returns the document, which stays open until the source is closed.
+	 */
+	PDDocument document() {
+		return this.document;
+	}
+
+	/**
+	 * Returns the document for a read, failing if the source is closed.
+	 */
+	PDDocument acquire() {
+		Assert.state(!this.closed, "The PDF reader is closed");
+		return this.document;
+	}
+
+	@Override
+	public synchronized void close() {
+		if (this.closed) {
+			return;
+		}
+		this.closed = true;
+		try {
+			this.document.close();
+		}
+		catch (IOException e) {
+			logger.debug("Failed to close the PDF document", e);
+		}
+	}
+
+}
@@ -16,9 +16,12 @@
 
 package org.springframework.ai.reader.pdf.config;
 
+import java.util.concurrent.Executor;
+
 import org.springframework.ai.reader.ExtractedTextFormatter;
 import org.springframework.ai.reader.pdf.PagePdfDocumentReader;
 import org.springframework.ai.reader.pdf.ParagraphPdfDocumentReader;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -41,12 +44,19 @@ public final class PdfDocumentReaderConfig {
 
 	public final ExtractedTextFormatter pageExtractedTextFormatter;
 
+	public final int parallelism;
+
+	@Nullable
+	public final Executor executor;
+
 	private PdfDocumentReaderConfig(PdfDocumentReaderConfig.Builder builder) {
 		this.pagesPerDocument = builder.pagesPerDocument;
 		this.pageBottomMargin = builder.pageBottomMargin;
 		this.pageTopMargin = builder.pageTopMargin;
 		this.pageExtractedTextFormatter = builder.pageExtractedTextFormatter;
 		this.reversedParagraphPosition = builder.reversedParagraphPosition;
+		this.parallelism = builder.parallelism;
+		this.executor = builder.executor;
 	}
 
 	/**
@@ -77,6 +87,11 @@ public final class PdfDocumentReaderConfig {
 
 		private boolean reversedParagraphPosition = false;
 
+		private int parallelism = 1;
+
+		@Nullable
+		private Executor executor;
+
 		private Builder() {
 		}
 
@@ -137,6 +152,33 @@ public final class PdfDocumentReaderConfig {
 			return this;
 		}
 
+		/**
+		 * Number of workers extracting the text of the pages in parallel. Defaults to 1,
+		 * extracting the pages sequentially. PDFBox documents are not thread-safe, so
+		 * each worker loads its own copy of the PDF, which is read in place when the
+		 * resource is a file. Other resources are always read sequentially.
+		 * @param parallelism the number of workers
+		 * @return this builder
+		 */
+		public Builder withParallelism(int parallelism) {
+			Assert.isTrue(parallelism >= 1, "Parallelism must be at least 1.");
+			this.parallelism = parallelism;
+			return this;
+		}
+
+		/**
+		 * Executor running the parallel extraction workers. The workers block on reading
+		 * the PDF, so by default each read runs them on threads of its own, one per
+		 * worker, rather than on a shared pool.
+		 * @param executor the executor to use
+		 * @return this builder
+		 */
+		public Builder withExecutor(Executor executor) {
+			Assert.notNull(executor, "Executor must not be null.");
+			this.executor = executor;
+			return this;
+		}
+
 		/**
 		 * {@return the immutable configuration}
 		 */
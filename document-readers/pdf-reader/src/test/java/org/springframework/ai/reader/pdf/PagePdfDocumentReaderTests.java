@@ -17,15 +17,20 @@
 package org.springframework.ai.reader.pdf;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.reader.ExtractedTextFormatter;
 import org.springframework.ai.reader.pdf.config.PdfDocumentReaderConfig;
+import org.springframework.ai.transformer.splitter.TokenTextSplitter;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 /**
  * @author Christian Tzolov
@@ -71,4 +76,71 @@ class PagePdfDocumentReaderTests {
 		assertThat(documents).hasSize(64);
 	}
 
+	@Test
+	void streamIsSplitIntoChunksSpanningPages() {
+		var pdfReader = new PagePdfDocumentReader("classpath:/sample2.pdf",
+				PdfDocumentReaderConfig.builder()
+					.withPageExtractedTextFormatter(ExtractedTextFormatter.builder().build())
+					.withPagesPerDocument(1)
+					.build());
+		var splitter = TokenTextSplitter.builder().withChunkSize(400).withChunkOverlap(40).build();
+
+		List<Document> chunks;
+		try (Stream<Document> stream = splitter.splitStream(pdfReader.stream())) {
+			chunks = stream.toList();
+		}
+
+		assertThat(chunks).isNotEmpty()
+			.allSatisfy(chunk -> assertThat(chunk.getMetadata()).containsEntry(PagePdfDocumentReader.METADATA_FILE_NAME,
+					"sample2.pdf"));
+		assertThat(chunks).anySatisfy(
+				chunk -> assertThat(chunk.getMetadata()).containsKey(PagePdfDocumentReader.METADATA_END_PAGE_NUMBER));
+		assertThat(chunks)
+			.extracting(chunk -> (Integer) chunk.getMetadata().get(PagePdfDocumentReader.METADATA_START_PAGE_NUMBER))
+			.isSorted();
+	}
+
+	@Test
+	void fileIsParsedOnceAndReleasedWhenTheReaderIsClosed() {
+		var pdfReader = new PagePdfDocumentReader("classpath:/sample2.pdf");
+		var document = pdfReader.document;
+
+		var documents = pdfReader.get();
+
+		assertThat(pdfReader.document).isSameAs(document);
+		assertThat(document.getDocument().isClosed()).isFalse();
+		try (Stream<Document> stream = pdfReader.stream()) {
+			assertThat(stream.map(Document::getText))
+				.containsExactlyElementsOf(documents.stream().map(Document::getText).toList());
+		}
+		assertThat(document.getDocument().isClosed()).isFalse();
+
+		pdfReader.close();
+
+		assertThat(document.getDocument().isClosed()).isTrue();
+		assertThatIllegalStateException().isThrownBy(pdfReader::get);
+	}
+
+	@Test
+	void parallelExtractionKeepsPageOrder() {
+		var config = PdfDocumentReaderConfig.builder()
+			.withPageExtractedTextFormatter(ExtractedTextFormatter.builder().build())
+			.withPagesPerDocument(2);
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			var sequential = new PagePdfDocumentReader("classpath:/sample2.pdf", config.build()).get();
+			var parallel = new PagePdfDocumentReader("classpath:/sample2.pdf",
+					config.withParallelism(3).withExecutor(executor).build())
+				.get();
+
+			assertThat(parallel).extracting(Document::getText)
+				.containsExactlyElementsOf(sequential.stream().map(Document::getText).toList());
+			assertThat(parallel).extracting(Document::getMetadata)
+				.containsExactlyElementsOf(sequential.stream().map(Document::getMetadata).toList());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
 }
@@ -18,9 +18,12 @@ package org.springframework.ai.reader.pdf;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.ai.document.Document;
 import org.springframework.ai.reader.ExtractedTextFormatter;
 import org.springframework.ai.reader.pdf.config.PdfDocumentReaderConfig;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
@@ -50,4 +53,35 @@ public class ParagraphPdfDocumentReaderTests {
 
 	}
 
+	@Test
+	public void testParallelExtractionMatchesSequentialExtraction() {
+		var sequential = new ParagraphPdfDocumentReader("classpath:/sample2.pdf").get();
+		var parallel = new ParagraphPdfDocumentReader("classpath:/sample2.pdf",
+				PdfDocumentReaderConfig.builder().withParallelism(4).build())
+			.get();
+
+		assertThat(parallel).isNotEmpty();
+		assertThat(parallel).extracting(Document::getText)
+			.containsExactlyElementsOf(sequential.stream().map(Document::getText).toList());
+		assertThat(parallel).extracting(Document::getMetadata)
+			.containsExactlyElementsOf(sequential.stream().map(Document::getMetadata).toList());
+	}
+
+	@Test
+	public void testFileIsParsedOnceAndReleasedWhenTheReaderIsClosed() {
+		var reader = new ParagraphPdfDocumentReader("classpath:/sample2.pdf");
+		var document = reader.document;
+
+		var documents = reader.get();
+
+		assertThat(reader.document).isSameAs(document);
+		assertThat(document.getDocument().isClosed()).isFalse();
+		assertThat(reader.get()).hasSameSizeAs(documents);
+
+		reader.close();
+
+		assertThat(document.getDocument().isClosed()).isTrue();
+		assertThatIllegalStateException().isThrownBy(reader::get);
+	}
+
 }
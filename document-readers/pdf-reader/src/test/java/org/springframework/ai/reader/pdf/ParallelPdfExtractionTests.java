@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.reader.pdf;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.io.ClassPathResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * Unit tests for {@link ParallelPdfExtraction}.
+ */
+class ParallelPdfExtractionTests {
+
+	// the 64 pages of sample2.pdf, split in ranges of 4 pages over 2 workers
+	private static final int PAGES = 64;
+
+	@Test
+	void workersRunAWindowOfTasksAheadOfTheConsumer() throws Exception {
+		AtomicInteger started = new AtomicInteger();
+		var extraction = new ParallelPdfExtraction<Integer>(sampleFile(), PAGES, 2, null, document -> index -> {
+			started.incrementAndGet();
+			return index;
+		});
+
+		long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+		while (started.get() < 16 && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		Thread.sleep(200);
+		assertThat(started).hasValue(16);
+
+		assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+			for (int i = 0; i < PAGES; i++) {
+				assertThat(extraction.get(i)).isEqualTo(i);
+			}
+		});
+		assertThat(started).hasValue(PAGES);
+	}
+
+	@Test
+	void errorOfATaskFailsThePendingResults() throws Exception {
+		var extraction = new ParallelPdfExtraction<Integer>(sampleFile(), PAGES, 2, null, document -> index -> {
+			if (index == 5) {
+				throw new StackOverflowError();
+			}
+			return index;
+		});
+
+		assertTimeoutPreemptively(Duration.ofSeconds(10), () -> assertThatIllegalStateException().isThrownBy(() -> {
+			for (int i = 0; i < PAGES; i++) {
+				extraction.get(i);
+			}
+		}).withRootCauseInstanceOf(StackOverflowError.class));
+	}
+
+	@Test
+	void rejectedWorkerFailsThePendingResults() throws Exception {
+		AtomicInteger submitted = new AtomicInteger();
+		Executor executor = worker -> {
+			if (submitted.incrementAndGet() > 1) {
+				throw new RejectedExecutionException("Executor is full");
+			}
+			new Thread(worker).start();
+		};
+		var extraction = new ParallelPdfExtraction<Integer>(sampleFile(), PAGES, 2, executor,
+				document -> index -> index);
+
+		assertTimeoutPreemptively(Duration.ofSeconds(10), () -> assertThatIllegalStateException().isThrownBy(() -> {
+			for (int i = 0; i < PAGES; i++) {
+				extraction.get(i);
+			}
+		}).withRootCauseInstanceOf(RejectedExecutionException.class));
+	}
+
+	private static File sampleFile() throws IOException {
+		return new ClassPathResource("sample2.pdf").getFile();
+	}
+
+}
@@ -18,20 +18,28 @@ package org.springframework.ai.reader.tika;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import org.apache.tika.metadata.Metadata;
 import org.apache.tika.parser.AutoDetectParser;
 import org.apache.tika.parser.ParseContext;
 import org.apache.tika.sax.BodyContentHandler;
+import org.xml.sax.Attributes;
 import org.xml.sax.ContentHandler;
+import org.xml.sax.helpers.DefaultHandler;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentReader;
 import org.springframework.ai.reader.ExtractedTextFormatter;
+import org.springframework.ai.transformer.splitter.TokenTextSplitter;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
 /**
@@ -55,6 +63,22 @@ public class TikaDocumentReader implements DocumentReader {
 	 */
 	public static final String METADATA_SOURCE = "source";
 
+	/**
+	 * Metadata key representing the page of the text, for paginated formats.
+	 */
+	public static final String METADATA_PAGE_NUMBER = "page_number";
+
+	/**
+	 * Metadata key representing the heading of the section the text belongs to.
+	 */
+	public static final String METADATA_SECTION = "section";
+
+	/**
+	 * Number of characters of text, outside of a page, after which the text is passed to
+	 * the splitter at the next block boundary.
+	 */
+	private static final int BLOCK_FLUSH_THRESHOLD = 8192;
+
 	/**
 	 * Parser to automatically detect the type of document and extract text.
 	 */
@@ -152,6 +176,28 @@ public class TikaDocumentReader implements DocumentReader {
 		}
 	}
 
+	/**
+	 * Extracts the text of the resource while it is being parsed and splits it into
+	 * chunks, without holding the whole text in memory. Unlike {@link #get()}, the
+	 * configured content handler is not used. The text formatter is applied to each page
+	 * of paginated formats, such as PDF, and to each block of text otherwise. Chunks
+	 * carry the {@link #METADATA_PAGE_NUMBER page} and the {@link #METADATA_SECTION
+	 * section} they start in, and the ones they end in with an {@code end_} prefix.
+	 * @param splitter the splitter cutting the text into chunks
+	 * @param consumer receives the chunks as soon as they are cut
+	 */
+	public void read(TokenTextSplitter splitter, Consumer<Document> consumer) {
+		TokenTextSplitter.Chunker chunker = splitter.chunker(consumer);
+		try (InputStream stream = this.resource.getInputStream()) {
+			this.parser.parse(stream, new BodyContentHandler(new ChunkingContentHandler(chunker)), this.metadata,
+					this.context);
+			chunker.finish();
+		}
+		catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+	}
+
 	/**
 	 * Converts the given text to a {@link Document}.
 	 * @param docText Text to be converted
@@ -183,4 +229,121 @@ public class TikaDocumentReader implements DocumentReader {
 		}
 	}
 
+	/**
+	 * Passes the extracted text to a {@link TokenTextSplitter.Chunker} page by page, or
+	 * block by block for formats without pages, tracking the current section heading.
+	 */
+	private final class ChunkingContentHandler extends DefaultHandler {
+
+		private static final Set<String> HEADINGS = Set.of("h1", "h2", "h3", "h4", "h5", "h6");
+
+		private static final Set<String> BLOCKS = Set.of("p", "div", "li", "tr", "pre", "blockquote", "table");
+
+		private final TokenTextSplitter.Chunker chunker;
+
+		private final String source = resourceName();
+
+		private final StringBuilder text = new StringBuilder();
+
+		private final StringBuilder heading = new StringBuilder();
+
+		private int pageNumber;
+
+		private int divDepth;
+
+		// depth of the div holding the current page, or -1 outside of a page
+		private int pageDivDepth = -1;
+
+		private boolean inHeading;
+
+		@Nullable
+		private String section;
+
+		private ChunkingContentHandler(TokenTextSplitter.Chunker chunker) {
+			this.chunker = chunker;
+		}
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes attributes) {
+			if ("div".equals(localName)) {
+				this.divDepth++;
+				if ("page".equals(attributes.getValue("class")) && !inPage()) {
+					flush();
+					this.pageNumber++;
+					this.pageDivDepth = this.divDepth;
+				}
+			}
+			else if (HEADINGS.contains(localName)) {
+				// the heading starts the text of its section
+				flush();
+				this.heading.setLength(0);
+				this.inHeading = true;
+			}
+		}
+
+		@Override
+		public void endElement(String uri, String localName, String qName) {
+			if ("div".equals(localName)) {
+				if (this.divDepth == this.pageDivDepth) {
+					flush();
+					this.pageDivDepth = -1;
+				}
+				this.divDepth--;
+			}
+			else if (HEADINGS.contains(localName)) {
+				this.inHeading = false;
+				String title = this.heading.toString().strip();
+				this.section = StringUtils.hasText(title) ? title : this.section;
+			}
+			if (!inPage() && BLOCKS.contains(localName) && this.text.length() >= BLOCK_FLUSH_THRESHOLD) {
+				flush();
+			}
+		}
+
+		@Override
+		public void characters(char[] ch, int start, int length) {
+			this.text.append(ch, start, length);
+			if (this.inHeading) {
+				this.heading.append(ch, start, length);
+			}
+		}
+
+		@Override
+		public void ignorableWhitespace(char[] ch, int start, int length) {
+			this.text.append(ch, start, length);
+		}
+
+		@Override
+		public void endDocument() {
+			flush();
+		}
+
+		private boolean inPage() {
+			return this.pageDivDepth >= 0;
+		}
+
+		private void flush() {
+			if (!StringUtils.hasText(this.text)) {
+				this.text.setLength(0);
+				return;
+			}
+			Map<String, Object> metadata = new HashMap<>();
+			metadata.put(METADATA_SOURCE, this.source);
+			String formatted;
+			if (inPage()) {
+				metadata.put(METADATA_PAGE_NUMBER, this.pageNumber);
+				formatted = TikaDocumentReader.this.textFormatter.format(this.text.toString(), this.pageNumber);
+			}
+			else {
+				formatted = TikaDocumentReader.this.textFormatter.format(this.text.toString());
+			}
+			if (this.section != null) {
+				metadata.put(METADATA_SECTION, this.section);
+			}
+			this.chunker.append(formatted, metadata);
+			this.text.setLength(0);
+		}
+
+	}
+
 }
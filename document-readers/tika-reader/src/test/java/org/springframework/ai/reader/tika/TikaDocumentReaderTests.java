@@ -16,10 +16,16 @@
 
 package org.springframework.ai.reader.tika;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import org.springframework.ai.document.Document;
 import org.springframework.ai.reader.ExtractedTextFormatter;
+import org.springframework.ai.transformer.splitter.TokenTextSplitter;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -72,4 +78,30 @@ public class TikaDocumentReaderTests {
 		assertThat(doc.getText()).contains(contentSnipped);
 	}
 
+	@Test
+	public void testReadIntoChunksWithPageMetadata() {
+		var splitter = TokenTextSplitter.builder().withChunkSize(200).withChunkOverlap(20).build();
+		List<Document> chunks = new ArrayList<>();
+
+		new TikaDocumentReader("classpath:/sample2.pdf").read(splitter, chunks::add);
+
+		assertThat(chunks).hasSizeGreaterThan(1)
+			.allSatisfy(chunk -> assertThat(chunk.getMetadata()).containsEntry(TikaDocumentReader.METADATA_SOURCE,
+					"sample2.pdf"));
+		assertThat(chunks.get(0).getMetadata()).containsEntry(TikaDocumentReader.METADATA_PAGE_NUMBER, 1);
+		assertThat(chunks).anySatisfy(chunk -> assertThat(chunk.getMetadata()).containsKey("end_page_number"));
+		assertThat(chunks).extracting(Document::getText).anyMatch(text -> text.contains("Robert Maron"));
+	}
+
+	@Test
+	public void testReadIntoChunksWithSectionMetadata() {
+		var splitter = TokenTextSplitter.builder().withChunkSize(100).build();
+		List<Document> chunks = new ArrayList<>();
+
+		new TikaDocumentReader("classpath:/word-sample.docx").read(splitter, chunks::add);
+
+		assertThat(chunks).isNotEmpty()
+			.anySatisfy(chunk -> assertThat(chunk.getMetadata()).containsKey(TikaDocumentReader.METADATA_SECTION));
+	}
+
 }
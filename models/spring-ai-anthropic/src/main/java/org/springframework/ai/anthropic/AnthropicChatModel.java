@@ -33,6 +33,7 @@ import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
 import org.springframework.ai.anthropic.api.AnthropicApi;
 import org.springframework.ai.anthropic.api.AnthropicApi.AnthropicMessage;
@@ -73,6 +74,7 @@ import org.springframework.ai.retry.RetryUtils;
 import org.springframework.ai.tool.definition.ToolDefinition;
 import org.springframework.ai.util.json.JsonParser;
 import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
@@ -138,6 +140,13 @@ public class AnthropicChatModel implements ChatModel {
 	 */
 	private ChatModelObservationConvention observationConvention = DEFAULT_OBSERVATION_CONVENTION;
 
+	/**
+	 * Optional retry strategy for the streaming calls. Streams are only retried before
+	 * the first chunk is received.
+	 */
+	@Nullable
+	private Retry streamRetry;
+
 	public AnthropicChatModel(AnthropicApi anthropicApi, AnthropicChatOptions defaultOptions,
 			ToolCallingManager toolCallingManager, RetryTemplate retryTemplate,
 			ObservationRegistry observationRegistry) {
@@ -250,6 +259,9 @@ public class AnthropicChatModel implements ChatModel {
 
 			Flux<ChatCompletionResponse> response = this.anthropicApi.chatCompletionStream(request,
 					this.getAdditionalHttpHeaders(prompt));
+			if (this.streamRetry != null) {
+				response = RetryUtils.retryBeforeFirstElement(response, this.streamRetry);
+			}
 
 			// @formatter:off
 			Flux<ChatResponse> chatResponseFlux = response.switchMap(chatCompletionResponse -> {
@@ -550,6 +562,16 @@ public class AnthropicChatModel implements ChatModel {
 		this.observationConvention = observationConvention;
 	}
 
+	/**
+	 * Use the provided retry strategy for the streaming calls, e.g. a
+	 * {@link org.springframework.ai.retry.RetryAfterAwareRetry}. Streams are only retried
+	 * before the first chunk is received.
+	 * @param streamRetry the retry strategy, or {@code null} to disable retries
+	 */
+	public void setStreamRetry(@Nullable Retry streamRetry) {
+		this.streamRetry = streamRetry;
+	}
+
 	public static Builder builder() {
 		return new Builder();
 	}
@@ -572,6 +594,8 @@ public class AnthropicChatModel implements ChatModel {
 
 		private ToolExecutionEligibilityPredicate toolExecutionEligibilityPredicate = new DefaultToolExecutionEligibilityPredicate();
 
+		private Retry streamRetry;
+
 		private Builder() {
 		}
 
@@ -606,13 +630,17 @@ public class AnthropicChatModel implements ChatModel {
 			return this;
 		}
 
+		public Builder streamRetry(Retry streamRetry) {
+			this.streamRetry = streamRetry;
+			return this;
+		}
+
 		public AnthropicChatModel build() {
-			if (this.toolCallingManager != null) {
-				return new AnthropicChatModel(this.anthropicApi, this.defaultOptions, this.toolCallingManager,
-						this.retryTemplate, this.observationRegistry, this.toolExecutionEligibilityPredicate);
-			}
-			return new AnthropicChatModel(this.anthropicApi, this.defaultOptions, DEFAULT_TOOL_CALLING_MANAGER,
+			AnthropicChatModel chatModel = new AnthropicChatModel(this.anthropicApi, this.defaultOptions,
+					this.toolCallingManager != null ? this.toolCallingManager : DEFAULT_TOOL_CALLING_MANAGER,
 					this.retryTemplate, this.observationRegistry, this.toolExecutionEligibilityPredicate);
+			chatModel.setStreamRetry(this.streamRetry);
+			return chatModel;
 		}
 
 	}
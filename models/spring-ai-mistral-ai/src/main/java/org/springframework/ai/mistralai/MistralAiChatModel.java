@@ -30,6 +30,7 @@ import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
 import org.springframework.ai.chat.messages.AssistantMessage;
 import org.springframework.ai.chat.messages.SystemMessage;
@@ -68,6 +69,7 @@ import org.springframework.ai.model.tool.ToolExecutionResult;
 import org.springframework.ai.retry.RetryUtils;
 import org.springframework.ai.tool.definition.ToolDefinition;
 import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
@@ -123,6 +125,13 @@ public class MistralAiChatModel implements ChatModel {
 	 */
 	private ChatModelObservationConvention observationConvention = DEFAULT_OBSERVATION_CONVENTION;
 
+	/**
+	 * Optional retry strategy for the streaming calls. Streams are only retried before
+	 * the first chunk is received.
+	 */
+	@Nullable
+	private Retry streamRetry;
+
 	public MistralAiChatModel(MistralAiApi mistralAiApi, MistralAiChatOptions defaultOptions,
 			ToolCallingManager toolCallingManager, RetryTemplate retryTemplate,
 			ObservationRegistry observationRegistry) {
@@ -269,6 +278,9 @@ public class MistralAiChatModel implements ChatModel {
 
 			Flux<ChatCompletionChunk> completionChunks = this.retryTemplate
 				.execute(ctx -> this.mistralAiApi.chatCompletionStream(request));
+			if (this.streamRetry != null) {
+				completionChunks = RetryUtils.retryBeforeFirstElement(completionChunks, this.streamRetry);
+			}
 
 			// For chunked responses, only the first chunk contains the choice role.
 			// The rest of the chunks with same ID share the same role.
@@ -523,6 +535,16 @@ public class MistralAiChatModel implements ChatModel {
 		this.observationConvention = observationConvention;
 	}
 
+	/**
+	 * Use the provided retry strategy for the streaming calls, e.g. a
+	 * {@link org.springframework.ai.retry.RetryAfterAwareRetry}. Streams are only retried
+	 * before the first chunk is received.
+	 * @param streamRetry the retry strategy, or {@code null} to disable retries
+	 */
+	public void setStreamRetry(@Nullable Retry streamRetry) {
+		this.streamRetry = streamRetry;
+	}
+
 	public static Builder builder() {
 		return new Builder();
 	}
@@ -546,6 +568,8 @@ public class MistralAiChatModel implements ChatModel {
 
 		private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
 
+		private Retry streamRetry;
+
 		private Builder() {
 		}
 
@@ -580,13 +604,17 @@ public class MistralAiChatModel implements ChatModel {
 			return this;
 		}
 
+		public Builder streamRetry(Retry streamRetry) {
+			this.streamRetry = streamRetry;
+			return this;
+		}
+
 		public MistralAiChatModel build() {
-			if (this.toolCallingManager != null) {
-				return new MistralAiChatModel(this.mistralAiApi, this.defaultOptions, this.toolCallingManager,
-						this.retryTemplate, this.observationRegistry, this.toolExecutionEligibilityPredicate);
-			}
-			return new MistralAiChatModel(this.mistralAiApi, this.defaultOptions, DEFAULT_TOOL_CALLING_MANAGER,
+			MistralAiChatModel chatModel = new MistralAiChatModel(this.mistralAiApi, this.defaultOptions,
+					this.toolCallingManager != null ? this.toolCallingManager : DEFAULT_TOOL_CALLING_MANAGER,
 					this.retryTemplate, this.observationRegistry, this.toolExecutionEligibilityPredicate);
+			chatModel.setStreamRetry(this.streamRetry);
+			return chatModel;
 		}
 
 	}
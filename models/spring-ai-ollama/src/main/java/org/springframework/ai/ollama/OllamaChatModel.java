@@ -30,6 +30,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
 import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
 import org.springframework.ai.chat.messages.AssistantMessage;
 import org.springframework.ai.chat.messages.SystemMessage;
@@ -65,8 +66,10 @@ import org.springframework.ai.ollama.api.common.OllamaApiConstants;
 import org.springframework.ai.ollama.management.ModelManagementOptions;
 import org.springframework.ai.ollama.management.OllamaModelManager;
 import org.springframework.ai.ollama.management.PullModelStrategy;
+import org.springframework.ai.retry.RetryUtils;
 import org.springframework.ai.tool.definition.ToolDefinition;
 import org.springframework.ai.util.json.JsonParser;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
@@ -128,6 +131,13 @@ public class OllamaChatModel implements ChatModel {
 
 	private ChatModelObservationConvention observationConvention = DEFAULT_OBSERVATION_CONVENTION;
 
+	/**
+	 * Optional retry strategy for the streaming calls. Streams are only retried before
+	 * the first chunk is received.
+	 */
+	@Nullable
+	private Retry streamRetry;
+
 	public OllamaChatModel(OllamaApi ollamaApi, OllamaOptions defaultOptions, ToolCallingManager toolCallingManager,
 			ObservationRegistry observationRegistry, ModelManagementOptions modelManagementOptions) {
 		this(ollamaApi, defaultOptions, toolCallingManager, observationRegistry, modelManagementOptions,
@@ -305,6 +315,9 @@ public class OllamaChatModel implements ChatModel {
 			observation.parentObservation(contextView.getOrDefault(ObservationThreadLocalAccessor.KEY, null)).start();
 
 			Flux<OllamaApi.ChatResponse> ollamaResponse = this.chatApi.streamingChat(request);
+			if (this.streamRetry != null) {
+				ollamaResponse = RetryUtils.retryBeforeFirstElement(ollamaResponse, this.streamRetry);
+			}
 
 			Flux<ChatResponse> chatResponse = ollamaResponse.map(chunk -> {
 				String content = (chunk.message() != null) ? chunk.message().content() : "";
@@ -521,6 +534,16 @@ public class OllamaChatModel implements ChatModel {
 		this.observationConvention = observationConvention;
 	}
 
+	/**
+	 * Use the provided retry strategy for the streaming calls, e.g. a
+	 * {@link org.springframework.ai.retry.RetryAfterAwareRetry}. Streams are only retried
+	 * before the first chunk is received.
+	 * @param streamRetry the retry strategy, or {@code null} to disable retries
+	 */
+	public void setStreamRetry(@Nullable Retry streamRetry) {
+		this.streamRetry = streamRetry;
+	}
+
 	public static final class Builder {
 
 		private OllamaApi ollamaApi;
@@ -535,6 +558,8 @@ public class OllamaChatModel implements ChatModel {
 
 		private ModelManagementOptions modelManagementOptions = ModelManagementOptions.defaults();
 
+		private Retry streamRetry;
+
 		private Builder() {
 		}
 
@@ -564,18 +589,22 @@ public class OllamaChatModel implements ChatModel {
 			return this;
 		}
 
+		public Builder streamRetry(Retry streamRetry) {
+			this.streamRetry = streamRetry;
+			return this;
+		}
+
 		public Builder modelManagementOptions(ModelManagementOptions modelManagementOptions) {
 			this.modelManagementOptions = modelManagementOptions;
 			return this;
 		}
 
 		public OllamaChatModel build() {
-			if (this.toolCallingManager != null) {
-				return new OllamaChatModel(this.ollamaApi, this.defaultOptions, this.toolCallingManager,
-						this.observationRegistry, this.modelManagementOptions, this.toolExecutionEligibilityPredicate);
-			}
-			return new OllamaChatModel(this.ollamaApi, this.defaultOptions, DEFAULT_TOOL_CALLING_MANAGER,
+			OllamaChatModel chatModel = new OllamaChatModel(this.ollamaApi, this.defaultOptions,
+					this.toolCallingManager != null ? this.toolCallingManager : DEFAULT_TOOL_CALLING_MANAGER,
 					this.observationRegistry, this.modelManagementOptions, this.toolExecutionEligibilityPredicate);
+			chatModel.setStreamRetry(this.streamRetry);
+			return chatModel;
 		}
 
 	}
@@ -19,26 +19,33 @@ package org.springframework.ai.ollama;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.util.retry.Retry;
 
 import org.springframework.ai.chat.metadata.ChatResponseMetadata;
 import org.springframework.ai.chat.metadata.DefaultUsage;
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.model.tool.ToolCallingManager;
 import org.springframework.ai.ollama.api.OllamaApi;
 import org.springframework.ai.ollama.api.OllamaModel;
 import org.springframework.ai.ollama.api.OllamaOptions;
 import org.springframework.ai.ollama.management.ModelManagementOptions;
+import org.springframework.ai.retry.TransientAiException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
 
 /**
  * @author Jihoon Kim
@@ -88,6 +95,25 @@ class OllamaChatModelTests {
 		assertEquals("modelManagementOptions must not be null", exception.getMessage());
 	}
 
+	@Test
+	void streamIsRetriedBeforeTheFirstChunk() {
+		AtomicInteger attempts = new AtomicInteger();
+		OllamaApi.ChatResponse chunk = new OllamaApi.ChatResponse("model", Instant.now(),
+				OllamaApi.Message.builder(OllamaApi.Message.Role.ASSISTANT).content("Hi").build(), "stop", true, null,
+				null, null, null, null, null);
+		given(this.ollamaApi.streamingChat(any())).willReturn(Flux.defer(() -> (attempts.incrementAndGet() == 1)
+				? Flux.error(new TransientAiException("503 - Service Unavailable")) : Flux.just(chunk)));
+		OllamaChatModel chatModel = OllamaChatModel.builder()
+			.ollamaApi(this.ollamaApi)
+			.streamRetry(Retry.max(1))
+			.build();
+
+		List<ChatResponse> responses = chatModel.stream(new Prompt("Hello")).collectList().block();
+
+		assertThat(responses).extracting(response -> response.getResult().getOutput().getText()).containsExactly("Hi");
+		assertThat(attempts).hasValue(2);
+	}
+
 	@Test
 	void buildChatResponseMetadata() {
 
@@ -32,6 +32,7 @@ import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
 import org.springframework.ai.chat.messages.AssistantMessage;
 import org.springframework.ai.chat.messages.MessageType;
@@ -78,6 +79,7 @@ import org.springframework.ai.tool.definition.ToolDefinition;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
@@ -148,6 +150,13 @@ public class OpenAiChatModel implements ChatModel {
 	 */
 	private ChatModelObservationConvention observationConvention = DEFAULT_OBSERVATION_CONVENTION;
 
+	/**
+	 * Optional retry strategy for the streaming calls. Streams are only retried before
+	 * the first chunk is received.
+	 */
+	@Nullable
+	private Retry streamRetry;
+
 	public OpenAiChatModel(OpenAiApi openAiApi, OpenAiChatOptions defaultOptions, ToolCallingManager toolCallingManager,
 			RetryTemplate retryTemplate, ObservationRegistry observationRegistry) {
 		this(openAiApi, defaultOptions, toolCallingManager, retryTemplate, observationRegistry,
@@ -280,6 +289,9 @@ public class OpenAiChatModel implements ChatModel {
 
 			Flux<OpenAiApi.ChatCompletionChunk> completionChunks = this.openAiApi.chatCompletionStream(request,
 					getAdditionalHttpHeaders(prompt));
+			if (this.streamRetry != null) {
+				completionChunks = RetryUtils.retryBeforeFirstElement(completionChunks, this.streamRetry);
+			}
 
 			// For chunked responses, only the first chunk contains the choice role.
 			// The rest of the chunks with same ID share the same role.
@@ -683,6 +695,16 @@ public class OpenAiChatModel implements ChatModel {
 		this.observationConvention = observationConvention;
 	}
 
+	/**
+	 * Use the provided retry strategy for the streaming calls, e.g. a
+	 * {@link org.springframework.ai.retry.RetryAfterAwareRetry}. Streams are only retried
+	 * before the first chunk is received.
+	 * @param streamRetry the retry strategy, or {@code null} to disable retries
+	 */
+	public void setStreamRetry(@Nullable Retry streamRetry) {
+		this.streamRetry = streamRetry;
+	}
+
 	public static Builder builder() {
 		return new Builder();
 	}
@@ -704,6 +726,8 @@ public class OpenAiChatModel implements ChatModel {
 
 		private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
 
+		private Retry streamRetry;
+
 		private Builder() {
 		}
 
@@ -738,13 +762,17 @@ public class OpenAiChatModel implements ChatModel {
 			return this;
 		}
 
+		public Builder streamRetry(Retry streamRetry) {
+			this.streamRetry = streamRetry;
+			return this;
+		}
+
 		public OpenAiChatModel build() {
-			if (this.toolCallingManager != null) {
-				return new OpenAiChatModel(this.openAiApi, this.defaultOptions, this.toolCallingManager,
-						this.retryTemplate, this.observationRegistry, this.toolExecutionEligibilityPredicate);
-			}
-			return new OpenAiChatModel(this.openAiApi, this.defaultOptions, DEFAULT_TOOL_CALLING_MANAGER,
+			OpenAiChatModel chatModel = new OpenAiChatModel(this.openAiApi, this.defaultOptions,
+					this.toolCallingManager != null ? this.toolCallingManager : DEFAULT_TOOL_CALLING_MANAGER,
 					this.retryTemplate, this.observationRegistry, this.toolExecutionEligibilityPredicate);
+			chatModel.setStreamRetry(this.streamRetry);
+			return chatModel;
 		}
 
 	}
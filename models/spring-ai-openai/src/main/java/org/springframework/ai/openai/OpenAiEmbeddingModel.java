@@ -17,6 +17,7 @@
 package org.springframework.ai.openai;
 
 import java.util.List;
+import java.util.Map;
 
 import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
@@ -41,7 +42,9 @@ import org.springframework.ai.model.ModelOptionsUtils;
 import org.springframework.ai.openai.api.OpenAiApi;
 import org.springframework.ai.openai.api.OpenAiApi.EmbeddingList;
 import org.springframework.ai.openai.api.common.OpenAiApiConstants;
+import org.springframework.ai.openai.metadata.support.OpenAiResponseHeaderExtractor;
 import org.springframework.ai.retry.RetryUtils;
+import org.springframework.http.ResponseEntity;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.util.Assert;
 
@@ -164,8 +167,9 @@ public class OpenAiEmbeddingModel extends AbstractEmbeddingModel {
 			.observation(this.observationConvention, DEFAULT_OBSERVATION_CONVENTION, () -> observationContext,
 					this.observationRegistry)
 			.observe(() -> {
-				EmbeddingList<OpenAiApi.Embedding> apiEmbeddingResponse = this.retryTemplate
-					.execute(ctx -> this.openAiApi.embeddings(apiRequest).getBody());
+				ResponseEntity<EmbeddingList<OpenAiApi.Embedding>> embeddingEntity = this.retryTemplate
+					.execute(ctx -> this.openAiApi.embeddings(apiRequest));
+				EmbeddingList<OpenAiApi.Embedding> apiEmbeddingResponse = embeddingEntity.getBody();
 
 				if (apiEmbeddingResponse == null) {
 					logger.warn("No embeddings returned for request: {}", request);
@@ -174,7 +178,9 @@ public class OpenAiEmbeddingModel extends AbstractEmbeddingModel {
 
 				OpenAiApi.Usage usage = apiEmbeddingResponse.usage();
 				Usage embeddingResponseUsage = usage != null ? getDefaultUsage(usage) : new EmptyUsage();
-				var metadata = new EmbeddingResponseMetadata(apiEmbeddingResponse.model(), embeddingResponseUsage);
+				var metadata = new EmbeddingResponseMetadata(apiEmbeddingResponse.model(), embeddingResponseUsage,
+						Map.of(EmbeddingResponseMetadata.RATE_LIMIT_KEY,
+								OpenAiResponseHeaderExtractor.extractAiResponseHeaders(embeddingEntity)));
 
 				List<Embedding> embeddings = apiEmbeddingResponse.data()
 					.stream()
@@ -31,8 +31,10 @@ import reactor.core.publisher.Flux;
 
 import org.springframework.ai.audio.transcription.AudioTranscriptionPrompt;
 import org.springframework.ai.audio.transcription.AudioTranscriptionResponse;
+import org.springframework.ai.chat.metadata.RateLimit;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.document.MetadataMode;
+import org.springframework.ai.embedding.EmbeddingResponseMetadata;
 import org.springframework.ai.image.ImageMessage;
 import org.springframework.ai.image.ImageOptionsBuilder;
 import org.springframework.ai.image.ImagePrompt;
@@ -62,6 +64,7 @@ import org.springframework.ai.openai.api.OpenAiImageApi;
 import org.springframework.ai.openai.api.OpenAiImageApi.Data;
 import org.springframework.ai.openai.api.OpenAiImageApi.OpenAiImageRequest;
 import org.springframework.ai.openai.api.OpenAiImageApi.OpenAiImageResponse;
+import org.springframework.ai.openai.metadata.support.OpenAiApiResponseHeaders;
 import org.springframework.ai.retry.RetryUtils;
 import org.springframework.ai.retry.TransientAiException;
 import org.springframework.core.io.ClassPathResource;
@@ -214,6 +217,23 @@ public class OpenAiRetryTests {
 			.call(new org.springframework.ai.embedding.EmbeddingRequest(List.of("text1", "text2"), null)));
 	}
 
+	@Test
+	public void openAiEmbeddingRateLimitFromResponseHeaders() {
+
+		EmbeddingList<Embedding> expectedEmbeddings = new EmbeddingList<>("list",
+				List.of(new Embedding(0, new float[] { 9.9f, 8.8f })), "model", new OpenAiApi.Usage(10, 10, 10));
+
+		given(this.openAiApi.embeddings(isA(EmbeddingRequest.class))).willReturn(ResponseEntity.ok()
+			.header(OpenAiApiResponseHeaders.TOKENS_LIMIT_HEADER.getName(), "1000000")
+			.body(expectedEmbeddings));
+
+		var result = this.embeddingModel
+			.call(new org.springframework.ai.embedding.EmbeddingRequest(List.of("text1", "text2"), null));
+
+		RateLimit rateLimit = result.getMetadata().get(EmbeddingResponseMetadata.RATE_LIMIT_KEY);
+		assertThat(rateLimit.getTokensLimit()).isEqualTo(1000000L);
+	}
+
 	@Test
 	public void openAiAudioTranscriptionTransientError() {
 
@@ -0,0 +1,370 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.transformers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import ai.djl.huggingface.tokenizers.Encoding;
+import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
+import ai.djl.util.PairList;
+import ai.onnxruntime.OnnxTensor;
+import ai.onnxruntime.OrtEnvironment;
+import ai.onnxruntime.OrtException;
+import ai.onnxruntime.OrtSession;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.rag.Query;
+import org.springframework.ai.rag.postretrieval.document.DocumentPostProcessor;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * A {@link DocumentPostProcessor} that reranks the retrieved documents with a
+ * cross-encoder running in-process on the ONNX runtime. Unlike the embedding similarity
+ * used for retrieval, a cross-encoder reads the query and the document together, which
+ * ranks them more precisely; retrieving more candidates and keeping the best few after
+ * reranking yields smaller and more relevant contexts.
+ * <p>
+ * By default, it uses the ms-marco-MiniLM-L-6-v2 model. The query and document pairs are
+ * scored in batches; the documents are returned by decreasing score, with the score set
+ * on each document, optionally filtered by a minimum score and truncated to the top K.
+ * <p>
+ * For more information on cross-encoders, see:
+ * <a href="https://www.sbert.net/docs/cross_encoder/pretrained_models.html">SBERT
+ * Cross-Encoders</a>
+ *
+ * @since 1.0.0
+ */
+public class CrossEncoderDocumentPostProcessor implements DocumentPostProcessor, AutoCloseable {
+
+	// ONNX tokenizer for the ms-marco-MiniLM-L-6-v2 cross-encoder
+	public static final String DEFAULT_ONNX_TOKENIZER_URI = "https://huggingface.co/cross-encoder/ms-marco-MiniLM-L-6-v2/resolve/main/tokenizer.json";
+
+	// ONNX model for the ms-marco-MiniLM-L-6-v2 cross-encoder:
+	// https://huggingface.co/cross-encoder/ms-marco-MiniLM-L-6-v2
+	public static final String DEFAULT_ONNX_MODEL_URI = "https://huggingface.co/cross-encoder/ms-marco-MiniLM-L-6-v2/resolve/main/onnx/model.onnx";
+
+	public static final String DEFAULT_MODEL_OUTPUT_NAME = "logits";
+
+	private static final Log logger = LogFactory.getLog(CrossEncoderDocumentPostProcessor.class);
+
+	private final HuggingFaceTokenizer tokenizer;
+
+	private final OrtEnvironment environment;
+
+	private final OrtSession session;
+
+	private final Set<String> onnxModelInputs;
+
+	private final String modelOutputName;
+
+	private final int batchSize;
+
+	@Nullable
+	private final Integer topK;
+
+	@Nullable
+	private final Double minScore;
+
+	protected CrossEncoderDocumentPostProcessor(Builder builder) {
+		Assert.notNull(builder.tokenizerResource, "tokenizerResource cannot be null");
+		Assert.notNull(builder.modelResource, "modelResource cannot be null");
+		Assert.hasText(builder.modelOutputName, "modelOutputName cannot be null or empty");
+		Assert.isTrue(builder.batchSize > 0, "batchSize must be positive");
+		Assert.isTrue(builder.topK == null || builder.topK > 0, "topK must be positive");
+		this.modelOutputName = builder.modelOutputName;
+		this.batchSize = builder.batchSize;
+		this.topK = builder.topK;
+		this.minScore = builder.minScore;
+
+		ResourceCacheService cacheService = StringUtils.hasText(builder.resourceCacheDirectory)
+				? new ResourceCacheService(builder.resourceCacheDirectory) : new ResourceCacheService();
+		try {
+			this.tokenizer = HuggingFaceTokenizer.newInstance(
+					getCachedResource(cacheService, builder.disableCaching, builder.tokenizerResource).getInputStream(),
+					builder.tokenizerOptions);
+
+			this.environment = OrtEnvironment.getEnvironment();
+			try (var sessionOptions = new OrtSession.SessionOptions()) {
+				if (builder.gpuDeviceId >= 0) {
+					sessionOptions.addCUDA(builder.gpuDeviceId);
+				}
+				this.session = this.environment
+					.createSession(getCachedResource(cacheService, builder.disableCaching, builder.modelResource)
+						.getContentAsByteArray(), sessionOptions);
+			}
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to load the cross-encoder model", ex);
+		}
+		catch (OrtException ex) {
+			throw new IllegalStateException("Failed to create the cross-encoder session", ex);
+		}
+
+		this.onnxModelInputs = this.session.getInputNames();
+		Set<String> onnxModelOutputs = this.session.getOutputNames();
+		logger.info("Cross-encoder input names: " + String.join(", ", this.onnxModelInputs));
+		logger.info("Cross-encoder output names: " + String.join(", ", onnxModelOutputs));
+		Assert.isTrue(onnxModelOutputs.contains(this.modelOutputName),
+				"The model output names don't contain expected: " + this.modelOutputName
+						+ ". Consider one of the available model outputs: " + String.join(", ", onnxModelOutputs));
+	}
+
+	private static Resource getCachedResource(ResourceCacheService cacheService, boolean disableCaching,
+			Resource resource) {
+		return disableCaching ? resource : cacheService.getCachedResource(resource);
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	@Override
+	public List<Document> process(Query query, List<Document> documents) {
+		Assert.notNull(query, "query cannot be null");
+		Assert.notNull(documents, "documents cannot be null");
+		if (documents.isEmpty()) {
+			return documents;
+		}
+
+		float[] scores = score(query.text(), documents);
+
+		List<Document> ranked = new ArrayList<>(documents.size());
+		for (int i = 0; i < documents.size(); i++) {
+			if (this.minScore == null || scores[i] >= this.minScore) {
+				ranked.add(documents.get(i).mutate().score((double) scores[i]).build());
+			}
+		}
+		ranked.sort(Comparator.comparing(Document::getScore, Comparator.nullsLast(Comparator.reverseOrder())));
+		return (this.topK != null && ranked.size() > this.topK) ? ranked.subList(0, this.topK) : ranked;
+	}
+
+	/**
+	 * Scores the relevance of each document to the query.
+	 * @param query the query text
+	 * @param documents the documents to score
+	 * @return the scores, in document order
+	 */
+	public float[] score(String query, List<Document> documents) {
+		float[] scores = new float[documents.size()];
+		for (int from = 0; from < documents.size(); from += this.batchSize) {
+			int to = Math.min(from + this.batchSize, documents.size());
+			PairList<String, String> pairs = new PairList<>(to - from);
+			for (Document document : documents.subList(from, to)) {
+				pairs.add(query, Objects.requireNonNullElse(document.getText(), ""));
+			}
+			float[] batchScores = scoreBatch(this.tokenizer.batchEncode(pairs));
+			System.arraycopy(batchScores, 0, scores, from, batchScores.length);
+		}
+		return scores;
+	}
+
+	private float[] scoreBatch(Encoding[] encodings) {
+		// pad to the longest pair of the batch
+		int sequenceLength = 0;
+		for (Encoding encoding : encodings) {
+			sequenceLength = Math.max(sequenceLength, encoding.getIds().length);
+		}
+		long[][] inputIds = new long[encodings.length][sequenceLength];
+		long[][] attentionMask = new long[encodings.length][sequenceLength];
+		long[][] tokenTypeIds = new long[encodings.length][sequenceLength];
+		for (int i = 0; i < encodings.length; i++) {
+			long[] ids = encodings[i].getIds();
+			System.arraycopy(ids, 0, inputIds[i], 0, ids.length);
+			System.arraycopy(encodings[i].getAttentionMask(), 0, attentionMask[i], 0, ids.length);
+			System.arraycopy(encodings[i].getTypeIds(), 0, tokenTypeIds[i], 0, ids.length);
+		}
+
+		try (OnnxTensor inputIdsTensor = OnnxTensor.createTensor(this.environment, inputIds);
+				OnnxTensor attentionMaskTensor = OnnxTensor.createTensor(this.environment, attentionMask);
+				OnnxTensor tokenTypeIdsTensor = OnnxTensor.createTensor(this.environment, tokenTypeIds)) {
+
+			Map<String, OnnxTensor> modelInputs = new HashMap<>();
+			putIfModelInput(modelInputs, "input_ids", inputIdsTensor);
+			putIfModelInput(modelInputs, "attention_mask", attentionMaskTensor);
+			putIfModelInput(modelInputs, "token_type_ids", tokenTypeIdsTensor);
+
+			try (OrtSession.Result results = this.session.run(modelInputs)) {
+				Object logits = results.get(this.modelOutputName)
+					.orElseThrow(() -> new IllegalStateException("Missing model output " + this.modelOutputName))
+					.getValue();
+				return toScores(logits, encodings.length);
+			}
+		}
+		catch (OrtException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+
+	private void putIfModelInput(Map<String, OnnxTensor> modelInputs, String name, OnnxTensor tensor) {
+		if (this.onnxModelInputs.contains(name)) {
+			modelInputs.put(name, tensor);
+		}
+	}
+
+	/**
+	 * Reads one relevance logit per pair, from a {@code [batch, 1]} or {@code [batch]}
+	 * output.
+	 */
+	private static float[] toScores(Object logits, int batchSize) {
+		float[] scores = new float[batchSize];
+		if (logits instanceof float[][] matrix) {
+			for (int i = 0; i < batchSize; i++) {
+				scores[i] = matrix[i][0];
+			}
+		}
+		else if (logits instanceof float[] vector) {
+			System.arraycopy(vector, 0, scores, 0, batchSize);
+		}
+		else {
+			throw new IllegalStateException("Unsupported cross-encoder output type: " + logits.getClass());
+		}
+		return scores;
+	}
+
+	@Override
+	public void close() throws OrtException {
+		this.session.close();
+		this.tokenizer.close();
+	}
+
+	public static final class Builder {
+
+		private Resource tokenizerResource = toResource(DEFAULT_ONNX_TOKENIZER_URI);
+
+		private Resource modelResource = toResource(DEFAULT_ONNX_MODEL_URI);
+
+		private Map<String, String> tokenizerOptions = Map.of("maxLength", "512", "truncation", "true");
+
+		private String modelOutputName = DEFAULT_MODEL_OUTPUT_NAME;
+
+		private int gpuDeviceId = -1;
+
+		@Nullable
+		private String resourceCacheDirectory;
+
+		private boolean disableCaching = false;
+
+		private int batchSize = 16;
+
+		@Nullable
+		private Integer topK;
+
+		@Nullable
+		private Double minScore;
+
+		private Builder() {
+		}
+
+		private static Resource toResource(String uri) {
+			return new DefaultResourceLoader().getResource(uri);
+		}
+
+		public Builder tokenizerResource(Resource tokenizerResource) {
+			this.tokenizerResource = tokenizerResource;
+			return this;
+		}
+
+		public Builder tokenizerResource(String tokenizerResourceUri) {
+			this.tokenizerResource = toResource(tokenizerResourceUri);
+			return this;
+		}
+
+		public Builder modelResource(Resource modelResource) {
+			this.modelResource = modelResource;
+			return this;
+		}
+
+		public Builder modelResource(String modelResourceUri) {
+			this.modelResource = toResource(modelResourceUri);
+			return this;
+		}
+
+		/**
+		 * Options of the HuggingFace tokenizer. Defaults to truncating the pairs to 512
+		 * tokens.
+		 */
+		public Builder tokenizerOptions(Map<String, String> tokenizerOptions) {
+			this.tokenizerOptions = tokenizerOptions;
+			return this;
+		}
+
+		public Builder modelOutputName(String modelOutputName) {
+			this.modelOutputName = modelOutputName;
+			return this;
+		}
+
+		public Builder gpuDeviceId(int gpuDeviceId) {
+			this.gpuDeviceId = gpuDeviceId;
+			return this;
+		}
+
+		public Builder resourceCacheDirectory(String resourceCacheDirectory) {
+			this.resourceCacheDirectory = resourceCacheDirectory;
+			return this;
+		}
+
+		public Builder disableCaching(boolean disableCaching) {
+			this.disableCaching = disableCaching;
+			return this;
+		}
+
+		/**
+		 * Number of query and document pairs scored per inference. Defaults to 16.
+		 */
+		public Builder batchSize(int batchSize) {
+			this.batchSize = batchSize;
+			return this;
+		}
+
+		/**
+		 * Maximum number of documents to return. Defaults to all of them.
+		 */
+		public Builder topK(Integer topK) {
+			this.topK = topK;
+			return this;
+		}
+
+		/**
+		 * Minimum score, as a raw logit of the model, of the documents to return.
+		 * Defaults to none.
+		 */
+		public Builder minScore(Double minScore) {
+			this.minScore = minScore;
+			return this;
+		}
+
+		public CrossEncoderDocumentPostProcessor build() {
+			return new CrossEncoderDocumentPostProcessor(this);
+		}
+
+	}
+
+}
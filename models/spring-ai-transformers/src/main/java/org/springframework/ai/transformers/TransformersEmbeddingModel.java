@@ -16,11 +16,22 @@
 
 package org.springframework.ai.transformers;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.FloatBuffer;
+import java.nio.LongBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -31,11 +42,13 @@ import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDManager;
 import ai.djl.ndarray.types.DataType;
 import ai.djl.ndarray.types.Shape;
+import ai.onnxruntime.NodeInfo;
 import ai.onnxruntime.OnnxTensor;
 import ai.onnxruntime.OnnxValue;
 import ai.onnxruntime.OrtEnvironment;
 import ai.onnxruntime.OrtException;
 import ai.onnxruntime.OrtSession;
+import ai.onnxruntime.TensorInfo;
 import io.micrometer.observation.ObservationRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -52,9 +65,11 @@ import org.springframework.ai.embedding.observation.EmbeddingModelObservationCon
 import org.springframework.ai.embedding.observation.EmbeddingModelObservationConvention;
 import org.springframework.ai.embedding.observation.EmbeddingModelObservationDocumentation;
 import org.springframework.ai.observation.conventions.AiProvider;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -69,6 +84,26 @@ import org.springframework.util.StringUtils;
  * </p>
  *
  * <p>
+ * By default, all the inputs of a request are embedded in a single batch, padded to the
+ * longest one. Setting {@link #setMaxBatchTokens(int) maxBatchTokens} enables a
+ * high-throughput mode for corpora of mixed lengths: the inputs are sorted by token
+ * length and embedded in sub-batches of similar lengths holding at most that many tokens,
+ * padding included. The input and output tensors are backed by direct buffers, reused
+ * from one sub-batch to the next, and mean pooling reads the output buffer in place.
+ * </p>
+ *
+ * <p>
+ * The ONNX runtime session can be tuned through the graph optimization level, the intra
+ * and inter-op thread counts, the execution mode and the memory arena and pattern
+ * settings. By default, a single session serves all the callers concurrently, each run
+ * competing for the same cores. Setting a {@link #setSessionPoolSize(int) session pool
+ * size} instead creates that many sessions, each serving one caller at a time, while the
+ * other callers wait in line; with the intra-op threads of each session set to the number
+ * of cores divided by the pool size, concurrent callers neither oversubscribe the cores
+ * nor get serialized. Each session holds its own copy of the model weights.
+ * </p>
+ *
+ * <p>
  * For more information on the underlying SBERT framework, see:
  * <a href="https://www.sbert.net/index.html">SBERT Documentation</a>
  * <a href="https://www.sbert.net/docs/pretrained_models.html">SBERT Pre-trained
@@ -78,7 +113,7 @@ import org.springframework.util.StringUtils;
  * @author Christian Tzolov
  * @since 1.0.0
  */
-public class TransformersEmbeddingModel extends AbstractEmbeddingModel implements InitializingBean {
+public class TransformersEmbeddingModel extends AbstractEmbeddingModel implements InitializingBean, DisposableBean {
 
 	// ONNX tokenizer for the all-MiniLM-L6-v2 generative
 	public static final String DEFAULT_ONNX_TOKENIZER_URI = "https://raw.githubusercontent.com/spring-projects/spring-ai/main/models/spring-ai-transformers/src/main/resources/onnx/all-MiniLM-L6-v2/tokenizer.json";
@@ -87,6 +122,10 @@ public class TransformersEmbeddingModel extends AbstractEmbeddingModel implement
 	// https://huggingface.co/sentence-transformers/all-MiniLM-L6-v2
 	public static final String DEFAULT_ONNX_MODEL_URI = "https://github.com/spring-projects/spring-ai/raw/main/models/spring-ai-transformers/src/main/resources/onnx/all-MiniLM-L6-v2/model.onnx";
 
+	// Dynamically int8-quantized all-MiniLM-L6-v2 model for AVX2 CPUs, to be set as the
+	// model resource for faster inference on CPU at a slight loss of accuracy
+	public static final String QUANTIZED_ONNX_MODEL_URI = "https://huggingface.co/sentence-transformers/all-MiniLM-L6-v2/resolve/main/onnx/model_quint8_avx2.onnx";
+
 	public static final String DEFAULT_MODEL_OUTPUT_NAME = "last_hidden_state";
 
 	private static final Log logger = LogFactory.getLog(TransformersEmbeddingModel.class);
@@ -132,6 +171,42 @@ public class TransformersEmbeddingModel extends AbstractEmbeddingModel implement
 	 */
 	private OrtSession session;
 
+	/**
+	 * Idle sessions of the pool, or {@code null} when the single {@link #session} is
+	 * shared by all the callers.
+	 */
+	@Nullable
+	private BlockingQueue<OrtSession> idleSessions;
+
+	private int sessionPoolSize = 0;
+
+	private volatile boolean destroyed;
+
+	/**
+	 * Idle buffers of the sub-batches, reused by the next requests. Each request in
+	 * flight holds its own, so there are at most as many as concurrent requests.
+	 */
+	private final Queue<BatchBuffers> idleBuffers = new ConcurrentLinkedQueue<>();
+
+	@Nullable
+	private OrtSession.SessionOptions.OptLevel optimizationLevel;
+
+	private int intraOpNumThreads = 0;
+
+	private int interOpNumThreads = 0;
+
+	@Nullable
+	private OrtSession.SessionOptions.ExecutionMode executionMode;
+
+	@Nullable
+	private Boolean memoryArenaEnabled;
+
+	@Nullable
+	private Boolean memoryPatternOptimization;
+
+	@Nullable
+	private String optimizedModelFilePath;
+
 	/**
 	 * Resource cache directory. Used to cache remote resources, such as the ONNX models,
 	 * to the local file system.
@@ -155,6 +230,23 @@ public class TransformersEmbeddingModel extends AbstractEmbeddingModel implement
 
 	private Set<String> onnxModelInputs;
 
+	/**
+	 * Size of the token embeddings, as declared by the model output, or -1 when it is
+	 * dynamic.
+	 */
+	private int hiddenSize = -1;
+
+	/**
+	 * Maximum number of tokens, padding included, of a sub-batch in the high-throughput
+	 * mode. The mode is disabled when not positive.
+	 */
+	private int maxBatchTokens = 0;
+
+	/**
+	 * Whether to L2-normalize the embeddings.
+	 */
+	private boolean normalize = false;
+
 	/**
 	 * Conventions to use for generating observations.
 	 */
@@ -215,6 +307,91 @@ public class TransformersEmbeddingModel extends AbstractEmbeddingModel implement
 		this.modelOutputName = modelOutputName;
 	}
 
+	/**
+	 * Enables the high-throughput mode, sorting the inputs by token length and embedding
+	 * them in sub-batches of at most the given number of tokens, padding included. A
+	 * sequence longer than the budget is embedded on its own.
+	 * @param maxBatchTokens the token budget of a sub-batch, or 0 to embed all the inputs
+	 * in a single batch
+	 */
+	public void setMaxBatchTokens(int maxBatchTokens) {
+		Assert.isTrue(maxBatchTokens >= 0, "maxBatchTokens must not be negative");
+		this.maxBatchTokens = maxBatchTokens;
+	}
+
+	/**
+	 * Whether to L2-normalize the embeddings, so that their dot product is their cosine
+	 * similarity. Defaults to {@code false}.
+	 */
+	public void setNormalize(boolean normalize) {
+		this.normalize = normalize;
+	}
+
+	/**
+	 * Number of sessions serving the callers, each running one request at a time. When 0,
+	 * the default, a single session runs all the requests concurrently.
+	 */
+	public void setSessionPoolSize(int sessionPoolSize) {
+		Assert.isTrue(sessionPoolSize >= 0, "sessionPoolSize must not be negative");
+		this.sessionPoolSize = sessionPoolSize;
+	}
+
+	/**
+	 * Graph optimization level applied when loading the model. Defaults to the runtime
+	 * default, {@code ALL_OPT}. A model optimized ahead of time, see
+	 * {@link #setOptimizedModelFilePath(String)}, can be loaded with {@code NO_OPT} to
+	 * shorten the startup.
+	 */
+	public void setOptimizationLevel(OrtSession.SessionOptions.OptLevel optimizationLevel) {
+		this.optimizationLevel = optimizationLevel;
+	}
+
+	/**
+	 * Number of threads parallelizing the execution of an operator within a session. When
+	 * 0, the default, the runtime uses one thread per physical core.
+	 */
+	public void setIntraOpNumThreads(int intraOpNumThreads) {
+		Assert.isTrue(intraOpNumThreads >= 0, "intraOpNumThreads must not be negative");
+		this.intraOpNumThreads = intraOpNumThreads;
+	}
+
+	/**
+	 * Number of threads running independent operators in parallel, with the
+	 * {@code PARALLEL} execution mode. When 0, the default, the runtime decides.
+	 */
+	public void setInterOpNumThreads(int interOpNumThreads) {
+		Assert.isTrue(interOpNumThreads >= 0, "interOpNumThreads must not be negative");
+		this.interOpNumThreads = interOpNumThreads;
+	}
+
+	public void setExecutionMode(OrtSession.SessionOptions.ExecutionMode executionMode) {
+		this.executionMode = executionMode;
+	}
+
+	/**
+	 * Whether the CPU memory arena keeps the memory of previous runs for reuse. Disabling
+	 * it lowers the memory footprint of inputs of varying sizes.
+	 */
+	public void setMemoryArenaEnabled(boolean memoryArenaEnabled) {
+		this.memoryArenaEnabled = memoryArenaEnabled;
+	}
+
+	/**
+	 * Whether the runtime plans the memory of a run from the previous runs, which pays
+	 * off when the input shapes repeat.
+	 */
+	public void setMemoryPatternOptimization(boolean memoryPatternOptimization) {
+		this.memoryPatternOptimization = memoryPatternOptimization;
+	}
+
+	/**
+	 * File to save the optimized model to, when loading the model. The saved model can
+	 * then be set as the model resource, with a lower optimization level.
+	 */
+	public void setOptimizedModelFilePath(String optimizedModelFilePath) {
+		this.optimizedModelFilePath = optimizedModelFilePath;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 
@@ -229,13 +406,19 @@ public class TransformersEmbeddingModel extends AbstractEmbeddingModel implement
 		// onnxruntime
 		this.environment = OrtEnvironment.getEnvironment();
 
-		try (var sessionOptions = new OrtSession.SessionOptions()) {
-			if (this.gpuDeviceId >= 0) {
-				sessionOptions.addCUDA(this.gpuDeviceId); // Run on a GPU or with another
-				// provider
+		byte[] model = getCachedResource(this.modelResource).getContentAsByteArray();
+		try (var sessionOptions = createSessionOptions(true)) {
+			this.session = this.environment.createSession(model, sessionOptions);
+		}
+		if (this.sessionPoolSize > 0) {
+			this.idleSessions = new ArrayBlockingQueue<>(this.sessionPoolSize);
+			this.idleSessions.add(this.session);
+			// the first session has saved the optimized model already
+			try (var sessionOptions = createSessionOptions(false)) {
+				for (int i = 1; i < this.sessionPoolSize; i++) {
+					this.idleSessions.add(this.environment.createSession(model, sessionOptions));
+				}
 			}
-			this.session = this.environment.createSession(getCachedResource(this.modelResource).getContentAsByteArray(),
-					sessionOptions);
 		}
 
 		this.onnxModelInputs = this.session.getInputNames();
@@ -248,6 +431,85 @@ public class TransformersEmbeddingModel extends AbstractEmbeddingModel implement
 				"The generative output names don't contain expected: " + this.modelOutputName
 						+ ". Consider one of the available model outputs: "
 						+ onnxModelOutputs.stream().collect(Collectors.joining(", ")));
+
+		NodeInfo outputInfo = this.session.getOutputInfo().get(this.modelOutputName);
+		if (outputInfo.getInfo() instanceof TensorInfo tensorInfo && tensorInfo.getShape().length == 3
+				&& tensorInfo.getShape()[2] > 0) {
+			this.hiddenSize = (int) tensorInfo.getShape()[2];
+		}
+	}
+
+	private OrtSession.SessionOptions createSessionOptions(boolean saveOptimizedModel) throws OrtException {
+		var sessionOptions = new OrtSession.SessionOptions();
+		if (this.gpuDeviceId >= 0) {
+			sessionOptions.addCUDA(this.gpuDeviceId); // Run on a GPU or with another
+			// provider
+		}
+		if (this.optimizationLevel != null) {
+			sessionOptions.setOptimizationLevel(this.optimizationLevel);
+		}
+		if (this.intraOpNumThreads > 0) {
+			sessionOptions.setIntraOpNumThreads(this.intraOpNumThreads);
+		}
+		if (this.interOpNumThreads > 0) {
+			sessionOptions.setInterOpNumThreads(this.interOpNumThreads);
+		}
+		if (this.executionMode != null) {
+			sessionOptions.setExecutionMode(this.executionMode);
+		}
+		if (this.memoryArenaEnabled != null) {
+			sessionOptions.setCPUArenaAllocator(this.memoryArenaEnabled);
+		}
+		if (this.memoryPatternOptimization != null) {
+			sessionOptions.setMemoryPatternOptimization(this.memoryPatternOptimization);
+		}
+		if (saveOptimizedModel && StringUtils.hasText(this.optimizedModelFilePath)) {
+			sessionOptions.setOptimizedModelFilePath(this.optimizedModelFilePath);
+		}
+		return sessionOptions;
+	}
+
+	/**
+	 * Closes the ONNX sessions. Sessions still running a request when the model is
+	 * destroyed are left to the ONNX environment.
+	 */
+	@Override
+	public void destroy() throws OrtException {
+		this.destroyed = true;
+		Set<OrtSession> sessions = new LinkedHashSet<>();
+		if (this.idleSessions != null) {
+			this.idleSessions.drainTo(sessions);
+		}
+		else if (this.session != null) {
+			sessions.add(this.session);
+		}
+		for (OrtSession session : sessions) {
+			session.close();
+		}
+	}
+
+	/**
+	 * Takes an idle session from the pool, waiting for one if they are all busy, or
+	 * returns the shared session.
+	 */
+	private OrtSession acquireSession() {
+		Assert.state(!this.destroyed, "The embedding model has been destroyed");
+		if (this.idleSessions == null) {
+			return this.session;
+		}
+		try {
+			return this.idleSessions.take();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for an ONNX session", ex);
+		}
+	}
+
+	private void releaseSession(OrtSession session) {
+		if (this.idleSessions != null) {
+			this.idleSessions.add(session);
+		}
 	}
 
 	private Resource getCachedResource(Resource resource) {
@@ -297,67 +559,230 @@ public class TransformersEmbeddingModel extends AbstractEmbeddingModel implement
 			.observe(() -> {
 				List<float[]> resultEmbeddings = new ArrayList<>();
 
+				OrtSession session = acquireSession();
 				try {
+					if (this.maxBatchTokens > 0) {
+						resultEmbeddings.addAll(embedInSubBatches(session, request.getInstructions()));
+					}
+					else {
+						embedInSingleBatch(session, request.getInstructions(), resultEmbeddings);
+					}
+				}
+				catch (OrtException ex) {
+					throw new RuntimeException(ex);
+				}
+				finally {
+					releaseSession(session);
+				}
+				if (this.normalize) {
+					resultEmbeddings.forEach(TransformersEmbeddingModel::normalize);
+				}
 
-					Encoding[] encodings = this.tokenizer.batchEncode(request.getInstructions());
+				var indexCounter = new AtomicInteger(0);
 
-					long[][] input_ids0 = new long[encodings.length][];
-					long[][] attention_mask0 = new long[encodings.length][];
-					long[][] token_type_ids0 = new long[encodings.length][];
+				EmbeddingResponse embeddingResponse = new EmbeddingResponse(
+						resultEmbeddings.stream().map(e -> new Embedding(e, indexCounter.incrementAndGet())).toList());
+				observationContext.setResponse(embeddingResponse);
 
-					for (int i = 0; i < encodings.length; i++) {
-						input_ids0[i] = encodings[i].getIds();
-						attention_mask0[i] = encodings[i].getAttentionMask();
-						token_type_ids0[i] = encodings[i].getTypeIds();
-					}
+				return embeddingResponse;
+			});
+	}
+
+	private void embedInSingleBatch(OrtSession session, List<String> instructions, List<float[]> resultEmbeddings)
+			throws OrtException {
+
+		Encoding[] encodings = this.tokenizer.batchEncode(instructions);
+
+		long[][] input_ids0 = new long[encodings.length][];
+		long[][] attention_mask0 = new long[encodings.length][];
+		long[][] token_type_ids0 = new long[encodings.length][];
+
+		for (int i = 0; i < encodings.length; i++) {
+			input_ids0[i] = encodings[i].getIds();
+			attention_mask0[i] = encodings[i].getAttentionMask();
+			token_type_ids0[i] = encodings[i].getTypeIds();
+		}
 
-					try (OnnxTensor inputIds = OnnxTensor.createTensor(this.environment, input_ids0);
-							OnnxTensor attentionMask = OnnxTensor.createTensor(this.environment, attention_mask0);
-							OnnxTensor tokenTypeIds = OnnxTensor.createTensor(this.environment, token_type_ids0);) {
+		try (OnnxTensor inputIds = OnnxTensor.createTensor(this.environment, input_ids0);
+				OnnxTensor attentionMask = OnnxTensor.createTensor(this.environment, attention_mask0);
+				OnnxTensor tokenTypeIds = OnnxTensor.createTensor(this.environment, token_type_ids0);) {
 
-						Map<String, OnnxTensor> modelInputs = Map.of("input_ids", inputIds, "attention_mask",
-								attentionMask, "token_type_ids", tokenTypeIds);
+			Map<String, OnnxTensor> modelInputs = Map.of("input_ids", inputIds, "attention_mask", attentionMask,
+					"token_type_ids", tokenTypeIds);
 
-						modelInputs = removeUnknownModelInputs(modelInputs);
+			modelInputs = removeUnknownModelInputs(modelInputs);
 
-						// The Run result object is AutoCloseable to prevent references
-						// from leaking out. Once the Result object is
-						// closed, all it’s child OnnxValues are closed too.
-						try (OrtSession.Result results = this.session.run(modelInputs)) {
+			// The Run result object is AutoCloseable to prevent references
+			// from leaking out. Once the Result object is
+			// closed, all it’s child OnnxValues are closed too.
+			try (OrtSession.Result results = session.run(modelInputs)) {
 
-							// OnnxValue lastHiddenState = results.get(0);
-							OnnxValue lastHiddenState = results.get(this.modelOutputName).get();
+				// OnnxValue lastHiddenState = results.get(0);
+				OnnxValue lastHiddenState = results.get(this.modelOutputName).get();
 
-							// 0 - batch_size (1..x)
-							// 1 - sequence_length (128)
-							// 2 - embedding dimensions (384)
-							float[][][] tokenEmbeddings = (float[][][]) lastHiddenState.getValue();
+				// 0 - batch_size (1..x)
+				// 1 - sequence_length (128)
+				// 2 - embedding dimensions (384)
+				float[][][] tokenEmbeddings = (float[][][]) lastHiddenState.getValue();
 
-							try (NDManager manager = NDManager.newBaseManager()) {
-								NDArray ndTokenEmbeddings = create(tokenEmbeddings, manager);
-								NDArray ndAttentionMask = manager.create(attention_mask0);
+				try (NDManager manager = NDManager.newBaseManager()) {
+					NDArray ndTokenEmbeddings = create(tokenEmbeddings, manager);
+					NDArray ndAttentionMask = manager.create(attention_mask0);
 
-								NDArray embedding = meanPooling(ndTokenEmbeddings, ndAttentionMask);
+					NDArray embedding = meanPooling(ndTokenEmbeddings, ndAttentionMask);
 
-								for (int i = 0; i < embedding.size(0); i++) {
-									resultEmbeddings.add(embedding.get(i).toFloatArray());
-								}
-							}
-						}
+					for (int i = 0; i < embedding.size(0); i++) {
+						resultEmbeddings.add(embedding.get(i).toFloatArray());
 					}
 				}
-				catch (OrtException ex) {
-					throw new RuntimeException(ex);
+			}
+		}
+	}
+
+	private List<float[]> embedInSubBatches(OrtSession session, List<String> instructions) throws OrtException {
+		Encoding[] encodings = this.tokenizer.batchEncode(instructions);
+		int[] lengths = new int[encodings.length];
+		for (int i = 0; i < encodings.length; i++) {
+			lengths[i] = sequenceLength(encodings[i]);
+		}
+		// Sorting by length keeps the inputs of a sub-batch close in length, so that
+		// little is spent on padding.
+		Integer[] order = new Integer[encodings.length];
+		Arrays.setAll(order, i -> i);
+		Arrays.sort(order, Comparator.comparingInt(i -> lengths[i]));
+
+		float[][] embeddings = new float[encodings.length][];
+		BatchBuffers buffers = this.idleBuffers.poll();
+		if (buffers == null) {
+			buffers = new BatchBuffers();
+		}
+		try {
+			int from = 0;
+			while (from < order.length) {
+				// the last input of a sub-batch is the longest one, setting its padded
+				// length
+				int to = from + 1;
+				while (to < order.length && (long) (to - from + 1) * lengths[order[to]] <= this.maxBatchTokens) {
+					to++;
 				}
+				embedSubBatch(session, encodings, order, from, to, lengths[order[to - 1]], buffers, embeddings);
+				from = to;
+			}
+		}
+		finally {
+			this.idleBuffers.add(buffers);
+		}
+		return Arrays.asList(embeddings);
+	}
 
-				var indexCounter = new AtomicInteger(0);
+	private void embedSubBatch(OrtSession session, Encoding[] encodings, Integer[] order, int from, int to,
+			int sequenceLength, BatchBuffers buffers, float[][] embeddings) throws OrtException {
+		int batch = to - from;
+		buffers.ensureCapacity(batch * sequenceLength, this.hiddenSize);
+		LongBuffer inputIds = buffers.inputIds.clear();
+		LongBuffer attentionMask = buffers.attentionMask.clear();
+		LongBuffer tokenTypeIds = buffers.tokenTypeIds.clear();
+		for (int i = from; i < to; i++) {
+			Encoding encoding = encodings[order[i]];
+			putPadded(inputIds, encoding.getIds(), sequenceLength);
+			putPadded(attentionMask, encoding.getAttentionMask(), sequenceLength);
+			putPadded(tokenTypeIds, encoding.getTypeIds(), sequenceLength);
+		}
+		inputIds.flip();
+		attentionMask.flip();
+		tokenTypeIds.flip();
+
+		long[] inputShape = { batch, sequenceLength };
+		try (OnnxTensor inputIdsTensor = OnnxTensor.createTensor(this.environment, inputIds, inputShape);
+				OnnxTensor attentionMaskTensor = OnnxTensor.createTensor(this.environment, attentionMask, inputShape);
+				OnnxTensor tokenTypeIdsTensor = OnnxTensor.createTensor(this.environment, tokenTypeIds, inputShape)) {
+
+			Map<String, OnnxTensor> modelInputs = new HashMap<>();
+			modelInputs.put("input_ids", inputIdsTensor);
+			modelInputs.put("attention_mask", attentionMaskTensor);
+			modelInputs.put("token_type_ids", tokenTypeIdsTensor);
+			modelInputs = removeUnknownModelInputs(modelInputs);
+
+			if (this.hiddenSize > 0) {
+				// The model writes the token embeddings straight into the output buffer.
+				FloatBuffer output = buffers.output.clear().limit(batch * sequenceLength * this.hiddenSize);
+				try (OnnxTensor outputTensor = OnnxTensor.createTensor(this.environment, output,
+						new long[] { batch, sequenceLength, this.hiddenSize });
+						OrtSession.Result results = session.run(modelInputs,
+								Map.of(this.modelOutputName, outputTensor))) {
+					meanPooling(output, attentionMask, batch, sequenceLength, this.hiddenSize, order, from, embeddings);
+				}
+			}
+			else {
+				try (OrtSession.Result results = session.run(modelInputs)) {
+					OnnxTensor lastHiddenState = (OnnxTensor) results.get(this.modelOutputName).get();
+					int dimensions = (int) lastHiddenState.getInfo().getShape()[2];
+					meanPooling(lastHiddenState.getFloatBuffer(), attentionMask, batch, sequenceLength, dimensions,
+							order, from, embeddings);
+				}
+			}
+		}
+	}
 
-				EmbeddingResponse embeddingResponse = new EmbeddingResponse(
-						resultEmbeddings.stream().map(e -> new Embedding(e, indexCounter.incrementAndGet())).toList());
-				observationContext.setResponse(embeddingResponse);
+	/**
+	 * Returns the length of an encoding, up to its last attended token.
+	 */
+	private static int sequenceLength(Encoding encoding) {
+		long[] attentionMask = encoding.getAttentionMask();
+		int length = attentionMask.length;
+		while (length > 1 && attentionMask[length - 1] == 0) {
+			length--;
+		}
+		return length;
+	}
 
-				return embeddingResponse;
-			});
+	private static void putPadded(LongBuffer buffer, long[] values, int length) {
+		int count = Math.min(values.length, length);
+		buffer.put(values, 0, count);
+		for (int i = count; i < length; i++) {
+			buffer.put(0L);
+		}
+	}
+
+	/**
+	 * Averages the token embeddings of each sequence over its attended tokens.
+	 */
+	private static void meanPooling(FloatBuffer tokenEmbeddings, LongBuffer attentionMask, int batch,
+			int sequenceLength, int dimensions, Integer[] order, int from, float[][] embeddings) {
+		for (int b = 0; b < batch; b++) {
+			float[] embedding = new float[dimensions];
+			int tokens = 0;
+			for (int t = 0; t < sequenceLength; t++) {
+				int token = b * sequenceLength + t;
+				if (attentionMask.get(token) == 0) {
+					continue;
+				}
+				tokens++;
+				int offset = token * dimensions;
+				for (int d = 0; d < dimensions; d++) {
+					embedding[d] += tokenEmbeddings.get(offset + d);
+				}
+			}
+			if (tokens > 0) {
+				for (int d = 0; d < dimensions; d++) {
+					embedding[d] /= tokens;
+				}
+			}
+			embeddings[order[from + b]] = embedding;
+		}
+	}
+
+	private static void normalize(float[] embedding) {
+		double sumOfSquares = 0;
+		for (float value : embedding) {
+			sumOfSquares += value * value;
+		}
+		float norm = (float) Math.sqrt(sumOfSquares);
+		if (norm > 0) {
+			for (int i = 0; i < embedding.length; i++) {
+				embedding[i] /= norm;
+			}
+		}
 	}
 
 	private Map<String, OnnxTensor> removeUnknownModelInputs(Map<String, OnnxTensor> modelInputs) {
@@ -412,4 +837,39 @@ public class TransformersEmbeddingModel extends AbstractEmbeddingModel implement
 		this.observationConvention = observationConvention;
 	}
 
+	/**
+	 * Direct buffers backing the tensors of the sub-batches of a request, grown on demand
+	 * and kept for the next requests.
+	 */
+	private static final class BatchBuffers {
+
+		private LongBuffer inputIds = allocateLongs(0);
+
+		private LongBuffer attentionMask = allocateLongs(0);
+
+		private LongBuffer tokenTypeIds = allocateLongs(0);
+
+		private FloatBuffer output = allocateFloats(0);
+
+		private void ensureCapacity(int tokens, int hiddenSize) {
+			if (this.inputIds.capacity() < tokens) {
+				this.inputIds = allocateLongs(tokens);
+				this.attentionMask = allocateLongs(tokens);
+				this.tokenTypeIds = allocateLongs(tokens);
+			}
+			if (hiddenSize > 0 && this.output.capacity() < tokens * hiddenSize) {
+				this.output = allocateFloats(tokens * hiddenSize);
+			}
+		}
+
+		private static LongBuffer allocateLongs(int capacity) {
+			return ByteBuffer.allocateDirect(capacity * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+		}
+
+		private static FloatBuffer allocateFloats(int capacity) {
+			return ByteBuffer.allocateDirect(capacity * Float.BYTES).order(ByteOrder.nativeOrder()).asFloatBuffer();
+		}
+
+	}
+
 }
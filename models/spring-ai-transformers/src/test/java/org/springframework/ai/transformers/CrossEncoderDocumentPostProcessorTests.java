@@ -0,0 +1,126 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.transformers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.rag.Query;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link CrossEncoderDocumentPostProcessor}. They run offline against a
+ * stub model scoring each pair with the sum of its token ids.
+ */
+class CrossEncoderDocumentPostProcessorTests {
+
+	private static final String TOKENIZER = "onnx/all-MiniLM-L6-v2/tokenizer.json";
+
+	private static final List<Document> DOCUMENTS = List.of(new Document("a"), new Document("zebra crossing"),
+			new Document("the"), new Document("xylophone"), new Document("quantum chromodynamics"));
+
+	@TempDir
+	Path tempDir;
+
+	private HuggingFaceTokenizer tokenizer;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		this.tokenizer = HuggingFaceTokenizer.newInstance(new ClassPathResource(TOKENIZER).getInputStream(), Map.of());
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.tokenizer.close();
+	}
+
+	@Test
+	void documentsAreSortedByScoreAcrossBatches() throws Exception {
+		try (CrossEncoderDocumentPostProcessor reranker = reranker().batchSize(2).build()) {
+			List<Document> ranked = reranker.process(new Query("query"), DOCUMENTS);
+
+			assertThat(ranked).hasSize(DOCUMENTS.size());
+			assertThat(ranked).extracting(Document::getScore).isSortedAccordingTo((a, b) -> Double.compare(b, a));
+			for (Document document : ranked) {
+				assertThat(document.getScore()).isEqualTo(expectedScore("query", document.getText()));
+			}
+			assertThat(ranked).extracting(Document::getId)
+				.containsExactlyInAnyOrderElementsOf(DOCUMENTS.stream().map(Document::getId).toList());
+		}
+	}
+
+	@Test
+	void batchSizeDoesNotChangeScores() throws Exception {
+		try (CrossEncoderDocumentPostProcessor single = reranker().batchSize(1).build();
+				CrossEncoderDocumentPostProcessor batched = reranker().batchSize(16).build()) {
+			assertThat(batched.score("query", DOCUMENTS)).containsExactly(single.score("query", DOCUMENTS));
+		}
+	}
+
+	@Test
+	void topKAndMinScoreTruncateCandidates() throws Exception {
+		try (CrossEncoderDocumentPostProcessor reranker = reranker().topK(2).build()) {
+			List<Document> ranked = reranker.process(new Query("query"), DOCUMENTS);
+
+			assertThat(ranked).hasSize(2);
+			double best = Arrays.stream(DOCUMENTS.toArray(Document[]::new))
+				.mapToDouble(document -> expectedScore("query", document.getText()))
+				.max()
+				.orElseThrow();
+			assertThat(ranked.get(0).getScore()).isEqualTo(best);
+		}
+		try (CrossEncoderDocumentPostProcessor reranker = reranker().minScore(expectedScore("query", "xylophone"))
+			.build()) {
+			assertThat(reranker.process(new Query("query"), DOCUMENTS)).extracting(Document::getScore)
+				.allSatisfy(score -> assertThat(score).isGreaterThanOrEqualTo(expectedScore("query", "xylophone")));
+		}
+	}
+
+	@Test
+	void emptyCandidatesAreReturnedAsIs() throws Exception {
+		try (CrossEncoderDocumentPostProcessor reranker = reranker().build()) {
+			assertThat(reranker.process(new Query("query"), List.of())).isEmpty();
+		}
+	}
+
+	private CrossEncoderDocumentPostProcessor.Builder reranker() throws Exception {
+		Path model = this.tempDir.resolve("model.onnx");
+		Files.write(model, OnnxTestModels.sumOfTokenIds());
+		return CrossEncoderDocumentPostProcessor.builder()
+			.tokenizerResource(new ClassPathResource(TOKENIZER))
+			.modelResource(new FileSystemResource(model))
+			.disableCaching(true);
+	}
+
+	private double expectedScore(String query, String text) {
+		return Arrays.stream(this.tokenizer.encode(query, text).getIds()).sum();
+	}
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.transformers;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Stub ONNX models serialized by hand, so that the tests run offline without the real
+ * models.
+ */
+final class OnnxTestModels {
+
+	private static final int FLOAT = 1;
+
+	private static final int INT64 = 7;
+
+	private OnnxTestModels() {
+	}
+
+	/**
+	 * Serializes a model computing {@code logits = ReduceSum(Cast(input_ids))} over the
+	 * sequence axis, with an output of shape {@code [batch, 1]}.
+	 */
+	static byte[] sumOfTokenIds() {
+		byte[] cast = castInputIds("ids_float");
+		byte[] reduceSum = message(string(1, "ids_float"), string(1, "axes"), string(2, "logits"),
+				string(4, "ReduceSum"));
+		byte[] input = valueInfo("input_ids", INT64, dimension("batch"), dimension("sequence"));
+		byte[] output = valueInfo("logits", FLOAT, dimension("batch"), dimension(1));
+		return model("sum_of_token_ids", input, output, new byte[][] { cast, reduceSum },
+				new byte[][] { int64Tensor("axes", 1) });
+	}
+
+	/**
+	 * Serializes a model computing the token embeddings
+	 * {@code last_hidden_state[b][t] = input_ids[b][t] * weights}, with an output of
+	 * shape {@code [batch, sequence, weights.length]}.
+	 */
+	static byte[] scaledTokenIds(float... weights) {
+		byte[] cast = castInputIds("ids_float");
+		byte[] unsqueeze = message(string(1, "ids_float"), string(1, "axes"), string(2, "ids_expanded"),
+				string(4, "Unsqueeze"));
+		byte[] mul = message(string(1, "ids_expanded"), string(1, "weights"), string(2, "last_hidden_state"),
+				string(4, "Mul"));
+		byte[] input = valueInfo("input_ids", INT64, dimension("batch"), dimension("sequence"));
+		byte[] output = valueInfo("last_hidden_state", FLOAT, dimension("batch"), dimension("sequence"),
+				dimension(weights.length));
+		return model("scaled_token_ids", input, output, new byte[][] { cast, unsqueeze, mul },
+				new byte[][] { int64Tensor("axes", 2), floatTensor("weights", weights) });
+	}
+
+	private static byte[] model(String name, byte[] input, byte[] output, byte[][] nodes, byte[][] initializers) {
+		ByteArrayOutputStream graph = new ByteArrayOutputStream();
+		for (byte[] node : nodes) {
+			graph.writeBytes(bytes(1, node));
+		}
+		graph.writeBytes(string(2, name));
+		for (byte[] initializer : initializers) {
+			graph.writeBytes(bytes(5, initializer));
+		}
+		graph.writeBytes(bytes(11, input));
+		graph.writeBytes(bytes(12, output));
+		// IR version 7, default domain at opset 13
+		return message(varint(1, 7), bytes(7, graph.toByteArray()), bytes(8, message(string(1, ""), varint(2, 13))));
+	}
+
+	private static byte[] castInputIds(String output) {
+		return message(string(1, "input_ids"), string(2, output), string(4, "Cast"),
+				bytes(5, message(string(1, "to"), varint(3, FLOAT), varint(20, 2))));
+	}
+
+	private static byte[] int64Tensor(String name, long value) {
+		return message(varint(1, 1), varint(2, INT64), varint(7, value), string(8, name));
+	}
+
+	private static byte[] floatTensor(String name, float[] values) {
+		ByteBuffer data = ByteBuffer.allocate(values.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		for (float value : values) {
+			data.putFloat(value);
+		}
+		return message(varint(1, values.length), varint(2, FLOAT), bytes(4, data.array()), string(8, name));
+	}
+
+	private static byte[] valueInfo(String name, int elementType, byte[]... dimensions) {
+		byte[][] dims = new byte[dimensions.length][];
+		for (int i = 0; i < dimensions.length; i++) {
+			dims[i] = bytes(1, dimensions[i]);
+		}
+		byte[] tensorType = message(varint(1, elementType), bytes(2, message(dims)));
+		return message(string(1, name), bytes(2, message(bytes(1, tensorType))));
+	}
+
+	private static byte[] dimension(String parameter) {
+		return string(2, parameter);
+	}
+
+	private static byte[] dimension(long value) {
+		return varint(1, value);
+	}
+
+	private static byte[] varint(int field, long value) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		writeVarint(out, (long) field << 3);
+		writeVarint(out, value);
+		return out.toByteArray();
+	}
+
+	private static byte[] string(int field, String value) {
+		return bytes(field, value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static byte[] bytes(int field, byte[] value) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		writeVarint(out, ((long) field << 3) | 2);
+		writeVarint(out, value.length);
+		out.writeBytes(value);
+		return out.toByteArray();
+	}
+
+	private static byte[] message(byte[]... fields) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		for (byte[] field : fields) {
+			out.writeBytes(field);
+		}
+		return out.toByteArray();
+	}
+
+	private static void writeVarint(ByteArrayOutputStream out, long value) {
+		long remaining = value;
+		while ((remaining & ~0x7FL) != 0) {
+			out.write((int) ((remaining & 0x7F) | 0x80));
+			remaining >>>= 7;
+		}
+		out.write((int) remaining);
+	}
+
+}
@@ -16,15 +16,31 @@
 
 package org.springframework.ai.transformers;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.DecimalFormat;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
+import ai.onnxruntime.OrtSession;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -34,6 +50,17 @@ public class TransformersEmbeddingModelTests {
 
 	private static DecimalFormat DF = new DecimalFormat("#.#####");
 
+	private static final String TOKENIZER = "onnx/all-MiniLM-L6-v2/tokenizer.json";
+
+	private static final float[] WEIGHTS = { 1f, -2f, 0.5f };
+
+	private static final List<String> MIXED_LENGTHS = List.of("a much longer sentence, with a handful of tokens more",
+			"short", "a medium sized sentence", "tiny", "the longest sentence of them all, well past the token budget",
+			"x");
+
+	@TempDir
+	Path tempDir;
+
 	@Test
 	void embed() throws Exception {
 
@@ -99,4 +126,125 @@ public class TransformersEmbeddingModelTests {
 		assertThat(embeddingModel.dimensions()).isEqualTo(384);
 	}
 
+	@Test
+	void subBatchesMeanPoolTheAttendedTokens() throws Exception {
+		TransformersEmbeddingModel embeddingModel = stubEmbeddingModel(16, false);
+
+		List<float[]> embeddings = embeddingModel.embed(MIXED_LENGTHS);
+
+		try (HuggingFaceTokenizer tokenizer = HuggingFaceTokenizer
+			.newInstance(new ClassPathResource(TOKENIZER).getInputStream(), Map.of())) {
+			assertThat(embeddings).hasSize(MIXED_LENGTHS.size());
+			for (int i = 0; i < MIXED_LENGTHS.size(); i++) {
+				double meanId = Arrays.stream(tokenizer.encode(MIXED_LENGTHS.get(i)).getIds()).average().orElseThrow();
+				for (int d = 0; d < WEIGHTS.length; d++) {
+					assertThat(embeddings.get(i)[d]).isCloseTo((float) (meanId * WEIGHTS[d]), within(1e-2f));
+				}
+			}
+		}
+	}
+
+	@Test
+	void tokenBudgetDoesNotChangeEmbeddings() throws Exception {
+		List<float[]> small = stubEmbeddingModel(8, false).embed(MIXED_LENGTHS);
+		List<float[]> large = stubEmbeddingModel(10_000, false).embed(MIXED_LENGTHS);
+
+		for (int i = 0; i < MIXED_LENGTHS.size(); i++) {
+			assertThat(small.get(i)).containsExactly(large.get(i), within(1e-5f));
+		}
+	}
+
+	@Test
+	void normalizedEmbeddingsHaveUnitLength() throws Exception {
+		List<float[]> embeddings = stubEmbeddingModel(16, true).embed(MIXED_LENGTHS);
+
+		for (float[] embedding : embeddings) {
+			double norm = 0;
+			for (float value : embedding) {
+				norm += value * value;
+			}
+			assertThat(Math.sqrt(norm)).isCloseTo(1.0, within(1e-5));
+		}
+	}
+
+	@Test
+	void pooledSessionsServeConcurrentCallers() throws Exception {
+		TransformersEmbeddingModel embeddingModel = stubEmbeddingModel(64, false, model -> {
+			model.setSessionPoolSize(2);
+			model.setIntraOpNumThreads(1);
+		});
+		List<float[]> expected = embeddingModel.embed(MIXED_LENGTHS);
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<List<float[]>>> futures = executor
+				.invokeAll(Collections.nCopies(8, () -> embeddingModel.embed(MIXED_LENGTHS)));
+			for (Future<List<float[]>> future : futures) {
+				List<float[]> embeddings = future.get();
+				for (int i = 0; i < MIXED_LENGTHS.size(); i++) {
+					assertThat(embeddings.get(i)).containsExactly(expected.get(i));
+				}
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void pooledSessionsAreClosedOnDestroy() throws Exception {
+		TransformersEmbeddingModel embeddingModel = stubEmbeddingModel(64, false, model -> model.setSessionPoolSize(2));
+		embeddingModel.embed(MIXED_LENGTHS);
+
+		embeddingModel.destroy();
+
+		assertThatThrownBy(() -> embeddingModel.embed(MIXED_LENGTHS)).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void optimizedModelIsSavedAndReloaded() throws Exception {
+		Path optimized = this.tempDir.resolve("optimized.onnx");
+		List<float[]> expected = stubEmbeddingModel(64, false, model -> {
+			model.setOptimizationLevel(OrtSession.SessionOptions.OptLevel.ALL_OPT);
+			model.setExecutionMode(OrtSession.SessionOptions.ExecutionMode.SEQUENTIAL);
+			model.setMemoryArenaEnabled(false);
+			model.setMemoryPatternOptimization(false);
+			model.setOptimizedModelFilePath(optimized.toString());
+		}).embed(MIXED_LENGTHS);
+		assertThat(optimized).exists();
+
+		TransformersEmbeddingModel reloaded = new TransformersEmbeddingModel();
+		reloaded.setTokenizerResource(new ClassPathResource(TOKENIZER));
+		reloaded.setModelResource(new FileSystemResource(optimized));
+		reloaded.setDisableCaching(true);
+		reloaded.setMaxBatchTokens(64);
+		reloaded.setOptimizationLevel(OrtSession.SessionOptions.OptLevel.NO_OPT);
+		reloaded.afterPropertiesSet();
+
+		List<float[]> embeddings = reloaded.embed(MIXED_LENGTHS);
+		for (int i = 0; i < MIXED_LENGTHS.size(); i++) {
+			assertThat(embeddings.get(i)).containsExactly(expected.get(i), within(1e-5f));
+		}
+	}
+
+	private TransformersEmbeddingModel stubEmbeddingModel(int maxBatchTokens, boolean normalize) throws Exception {
+		return stubEmbeddingModel(maxBatchTokens, normalize, model -> {
+		});
+	}
+
+	private TransformersEmbeddingModel stubEmbeddingModel(int maxBatchTokens, boolean normalize,
+			Consumer<TransformersEmbeddingModel> customizer) throws Exception {
+		Path model = this.tempDir.resolve("model.onnx");
+		Files.write(model, OnnxTestModels.scaledTokenIds(WEIGHTS));
+		TransformersEmbeddingModel embeddingModel = new TransformersEmbeddingModel();
+		embeddingModel.setTokenizerResource(new ClassPathResource(TOKENIZER));
+		embeddingModel.setModelResource(new FileSystemResource(model));
+		embeddingModel.setDisableCaching(true);
+		embeddingModel.setMaxBatchTokens(maxBatchTokens);
+		embeddingModel.setNormalize(normalize);
+		customizer.accept(embeddingModel);
+		embeddingModel.afterPropertiesSet();
+		return embeddingModel;
+	}
+
 }
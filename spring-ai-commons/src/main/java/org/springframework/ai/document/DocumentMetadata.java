@@ -32,7 +32,14 @@ public enum DocumentMetadata {
 	 * The lower the distance, the more they are similar.
 	 * It's the opposite of the similarity score.
 	 */
-	DISTANCE("distance");
+	DISTANCE("distance"),
+
+	/**
+	 * Identifier of the tenant owning the document.
+	 * Vector stores supporting tenant routing store the document in the partition,
+	 * shard or group of this tenant.
+	 */
+	TENANT_ID("tenant_id");
 
 	private final String value;
 
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,6 +39,13 @@ public abstract class TextSplitter implements DocumentTransformer {
 	 */
 	private boolean copyContentFormatter = true;
 
+	/**
+	 * If true the documents of a batch are split in parallel, on the common fork-join
+	 * pool. The chunks keep the order of the documents. Off by default, as splitters may
+	 * not be thread-safe and the common pool is shared with the rest of the application.
+	 */
+	private boolean parallelSplitting = false;
+
 	@Override
 	public List<Document> apply(List<Document> documents) {
 		return doSplitDocuments(documents);
@@ -59,6 +67,14 @@ public abstract class TextSplitter implements DocumentTransformer {
 		this.copyContentFormatter = copyContentFormatter;
 	}
 
+	public boolean isParallelSplitting() {
+		return this.parallelSplitting;
+	}
+
+	public void setParallelSplitting(boolean parallelSplitting) {
+		this.parallelSplitting = parallelSplitting;
+	}
+
 	private List<Document> doSplitDocuments(List<Document> documents) {
 		List<String> texts = new ArrayList<>();
 		List<Map<String, Object>> metadataList = new ArrayList<>();
@@ -76,13 +92,19 @@ public abstract class TextSplitter implements DocumentTransformer {
 	private List<Document> createDocuments(List<String> texts, List<ContentFormatter> formatters,
 			List<Map<String, Object>> metadataList) {
 
+		// The documents are independent, split them concurrently
+		IntStream indexes = IntStream.range(0, texts.size());
+		if (this.parallelSplitting && texts.size() > 1) {
+			indexes = indexes.parallel();
+		}
+		List<List<String>> chunksPerText = indexes.mapToObj(i -> splitText(texts.get(i))).toList();
+
 		// Process the data in a column oriented way and recreate the Document
 		List<Document> documents = new ArrayList<>();
 
 		for (int i = 0; i < texts.size(); i++) {
-			String text = texts.get(i);
 			Map<String, Object> metadata = metadataList.get(i);
-			List<String> chunks = splitText(text);
+			List<String> chunks = chunksPerText.get(i);
 			if (chunks.size() > 1) {
 				logger.info("Splitting up document into " + chunks.size() + " chunks.");
 			}
@@ -16,8 +16,26 @@
 
 package org.springframework.ai.transformer.splitter;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.knuddels.jtokkit.Encodings;
 import com.knuddels.jtokkit.api.Encoding;
@@ -25,10 +43,15 @@ import com.knuddels.jtokkit.api.EncodingRegistry;
 import com.knuddels.jtokkit.api.EncodingType;
 import com.knuddels.jtokkit.api.IntArrayList;
 
+import org.springframework.ai.document.Document;
 import org.springframework.util.Assert;
 
 /**
  * A {@link TextSplitter} that splits text into chunks of a target size in tokens.
+ * <p>
+ * The text is encoded once; chunks are cut on token offsets and decoded from the UTF-8
+ * bytes of the tokens, so truncating a chunk at a punctuation mark does not re-encode it.
+ * Consecutive chunks can share a number of overlapping tokens.
  *
  * @author Raphael Yu
  * @author Christian Tzolov
@@ -46,6 +69,16 @@ public class TokenTextSplitter extends TextSplitter {
 
 	private static final boolean KEEP_SEPARATOR = true;
 
+	private static final int READ_BLOCK_SIZE = 8192;
+
+	// The chunker cuts its buffered text once it holds about 8 chunks of 4 characters
+	// per token
+	private static final int WINDOW_CHARS_PER_TOKEN = 32;
+
+	private static final int MIN_WINDOW_CHARS = 8192;
+
+	private static final String END_METADATA_PREFIX = "end_";
+
 	private final EncodingRegistry registry = Encodings.newLazyEncodingRegistry();
 
 	private final Encoding encoding = this.registry.getEncoding(EncodingType.CL100K_BASE);
@@ -64,6 +97,9 @@ public class TokenTextSplitter extends TextSplitter {
 
 	private final boolean keepSeparator;
 
+	// The number of tokens shared by consecutive chunks
+	private final int chunkOverlap;
+
 	public TokenTextSplitter() {
 		this(DEFAULT_CHUNK_SIZE, MIN_CHUNK_SIZE_CHARS, MIN_CHUNK_LENGTH_TO_EMBED, MAX_NUM_CHUNKS, KEEP_SEPARATOR);
 	}
@@ -74,11 +110,19 @@ public class TokenTextSplitter extends TextSplitter {
 
 	public TokenTextSplitter(int chunkSize, int minChunkSizeChars, int minChunkLengthToEmbed, int maxNumChunks,
 			boolean keepSeparator) {
+		this(chunkSize, minChunkSizeChars, minChunkLengthToEmbed, maxNumChunks, keepSeparator, 0);
+	}
+
+	public TokenTextSplitter(int chunkSize, int minChunkSizeChars, int minChunkLengthToEmbed, int maxNumChunks,
+			boolean keepSeparator, int chunkOverlap) {
+		Assert.isTrue(chunkOverlap >= 0, "chunkOverlap must not be negative");
+		Assert.isTrue(chunkOverlap == 0 || chunkOverlap < chunkSize, "chunkOverlap must be smaller than chunkSize");
 		this.chunkSize = chunkSize;
 		this.minChunkSizeChars = minChunkSizeChars;
 		this.minChunkLengthToEmbed = minChunkLengthToEmbed;
 		this.maxNumChunks = maxNumChunks;
 		this.keepSeparator = keepSeparator;
+		this.chunkOverlap = chunkOverlap;
 	}
 
 	public static Builder builder() {
@@ -95,61 +139,198 @@ public class TokenTextSplitter extends TextSplitter {
 			return new ArrayList<>();
 		}
 
-		List<Integer> tokens = getEncodedTokens(text);
+		TokenBytes tokens = decodeTokenBytes(this.encoding.encode(text));
 		List<String> chunks = new ArrayList<>();
+		int start = cutChunks(tokens, chunkSize, true, this.maxNumChunks, (chunk, from, to) -> chunks.add(chunk));
+
+		// Handle the remaining tokens
+		if (start < tokens.size()) {
+			String remaining_text = tokens.text(start, tokens.size()).replace(System.lineSeparator(), " ").trim();
+			if (remaining_text.length() > this.minChunkLengthToEmbed) {
+				chunks.add(remaining_text);
+			}
+		}
+
+		return chunks;
+	}
+
+	/**
+	 * Cuts the tokens into chunks.
+	 * @param tokens the tokens to cut
+	 * @param chunkSize the target size of each chunk in tokens
+	 * @param complete whether the tokens hold the whole text. If not, the cutting stops
+	 * once fewer than a chunk of tokens is left, since more text may follow
+	 * @param maxChunks the maximum number of chunks to cut
+	 * @param consumer receives the text of each chunk long enough to embed, with its
+	 * token range
+	 * @return the token at which the next chunk starts
+	 */
+	private int cutChunks(TokenBytes tokens, int chunkSize, boolean complete, int maxChunks, ChunkConsumer consumer) {
+		int start = 0;
 		int num_chunks = 0;
-		while (!tokens.isEmpty() && num_chunks < this.maxNumChunks) {
-			List<Integer> chunk = tokens.subList(0, Math.min(chunkSize, tokens.size()));
-			String chunkText = decodeTokens(chunk);
+		while (start < tokens.size() && num_chunks < maxChunks && (complete || tokens.size() - start > chunkSize)) {
+			int end = tokens.alignToCharacter(start, Math.min(start + chunkSize, tokens.size()));
+			String chunkText = tokens.text(start, end);
 
 			// Skip the chunk if it is empty or whitespace
 			if (chunkText.trim().isEmpty()) {
-				tokens = tokens.subList(chunk.size(), tokens.size());
+				start = end;
 				continue;
 			}
 
-			// Find the last period or punctuation mark in the chunk
-			int lastPunctuation = Math.max(chunkText.lastIndexOf('.'), Math.max(chunkText.lastIndexOf('?'),
-					Math.max(chunkText.lastIndexOf('!'), chunkText.lastIndexOf('\n'))));
-
-			if (lastPunctuation != -1 && lastPunctuation > this.minChunkSizeChars) {
-				// Truncate the chunk text at the punctuation mark
-				chunkText = chunkText.substring(0, lastPunctuation + 1);
+			// Find the last period or punctuation mark in the chunk, the ASCII marks can
+			// be looked up in the UTF-8 bytes directly
+			int lastPunctuation = tokens.lastPunctuation(start, end);
+			if (lastPunctuation != -1 && tokens.charCount(start, lastPunctuation) > this.minChunkSizeChars) {
+				// Truncate the chunk at the token holding the punctuation mark
+				end = tokens.tokenEndingAfter(start, end, lastPunctuation);
+				chunkText = tokens.text(start, end);
 			}
 
 			String chunkTextToAppend = (this.keepSeparator) ? chunkText.trim()
 					: chunkText.replace(System.lineSeparator(), " ").trim();
 			if (chunkTextToAppend.length() > this.minChunkLengthToEmbed) {
-				chunks.add(chunkTextToAppend);
+				consumer.accept(chunkTextToAppend, start, end);
 			}
 
-			// Remove the tokens corresponding to the chunk text from the remaining tokens
-			tokens = tokens.subList(getEncodedTokens(chunkText).size(), tokens.size());
-
+			// Move past the chunk, keeping the overlap with the next one
+			start = (end < tokens.size()) ? tokens.alignToStart(Math.max(start + 1, end - this.chunkOverlap), end)
+					: end;
 			num_chunks++;
 		}
+		return start;
+	}
 
-		// Handle the remaining tokens
-		if (!tokens.isEmpty()) {
-			String remaining_text = decodeTokens(tokens).replace(System.lineSeparator(), " ").trim();
-			if (remaining_text.length() > this.minChunkLengthToEmbed) {
-				chunks.add(remaining_text);
+	/**
+	 * Returns a {@link Chunker} that splits text appended piece by piece, such as the
+	 * pages of a PDF or the blocks read from a {@link Reader}. Only the text not cut into
+	 * chunks yet is buffered, so memory stays bounded whatever the size of the source.
+	 * Chunks may span pieces; overlap carries over from one piece to the next. At most
+	 * {@code maxNumChunks} chunks are cut until the chunker is finished; the text
+	 * appended after that is dropped rather than buffered.
+	 * @param consumer receives the chunks as soon as they are cut
+	 * @return a new chunker
+	 */
+	public Chunker chunker(Consumer<Document> consumer) {
+		Assert.notNull(consumer, "consumer cannot be null");
+		return new Chunker(consumer);
+	}
+
+	/**
+	 * Lazily splits a stream of documents, such as the pages of a PDF, into chunks that
+	 * may span several documents. See {@link #chunker(Consumer)}.
+	 * @param documents the documents to split, consumed as the chunks are requested
+	 * @return the chunks
+	 */
+	public Stream<Document> splitStream(Stream<Document> documents) {
+		Assert.notNull(documents, "documents cannot be null");
+		Iterator<Document> source = documents.iterator();
+		return pull(chunker -> {
+			if (!source.hasNext()) {
+				return false;
 			}
-		}
+			Document document = source.next();
+			chunker.append(document.getText(), document.getMetadata());
+			return true;
+		}).onClose(documents::close);
+	}
 
-		return chunks;
+	/**
+	 * Lazily splits the text of a {@link Reader} into chunks, reading it block by block.
+	 * The reader is closed when the returned stream is closed.
+	 * @param reader the text to split
+	 * @param metadata the metadata of every chunk
+	 * @return the chunks
+	 */
+	public Stream<Document> splitStream(Reader reader, Map<String, Object> metadata) {
+		Assert.notNull(reader, "reader cannot be null");
+		Assert.notNull(metadata, "metadata cannot be null");
+		char[] block = new char[READ_BLOCK_SIZE];
+		StringBuilder carry = new StringBuilder();
+		return pull(chunker -> {
+			try {
+				int read = reader.read(block);
+				if (read < 0) {
+					if (!carry.isEmpty()) {
+						chunker.append(carry.toString(), metadata);
+						carry.setLength(0);
+					}
+					return false;
+				}
+				carry.append(block, 0, read);
+				// keep a trailing high surrogate with the low surrogate of the next block
+				int length = Character.isHighSurrogate(carry.charAt(carry.length() - 1)) ? carry.length() - 1
+						: carry.length();
+				chunker.append(carry.substring(0, length), metadata);
+				carry.delete(0, length);
+				return true;
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}).onClose(() -> {
+			try {
+				reader.close();
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		});
 	}
 
-	private List<Integer> getEncodedTokens(String text) {
-		Assert.notNull(text, "Text must not be null");
-		return this.encoding.encode(text).boxed();
+	private Stream<Document> pull(Predicate<Chunker> feed) {
+		Deque<Document> ready = new ArrayDeque<>();
+		Chunker chunker = new Chunker(ready::add);
+		Iterator<Document> iterator = new Iterator<>() {
+
+			private boolean finished;
+
+			@Override
+			public boolean hasNext() {
+				while (ready.isEmpty() && !this.finished) {
+					// stop reading the source once it can't yield more chunks
+					if (chunker.isFull() || !feed.test(chunker)) {
+						chunker.finish();
+						this.finished = true;
+					}
+				}
+				return !ready.isEmpty();
+			}
+
+			@Override
+			public Document next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return ready.poll();
+			}
+
+		};
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
 	}
 
-	private String decodeTokens(List<Integer> tokens) {
+	/**
+	 * Decodes every token once, into the UTF-8 bytes of the text and the byte offset at
+	 * which each token starts.
+	 */
+	private TokenBytes decodeTokenBytes(IntArrayList tokens) {
 		Assert.notNull(tokens, "Tokens must not be null");
-		var tokensIntArray = new IntArrayList(tokens.size());
-		tokens.forEach(tokensIntArray::add);
-		return this.encoding.decode(tokensIntArray);
+		int[] offsets = new int[tokens.size() + 1];
+		byte[] bytes = new byte[Math.max(16, tokens.size() * 4)];
+		int length = 0;
+		IntArrayList single = new IntArrayList(1);
+		for (int i = 0; i < tokens.size(); i++) {
+			single.clear();
+			single.add(tokens.get(i));
+			byte[] tokenBytes = this.encoding.decodeBytes(single);
+			if (length + tokenBytes.length > bytes.length) {
+				bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + tokenBytes.length));
+			}
+			System.arraycopy(tokenBytes, 0, bytes, length, tokenBytes.length);
+			length += tokenBytes.length;
+			offsets[i + 1] = length;
+		}
+		return new TokenBytes(bytes, offsets);
 	}
 
 	public static final class Builder {
@@ -160,10 +341,12 @@ public class TokenTextSplitter extends TextSplitter {
 
 		private int minChunkLengthToEmbed;
 
-		private int maxNumChunks;
+		private int maxNumChunks = MAX_NUM_CHUNKS;
 
 		private boolean keepSeparator;
 
+		private int chunkOverlap;
+
 		private Builder() {
 		}
 
@@ -192,9 +375,209 @@ public class TokenTextSplitter extends TextSplitter {
 			return this;
 		}
 
+		public Builder withChunkOverlap(int chunkOverlap) {
+			this.chunkOverlap = chunkOverlap;
+			return this;
+		}
+
 		public TokenTextSplitter build() {
 			return new TokenTextSplitter(this.chunkSize, this.minChunkSizeChars, this.minChunkLengthToEmbed,
-					this.maxNumChunks, this.keepSeparator);
+					this.maxNumChunks, this.keepSeparator, this.chunkOverlap);
+		}
+
+	}
+
+	/**
+	 * Splits text appended piece by piece into chunks, see
+	 * {@link TokenTextSplitter#chunker(Consumer)}. Each chunk gets the metadata of the
+	 * piece it starts in. When it ends in another piece, the metadata values that differ
+	 * in that piece are added with an {@code end_} prefix, so a chunk spanning PDF pages
+	 * gets both a {@code page_number} and an {@code end_page_number}.
+	 */
+	public final class Chunker {
+
+		private final Consumer<Document> consumer;
+
+		private final StringBuilder buffer = new StringBuilder();
+
+		private final List<Piece> pieces = new ArrayList<>();
+
+		private final int windowChars;
+
+		private int chunks;
+
+		private Chunker(Consumer<Document> consumer) {
+			this.consumer = consumer;
+			this.windowChars = Math.max(MIN_WINDOW_CHARS, TokenTextSplitter.this.chunkSize * WINDOW_CHARS_PER_TOKEN);
+		}
+
+		/**
+		 * Appends a piece of text, emitting the chunks that can be cut already.
+		 * @param text the text
+		 * @param metadata the metadata of the text
+		 */
+		public void append(String text, Map<String, Object> metadata) {
+			Assert.notNull(text, "text cannot be null");
+			Assert.notNull(metadata, "metadata cannot be null");
+			if (text.isEmpty() || isFull()) {
+				return;
+			}
+			this.pieces.add(new Piece(this.buffer.length(), new HashMap<>(metadata)));
+			this.buffer.append(text);
+			if (this.buffer.length() >= this.windowChars) {
+				cut(false);
+			}
+		}
+
+		/**
+		 * Emits the chunks of the remaining text. The chunker can be reused afterwards.
+		 */
+		public void finish() {
+			if (!this.buffer.isEmpty()) {
+				cut(true);
+			}
+			this.buffer.setLength(0);
+			this.pieces.clear();
+			this.chunks = 0;
+		}
+
+		private boolean isFull() {
+			return this.chunks >= TokenTextSplitter.this.maxNumChunks;
+		}
+
+		private void cut(boolean complete) {
+			String text = this.buffer.toString();
+			if (text.trim().isEmpty()) {
+				this.buffer.setLength(0);
+				this.pieces.clear();
+				return;
+			}
+			TokenBytes tokens = decodeTokenBytes(TokenTextSplitter.this.encoding.encode(text));
+			int next = cutChunks(tokens, TokenTextSplitter.this.chunkSize, complete,
+					TokenTextSplitter.this.maxNumChunks - this.chunks, (chunk, from, to) -> {
+						this.chunks++;
+						this.consumer.accept(toDocument(chunk, tokens.charCount(0, tokens.offsets()[from]),
+								tokens.charCount(0, tokens.offsets()[to])));
+					});
+			int consumed = tokens.charCount(0, tokens.offsets()[next]);
+			this.buffer.delete(0, consumed);
+			int first = pieceIndexAt(consumed);
+			this.pieces.subList(0, first).clear();
+			this.pieces.replaceAll(piece -> new Piece(Math.max(0, piece.start() - consumed), piece.metadata()));
+		}
+
+		private Document toDocument(String chunk, int charStart, int charEnd) {
+			Map<String, Object> first = this.pieces.get(pieceIndexAt(charStart)).metadata();
+			Map<String, Object> last = this.pieces.get(pieceIndexAt(Math.max(charStart, charEnd - 1))).metadata();
+			Map<String, Object> metadata = new HashMap<>(first);
+			if (last != first) {
+				last.forEach((key, value) -> {
+					if (!key.startsWith(END_METADATA_PREFIX) && !Objects.equals(first.get(key), value)) {
+						metadata.put(END_METADATA_PREFIX + key, last.getOrDefault(END_METADATA_PREFIX + key, value));
+					}
+				});
+			}
+			return new Document(chunk, metadata);
+		}
+
+		private int pieceIndexAt(int offset) {
+			for (int i = this.pieces.size() - 1; i > 0; i--) {
+				if (this.pieces.get(i).start() <= offset) {
+					return i;
+				}
+			}
+			return 0;
+		}
+
+	}
+
+	private record Piece(int start, Map<String, Object> metadata) {
+
+	}
+
+	@FunctionalInterface
+	private interface ChunkConsumer {
+
+		void accept(String chunk, int fromToken, int toToken);
+
+	}
+
+	/**
+	 * The UTF-8 bytes of the encoded text, with the byte offset of each token.
+	 */
+	private record TokenBytes(byte[] bytes, int[] offsets) {
+
+		int size() {
+			return this.offsets.length - 1;
+		}
+
+		String text(int fromToken, int toToken) {
+			return new String(this.bytes, this.offsets[fromToken], this.offsets[toToken] - this.offsets[fromToken],
+					StandardCharsets.UTF_8);
+		}
+
+		/**
+		 * Moves the end of a chunk back so that it does not split a character encoded
+		 * over several tokens, unless that would leave the chunk empty.
+		 */
+		int alignToCharacter(int fromToken, int toToken) {
+			int end = toToken;
+			while (end < size() && end - 1 > fromToken && isContinuation(this.bytes[this.offsets[end]])) {
+				end--;
+			}
+			return (end < size() && isContinuation(this.bytes[this.offsets[end]])) ? toToken : end;
+		}
+
+		/**
+		 * Moves the start of a chunk forward to the first token that starts a character.
+		 */
+		int alignToStart(int fromToken, int toToken) {
+			int start = fromToken;
+			while (start < toToken && isContinuation(this.bytes[this.offsets[start]])) {
+				start++;
+			}
+			return start;
+		}
+
+		int lastPunctuation(int fromToken, int toToken) {
+			for (int i = this.offsets[toToken] - 1; i >= this.offsets[fromToken]; i--) {
+				byte b = this.bytes[i];
+				if (b == '.' || b == '?' || b == '!' || b == '\n') {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/**
+		 * Number of characters between the start of the given token and the given byte.
+		 */
+		int charCount(int fromToken, int toByte) {
+			int count = 0;
+			for (int i = this.offsets[fromToken]; i < toByte; i++) {
+				byte b = this.bytes[i];
+				if (!isContinuation(b)) {
+					// four-byte sequences are surrogate pairs
+					count += ((b & 0xF8) == 0xF0) ? 2 : 1;
+				}
+			}
+			return count;
+		}
+
+		/**
+		 * Returns the first token ending after the given byte.
+		 */
+		int tokenEndingAfter(int fromToken, int toToken, int byteIndex) {
+			for (int i = fromToken + 1; i <= toToken; i++) {
+				if (this.offsets[i] > byteIndex) {
+					return i;
+				}
+			}
+			return toToken;
+		}
+
+		private static boolean isContinuation(byte b) {
+			return (b & 0xC0) == 0x80;
 		}
 
 	}
@@ -16,9 +16,17 @@
 
 package org.springframework.ai.transformer.splitter;
 
+import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingType;
+import com.knuddels.jtokkit.api.IntArrayList;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.ai.document.DefaultContentFormatter;
@@ -112,4 +120,143 @@ public class TokenTextSplitterTest {
 		assertThat(chunks.get(2).getMetadata()).containsKeys("key2", "key3").doesNotContainKeys("key1");
 	}
 
+	@Test
+	public void testTokenTextSplitterWithChunkOverlap() {
+		Encoding encoding = Encodings.newLazyEncodingRegistry().getEncoding(EncodingType.CL100K_BASE);
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < 40; i++) {
+			text.append("word").append(i).append(' ');
+		}
+		int[] tokens = encoding.encode(text.toString()).toArray();
+
+		var tokenTextSplitter = TokenTextSplitter.builder()
+			.withChunkSize(10)
+			.withMinChunkSizeChars(1000)
+			.withMinChunkLengthToEmbed(0)
+			.withMaxNumChunks(100)
+			.withKeepSeparator(true)
+			.withChunkOverlap(3)
+			.build();
+
+		var chunks = tokenTextSplitter.split(new Document(text.toString()));
+
+		for (int i = 0; i < chunks.size(); i++) {
+			int start = i * 7;
+			IntArrayList expected = new IntArrayList();
+			for (int j = start; j < Math.min(start + 10, tokens.length); j++) {
+				expected.add(tokens[j]);
+			}
+			assertThat(chunks.get(i).getText()).isEqualTo(encoding.decode(expected).trim());
+		}
+		assertThat((chunks.size() - 1) * 7 + 10).isGreaterThanOrEqualTo(tokens.length);
+	}
+
+	@Test
+	public void testTokenTextSplitterDoesNotSplitMultiTokenCharacters() {
+		var tokenTextSplitter = TokenTextSplitter.builder()
+			.withChunkSize(3)
+			.withMinChunkSizeChars(1000)
+			.withMinChunkLengthToEmbed(0)
+			.withMaxNumChunks(100)
+			.withKeepSeparator(true)
+			.build();
+
+		var chunks = tokenTextSplitter.split(new Document("\uD83E\uDD9C\uD83E\uDD9C\uD83E\uDD9C\uD83E\uDD9C"));
+
+		assertThat(chunks).allSatisfy(chunk -> assertThat(chunk.getText()).doesNotContain("\uFFFD"));
+		assertThat(String.join("", chunks.stream().map(Document::getText).toList()))
+			.isEqualTo("\uD83E\uDD9C\uD83E\uDD9C\uD83E\uDD9C\uD83E\uDD9C");
+	}
+
+	@Test
+	public void testParallelSplittingKeepsDocumentOrder() {
+		var tokenTextSplitter = TokenTextSplitter.builder()
+			.withChunkSize(5)
+			.withMinChunkSizeChars(1000)
+			.withMinChunkLengthToEmbed(0)
+			.withMaxNumChunks(100)
+			.withKeepSeparator(true)
+			.build();
+		tokenTextSplitter.setParallelSplitting(true);
+		List<Document> documents = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			documents.add(new Document("document" + i, Map.of("index", i)));
+		}
+
+		var chunks = tokenTextSplitter.apply(documents);
+
+		assertThat(chunks).extracting(chunk -> chunk.getMetadata().get("index"))
+			.containsExactlyElementsOf(
+					documents.stream().map(document -> document.getMetadata().get("index")).toList());
+	}
+
+	@Test
+	public void testSplitStreamSpansDocumentsAndReadsLazily() {
+		var tokenTextSplitter = TokenTextSplitter.builder()
+			.withChunkSize(20)
+			.withMinChunkSizeChars(1000)
+			.withMinChunkLengthToEmbed(0)
+			.withMaxNumChunks(100)
+			.withKeepSeparator(true)
+			.build();
+		AtomicInteger pages = new AtomicInteger();
+		Stream<Document> documents = Stream.generate(() -> {
+			int page = pages.incrementAndGet();
+			return new Document("Page " + page + " tells a short story about token splitting. ",
+					Map.of("page_number", page, "file_name", "book.pdf"));
+		});
+
+		List<Document> chunks = tokenTextSplitter.splitStream(documents).limit(3).toList();
+
+		assertThat(chunks).hasSize(3);
+		assertThat(chunks.get(0).getMetadata()).containsEntry("page_number", 1)
+			.containsEntry("file_name", "book.pdf")
+			.doesNotContainKey("end_file_name");
+		assertThat(chunks).anySatisfy(chunk -> assertThat(chunk.getMetadata()).containsKey("end_page_number"));
+		// only the pages needed for a window of chunks are pulled from the source
+		assertThat(pages.get()).isLessThan(1000);
+	}
+
+	@Test
+	public void testSplitStreamStopsAtMaxNumChunks() {
+		var tokenTextSplitter = TokenTextSplitter.builder()
+			.withChunkSize(20)
+			.withMinChunkSizeChars(1000)
+			.withMinChunkLengthToEmbed(0)
+			.withMaxNumChunks(3)
+			.withKeepSeparator(true)
+			.build();
+		Stream<Document> documents = Stream
+			.generate(() -> new Document("An endless source of pages about token splitting. "));
+
+		assertThat(tokenTextSplitter.splitStream(documents).toList()).hasSize(3);
+	}
+
+	@Test
+	public void testSplitStreamFromReaderMatchesSplittingTheWholeText() {
+		var tokenTextSplitter = TokenTextSplitter.builder()
+			.withChunkSize(50)
+			.withMinChunkSizeChars(100)
+			.withMinChunkLengthToEmbed(5)
+			.withMaxNumChunks(10000)
+			.withKeepSeparator(true)
+			.build();
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < 2000; i++) {
+			text.append("Sentence ").append(i).append(" of a long text read in blocks. ");
+		}
+
+		List<String> expected = tokenTextSplitter.split(new Document(text.toString()))
+			.stream()
+			.map(Document::getText)
+			.toList();
+		List<String> streamed;
+		try (Stream<Document> chunks = tokenTextSplitter.splitStream(new StringReader(text.toString()),
+				Map.of("source", "text"))) {
+			streamed = chunks.map(Document::getText).toList();
+		}
+
+		assertThat(streamed).containsExactlyElementsOf(expected);
+	}
+
 }
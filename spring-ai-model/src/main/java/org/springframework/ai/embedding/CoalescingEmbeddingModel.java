@@ -0,0 +1,303 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.embedding;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.ai.document.Document;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * {@link EmbeddingModel} decorator that coalesces concurrent {@link #embed(String)} calls
+ * into a single {@link EmbeddingRequest} to the delegate, and caches the most recently
+ * used embeddings.
+ * <p>
+ * The first text to arrive opens a batch. The batch is sent once it holds
+ * {@code maxBatchSize} distinct texts, or when {@code maxWait} has elapsed, whichever
+ * comes first. Each caller then gets its own embedding back. Identical texts in a batch
+ * are embedded only once.
+ * <p>
+ * This suits query-time embedding under high concurrency, where each search embeds a
+ * single short query. Batch methods such as {@link #embed(List)} and
+ * {@link #call(EmbeddingRequest)} are passed through to the delegate unchanged.
+ *
+ * @since 1.0.0
+ */
+public class CoalescingEmbeddingModel implements EmbeddingModel {
+
+	private final EmbeddingModel delegate;
+
+	private final long maxWaitNanos;
+
+	private final int maxBatchSize;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final Executor executor;
+
+	@Nullable
+	private final Map<String, float[]> cache;
+
+	private final Object lock = new Object();
+
+	private Map<String, CompletableFuture<float[]>> pending = new LinkedHashMap<>();
+
+	private long batchId;
+
+	protected CoalescingEmbeddingModel(EmbeddingModel delegate, Duration maxWait, int maxBatchSize, int cacheSize,
+			@Nullable ScheduledExecutorService scheduler, @Nullable Executor executor) {
+		Assert.notNull(delegate, "delegate cannot be null");
+		Assert.notNull(maxWait, "maxWait cannot be null");
+		Assert.isTrue(!maxWait.isNegative(), "maxWait must not be negative");
+		Assert.isTrue(maxBatchSize > 0, "maxBatchSize must be positive");
+		Assert.isTrue(cacheSize >= 0, "cacheSize must not be negative");
+		this.delegate = delegate;
+		this.maxWaitNanos = maxWait.toNanos();
+		this.maxBatchSize = maxBatchSize;
+		this.scheduler = (scheduler != null) ? scheduler : buildDefaultScheduler();
+		this.executor = (executor != null) ? executor : buildDefaultExecutor();
+		this.cache = (cacheSize > 0) ? Collections.synchronizedMap(new LruCache(cacheSize)) : null;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	private static ScheduledExecutorService buildDefaultScheduler() {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("ai-embedding-coalescer-");
+		threadFactory.setDaemon(true);
+		return Executors.newSingleThreadScheduledExecutor(threadFactory);
+	}
+
+	private static Executor buildDefaultExecutor() {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("ai-embedding-batch-");
+		threadFactory.setDaemon(true);
+		return Executors.newCachedThreadPool(threadFactory);
+	}
+
+	@Override
+	public float[] embed(String text) {
+		Assert.notNull(text, "Text must not be null");
+		if (this.cache != null) {
+			float[] cached = this.cache.get(text);
+			if (cached != null) {
+				return cached.clone();
+			}
+		}
+		CompletableFuture<float[]> future;
+		Map<String, CompletableFuture<float[]>> fullBatch = null;
+		synchronized (this.lock) {
+			future = this.pending.get(text);
+			if (future == null) {
+				future = new CompletableFuture<>();
+				this.pending.put(text, future);
+				if (this.pending.size() >= this.maxBatchSize) {
+					fullBatch = takeBatch();
+				}
+				else if (this.pending.size() == 1) {
+					long id = this.batchId;
+					this.scheduler.schedule(() -> flush(id), this.maxWaitNanos, TimeUnit.NANOSECONDS);
+				}
+			}
+		}
+		if (fullBatch != null) {
+			// the caller would block on its result anyway, so it sends the batch itself
+			send(fullBatch);
+		}
+		// callers of the same batch and of the cache share the embedding
+		return await(future).clone();
+	}
+
+	@Override
+	public float[] embed(Document document) {
+		return this.delegate.embed(document);
+	}
+
+	@Override
+	public List<float[]> embed(List<String> texts) {
+		return this.delegate.embed(texts);
+	}
+
+	@Override
+	public EmbeddingResponse call(EmbeddingRequest request) {
+		return this.delegate.call(request);
+	}
+
+	@Override
+	public int dimensions() {
+		return this.delegate.dimensions();
+	}
+
+	private Map<String, CompletableFuture<float[]>> takeBatch() {
+		Map<String, CompletableFuture<float[]>> batch = this.pending;
+		this.pending = new LinkedHashMap<>();
+		this.batchId++;
+		return batch;
+	}
+
+	private void flush(long id) {
+		Map<String, CompletableFuture<float[]>> batch;
+		synchronized (this.lock) {
+			// the batch may have been sent already because it was full
+			if (id != this.batchId || this.pending.isEmpty()) {
+				return;
+			}
+			batch = takeBatch();
+		}
+		try {
+			this.executor.execute(() -> send(batch));
+		}
+		catch (RejectedExecutionException ex) {
+			batch.values().forEach(future -> future.completeExceptionally(ex));
+		}
+	}
+
+	private void send(Map<String, CompletableFuture<float[]>> batch) {
+		try {
+			List<String> texts = new ArrayList<>(batch.keySet());
+			List<float[]> embeddings = this.delegate.embed(texts);
+			Assert.state(embeddings.size() == texts.size(),
+					"Embeddings must have the same number as that of the texts");
+			for (int i = 0; i < texts.size(); i++) {
+				if (this.cache != null) {
+					this.cache.put(texts.get(i), embeddings.get(i));
+				}
+				batch.get(texts.get(i)).complete(embeddings.get(i));
+			}
+		}
+		catch (Throwable ex) {
+			batch.values().forEach(future -> future.completeExceptionally(ex));
+		}
+	}
+
+	private static float[] await(CompletableFuture<float[]> future) {
+		try {
+			return future.join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (ex.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw ex;
+		}
+	}
+
+	public static final class Builder {
+
+		private EmbeddingModel embeddingModel;
+
+		private Duration maxWait = Duration.ofMillis(3);
+
+		private int maxBatchSize = 64;
+
+		private int cacheSize = 1000;
+
+		@Nullable
+		private ScheduledExecutorService scheduler;
+
+		@Nullable
+		private Executor executor;
+
+		private Builder() {
+		}
+
+		public Builder embeddingModel(EmbeddingModel embeddingModel) {
+			this.embeddingModel = embeddingModel;
+			return this;
+		}
+
+		/**
+		 * How long the first text of a batch waits for others to join it.
+		 */
+		public Builder maxWait(Duration maxWait) {
+			this.maxWait = maxWait;
+			return this;
+		}
+
+		public Builder maxBatchSize(int maxBatchSize) {
+			this.maxBatchSize = maxBatchSize;
+			return this;
+		}
+
+		/**
+		 * Maximum number of embeddings kept in the LRU cache, {@code 0} disables the
+		 * cache.
+		 */
+		public Builder cacheSize(int cacheSize) {
+			this.cacheSize = cacheSize;
+			return this;
+		}
+
+		/**
+		 * Scheduler triggering the batches on {@code maxWait}. Defaults to a single
+		 * daemon thread.
+		 */
+		public Builder scheduler(ScheduledExecutorService scheduler) {
+			this.scheduler = scheduler;
+			return this;
+		}
+
+		/**
+		 * Executor sending the batches triggered by the scheduler. Defaults to a cached
+		 * pool of daemon threads.
+		 */
+		public Builder executor(Executor executor) {
+			this.executor = executor;
+			return this;
+		}
+
+		public CoalescingEmbeddingModel build() {
+			return new CoalescingEmbeddingModel(this.embeddingModel, this.maxWait, this.maxBatchSize, this.cacheSize,
+					this.scheduler, this.executor);
+		}
+
+	}
+
+	private static final class LruCache extends LinkedHashMap<String, float[]> {
+
+		private final int maxSize;
+
+		LruCache(int maxSize) {
+			super(16, 0.75f, true);
+			this.maxSize = maxSize;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, float[]> eldest) {
+			return size() > this.maxSize;
+		}
+
+	}
+
+}
@@ -31,6 +31,12 @@ import org.springframework.ai.model.ResponseMetadata;
  */
 public class EmbeddingResponseMetadata extends AbstractResponseMetadata implements ResponseMetadata {
 
+	/**
+	 * Key under which providers may expose the
+	 * {@link org.springframework.ai.chat.metadata.RateLimit} reported with the response.
+	 */
+	public static final String RATE_LIMIT_KEY = "rateLimit";
+
 	private String model;
 
 	private Usage usage;
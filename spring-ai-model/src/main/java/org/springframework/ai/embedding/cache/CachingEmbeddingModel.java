@@ -0,0 +1,198 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.embedding.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.document.id.IdGenerator;
+import org.springframework.ai.document.id.JdkSha256HexIdGenerator;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingOptions;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.ai.embedding.EmbeddingResponseMetadata;
+import org.springframework.ai.model.ModelOptionsUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link EmbeddingModel} decorator that caches embeddings in an {@link EmbeddingStore},
+ * so that unchanged texts are not embedded again, for instance when a corpus is
+ * re-ingested.
+ * <p>
+ * Entries are keyed on a content hash of the namespace, the model, the dimensions, the
+ * request options and the text. The model is the one of the request options, and the
+ * dimensions those of the request options or else of the delegate, so that a change of
+ * either doesn't serve stale vectors. The dimensions of the delegate are resolved once,
+ * on the first lookup, as they may take an embedding call to find out. The namespace
+ * identifies the delegate and defaults to its class name; set it to the default model
+ * name and version when the store is shared or persistent, as requests without a model
+ * use the default model. Batch requests only send the cache misses to the delegate, and
+ * the response metadata then reflects that smaller request.
+ *
+ * @since 1.0.0
+ */
+public class CachingEmbeddingModel implements EmbeddingModel {
+
+	private final EmbeddingModel delegate;
+
+	private final EmbeddingStore store;
+
+	private final String namespace;
+
+	private final IdGenerator keyGenerator;
+
+	@Nullable
+	private volatile Integer dimensions;
+
+	protected CachingEmbeddingModel(EmbeddingModel delegate, EmbeddingStore store, @Nullable String namespace,
+			IdGenerator keyGenerator) {
+		Assert.notNull(delegate, "delegate cannot be null");
+		Assert.notNull(store, "store cannot be null");
+		Assert.notNull(keyGenerator, "keyGenerator cannot be null");
+		this.delegate = delegate;
+		this.store = store;
+		this.namespace = (namespace != null) ? namespace : delegate.getClass().getName();
+		this.keyGenerator = keyGenerator;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	@Override
+	public EmbeddingResponse call(EmbeddingRequest request) {
+		Assert.notNull(request, "request cannot be null");
+		String optionsKey = optionsKey(request.getOptions());
+		List<String> keys = new ArrayList<>(request.getInstructions().size());
+		for (String text : request.getInstructions()) {
+			keys.add(this.keyGenerator.generateId(this.namespace, optionsKey, text));
+		}
+		Map<String, float[]> embeddings = new HashMap<>(this.store.getAll(new LinkedHashSet<>(keys)));
+
+		Map<String, String> misses = new LinkedHashMap<>();
+		for (int i = 0; i < keys.size(); i++) {
+			if (!embeddings.containsKey(keys.get(i))) {
+				misses.putIfAbsent(keys.get(i), request.getInstructions().get(i));
+			}
+		}
+		EmbeddingResponseMetadata metadata = new EmbeddingResponseMetadata();
+		if (!misses.isEmpty()) {
+			EmbeddingResponse response = this.delegate
+				.call(new EmbeddingRequest(new ArrayList<>(misses.values()), request.getOptions()));
+			Assert.state(response.getResults().size() == misses.size(),
+					"Embeddings must have the same number as that of the texts");
+			Map<String, float[]> computed = new LinkedHashMap<>();
+			int i = 0;
+			for (String key : misses.keySet()) {
+				computed.put(key, response.getResults().get(i++).getOutput());
+			}
+			this.store.putAll(computed);
+			embeddings.putAll(computed);
+			metadata = response.getMetadata();
+		}
+
+		List<Embedding> results = new ArrayList<>(keys.size());
+		for (int i = 0; i < keys.size(); i++) {
+			results.add(new Embedding(embeddings.get(keys.get(i)), i));
+		}
+		return new EmbeddingResponse(results, metadata);
+	}
+
+	@Override
+	public float[] embed(Document document) {
+		Assert.notNull(document, "document cannot be null");
+		// the delegate decides which metadata goes into the embedded content
+		String key = this.keyGenerator.generateId(this.namespace, optionsKey(null), "document",
+				document.getFormattedContent());
+		float[] embedding = this.store.get(key);
+		if (embedding == null) {
+			embedding = this.delegate.embed(document);
+			this.store.put(key, embedding);
+		}
+		return embedding;
+	}
+
+	@Override
+	public int dimensions() {
+		Integer dimensions = this.dimensions;
+		if (dimensions == null) {
+			dimensions = this.delegate.dimensions();
+			this.dimensions = dimensions;
+		}
+		return dimensions;
+	}
+
+	private String optionsKey(@Nullable EmbeddingOptions options) {
+		String model = (options != null && options.getModel() != null) ? options.getModel() : "";
+		int dimensions = (options != null && options.getDimensions() != null) ? options.getDimensions() : dimensions();
+		String json = (options != null) ? options.getClass().getName() + ModelOptionsUtils.toJsonString(options) : "";
+		return model + "/" + dimensions + "/" + json;
+	}
+
+	public static final class Builder {
+
+		private EmbeddingModel embeddingModel;
+
+		private EmbeddingStore store = new InMemoryEmbeddingStore();
+
+		@Nullable
+		private String namespace;
+
+		private IdGenerator keyGenerator = new JdkSha256HexIdGenerator();
+
+		private Builder() {
+		}
+
+		public Builder embeddingModel(EmbeddingModel embeddingModel) {
+			this.embeddingModel = embeddingModel;
+			return this;
+		}
+
+		public Builder store(EmbeddingStore store) {
+			this.store = store;
+			return this;
+		}
+
+		/**
+		 * Identifies the delegate model in the cache keys, for instance
+		 * {@literal openai/text-embedding-3-small}.
+		 */
+		public Builder namespace(String namespace) {
+			this.namespace = namespace;
+			return this;
+		}
+
+		public Builder keyGenerator(IdGenerator keyGenerator) {
+			this.keyGenerator = keyGenerator;
+			return this;
+		}
+
+		public CachingEmbeddingModel build() {
+			return new CachingEmbeddingModel(this.embeddingModel, this.store, this.namespace, this.keyGenerator);
+		}
+
+	}
+
+}
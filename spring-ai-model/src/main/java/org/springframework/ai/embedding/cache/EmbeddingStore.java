@@ -0,0 +1,77 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.embedding.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Key-value storage of the embeddings cached by {@link CachingEmbeddingModel}. Keys are
+ * content hashes, so an entry never needs to be invalidated.
+ * <p>
+ * Implementations backed by a remote store, such as a database or Redis, should override
+ * the bulk methods to fetch and write a whole batch in one round trip.
+ *
+ * @since 1.0.0
+ * @see InMemoryEmbeddingStore
+ * @see FileEmbeddingStore
+ */
+public interface EmbeddingStore {
+
+	/**
+	 * Returns the embedding stored under the given key.
+	 * @param key the cache key
+	 * @return the embedding, or {@code null} if absent
+	 */
+	@Nullable
+	float[] get(String key);
+
+	/**
+	 * Returns the embeddings stored under the given keys.
+	 * @param keys the cache keys
+	 * @return the embeddings found, by key; absent keys are omitted
+	 */
+	default Map<String, float[]> getAll(Collection<String> keys) {
+		Map<String, float[]> embeddings = new HashMap<>();
+		for (String key : keys) {
+			float[] embedding = get(key);
+			if (embedding != null) {
+				embeddings.put(key, embedding);
+			}
+		}
+		return embeddings;
+	}
+
+	/**
+	 * Stores an embedding.
+	 * @param key the cache key
+	 * @param embedding the embedding
+	 */
+	void put(String key, float[] embedding);
+
+	/**
+	 * Stores several embeddings.
+	 * @param embeddings the embeddings, by key
+	 */
+	default void putAll(Map<String, float[]> embeddings) {
+		embeddings.forEach(this::put);
+	}
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.embedding.cache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link EmbeddingStore} persisting the embeddings to a local append-only file, so that
+ * they survive restarts. Only the index of the file, mapping each key to the position of
+ * its embedding, is kept in memory; embeddings are read back with positional reads that
+ * the operating system serves from its page cache.
+ * <p>
+ * Each record holds the key length, the UTF-8 key, the number of dimensions and the
+ * vector. A record left incomplete by a crash is truncated when the file is opened.
+ * Writes are not forced to disk until {@link #flush()} or {@link #close()}.
+ *
+ * @since 1.0.0
+ */
+public class FileEmbeddingStore implements EmbeddingStore, Closeable {
+
+	private static final Logger logger = LoggerFactory.getLogger(FileEmbeddingStore.class);
+
+	private final FileChannel channel;
+
+	private final Map<String, Long> index = new ConcurrentHashMap<>();
+
+	private long end;
+
+	public FileEmbeddingStore(Path path) {
+		Assert.notNull(path, "path cannot be null");
+		try {
+			this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+					StandardOpenOption.WRITE);
+			this.end = loadIndex();
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to open the embedding store " + path, ex);
+		}
+	}
+
+	private long loadIndex() throws IOException {
+		long size = this.channel.size();
+		long position = 0;
+		ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+		while (position + Integer.BYTES <= size) {
+			int keyLength = readInt(header, position);
+			long dimensionsPosition = position + Integer.BYTES + keyLength;
+			if (keyLength < 0 || dimensionsPosition + Integer.BYTES > size) {
+				break;
+			}
+			int dimensions = readInt(header, dimensionsPosition);
+			long recordEnd = dimensionsPosition + Integer.BYTES + (long) dimensions * Float.BYTES;
+			if (dimensions < 0 || recordEnd > size) {
+				break;
+			}
+			ByteBuffer key = ByteBuffer.allocate(keyLength);
+			this.channel.read(key, position + Integer.BYTES);
+			this.index.put(new String(key.array(), StandardCharsets.UTF_8), dimensionsPosition);
+			position = recordEnd;
+		}
+		if (position < size) {
+			logger.warn("Truncating incomplete record at the end of the embedding store, {} bytes", size - position);
+			this.channel.truncate(position);
+		}
+		return position;
+	}
+
+	private int readInt(ByteBuffer buffer, long position) throws IOException {
+		buffer.clear();
+		while (buffer.hasRemaining()) {
+			if (this.channel.read(buffer, position + buffer.position()) < 0) {
+				return -1;
+			}
+		}
+		return buffer.flip().getInt();
+	}
+
+	@Override
+	@Nullable
+	public float[] get(String key) {
+		Long position = this.index.get(key);
+		if (position == null) {
+			return null;
+		}
+		try {
+			ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+			int dimensions = readInt(header, position);
+			ByteBuffer vector = ByteBuffer.allocate(dimensions * Float.BYTES);
+			long offset = position + Integer.BYTES;
+			while (vector.hasRemaining()) {
+				if (this.channel.read(vector, offset + vector.position()) < 0) {
+					throw new IOException("Unexpected end of the embedding store");
+				}
+			}
+			float[] embedding = new float[dimensions];
+			vector.flip().asFloatBuffer().get(embedding);
+			return embedding;
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to read embedding " + key, ex);
+		}
+	}
+
+	@Override
+	public synchronized void put(String key, float[] embedding) {
+		if (this.index.containsKey(key)) {
+			return;
+		}
+		byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+		ByteBuffer record = ByteBuffer
+			.allocate(Integer.BYTES + keyBytes.length + Integer.BYTES + embedding.length * Float.BYTES);
+		record.putInt(keyBytes.length).put(keyBytes).putInt(embedding.length);
+		record.asFloatBuffer().put(embedding);
+		record.clear();
+		try {
+			long position = this.end;
+			while (record.hasRemaining()) {
+				this.channel.write(record, position + record.position());
+			}
+			this.end = position + record.capacity();
+			this.index.put(key, position + Integer.BYTES + keyBytes.length);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to write embedding " + key, ex);
+		}
+	}
+
+	public int size() {
+		return this.index.size();
+	}
+
+	/**
+	 * Forces the written embeddings to disk.
+	 */
+	public void flush() {
+		try {
+			this.channel.force(false);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to flush the embedding store", ex);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (this.channel.isOpen()) {
+			this.channel.force(false);
+			this.channel.close();
+		}
+	}
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.embedding.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link EmbeddingStore} keeping the embeddings in memory, without eviction.
+ *
+ * @since 1.0.0
+ */
+public class InMemoryEmbeddingStore implements EmbeddingStore {
+
+	private final Map<String, float[]> embeddings = new ConcurrentHashMap<>();
+
+	@Override
+	@Nullable
+	public float[] get(String key) {
+		return this.embeddings.get(key);
+	}
+
+	@Override
+	public void put(String key, float[] embedding) {
+		this.embeddings.put(key, embedding);
+	}
+
+	public int size() {
+		return this.embeddings.size();
+	}
+
+}
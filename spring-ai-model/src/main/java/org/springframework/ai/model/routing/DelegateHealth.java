@@ -0,0 +1,208 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.model.routing;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Live health statistics of a single routing delegate: latency EWMA, latency percentile
+ * over a sliding window of samples, error-rate EWMA, in-flight calls and a circuit
+ * breaker that opens after consecutive failures.
+ *
+ * @since 1.0.0
+ */
+public final class DelegateHealth {
+
+	private static final int WINDOW_SIZE = 128;
+
+	private static final int MIN_PERCENTILE_SAMPLES = 20;
+
+	private final String name;
+
+	private final double alpha;
+
+	private final int failureThreshold;
+
+	private final long openDurationNanos;
+
+	private final LongSupplier nanoClock;
+
+	private final long[] latencySamples = new long[WINDOW_SIZE];
+
+	private int sampleCount;
+
+	private int nextSample;
+
+	private double latencyEwmaNanos;
+
+	private double errorRate;
+
+	private int consecutiveFailures;
+
+	private CircuitState circuitState = CircuitState.CLOSED;
+
+	private long openedAtNanos;
+
+	private boolean probeInFlight;
+
+	private int inFlight;
+
+	DelegateHealth(String name, RoutingOptions options, LongSupplier nanoClock) {
+		this.name = name;
+		this.alpha = options.getEwmaAlpha();
+		this.failureThreshold = options.getFailureThreshold();
+		this.openDurationNanos = options.getOpenDuration().toNanos();
+		this.nanoClock = nanoClock;
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	public synchronized Duration getLatencyEwma() {
+		return Duration.ofNanos((long) this.latencyEwmaNanos);
+	}
+
+	public synchronized double getErrorRate() {
+		return this.errorRate;
+	}
+
+	public synchronized int getInFlight() {
+		return this.inFlight;
+	}
+
+	public synchronized CircuitState getCircuitState() {
+		updateCircuitState();
+		return this.circuitState;
+	}
+
+	/**
+	 * Returns the given latency percentile over the recent samples.
+	 * @param percentile the percentile, between {@code 0} and {@code 1}
+	 * @return the latency percentile, or {@code null} while there are too few samples
+	 */
+	@Nullable
+	public synchronized Duration getLatencyPercentile(double percentile) {
+		if (this.sampleCount < MIN_PERCENTILE_SAMPLES) {
+			return null;
+		}
+		long[] sorted = Arrays.copyOf(this.latencySamples, this.sampleCount);
+		Arrays.sort(sorted);
+		int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+		return Duration.ofNanos(sorted[Math.max(0, index)]);
+	}
+
+	/**
+	 * Whether the circuit lets a call through: closed, or half-open without a probe in
+	 * flight.
+	 */
+	synchronized boolean isAvailable() {
+		updateCircuitState();
+		return this.circuitState == CircuitState.CLOSED
+				|| (this.circuitState == CircuitState.HALF_OPEN && !this.probeInFlight);
+	}
+
+	/**
+	 * Score used to rank the delegates, lower is better. Delegates without samples score
+	 * zero so that they get explored first, unless they have only failed so far.
+	 */
+	synchronized double score() {
+		if (this.sampleCount == 0) {
+			return (this.errorRate > 0) ? Double.MAX_VALUE : 0;
+		}
+		double penalty = Math.max(0.05, 1 - this.errorRate);
+		return this.latencyEwmaNanos * (1 + this.inFlight) / penalty;
+	}
+
+	synchronized void onStart() {
+		updateCircuitState();
+		if (this.circuitState == CircuitState.HALF_OPEN) {
+			this.probeInFlight = true;
+		}
+		this.inFlight++;
+	}
+
+	synchronized void onSuccess(long latencyNanos) {
+		this.inFlight--;
+		this.latencyEwmaNanos = (this.sampleCount == 0) ? latencyNanos
+				: this.alpha * latencyNanos + (1 - this.alpha) * this.latencyEwmaNanos;
+		this.latencySamples[this.nextSample] = latencyNanos;
+		this.nextSample = (this.nextSample + 1) % WINDOW_SIZE;
+		this.sampleCount = Math.min(WINDOW_SIZE, this.sampleCount + 1);
+		this.errorRate = (1 - this.alpha) * this.errorRate;
+		this.consecutiveFailures = 0;
+		this.probeInFlight = false;
+		this.circuitState = CircuitState.CLOSED;
+	}
+
+	synchronized void onFailure() {
+		this.inFlight--;
+		this.errorRate = this.alpha + (1 - this.alpha) * this.errorRate;
+		this.consecutiveFailures++;
+		if (this.circuitState == CircuitState.HALF_OPEN || this.consecutiveFailures >= this.failureThreshold) {
+			this.circuitState = CircuitState.OPEN;
+			this.openedAtNanos = this.nanoClock.getAsLong();
+		}
+		this.probeInFlight = false;
+	}
+
+	/**
+	 * The call lost a hedging race and has been cancelled: neither a success nor a
+	 * failure of the delegate.
+	 */
+	synchronized void onCancel() {
+		this.inFlight--;
+		this.probeInFlight = false;
+	}
+
+	private void updateCircuitState() {
+		if (this.circuitState == CircuitState.OPEN
+				&& this.nanoClock.getAsLong() - this.openedAtNanos >= this.openDurationNanos) {
+			this.circuitState = CircuitState.HALF_OPEN;
+		}
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "DelegateHealth{name='" + this.name + "', latencyEwma=" + getLatencyEwma() + ", errorRate="
+				+ this.errorRate + ", inFlight=" + this.inFlight + ", circuitState=" + this.circuitState + '}';
+	}
+
+	public enum CircuitState {
+
+		/**
+		 * Calls go through.
+		 */
+		CLOSED,
+
+		/**
+		 * Calls are rejected until the open duration has elapsed.
+		 */
+		OPEN,
+
+		/**
+		 * A single probe call is let through to decide whether to close the circuit.
+		 */
+		HALF_OPEN
+
+	}
+
+}
@@ -0,0 +1,390 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.model.routing;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Routing core shared by the routing models. Ranks the delegates by their
+ * {@link DelegateHealth}, skips those whose circuit is open, optionally hedges a slow
+ * call to the next best delegate and fails over to the next candidates on error.
+ *
+ * @param <M> the type of the delegate models
+ * @since 1.0.0
+ */
+final class ModelRouter<M> {
+
+	/**
+	 * Name of the observation recorded for every attempt on a delegate.
+	 */
+	static final String OBSERVATION_NAME = "spring.ai.model.routing";
+
+	static final String DELEGATE_KEY = "spring.ai.routing.delegate";
+
+	static final String OUTCOME_KEY = "spring.ai.routing.outcome";
+
+	static final String HEDGED_KEY = "spring.ai.routing.hedged";
+
+	static final String LATENCY_EWMA_KEY = "spring.ai.routing.latency.ewma";
+
+	static final String ERROR_RATE_KEY = "spring.ai.routing.error.rate";
+
+	private static final Logger logger = LoggerFactory.getLogger(ModelRouter.class);
+
+	private final List<Delegate<M>> delegates;
+
+	private final Map<String, DelegateHealth> health = new HashMap<>();
+
+	private final RoutingOptions options;
+
+	private final ExecutorService executor;
+
+	private final ObservationRegistry observationRegistry;
+
+	private final LongSupplier nanoClock;
+
+	ModelRouter(Map<String, M> delegates, RoutingOptions options, @Nullable ExecutorService executor,
+			ObservationRegistry observationRegistry, LongSupplier nanoClock) {
+		Assert.notEmpty(delegates, "delegates cannot be null or empty");
+		Assert.notNull(options, "options cannot be null");
+		Assert.notNull(observationRegistry, "observationRegistry cannot be null");
+		Assert.notNull(nanoClock, "nanoClock cannot be null");
+		this.options = options;
+		this.nanoClock = nanoClock;
+		List<Delegate<M>> list = new ArrayList<>();
+		new LinkedHashMap<>(delegates).forEach((name, model) -> {
+			DelegateHealth delegateHealth = new DelegateHealth(name, options, nanoClock);
+			this.health.put(name, delegateHealth);
+			list.add(new Delegate<>(name, model, delegateHealth));
+		});
+		this.delegates = List.copyOf(list);
+		this.executor = (executor != null) ? executor : buildDefaultExecutor();
+		this.observationRegistry = observationRegistry;
+	}
+
+	private static ExecutorService buildDefaultExecutor() {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("ai-routing-");
+		threadFactory.setDaemon(true);
+		return Executors.newCachedThreadPool(threadFactory);
+	}
+
+	M firstModel() {
+		return this.delegates.get(0).model();
+	}
+
+	@Nullable
+	DelegateHealth getHealth(String name) {
+		return this.health.get(name);
+	}
+
+	/**
+	 * Returns the delegates whose circuit lets calls through, best first. When every
+	 * circuit is open all the delegates are returned, since failing fast would not help
+	 * the caller any more than trying.
+	 */
+	List<Delegate<M>> rank() {
+		List<Delegate<M>> available = new ArrayList<>(this.delegates.size());
+		for (Delegate<M> delegate : this.delegates) {
+			if (delegate.health().isAvailable()) {
+				available.add(delegate);
+			}
+		}
+		List<Delegate<M>> ranked = available.isEmpty() ? new ArrayList<>(this.delegates) : available;
+		// stable sort: ties keep the declaration order
+		ranked.sort(Comparator.comparingDouble(delegate -> delegate.health().score()));
+		return ranked;
+	}
+
+	/**
+	 * Performs a blocking call, hedging and failing over as configured.
+	 * @param invocation the call to perform on a delegate
+	 * @param contextFactory creates the observation context for a delegate name
+	 * @return the result of the first successful attempt
+	 */
+	<T> T call(Function<M, T> invocation, Function<String, Observation.Context> contextFactory) {
+		List<Delegate<M>> candidates = rank();
+		int maxAttempts = Math.min(this.options.getMaxAttempts(), candidates.size());
+		if (this.options.isHedging() && maxAttempts > 1) {
+			return hedgedCall(candidates, maxAttempts, invocation, contextFactory);
+		}
+		RuntimeException failure = null;
+		for (int i = 0; i < maxAttempts; i++) {
+			Attempt attempt = new Attempt(candidates.get(i), false, contextFactory);
+			try (Observation.Scope scope = attempt.observation.openScope()) {
+				T result = invocation.apply(attempt.delegate.model());
+				attempt.succeeded();
+				return result;
+			}
+			catch (RuntimeException ex) {
+				attempt.failed(ex);
+				failure = addFailure(failure, ex);
+			}
+		}
+		throw failure;
+	}
+
+	private <T> T hedgedCall(List<Delegate<M>> candidates, int maxAttempts, Function<M, T> invocation,
+			Function<String, Observation.Context> contextFactory) {
+		ExecutorCompletionService<T> completionService = new ExecutorCompletionService<>(this.executor);
+		// the flag tells the attempt that it has been cancelled rather than failed
+		Map<Future<T>, AtomicBoolean> running = new LinkedHashMap<>();
+		int next = 0;
+		boolean hedged = false;
+		RuntimeException failure = null;
+		try {
+			submit(completionService, running, candidates.get(next), false, invocation, contextFactory);
+			next++;
+			while (!running.isEmpty()) {
+				Future<T> done;
+				Duration hedgeDelay = (!hedged && next < maxAttempts) ? hedgeDelay(candidates.get(next - 1)) : null;
+				if (hedgeDelay != null) {
+					done = completionService.poll(hedgeDelay.toNanos(), TimeUnit.NANOSECONDS);
+					if (done == null) {
+						logger.debug("Delegate {} exceeded {}, hedging to {}", candidates.get(next - 1).name(),
+								hedgeDelay, candidates.get(next).name());
+						submit(completionService, running, candidates.get(next), true, invocation, contextFactory);
+						next++;
+						hedged = true;
+						continue;
+					}
+				}
+				else {
+					done = completionService.take();
+				}
+				running.remove(done);
+				try {
+					T result = done.get();
+					cancelAll(running);
+					return result;
+				}
+				catch (ExecutionException ex) {
+					failure = addFailure(failure, unwrap(ex));
+					if (running.isEmpty() && next < maxAttempts) {
+						submit(completionService, running, candidates.get(next), false, invocation, contextFactory);
+						next++;
+					}
+				}
+				catch (CancellationException ex) {
+					// cancelled by another caller, nothing to record
+				}
+			}
+			if (failure == null) {
+				throw new IllegalStateException("All routed calls were cancelled");
+			}
+			throw failure;
+		}
+		catch (InterruptedException ex) {
+			cancelAll(running);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for a routed model call", ex);
+		}
+	}
+
+	private <T> void submit(ExecutorCompletionService<T> completionService, Map<Future<T>, AtomicBoolean> running,
+			Delegate<M> delegate, boolean hedge, Function<M, T> invocation,
+			Function<String, Observation.Context> contextFactory) {
+		AtomicBoolean cancelled = new AtomicBoolean();
+		Future<T> future = completionService.submit(() -> {
+			Attempt attempt = new Attempt(delegate, hedge, contextFactory);
+			try (Observation.Scope scope = attempt.observation.openScope()) {
+				T result = invocation.apply(delegate.model());
+				attempt.succeeded();
+				return result;
+			}
+			catch (RuntimeException ex) {
+				if (cancelled.get()) {
+					attempt.cancelled();
+				}
+				else {
+					attempt.failed(ex);
+				}
+				throw ex;
+			}
+		});
+		running.put(future, cancelled);
+	}
+
+	private static <T> void cancelAll(Map<Future<T>, AtomicBoolean> running) {
+		running.forEach((future, cancelled) -> {
+			cancelled.set(true);
+			future.cancel(true);
+		});
+	}
+
+	/**
+	 * Performs a streaming call. Hedging and failover only happen before the first
+	 * element has been emitted, so a stream is never replayed.
+	 * @param invocation the streaming call to perform on a delegate
+	 * @param contextFactory creates the observation context for a delegate name
+	 * @return the elements of the first delegate that emits
+	 */
+	<T> Flux<T> stream(Function<M, Flux<T>> invocation, Function<String, Observation.Context> contextFactory) {
+		return Flux.defer(() -> {
+			List<Delegate<M>> candidates = rank();
+			int maxAttempts = Math.min(this.options.getMaxAttempts(), candidates.size());
+			return streamFrom(candidates, 0, maxAttempts, invocation, contextFactory);
+		});
+	}
+
+	private <T> Flux<T> streamFrom(List<Delegate<M>> candidates, int index, int maxAttempts,
+			Function<M, Flux<T>> invocation, Function<String, Observation.Context> contextFactory) {
+		AtomicBoolean emitted = new AtomicBoolean();
+		Flux<T> source = attemptStream(candidates.get(index), false, invocation, contextFactory);
+		int next = index + 1;
+		Duration hedgeDelay = (this.options.isHedging() && next < maxAttempts) ? hedgeDelay(candidates.get(index))
+				: null;
+		if (hedgeDelay != null) {
+			Flux<T> hedge = Mono.delay(hedgeDelay)
+				.thenMany(attemptStream(candidates.get(next), true, invocation, contextFactory));
+			source = Flux.firstWithValue(source, hedge);
+			next++;
+		}
+		int failoverIndex = next;
+		return source.doOnNext(element -> emitted.set(true))
+			.onErrorResume(ex -> !emitted.get() && failoverIndex < maxAttempts,
+					ex -> streamFrom(candidates, failoverIndex, maxAttempts, invocation, contextFactory));
+	}
+
+	private <T> Flux<T> attemptStream(Delegate<M> delegate, boolean hedge, Function<M, Flux<T>> invocation,
+			Function<String, Observation.Context> contextFactory) {
+		return Flux.defer(() -> {
+			Attempt attempt = new Attempt(delegate, hedge, contextFactory);
+			return invocation.apply(delegate.model())
+				.doOnNext(element -> attempt.succeeded())
+				.doOnComplete(attempt::succeeded)
+				.doOnError(attempt::failed)
+				.doOnCancel(attempt::cancelled);
+		});
+	}
+
+	@Nullable
+	private Duration hedgeDelay(Delegate<M> primary) {
+		if (this.options.getHedgeDelay() != null) {
+			return this.options.getHedgeDelay();
+		}
+		return primary.health().getLatencyPercentile(this.options.getHedgePercentile());
+	}
+
+	private static RuntimeException addFailure(@Nullable RuntimeException failure, RuntimeException ex) {
+		if (failure == null) {
+			return ex;
+		}
+		ex.addSuppressed(failure);
+		return ex;
+	}
+
+	private static RuntimeException unwrap(ExecutionException ex) {
+		Throwable cause = ex.getCause();
+		if (cause instanceof RuntimeException runtimeException) {
+			return runtimeException;
+		}
+		if (cause instanceof Error error) {
+			throw error;
+		}
+		return new IllegalStateException(cause);
+	}
+
+	record Delegate<M>(String name, M model, DelegateHealth health) {
+
+	}
+
+	/**
+	 * Tracks a single attempt on a delegate until it settles, which is when the call
+	 * returns, fails or gets cancelled, or when a stream emits its first element.
+	 */
+	private final class Attempt {
+
+		private final Delegate<M> delegate;
+
+		private final Observation observation;
+
+		private final long startNanos;
+
+		private final AtomicBoolean settled = new AtomicBoolean();
+
+		Attempt(Delegate<M> delegate, boolean hedge, Function<String, Observation.Context> contextFactory) {
+			this.delegate = delegate;
+			this.observation = Observation
+				.createNotStarted(OBSERVATION_NAME, () -> contextFactory.apply(delegate.name()),
+						ModelRouter.this.observationRegistry)
+				.lowCardinalityKeyValue(DELEGATE_KEY, delegate.name())
+				.lowCardinalityKeyValue(HEDGED_KEY, String.valueOf(hedge))
+				.start();
+			delegate.health().onStart();
+			this.startNanos = ModelRouter.this.nanoClock.getAsLong();
+		}
+
+		void succeeded() {
+			if (this.settled.compareAndSet(false, true)) {
+				this.delegate.health().onSuccess(ModelRouter.this.nanoClock.getAsLong() - this.startNanos);
+				stop("success");
+			}
+		}
+
+		void failed(Throwable ex) {
+			if (this.settled.compareAndSet(false, true)) {
+				this.delegate.health().onFailure();
+				this.observation.error(ex);
+				stop("error");
+			}
+		}
+
+		void cancelled() {
+			if (this.settled.compareAndSet(false, true)) {
+				this.delegate.health().onCancel();
+				stop("cancelled");
+			}
+		}
+
+		private void stop(String outcome) {
+			DelegateHealth delegateHealth = this.delegate.health();
+			this.observation.lowCardinalityKeyValue(OUTCOME_KEY, outcome)
+				.highCardinalityKeyValue(LATENCY_EWMA_KEY, String.valueOf(delegateHealth.getLatencyEwma().toMillis()))
+				.highCardinalityKeyValue(ERROR_RATE_KEY, String.valueOf(delegateHealth.getErrorRate()))
+				.stop();
+		}
+
+	}
+
+}
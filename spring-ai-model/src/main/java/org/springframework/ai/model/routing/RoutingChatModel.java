@@ -0,0 +1,144 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.model.routing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import io.micrometer.observation.ObservationRegistry;
+import reactor.core.publisher.Flux;
+
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.observation.ChatModelObservationContext;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ChatModel} that routes every call to the healthiest of several delegates, for
+ * instance the same model served by different providers or regions.
+ * <p>
+ * Delegates are ranked by their latency moving average, weighted by their error rate and
+ * in-flight calls. A delegate whose circuit is open after consecutive failures is
+ * skipped, and a failed call fails over to the next delegate. With
+ * {@link RoutingOptions#isHedging() hedging} enabled, a call still running after the
+ * latency budget of its delegate is duplicated to the next delegate; the first response
+ * wins and the slower call is cancelled. Streaming calls only hedge and fail over until
+ * the first response chunk, and use the time to that chunk as latency.
+ * <p>
+ * Every attempt is recorded as a {@literal spring.ai.model.routing} observation tagged
+ * with the delegate name and the outcome of the attempt.
+ *
+ * @since 1.0.0
+ * @see RoutingStreamingChatModel
+ * @see RoutingEmbeddingModel
+ */
+public class RoutingChatModel implements ChatModel {
+
+	private final ModelRouter<ChatModel> router;
+
+	RoutingChatModel(ModelRouter<ChatModel> router) {
+		this.router = router;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	@Override
+	public ChatResponse call(Prompt prompt) {
+		Assert.notNull(prompt, "prompt cannot be null");
+		return this.router.call(model -> model.call(prompt),
+				name -> ChatModelObservationContext.builder().prompt(prompt).provider(name).build());
+	}
+
+	@Override
+	public Flux<ChatResponse> stream(Prompt prompt) {
+		Assert.notNull(prompt, "prompt cannot be null");
+		return this.router.stream(model -> model.stream(prompt),
+				name -> ChatModelObservationContext.builder().prompt(prompt).provider(name).build());
+	}
+
+	@Override
+	public ChatOptions getDefaultOptions() {
+		return this.router.firstModel().getDefaultOptions();
+	}
+
+	/**
+	 * Returns the live health statistics of the given delegate.
+	 * @param name the delegate name
+	 * @return the health statistics, or {@code null} if there is no such delegate
+	 */
+	@Nullable
+	public DelegateHealth getHealth(String name) {
+		return this.router.getHealth(name);
+	}
+
+	public static final class Builder {
+
+		private final Map<String, ChatModel> delegates = new LinkedHashMap<>();
+
+		private RoutingOptions options = RoutingOptions.defaults();
+
+		@Nullable
+		private ExecutorService executor;
+
+		private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+		private Builder() {
+		}
+
+		/**
+		 * Adds a delegate. Delegates with equal scores are tried in the order they were
+		 * added.
+		 */
+		public Builder delegate(String name, ChatModel chatModel) {
+			Assert.hasText(name, "name cannot be null or empty");
+			Assert.notNull(chatModel, "chatModel cannot be null");
+			this.delegates.put(name, chatModel);
+			return this;
+		}
+
+		public Builder options(RoutingOptions options) {
+			this.options = options;
+			return this;
+		}
+
+		/**
+		 * Executor running the hedged calls. Defaults to a cached pool of daemon threads.
+		 */
+		public Builder executor(ExecutorService executor) {
+			this.executor = executor;
+			return this;
+		}
+
+		public Builder observationRegistry(ObservationRegistry observationRegistry) {
+			this.observationRegistry = observationRegistry;
+			return this;
+		}
+
+		public RoutingChatModel build() {
+			return new RoutingChatModel(new ModelRouter<>(this.delegates, this.options, this.executor,
+					this.observationRegistry, System::nanoTime));
+		}
+
+	}
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.model.routing;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import io.micrometer.observation.ObservationRegistry;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.ai.embedding.observation.EmbeddingModelObservationContext;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link EmbeddingModel} that routes every call to the healthiest of several delegates,
+ * with the same ranking, circuit breaking, failover and hedging as
+ * {@link RoutingChatModel}.
+ * <p>
+ * All the delegates must produce vectors of the same dimensions, in practice the same
+ * embedding model served by different providers or regions.
+ *
+ * @since 1.0.0
+ */
+public class RoutingEmbeddingModel implements EmbeddingModel {
+
+	private final ModelRouter<EmbeddingModel> router;
+
+	RoutingEmbeddingModel(ModelRouter<EmbeddingModel> router) {
+		this.router = router;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	@Override
+	public EmbeddingResponse call(EmbeddingRequest request) {
+		Assert.notNull(request, "request cannot be null");
+		return this.router.call(model -> model.call(request),
+				name -> EmbeddingModelObservationContext.builder().embeddingRequest(request).provider(name).build());
+	}
+
+	@Override
+	public float[] embed(Document document) {
+		Assert.notNull(document, "document cannot be null");
+		EmbeddingRequest request = new EmbeddingRequest(List.of(document.getFormattedContent()), null);
+		return this.router.call(model -> model.embed(document),
+				name -> EmbeddingModelObservationContext.builder().embeddingRequest(request).provider(name).build());
+	}
+
+	@Override
+	public int dimensions() {
+		return this.router.firstModel().dimensions();
+	}
+
+	/**
+	 * Returns the live health statistics of the given delegate.
+	 * @param name the delegate name
+	 * @return the health statistics, or {@code null} if there is no such delegate
+	 */
+	@Nullable
+	public DelegateHealth getHealth(String name) {
+		return this.router.getHealth(name);
+	}
+
+	public static final class Builder {
+
+		private final Map<String, EmbeddingModel> delegates = new LinkedHashMap<>();
+
+		private RoutingOptions options = RoutingOptions.defaults();
+
+		@Nullable
+		private ExecutorService executor;
+
+		private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+		private Builder() {
+		}
+
+		public Builder delegate(String name, EmbeddingModel embeddingModel) {
+			Assert.hasText(name, "name cannot be null or empty");
+			Assert.notNull(embeddingModel, "embeddingModel cannot be null");
+			this.delegates.put(name, embeddingModel);
+			return this;
+		}
+
+		public Builder options(RoutingOptions options) {
+			this.options = options;
+			return this;
+		}
+
+		/**
+		 * Executor running the hedged calls. Defaults to a cached pool of daemon threads.
+		 */
+		public Builder executor(ExecutorService executor) {
+			this.executor = executor;
+			return this;
+		}
+
+		public Builder observationRegistry(ObservationRegistry observationRegistry) {
+			this.observationRegistry = observationRegistry;
+			return this;
+		}
+
+		public RoutingEmbeddingModel build() {
+			return new RoutingEmbeddingModel(new ModelRouter<>(this.delegates, this.options, this.executor,
+					this.observationRegistry, System::nanoTime));
+		}
+
+	}
+
+}
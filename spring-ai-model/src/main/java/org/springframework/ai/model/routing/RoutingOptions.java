@@ -0,0 +1,182 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.model.routing;
+
+import java.time.Duration;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Options shared by the routing models.
+ *
+ * @since 1.0.0
+ * @see RoutingChatModel
+ * @see RoutingEmbeddingModel
+ */
+public final class RoutingOptions {
+
+	private final boolean hedging;
+
+	@Nullable
+	private final Duration hedgeDelay;
+
+	private final double hedgePercentile;
+
+	private final int maxAttempts;
+
+	private final int failureThreshold;
+
+	private final Duration openDuration;
+
+	private final double ewmaAlpha;
+
+	private RoutingOptions(Builder builder) {
+		Assert.isTrue(builder.hedgePercentile > 0 && builder.hedgePercentile < 1, "hedgePercentile must be in (0, 1)");
+		Assert.isTrue(builder.maxAttempts > 0, "maxAttempts must be positive");
+		Assert.isTrue(builder.failureThreshold > 0, "failureThreshold must be positive");
+		Assert.notNull(builder.openDuration, "openDuration cannot be null");
+		Assert.isTrue(builder.ewmaAlpha > 0 && builder.ewmaAlpha <= 1, "ewmaAlpha must be in (0, 1]");
+		this.hedging = builder.hedging;
+		this.hedgeDelay = builder.hedgeDelay;
+		this.hedgePercentile = builder.hedgePercentile;
+		this.maxAttempts = builder.maxAttempts;
+		this.failureThreshold = builder.failureThreshold;
+		this.openDuration = builder.openDuration;
+		this.ewmaAlpha = builder.ewmaAlpha;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public static RoutingOptions defaults() {
+		return builder().build();
+	}
+
+	public boolean isHedging() {
+		return this.hedging;
+	}
+
+	@Nullable
+	public Duration getHedgeDelay() {
+		return this.hedgeDelay;
+	}
+
+	public double getHedgePercentile() {
+		return this.hedgePercentile;
+	}
+
+	public int getMaxAttempts() {
+		return this.maxAttempts;
+	}
+
+	public int getFailureThreshold() {
+		return this.failureThreshold;
+	}
+
+	public Duration getOpenDuration() {
+		return this.openDuration;
+	}
+
+	public double getEwmaAlpha() {
+		return this.ewmaAlpha;
+	}
+
+	public static final class Builder {
+
+		private boolean hedging = false;
+
+		@Nullable
+		private Duration hedgeDelay;
+
+		private double hedgePercentile = 0.95;
+
+		private int maxAttempts = 2;
+
+		private int failureThreshold = 5;
+
+		private Duration openDuration = Duration.ofSeconds(30);
+
+		private double ewmaAlpha = 0.2;
+
+		private Builder() {
+		}
+
+		/**
+		 * Whether to send a duplicate request to the next best delegate when the first
+		 * one exceeds its latency budget. The slower call is cancelled.
+		 */
+		public Builder hedging(boolean hedging) {
+			this.hedging = hedging;
+			return this;
+		}
+
+		/**
+		 * Fixed latency budget after which a hedged request is sent. Defaults to the
+		 * {@link #hedgePercentile(double) latency percentile} of the primary delegate; no
+		 * hedged request is sent until enough latency samples have been collected.
+		 */
+		public Builder hedgeDelay(Duration hedgeDelay) {
+			this.hedgeDelay = hedgeDelay;
+			return this;
+		}
+
+		public Builder hedgePercentile(double hedgePercentile) {
+			this.hedgePercentile = hedgePercentile;
+			return this;
+		}
+
+		/**
+		 * Maximum number of delegates tried for a single call, hedged requests included.
+		 */
+		public Builder maxAttempts(int maxAttempts) {
+			this.maxAttempts = maxAttempts;
+			return this;
+		}
+
+		/**
+		 * Number of consecutive failures after which the circuit of a delegate opens.
+		 */
+		public Builder failureThreshold(int failureThreshold) {
+			this.failureThreshold = failureThreshold;
+			return this;
+		}
+
+		/**
+		 * How long an open circuit rejects calls before letting a probe call through.
+		 */
+		public Builder openDuration(Duration openDuration) {
+			this.openDuration = openDuration;
+			return this;
+		}
+
+		/**
+		 * Smoothing factor of the latency and error-rate moving averages.
+		 */
+		public Builder ewmaAlpha(double ewmaAlpha) {
+			this.ewmaAlpha = ewmaAlpha;
+			return this;
+		}
+
+		public RoutingOptions build() {
+			return new RoutingOptions(this);
+		}
+
+	}
+
+}
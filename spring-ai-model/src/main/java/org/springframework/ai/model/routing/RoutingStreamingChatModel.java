@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.model.routing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.micrometer.observation.ObservationRegistry;
+import reactor.core.publisher.Flux;
+
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.StreamingChatModel;
+import org.springframework.ai.chat.observation.ChatModelObservationContext;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link StreamingChatModel} that routes every stream to the healthiest of several
+ * delegates. Hedging and failover only happen until the first response chunk, see
+ * {@link RoutingChatModel}.
+ *
+ * @since 1.0.0
+ */
+public class RoutingStreamingChatModel implements StreamingChatModel {
+
+	private final ModelRouter<StreamingChatModel> router;
+
+	RoutingStreamingChatModel(ModelRouter<StreamingChatModel> router) {
+		this.router = router;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	@Override
+	public Flux<ChatResponse> stream(Prompt prompt) {
+		Assert.notNull(prompt, "prompt cannot be null");
+		return this.router.stream(model -> model.stream(prompt),
+				name -> ChatModelObservationContext.builder().prompt(prompt).provider(name).build());
+	}
+
+	/**
+	 * Returns the live health statistics of the given delegate.
+	 * @param name the delegate name
+	 * @return the health statistics, or {@code null} if there is no such delegate
+	 */
+	@Nullable
+	public DelegateHealth getHealth(String name) {
+		return this.router.getHealth(name);
+	}
+
+	public static final class Builder {
+
+		private final Map<String, StreamingChatModel> delegates = new LinkedHashMap<>();
+
+		private RoutingOptions options = RoutingOptions.defaults();
+
+		private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+		private Builder() {
+		}
+
+		public Builder delegate(String name, StreamingChatModel chatModel) {
+			Assert.hasText(name, "name cannot be null or empty");
+			Assert.notNull(chatModel, "chatModel cannot be null");
+			this.delegates.put(name, chatModel);
+			return this;
+		}
+
+		public Builder options(RoutingOptions options) {
+			this.options = options;
+			return this;
+		}
+
+		public Builder observationRegistry(ObservationRegistry observationRegistry) {
+			this.observationRegistry = observationRegistry;
+			return this;
+		}
+
+		public RoutingStreamingChatModel build() {
+			// streams hedge on the reactor timer, the executor stays unused
+			return new RoutingStreamingChatModel(
+					new ModelRouter<>(this.delegates, this.options, null, this.observationRegistry, System::nanoTime));
+		}
+
+	}
+
+}
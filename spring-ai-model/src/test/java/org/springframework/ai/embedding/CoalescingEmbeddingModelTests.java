@@ -0,0 +1,152 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.embedding;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.document.Document;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link CoalescingEmbeddingModel}.
+ */
+class CoalescingEmbeddingModelTests {
+
+	private final ExecutorService callers = Executors.newFixedThreadPool(8);
+
+	private final RecordingEmbeddingModel delegate = new RecordingEmbeddingModel();
+
+	@AfterEach
+	void tearDown() {
+		this.callers.shutdownNow();
+	}
+
+	@Test
+	void concurrentCallsAreCoalescedIntoOneRequest() throws Exception {
+		CoalescingEmbeddingModel embeddingModel = CoalescingEmbeddingModel.builder()
+			.embeddingModel(this.delegate)
+			.maxWait(Duration.ofMillis(200))
+			.maxBatchSize(100)
+			.build();
+
+		List<Future<float[]>> results = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			String text = "text-" + (i % 4);
+			results.add(this.callers.submit(() -> embeddingModel.embed(text)));
+		}
+
+		for (int i = 0; i < 8; i++) {
+			assertThat(results.get(i).get()).containsExactly(("text-" + (i % 4)).length(), i % 4);
+		}
+		assertThat(this.delegate.requests).hasSize(1);
+		assertThat(this.delegate.requests.get(0)).containsExactlyInAnyOrder("text-0", "text-1", "text-2", "text-3");
+	}
+
+	@Test
+	void fullBatchIsSentWithoutWaiting() {
+		CoalescingEmbeddingModel embeddingModel = CoalescingEmbeddingModel.builder()
+			.embeddingModel(this.delegate)
+			.maxWait(Duration.ofMinutes(1))
+			.maxBatchSize(1)
+			.build();
+
+		assertThat(embeddingModel.embed("text-1")).containsExactly(6, 1);
+		assertThat(this.delegate.requests).containsExactly(List.of("text-1"));
+	}
+
+	@Test
+	void repeatedTextIsServedFromCache() {
+		CoalescingEmbeddingModel embeddingModel = CoalescingEmbeddingModel.builder()
+			.embeddingModel(this.delegate)
+			.maxWait(Duration.ZERO)
+			.build();
+
+		embeddingModel.embed("text-1");
+		embeddingModel.embed("text-1");
+
+		assertThat(this.delegate.requests).hasSize(1);
+	}
+
+	@Test
+	void callersGetTheirOwnCopyOfTheEmbedding() {
+		CoalescingEmbeddingModel embeddingModel = CoalescingEmbeddingModel.builder()
+			.embeddingModel(this.delegate)
+			.maxWait(Duration.ZERO)
+			.build();
+
+		float[] first = embeddingModel.embed("text-1");
+		first[0] = -1;
+
+		assertThat(embeddingModel.embed("text-1")).containsExactly(6, 1);
+		assertThat(this.delegate.requests).hasSize(1);
+	}
+
+	@Test
+	void failureIsPropagatedToEveryCaller() {
+		CoalescingEmbeddingModel embeddingModel = CoalescingEmbeddingModel.builder()
+			.embeddingModel(new RecordingEmbeddingModel() {
+
+				@Override
+				public EmbeddingResponse call(EmbeddingRequest request) {
+					throw new IllegalStateException("down");
+				}
+
+			})
+			.maxWait(Duration.ZERO)
+			.build();
+
+		assertThatThrownBy(() -> embeddingModel.embed("text-1")).isInstanceOf(IllegalStateException.class)
+			.hasMessage("down");
+	}
+
+	/**
+	 * Embeds each text as its length followed by its trailing digit.
+	 */
+	private static class RecordingEmbeddingModel implements EmbeddingModel {
+
+		final List<List<String>> requests = new CopyOnWriteArrayList<>();
+
+		@Override
+		public EmbeddingResponse call(EmbeddingRequest request) {
+			this.requests.add(request.getInstructions());
+			List<Embedding> embeddings = new ArrayList<>();
+			for (String text : request.getInstructions()) {
+				float digit = text.charAt(text.length() - 1) - '0';
+				embeddings.add(new Embedding(new float[] { text.length(), digit }, embeddings.size()));
+			}
+			return new EmbeddingResponse(embeddings);
+		}
+
+		@Override
+		public float[] embed(Document document) {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.embedding.cache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link CachingEmbeddingModel} and {@link FileEmbeddingStore}.
+ */
+class CachingEmbeddingModelTests {
+
+	@TempDir
+	Path tempDir;
+
+	private final RecordingEmbeddingModel delegate = new RecordingEmbeddingModel();
+
+	@Test
+	void onlyCacheMissesAreSentToDelegateAndOrderIsPreserved() {
+		CachingEmbeddingModel embeddingModel = CachingEmbeddingModel.builder().embeddingModel(this.delegate).build();
+		embeddingModel.embed(List.of("a", "bb"));
+
+		List<float[]> embeddings = embeddingModel.embed(List.of("ccc", "a", "ccc", "bb", "dddd"));
+
+		assertThat(embeddings).extracting(embedding -> embedding[0]).containsExactly(3f, 1f, 3f, 2f, 4f);
+		assertThat(this.delegate.requests).containsExactly(List.of("a", "bb"), List.of("ccc", "dddd"));
+	}
+
+	@Test
+	void fullyCachedRequestDoesNotCallDelegate() {
+		CachingEmbeddingModel embeddingModel = CachingEmbeddingModel.builder().embeddingModel(this.delegate).build();
+		embeddingModel.embed("a");
+
+		assertThat(embeddingModel.embed("a")).containsExactly(1f);
+		assertThat(this.delegate.requests).hasSize(1);
+	}
+
+	@Test
+	void differentOptionsUseDifferentEntries() {
+		CachingEmbeddingModel embeddingModel = CachingEmbeddingModel.builder().embeddingModel(this.delegate).build();
+
+		embeddingModel
+			.call(new EmbeddingRequest(List.of("a"), EmbeddingOptionsBuilder.builder().withModel("m1").build()));
+		embeddingModel
+			.call(new EmbeddingRequest(List.of("a"), EmbeddingOptionsBuilder.builder().withModel("m2").build()));
+		embeddingModel
+			.call(new EmbeddingRequest(List.of("a"), EmbeddingOptionsBuilder.builder().withModel("m1").build()));
+
+		assertThat(this.delegate.requests).hasSize(2);
+	}
+
+	@Test
+	void differentDimensionsUseDifferentEntries() {
+		CachingEmbeddingModel embeddingModel = CachingEmbeddingModel.builder().embeddingModel(this.delegate).build();
+
+		embeddingModel.embed("a");
+		embeddingModel
+			.call(new EmbeddingRequest(List.of("a"), EmbeddingOptionsBuilder.builder().withDimensions(256).build()));
+		embeddingModel.embed("a");
+
+		assertThat(this.delegate.requests).hasSize(2);
+	}
+
+	@Test
+	void documentsAreCached() {
+		CachingEmbeddingModel embeddingModel = CachingEmbeddingModel.builder().embeddingModel(this.delegate).build();
+		Document document = new Document("a");
+
+		assertThat(embeddingModel.embed(document)).containsExactly(1f);
+		embeddingModel.embed(document);
+
+		assertThat(this.delegate.documents).isEqualTo(1);
+	}
+
+	@Test
+	void dimensionsOfTheDelegateAreResolvedOnce() {
+		CachingEmbeddingModel embeddingModel = CachingEmbeddingModel.builder().embeddingModel(this.delegate).build();
+
+		embeddingModel.embed(List.of("a", "bb"));
+		embeddingModel.embed(new Document("a"));
+		embeddingModel.embed("ccc");
+
+		assertThat(embeddingModel.dimensions()).isEqualTo(1);
+		assertThat(this.delegate.dimensionsCalls).isEqualTo(1);
+	}
+
+	@Test
+	void fileStoreSurvivesReopening() throws IOException {
+		Path path = this.tempDir.resolve("embeddings.bin");
+		try (FileEmbeddingStore store = new FileEmbeddingStore(path)) {
+			CachingEmbeddingModel.builder()
+				.embeddingModel(this.delegate)
+				.store(store)
+				.build()
+				.embed(List.of("a", "bb"));
+		}
+
+		try (FileEmbeddingStore store = new FileEmbeddingStore(path)) {
+			CachingEmbeddingModel embeddingModel = CachingEmbeddingModel.builder()
+				.embeddingModel(this.delegate)
+				.store(store)
+				.build();
+
+			assertThat(embeddingModel.embed(List.of("bb", "a"))).extracting(embedding -> embedding[0])
+				.containsExactly(2f, 1f);
+			assertThat(this.delegate.requests).hasSize(1);
+		}
+	}
+
+	@Test
+	void fileStoreTruncatesIncompleteRecord() throws IOException {
+		Path path = this.tempDir.resolve("embeddings.bin");
+		try (FileEmbeddingStore store = new FileEmbeddingStore(path)) {
+			store.put("key", new float[] { 1f, 2f });
+		}
+		long size = Files.size(path);
+		Files.write(path, new byte[] { 0, 0, 0, 3, 'k' }, StandardOpenOption.APPEND);
+
+		try (FileEmbeddingStore store = new FileEmbeddingStore(path)) {
+			assertThat(store.size()).isEqualTo(1);
+			assertThat(store.get("key")).containsExactly(1f, 2f);
+			store.put("other", new float[] { 3f });
+		}
+
+		assertThat(Files.size(path)).isGreaterThan(size);
+		try (FileEmbeddingStore store = new FileEmbeddingStore(path)) {
+			assertThat(store.get("other")).containsExactly(3f);
+		}
+	}
+
+	/**
+	 * Embeds each text as its length.
+	 */
+	private static class RecordingEmbeddingModel implements EmbeddingModel {
+
+		final List<List<String>> requests = new ArrayList<>();
+
+		int documents;
+
+		int dimensionsCalls;
+
+		@Override
+		public EmbeddingResponse call(EmbeddingRequest request) {
+			this.requests.add(request.getInstructions());
+			List<Embedding> embeddings = new ArrayList<>();
+			for (String text : request.getInstructions()) {
+				embeddings.add(new Embedding(new float[] { text.length() }, embeddings.size()));
+			}
+			return new EmbeddingResponse(embeddings);
+		}
+
+		@Override
+		public float[] embed(Document document) {
+			this.documents++;
+			return new float[] { document.getText().length() };
+		}
+
+		@Override
+		public int dimensions() {
+			this.dimensionsCalls++;
+			return 1;
+		}
+
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.model.routing;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.model.routing.DelegateHealth.CircuitState;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link DelegateHealth}.
+ */
+class DelegateHealthTests {
+
+	private final AtomicLong clock = new AtomicLong();
+
+	private final DelegateHealth health = new DelegateHealth("test",
+			RoutingOptions.builder().failureThreshold(2).openDuration(Duration.ofSeconds(10)).build(), this.clock::get);
+
+	@Test
+	void circuitOpensAfterConsecutiveFailuresAndLetsOneProbeThroughWhenHalfOpen() {
+		fail();
+		assertThat(this.health.getCircuitState()).isEqualTo(CircuitState.CLOSED);
+		fail();
+		assertThat(this.health.getCircuitState()).isEqualTo(CircuitState.OPEN);
+		assertThat(this.health.isAvailable()).isFalse();
+
+		this.clock.addAndGet(Duration.ofSeconds(10).toNanos());
+		assertThat(this.health.getCircuitState()).isEqualTo(CircuitState.HALF_OPEN);
+		assertThat(this.health.isAvailable()).isTrue();
+
+		this.health.onStart();
+		assertThat(this.health.isAvailable()).isFalse();
+		this.health.onSuccess(1_000);
+		assertThat(this.health.getCircuitState()).isEqualTo(CircuitState.CLOSED);
+	}
+
+	@Test
+	void failedProbeReopensCircuit() {
+		fail();
+		fail();
+		this.clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+		fail();
+
+		assertThat(this.health.getCircuitState()).isEqualTo(CircuitState.OPEN);
+	}
+
+	@Test
+	void cancellationIsNeitherSuccessNorFailure() {
+		this.health.onStart();
+		this.health.onCancel();
+
+		assertThat(this.health.getErrorRate()).isZero();
+		assertThat(this.health.getLatencyEwma()).isZero();
+		assertThat(this.health.getInFlight()).isZero();
+	}
+
+	@Test
+	void latencyPercentileNeedsEnoughSamples() {
+		for (int i = 1; i <= 19; i++) {
+			this.health.onStart();
+			this.health.onSuccess(i);
+		}
+		assertThat(this.health.getLatencyPercentile(0.95)).isNull();
+
+		this.health.onStart();
+		this.health.onSuccess(20);
+
+		assertThat(this.health.getLatencyPercentile(0.95)).isEqualTo(Duration.ofNanos(19));
+	}
+
+	@Test
+	void scorePrefersFasterAndPenalizesErrors() {
+		DelegateHealth other = new DelegateHealth("other", RoutingOptions.defaults(), this.clock::get);
+		this.health.onStart();
+		this.health.onSuccess(100);
+		other.onStart();
+		other.onSuccess(100);
+
+		other.onStart();
+		other.onFailure();
+
+		assertThat(other.score()).isGreaterThan(this.health.score());
+	}
+
+	private void fail() {
+		this.health.onStart();
+		this.health.onFailure();
+	}
+
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.model.routing;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.model.routing.DelegateHealth.CircuitState;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link RoutingChatModel}.
+ */
+class RoutingChatModelTests {
+
+	private static final Prompt PROMPT = new Prompt("Hello");
+
+	@Test
+	void whenPrimaryFailsThenFailsOverToNextDelegate() {
+		AtomicInteger secondaryCalls = new AtomicInteger();
+		RoutingChatModel chatModel = RoutingChatModel.builder()
+			.delegate("primary", failing())
+			.delegate("secondary", prompt -> {
+				secondaryCalls.incrementAndGet();
+				return response("secondary");
+			})
+			.build();
+
+		assertThat(text(chatModel.call(PROMPT))).isEqualTo("secondary");
+		assertThat(secondaryCalls).hasValue(1);
+		assertThat(chatModel.getHealth("primary").getErrorRate()).isGreaterThan(0);
+	}
+
+	@Test
+	void whenAllAttemptsFailThenLastFailureIsThrownWithPreviousSuppressed() {
+		RoutingChatModel chatModel = RoutingChatModel.builder()
+			.delegate("primary", failing())
+			.delegate("secondary", failing())
+			.build();
+
+		assertThatThrownBy(() -> chatModel.call(PROMPT)).isInstanceOf(IllegalStateException.class)
+			.satisfies(ex -> assertThat(ex.getSuppressed()).hasSize(1));
+	}
+
+	@Test
+	void whenCircuitIsOpenThenDelegateIsNotUsedForFailover() {
+		AtomicInteger primaryCalls = new AtomicInteger();
+		AtomicInteger secondaryCalls = new AtomicInteger();
+		RoutingChatModel chatModel = RoutingChatModel.builder().delegate("primary", prompt -> {
+			primaryCalls.incrementAndGet();
+			throw new IllegalStateException("primary down");
+		}).delegate("secondary", prompt -> {
+			if (secondaryCalls.incrementAndGet() > 1) {
+				throw new IllegalStateException("secondary down");
+			}
+			return response("secondary");
+		}).options(RoutingOptions.builder().failureThreshold(1).openDuration(Duration.ofMinutes(1)).build()).build();
+
+		assertThat(text(chatModel.call(PROMPT))).isEqualTo("secondary");
+		assertThat(chatModel.getHealth("primary").getCircuitState()).isEqualTo(CircuitState.OPEN);
+
+		assertThatThrownBy(() -> chatModel.call(PROMPT)).hasMessage("secondary down");
+		assertThat(primaryCalls).hasValue(1);
+	}
+
+	@Test
+	void whenPrimaryIsSlowThenHedgedRequestWinsAndPrimaryIsCancelled() throws InterruptedException {
+		CountDownLatch primaryInterrupted = new CountDownLatch(1);
+		TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+		RoutingChatModel chatModel = RoutingChatModel.builder().delegate("primary", prompt -> {
+			try {
+				Thread.sleep(10_000);
+			}
+			catch (InterruptedException ex) {
+				primaryInterrupted.countDown();
+				throw new IllegalStateException(ex);
+			}
+			return response("primary");
+		})
+			.delegate("secondary", prompt -> response("secondary"))
+			.options(RoutingOptions.builder().hedging(true).hedgeDelay(Duration.ofMillis(50)).build())
+			.observationRegistry(observationRegistry)
+			.build();
+
+		assertThat(text(chatModel.call(PROMPT))).isEqualTo("secondary");
+		assertThat(primaryInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// the cancelled attempt settles on the executor thread
+		Awaitility.await()
+			.atMost(Duration.ofSeconds(5))
+			.untilAsserted(() -> TestObservationRegistryAssert.assertThat(observationRegistry)
+				.hasNumberOfObservationsWithNameEqualTo(ModelRouter.OBSERVATION_NAME, 2)
+				.hasAnObservationWithAKeyValue(ModelRouter.OUTCOME_KEY, "cancelled")
+				.hasAnObservationWithAKeyValue(ModelRouter.HEDGED_KEY, "true"));
+		DelegateHealth primary = chatModel.getHealth("primary");
+		assertThat(primary.getErrorRate()).isZero();
+		assertThat(primary.getCircuitState()).isEqualTo(CircuitState.CLOSED);
+	}
+
+	@Test
+	void whenStreamFailsBeforeFirstElementThenFailsOver() {
+		ChatModel primary = new ChatModel() {
+
+			@Override
+			public ChatResponse call(Prompt prompt) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public Flux<ChatResponse> stream(Prompt prompt) {
+				return Flux.error(new IllegalStateException("down"));
+			}
+
+		};
+		ChatModel secondary = new ChatModel() {
+
+			@Override
+			public ChatResponse call(Prompt prompt) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public Flux<ChatResponse> stream(Prompt prompt) {
+				return Flux.just(response("a"), response("b"));
+			}
+
+		};
+		RoutingChatModel chatModel = RoutingChatModel.builder()
+			.delegate("primary", primary)
+			.delegate("secondary", secondary)
+			.build();
+
+		List<String> texts = chatModel.stream(PROMPT).map(RoutingChatModelTests::text).collectList().block();
+
+		assertThat(texts).containsExactly("a", "b");
+	}
+
+	@Test
+	void whenStreamFailsAfterFirstElementThenErrorIsPropagated() {
+		ChatModel primary = new ChatModel() {
+
+			@Override
+			public ChatResponse call(Prompt prompt) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public Flux<ChatResponse> stream(Prompt prompt) {
+				return Flux.just(response("a")).concatWith(Flux.error(new IllegalStateException("down")));
+			}
+
+		};
+		RoutingChatModel chatModel = RoutingChatModel.builder()
+			.delegate("primary", primary)
+			.delegate("secondary", prompt -> response("secondary"))
+			.build();
+
+		assertThatThrownBy(() -> chatModel.stream(PROMPT).collectList().block())
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("down");
+	}
+
+	private static ChatModel failing() {
+		return prompt -> {
+			throw new IllegalStateException("down");
+		};
+	}
+
+	private static ChatResponse response(String text) {
+		return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+	}
+
+	private static String text(ChatResponse response) {
+		return response.getResult().getOutput().getText();
+	}
+
+}
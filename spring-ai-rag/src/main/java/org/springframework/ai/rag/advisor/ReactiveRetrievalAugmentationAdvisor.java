@@ -0,0 +1,385 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.rag.advisor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import org.springframework.ai.chat.client.ChatClientRequest;
+import org.springframework.ai.chat.client.ChatClientResponse;
+import org.springframework.ai.chat.client.advisor.AdvisorUtils;
+import org.springframework.ai.chat.client.advisor.api.AdvisedRequest;
+import org.springframework.ai.chat.client.advisor.api.AdvisedResponse;
+import org.springframework.ai.chat.client.advisor.api.AdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.BaseAdvisor;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.StreamAroundAdvisorChain;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.rag.Query;
+import org.springframework.ai.rag.generation.augmentation.ContextualQueryAugmenter;
+import org.springframework.ai.rag.generation.augmentation.QueryAugmenter;
+import org.springframework.ai.rag.preretrieval.query.expansion.ReactiveQueryExpander;
+import org.springframework.ai.rag.preretrieval.query.transformation.ReactiveQueryTransformer;
+import org.springframework.ai.rag.retrieval.join.ConcatenationDocumentJoiner;
+import org.springframework.ai.rag.retrieval.join.DocumentJoiner;
+import org.springframework.ai.rag.retrieval.search.ReactiveDocumentRetriever;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Non-blocking variant of the {@link RetrievalAugmentationAdvisor}, built on the reactive
+ * counterparts of the query transformers, the query expander and the document retrievers.
+ * When streaming, no thread is held while the queries are transformed and expanded and
+ * the documents retrieved, so that concurrent streaming requests do not each tie up a
+ * thread for the whole pre-retrieval phase.
+ * <p>
+ * The query transformers are chained, each transforming the query produced by the
+ * previous one. The documents of each expanded query are then retrieved from all the
+ * document retrievers concurrently, and the joiner receives one list of documents per
+ * retriever and query. Each retrieval is bounded by a timeout, either its own or the
+ * default one. By default, a retrieval that fails or times out contributes no documents
+ * instead of failing the request, so that a slow or unavailable data source degrades the
+ * context rather than the response.
+ * <p>
+ * Blocking components can be adapted with {@link ReactiveQueryTransformer#from},
+ * {@link ReactiveQueryExpander#from} and {@link ReactiveDocumentRetriever#from}.
+ *
+ * <p>
+ * Example usage: <pre>{@code
+ * ReactiveRetrievalAugmentationAdvisor advisor = ReactiveRetrievalAugmentationAdvisor.builder()
+ *     .queryExpander(ReactiveQueryExpander.from(multiQueryExpander))
+ *     .documentRetriever(ReactiveDocumentRetriever.from(vectorStoreRetriever), Duration.ofSeconds(2))
+ *     .documentRetriever(webSearchRetriever, Duration.ofSeconds(5))
+ *     .documentJoiner(ReciprocalRankFusionDocumentJoiner.builder().topK(5).build())
+ *     .build();
+ * }</pre>
+ *
+ * @since 1.0.0
+ * @see RetrievalAugmentationAdvisor
+ */
+public final class ReactiveRetrievalAugmentationAdvisor implements BaseAdvisor {
+
+	public static final String DOCUMENT_CONTEXT = RetrievalAugmentationAdvisor.DOCUMENT_CONTEXT;
+
+	public static final Duration DEFAULT_RETRIEVAL_TIMEOUT = Duration.ofSeconds(10);
+
+	private static final Logger logger = LoggerFactory.getLogger(ReactiveRetrievalAugmentationAdvisor.class);
+
+	private final List<ReactiveQueryTransformer> queryTransformers;
+
+	@Nullable
+	private final ReactiveQueryExpander queryExpander;
+
+	private final List<TimedRetriever> documentRetrievers;
+
+	private final DocumentJoiner documentJoiner;
+
+	private final QueryAugmenter queryAugmenter;
+
+	private final boolean allowPartialResults;
+
+	private final Scheduler scheduler;
+
+	private final int order;
+
+	private ReactiveRetrievalAugmentationAdvisor(@Nullable List<ReactiveQueryTransformer> queryTransformers,
+			@Nullable ReactiveQueryExpander queryExpander, List<TimedRetriever> documentRetrievers,
+			@Nullable Duration retrievalTimeout, @Nullable DocumentJoiner documentJoiner,
+			@Nullable QueryAugmenter queryAugmenter, boolean allowPartialResults, @Nullable Scheduler scheduler,
+			@Nullable Integer order) {
+		Assert.noNullElements(queryTransformers, "queryTransformers cannot contain null elements");
+		Assert.notEmpty(documentRetrievers, "documentRetrievers cannot be null or empty");
+		Assert.isTrue(retrievalTimeout == null || (!retrievalTimeout.isNegative() && !retrievalTimeout.isZero()),
+				"retrievalTimeout must be positive");
+		Duration defaultTimeout = retrievalTimeout != null ? retrievalTimeout : DEFAULT_RETRIEVAL_TIMEOUT;
+		this.queryTransformers = queryTransformers != null ? queryTransformers : List.of();
+		this.queryExpander = queryExpander;
+		this.documentRetrievers = documentRetrievers.stream()
+			.map(retriever -> retriever.timeout() != null ? retriever
+					: new TimedRetriever(retriever.retriever(), defaultTimeout))
+			.toList();
+		this.documentJoiner = documentJoiner != null ? documentJoiner : new ConcatenationDocumentJoiner();
+		this.queryAugmenter = queryAugmenter != null ? queryAugmenter : ContextualQueryAugmenter.builder().build();
+		this.allowPartialResults = allowPartialResults;
+		this.scheduler = scheduler != null ? scheduler : BaseAdvisor.DEFAULT_SCHEDULER;
+		this.order = order != null ? order : 0;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Augments the request with the documents retrieved for its user message, without
+	 * blocking.
+	 * @param chatClientRequest the request to augment
+	 * @return the augmented request
+	 */
+	public Mono<ChatClientRequest> augment(ChatClientRequest chatClientRequest) {
+		Assert.notNull(chatClientRequest, "chatClientRequest cannot be null");
+		Map<String, Object> context = new HashMap<>(chatClientRequest.context());
+
+		// 0. Create a query from the user text, parameters, and conversation history.
+		Query originalQuery = Query.builder()
+			.text(chatClientRequest.prompt().getUserMessage().getText())
+			.history(chatClientRequest.prompt().getInstructions())
+			.context(context)
+			.build();
+
+		// 1. Transform original user query based on a chain of query transformers.
+		Mono<Query> transformedQuery = Mono.just(originalQuery);
+		for (var queryTransformer : this.queryTransformers) {
+			transformedQuery = transformedQuery.flatMap(queryTransformer::transform);
+		}
+
+		return transformedQuery
+			// 2. Expand query into one or multiple queries.
+			.flatMap(query -> this.queryExpander != null ? this.queryExpander.expand(query) : Mono.just(List.of(query)))
+			// 3. Get documents for each query from each retriever, concurrently.
+			.flatMap(this::retrieveDocuments)
+			.map(documentsForQuery -> {
+				// 4. Combine documents retrieved based on multiple queries and from
+				// multiple data sources.
+				List<Document> documents = this.documentJoiner.join(documentsForQuery);
+				context.put(DOCUMENT_CONTEXT, documents);
+
+				// 5. Augment user query with the document contextual data.
+				Query augmentedQuery = this.queryAugmenter.augment(originalQuery, documents);
+
+				// 6. Update ChatClientRequest with augmented prompt.
+				return chatClientRequest.mutate()
+					.prompt(chatClientRequest.prompt().augmentUserMessage(augmentedQuery.text()))
+					.context(context)
+					.build();
+			});
+	}
+
+	private Mono<Map<Query, List<List<Document>>>> retrieveDocuments(List<Query> expandedQueries) {
+		return Flux.fromIterable(expandedQueries)
+			.flatMapSequential(query -> Flux.fromIterable(this.documentRetrievers)
+				.flatMapSequential(retriever -> retrieve(retriever, query))
+				.collectList()
+				.map(documentLists -> Map.entry(query, documentLists)))
+			.collect(LinkedHashMap::new,
+					(documentsForQuery, entry) -> documentsForQuery
+						.computeIfAbsent(entry.getKey(), query -> new ArrayList<>())
+						.addAll(entry.getValue()));
+	}
+
+	private Mono<List<Document>> retrieve(TimedRetriever timedRetriever, Query query) {
+		Mono<List<Document>> documents = timedRetriever.retriever()
+			.retrieve(query)
+			.timeout(timedRetriever.timeout())
+			.defaultIfEmpty(List.of());
+		if (!this.allowPartialResults) {
+			return documents;
+		}
+		return documents.onErrorResume(ex -> {
+			logger.warn("Document retrieval failed for query '{}', continuing without its documents", query.text(), ex);
+			return Mono.just(List.of());
+		});
+	}
+
+	/**
+	 * @deprecated in favour of {@link #before(ChatClientRequest, AdvisorChain)}
+	 */
+	@Override
+	@Deprecated
+	public AdvisedRequest before(AdvisedRequest advisedRequest) {
+		ChatClientRequest chatClientRequest = advisedRequest.toChatClientRequest();
+		return AdvisedRequest.from(before(chatClientRequest, null));
+	}
+
+	@Override
+	public ChatClientRequest before(ChatClientRequest chatClientRequest, @Nullable AdvisorChain advisorChain) {
+		return augment(chatClientRequest).block();
+	}
+
+	@Override
+	public Flux<ChatClientResponse> adviseStream(ChatClientRequest chatClientRequest, StreamAroundAdvisorChain chain) {
+		Assert.notNull(chatClientRequest, "chatClientRequest cannot be null");
+		Assert.notNull(chain, "chain cannot be null");
+		if (!(chain instanceof StreamAdvisorChain streamAdvisorChain)) {
+			return BaseAdvisor.super.adviseStream(chatClientRequest, chain);
+		}
+
+		return augment(chatClientRequest).flatMapMany(streamAdvisorChain::nextStream).map(response -> {
+			if (AdvisorUtils.onFinishReason().test(response)) {
+				response = after(response, chain);
+			}
+			return response;
+		}).onErrorResume(error -> Flux.error(new IllegalStateException("Stream processing failed", error)));
+	}
+
+	/**
+	 * @deprecated in favour of {@link #after(ChatClientResponse, AdvisorChain)}
+	 */
+	@Override
+	@Deprecated
+	public AdvisedResponse after(AdvisedResponse advisedResponse) {
+		ChatClientResponse chatClientResponse = advisedResponse.toChatClientResponse();
+		return AdvisedResponse.from(after(chatClientResponse, null));
+	}
+
+	@Override
+	public ChatClientResponse after(ChatClientResponse chatClientResponse, @Nullable AdvisorChain advisorChain) {
+		ChatResponse.Builder chatResponseBuilder;
+		if (chatClientResponse.chatResponse() == null) {
+			chatResponseBuilder = ChatResponse.builder();
+		}
+		else {
+			chatResponseBuilder = ChatResponse.builder().from(chatClientResponse.chatResponse());
+		}
+		chatResponseBuilder.metadata(DOCUMENT_CONTEXT, chatClientResponse.context().get(DOCUMENT_CONTEXT));
+		return ChatClientResponse.builder()
+			.chatResponse(chatResponseBuilder.build())
+			.context(chatClientResponse.context())
+			.build();
+	}
+
+	@Override
+	public Scheduler getScheduler() {
+		return this.scheduler;
+	}
+
+	@Override
+	public int getOrder() {
+		return this.order;
+	}
+
+	private record TimedRetriever(ReactiveDocumentRetriever retriever, @Nullable Duration timeout) {
+
+		private TimedRetriever {
+			Assert.notNull(retriever, "documentRetriever cannot be null");
+			Assert.isTrue(timeout == null || (!timeout.isNegative() && !timeout.isZero()), "timeout must be positive");
+		}
+
+	}
+
+	public static final class Builder {
+
+		private List<ReactiveQueryTransformer> queryTransformers;
+
+		private ReactiveQueryExpander queryExpander;
+
+		private final List<TimedRetriever> documentRetrievers = new ArrayList<>();
+
+		private Duration retrievalTimeout;
+
+		private DocumentJoiner documentJoiner;
+
+		private QueryAugmenter queryAugmenter;
+
+		private boolean allowPartialResults = true;
+
+		private Scheduler scheduler;
+
+		private Integer order;
+
+		private Builder() {
+		}
+
+		public Builder queryTransformers(List<ReactiveQueryTransformer> queryTransformers) {
+			this.queryTransformers = queryTransformers;
+			return this;
+		}
+
+		public Builder queryTransformers(ReactiveQueryTransformer... queryTransformers) {
+			this.queryTransformers = Arrays.asList(queryTransformers);
+			return this;
+		}
+
+		public Builder queryExpander(ReactiveQueryExpander queryExpander) {
+			this.queryExpander = queryExpander;
+			return this;
+		}
+
+		/**
+		 * Adds a document retriever, bounded by the default retrieval timeout.
+		 */
+		public Builder documentRetriever(ReactiveDocumentRetriever documentRetriever) {
+			this.documentRetrievers.add(new TimedRetriever(documentRetriever, null));
+			return this;
+		}
+
+		/**
+		 * Adds a document retriever, bounded by its own timeout.
+		 */
+		public Builder documentRetriever(ReactiveDocumentRetriever documentRetriever, Duration timeout) {
+			Assert.notNull(timeout, "timeout cannot be null");
+			this.documentRetrievers.add(new TimedRetriever(documentRetriever, timeout));
+			return this;
+		}
+
+		/**
+		 * Timeout of the retrievers added without their own. Defaults to 10 seconds.
+		 */
+		public Builder retrievalTimeout(Duration retrievalTimeout) {
+			this.retrievalTimeout = retrievalTimeout;
+			return this;
+		}
+
+		public Builder documentJoiner(DocumentJoiner documentJoiner) {
+			this.documentJoiner = documentJoiner;
+			return this;
+		}
+
+		public Builder queryAugmenter(QueryAugmenter queryAugmenter) {
+			this.queryAugmenter = queryAugmenter;
+			return this;
+		}
+
+		/**
+		 * Whether a retrieval that fails or times out contributes no documents, rather
+		 * than failing the request. Defaults to {@code true}.
+		 */
+		public Builder allowPartialResults(boolean allowPartialResults) {
+			this.allowPartialResults = allowPartialResults;
+			return this;
+		}
+
+		public Builder scheduler(Scheduler scheduler) {
+			this.scheduler = scheduler;
+			return this;
+		}
+
+		public Builder order(Integer order) {
+			this.order = order;
+			return this;
+		}
+
+		public ReactiveRetrievalAugmentationAdvisor build() {
+			return new ReactiveRetrievalAugmentationAdvisor(this.queryTransformers, this.queryExpander,
+					this.documentRetrievers, this.retrievalTimeout, this.documentJoiner, this.queryAugmenter,
+					this.allowPartialResults, this.scheduler, this.order);
+		}
+
+	}
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.rag.preretrieval.query.expansion;
+
+import java.util.List;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.ai.rag.Query;
+import org.springframework.util.Assert;
+
+/**
+ * Non-blocking counterpart of {@link QueryExpander}, for expanders calling remote
+ * services, such as a chat model, without holding a thread while waiting for them.
+ *
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ReactiveQueryExpander {
+
+	/**
+	 * Expands the given query into a list of queries.
+	 * @param query The original query to be expanded
+	 * @return A list of expanded queries
+	 */
+	Mono<List<Query>> expand(Query query);
+
+	/**
+	 * Adapts a blocking {@link QueryExpander}, running it on the bounded elastic
+	 * scheduler.
+	 */
+	static ReactiveQueryExpander from(QueryExpander queryExpander) {
+		return from(queryExpander, Schedulers.boundedElastic());
+	}
+
+	/**
+	 * Adapts a blocking {@link QueryExpander}, running it on the given scheduler.
+	 */
+	static ReactiveQueryExpander from(QueryExpander queryExpander, Scheduler scheduler) {
+		Assert.notNull(queryExpander, "queryExpander cannot be null");
+		Assert.notNull(scheduler, "scheduler cannot be null");
+		return query -> Mono.fromCallable(() -> queryExpander.expand(query)).subscribeOn(scheduler);
+	}
+
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.rag.retrieval.join;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.rag.Query;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Combines documents retrieved based on multiple queries and from multiple data sources
+ * with reciprocal rank fusion (RRF). Each list of retrieved documents contributes
+ * {@code 1 / (k + rank)} to the score of each of its documents, so that the documents
+ * ranked high by several queries come first, whatever the scale of the scores of the
+ * underlying retrievers. Only the top K fused documents are kept, so that the context
+ * given to the model does not grow with the number of queries.
+ * <p>
+ * Documents with the same id, or with the same text once case and whitespace are
+ * normalized, are fused into the first one retrieved. Optionally, near-duplicates can be
+ * suppressed as well: a document whose text is estimated, with MinHash signatures of its
+ * word shingles, to be at least as similar as the given threshold to a better ranked
+ * document is dropped.
+ * <p>
+ * The fused score is set as the score of each document. When normalized, it is divided by
+ * the score of a document ranked first in every list, so that it ranges from 0 to 1.
+ * <p>
+ * The joiner is stateless and can be shared by concurrent callers. The signatures of
+ * large candidate sets are computed in parallel.
+ *
+ * <p>
+ * Example usage: <pre>{@code
+ * DocumentJoiner documentJoiner = ReciprocalRankFusionDocumentJoiner.builder()
+ *     .topK(5)
+ *     .nearDuplicateThreshold(0.8)
+ *     .build();
+ * List<Document> documents = documentJoiner.join(documentsForQuery);
+ * }</pre>
+ *
+ * @since 1.0.0
+ * @see <a href="https://plg.uwaterloo.ca/~gvcormac/cormacksigir09-rrf.pdf">Reciprocal
+ * Rank Fusion outperforms Condorcet and individual Rank Learning Methods</a>
+ */
+public final class ReciprocalRankFusionDocumentJoiner implements DocumentJoiner {
+
+	public static final int DEFAULT_RANK_CONSTANT = 60;
+
+	private static final Logger logger = LoggerFactory.getLogger(ReciprocalRankFusionDocumentJoiner.class);
+
+	private static final int SHINGLE_SIZE = 3;
+
+	private static final int SIGNATURE_SIZE = 64;
+
+	private static final int PARALLEL_THRESHOLD = 256;
+
+	private static final long[] SIGNATURE_SEEDS = new SplittableRandom(31).longs(SIGNATURE_SIZE).toArray();
+
+	private final int rankConstant;
+
+	@Nullable
+	private final Integer topK;
+
+	private final boolean normalizeScores;
+
+	@Nullable
+	private final Double nearDuplicateThreshold;
+
+	public ReciprocalRankFusionDocumentJoiner(int rankConstant, @Nullable Integer topK, boolean normalizeScores,
+			@Nullable Double nearDuplicateThreshold) {
+		Assert.isTrue(rankConstant >= 0, "rankConstant must be equal to or greater than 0");
+		Assert.isTrue(topK == null || topK > 0, "topK must be greater than 0");
+		Assert.isTrue(nearDuplicateThreshold == null || (nearDuplicateThreshold > 0.0 && nearDuplicateThreshold <= 1.0),
+				"nearDuplicateThreshold must be greater than 0.0 and at most 1.0");
+		this.rankConstant = rankConstant;
+		this.topK = topK;
+		this.normalizeScores = normalizeScores;
+		this.nearDuplicateThreshold = nearDuplicateThreshold;
+	}
+
+	@Override
+	public List<Document> join(Map<Query, List<List<Document>>> documentsForQuery) {
+		Assert.notNull(documentsForQuery, "documentsForQuery cannot be null");
+		Assert.noNullElements(documentsForQuery.keySet(), "documentsForQuery cannot contain null keys");
+		Assert.noNullElements(documentsForQuery.values(), "documentsForQuery cannot contain null values");
+
+		logger.debug("Joining documents by reciprocal rank fusion");
+
+		List<Candidate> candidates = new ArrayList<>();
+		Map<String, Candidate> candidatesById = new HashMap<>();
+		Map<String, Candidate> candidatesByText = new HashMap<>();
+		int lists = 0;
+		for (List<List<Document>> documentLists : documentsForQuery.values()) {
+			for (List<Document> documents : documentLists) {
+				lists++;
+				Set<Candidate> fusedInList = new HashSet<>();
+				for (int rank = 1; rank <= documents.size(); rank++) {
+					Document document = documents.get(rank - 1);
+					Candidate candidate = candidatesById.get(document.getId());
+					String text = document.isText() ? normalize(document.getText()) : null;
+					if (candidate == null && text != null) {
+						candidate = candidatesByText.get(text);
+					}
+					if (candidate == null) {
+						candidate = new Candidate(document, text);
+						candidates.add(candidate);
+					}
+					candidatesById.putIfAbsent(document.getId(), candidate);
+					if (text != null) {
+						candidatesByText.putIfAbsent(text, candidate);
+					}
+					// a document counts once per list, at its best rank
+					if (fusedInList.add(candidate)) {
+						candidate.score += 1.0 / (this.rankConstant + rank);
+					}
+				}
+			}
+		}
+
+		candidates.sort(Comparator.comparingDouble((Candidate candidate) -> candidate.score).reversed());
+		List<Candidate> selected = (this.nearDuplicateThreshold != null) ? suppressNearDuplicates(candidates)
+				: candidates.subList(0, limit(candidates.size()));
+
+		double maxScore = lists / (this.rankConstant + 1.0);
+		List<Document> joined = new ArrayList<>(selected.size());
+		for (Candidate candidate : selected) {
+			double score = this.normalizeScores ? candidate.score / maxScore : candidate.score;
+			joined.add(candidate.document.mutate().score(score).build());
+		}
+		return joined;
+	}
+
+	private List<Candidate> suppressNearDuplicates(List<Candidate> candidates) {
+		IntStream indexes = IntStream.range(0, candidates.size());
+		if (candidates.size() >= PARALLEL_THRESHOLD) {
+			indexes = indexes.parallel();
+		}
+		indexes.forEach(i -> candidates.get(i).computeSignature());
+
+		List<Candidate> kept = new ArrayList<>();
+		int limit = limit(candidates.size());
+		for (Candidate candidate : candidates) {
+			if (kept.size() == limit) {
+				break;
+			}
+			if (kept.stream().noneMatch(better -> better.similarity(candidate) >= this.nearDuplicateThreshold)) {
+				kept.add(candidate);
+			}
+		}
+		return kept;
+	}
+
+	private int limit(int size) {
+		return (this.topK != null) ? Math.min(this.topK, size) : size;
+	}
+
+	private static String normalize(String text) {
+		return text.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * A fused document, with its score summed over the lists retrieving it.
+	 */
+	private static final class Candidate {
+
+		private final Document document;
+
+		@Nullable
+		private final String text;
+
+		private double score;
+
+		@Nullable
+		private long[] signature;
+
+		private Candidate(Document document, @Nullable String text) {
+			this.document = document;
+			this.text = text;
+		}
+
+		/**
+		 * Computes the MinHash signature of the word shingles of the text: for each seed,
+		 * the minimum of the shingle hashes mixed with it.
+		 */
+		private void computeSignature() {
+			if (this.text == null) {
+				return;
+			}
+			long[] minHashes = new long[SIGNATURE_SIZE];
+			Arrays.fill(minHashes, Long.MAX_VALUE);
+			String[] words = this.text.split(" ");
+			int shingles = Math.max(1, words.length - SHINGLE_SIZE + 1);
+			for (int i = 0; i < shingles; i++) {
+				long shingleHash = String
+					.join(" ", Arrays.asList(words).subList(i, Math.min(words.length, i + SHINGLE_SIZE)))
+					.hashCode();
+				for (int j = 0; j < SIGNATURE_SIZE; j++) {
+					minHashes[j] = Math.min(minHashes[j], mix(shingleHash ^ SIGNATURE_SEEDS[j]));
+				}
+			}
+			this.signature = minHashes;
+		}
+
+		/**
+		 * Estimates the Jaccard similarity of the shingles of two documents as the share
+		 * of their signatures that match.
+		 */
+		private double similarity(Candidate other) {
+			if (this.signature == null || other.signature == null) {
+				return 0.0;
+			}
+			int matches = 0;
+			for (int i = 0; i < SIGNATURE_SIZE; i++) {
+				if (this.signature[i] == other.signature[i]) {
+					matches++;
+				}
+			}
+			return (double) matches / SIGNATURE_SIZE;
+		}
+
+		// finalizer of MurmurHash3, spreading the bits of the hash
+		private static long mix(long hash) {
+			long mixed = hash;
+			mixed ^= mixed >>> 33;
+			mixed *= 0xff51afd7ed558ccdL;
+			mixed ^= mixed >>> 33;
+			mixed *= 0xc4ceb9fe1a85ec53L;
+			mixed ^= mixed >>> 33;
+			return mixed;
+		}
+
+	}
+
+	/**
+	 * Builder for {@link ReciprocalRankFusionDocumentJoiner}.
+	 */
+	public static final class Builder {
+
+		private int rankConstant = DEFAULT_RANK_CONSTANT;
+
+		private Integer topK;
+
+		private boolean normalizeScores = true;
+
+		private Double nearDuplicateThreshold;
+
+		private Builder() {
+		}
+
+		/**
+		 * The constant k added to the ranks, dampening the weight of the top ranks.
+		 * Defaults to 60.
+		 */
+		public Builder rankConstant(int rankConstant) {
+			this.rankConstant = rankConstant;
+			return this;
+		}
+
+		/**
+		 * The number of fused documents to keep. Defaults to all.
+		 */
+		public Builder topK(Integer topK) {
+			this.topK = topK;
+			return this;
+		}
+
+		/**
+		 * Whether to scale the fused scores from 0 to 1. Defaults to {@code true}.
+		 */
+		public Builder normalizeScores(boolean normalizeScores) {
+			this.normalizeScores = normalizeScores;
+			return this;
+		}
+
+		/**
+		 * The estimated similarity, from 0 to 1, above which a document is suppressed as
+		 * a near-duplicate of a better ranked one. Disabled by default.
+		 */
+		public Builder nearDuplicateThreshold(Double nearDuplicateThreshold) {
+			this.nearDuplicateThreshold = nearDuplicateThreshold;
+			return this;
+		}
+
+		public ReciprocalRankFusionDocumentJoiner build() {
+			return new ReciprocalRankFusionDocumentJoiner(this.rankConstant, this.topK, this.normalizeScores,
+					this.nearDuplicateThreshold);
+		}
+
+	}
+
+}
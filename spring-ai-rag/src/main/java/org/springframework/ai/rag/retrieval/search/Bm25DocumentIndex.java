@@ -0,0 +1,409 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.rag.retrieval.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.document.DocumentWriter;
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.ai.vectorstore.filter.converter.SimpleVectorStoreFilterExpressionConverter;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * An in-process inverted index ranking documents by their BM25 score for the terms of a
+ * query. It complements dense similarity search with exact-term matching, so that queries
+ * for product codes, error identifiers or rare names find the documents containing them.
+ * <p>
+ * Documents are indexed through the {@link DocumentWriter} contract, so that the index
+ * can be fed by the same ETL pipeline as a vector store. Writing a document with the id
+ * of an indexed document replaces it, and documents can be removed with
+ * {@link #delete(Collection)}. Terms are sequences of letters and digits, optionally
+ * joined by {@code -}, {@code _} or {@code .}, so that identifiers such as
+ * {@code ERR-4012} are kept whole; they are matched case-insensitively.
+ * <p>
+ * The posting list of each term is kept in primitive arrays of document ordinals and term
+ * frequencies. Replaced and deleted documents are skipped when searching and purged from
+ * the posting lists once they make up half of the index. The index is thread-safe:
+ * searches run concurrently, while writes are exclusive.
+ *
+ * <p>
+ * Example usage: <pre>{@code
+ * Bm25DocumentIndex index = Bm25DocumentIndex.builder().build();
+ * index.write(documents);
+ * List<Document> results = index.search("ERR-4012", 5);
+ * }</pre>
+ *
+ * @since 1.0.0
+ * @see <a href="https://en.wikipedia.org/wiki/Okapi_BM25">Okapi BM25</a>
+ */
+public final class Bm25DocumentIndex implements DocumentWriter {
+
+	public static final double DEFAULT_K1 = 1.2;
+
+	public static final double DEFAULT_B = 0.75;
+
+	private static final Pattern TERM_PATTERN = Pattern.compile("[\\p{L}\\p{N}]+(?:[-_.][\\p{L}\\p{N}]+)*");
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final double k1;
+
+	private final double b;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final Map<String, Postings> postingsByTerm = new HashMap<>();
+
+	private final Map<String, Integer> ordinalsById = new HashMap<>();
+
+	private final SpelExpressionParser expressionParser = new SpelExpressionParser();
+
+	private final SimpleVectorStoreFilterExpressionConverter filterExpressionConverter = new SimpleVectorStoreFilterExpressionConverter();
+
+	// documents and their lengths in terms, by ordinal; null once replaced or deleted
+	private Document[] documents = new Document[INITIAL_CAPACITY];
+
+	private int[] lengths = new int[INITIAL_CAPACITY];
+
+	private int ordinals;
+
+	private int liveDocuments;
+
+	private long totalLength;
+
+	public Bm25DocumentIndex(double k1, double b) {
+		Assert.isTrue(k1 >= 0.0, "k1 must be equal to or greater than 0.0");
+		Assert.isTrue(b >= 0.0 && b <= 1.0, "b must be between 0.0 and 1.0");
+		this.k1 = k1;
+		this.b = b;
+	}
+
+	/**
+	 * Indexes the given documents, replacing the indexed documents with the same ids.
+	 * Documents without text are not indexed.
+	 */
+	@Override
+	public void accept(List<Document> documents) {
+		Assert.notNull(documents, "documents cannot be null");
+		Assert.noNullElements(documents, "documents cannot contain null elements");
+
+		// tokenize outside of the lock, so that searches are not held up
+		List<Map<String, Integer>> termFrequencies = new ArrayList<>(documents.size());
+		for (Document document : documents) {
+			termFrequencies.add(document.isText() ? termFrequencies(document.getText()) : Map.of());
+		}
+
+		this.lock.writeLock().lock();
+		try {
+			for (int i = 0; i < documents.size(); i++) {
+				Document document = documents.get(i);
+				remove(document.getId());
+				if (document.isText()) {
+					add(document, termFrequencies.get(i));
+				}
+			}
+			purgeIfNeeded();
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Removes the documents with the given ids from the index.
+	 */
+	public void delete(Collection<String> idList) {
+		Assert.notNull(idList, "idList cannot be null");
+		this.lock.writeLock().lock();
+		try {
+			idList.forEach(this::remove);
+			purgeIfNeeded();
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of documents in the index.
+	 */
+	public int size() {
+		this.lock.readLock().lock();
+		try {
+			return this.liveDocuments;
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	public List<Document> search(String query, int topK) {
+		return search(query, topK, null);
+	}
+
+	/**
+	 * Returns the top K documents matching at least one term of the query and the filter
+	 * expression, if any, by decreasing BM25 score. The score is set as the score of each
+	 * returned document.
+	 */
+	public List<Document> search(String query, int topK, @Nullable Filter.Expression filterExpression) {
+		Assert.notNull(query, "query cannot be null");
+		Assert.isTrue(topK > 0, "topK must be greater than 0");
+		Predicate<Document> filter = filterPredicate(filterExpression);
+		List<String> terms = new ArrayList<>(termFrequencies(query).keySet());
+
+		this.lock.readLock().lock();
+		try {
+			if (this.liveDocuments == 0 || terms.isEmpty()) {
+				return List.of();
+			}
+			double averageLength = (double) this.totalLength / this.liveDocuments;
+			double[] scores = new double[this.ordinals];
+			int[] matched = new int[INITIAL_CAPACITY];
+			int matches = 0;
+			for (String term : terms) {
+				Postings postings = this.postingsByTerm.get(term);
+				if (postings == null) {
+					continue;
+				}
+				double idf = Math
+					.log(1.0 + (this.liveDocuments - postings.liveCount + 0.5) / (postings.liveCount + 0.5));
+				for (int i = 0; i < postings.size; i++) {
+					int ordinal = postings.ordinals[i];
+					if (this.documents[ordinal] == null) {
+						continue;
+					}
+					int frequency = postings.frequencies[i];
+					double norm = this.k1 * (1.0 - this.b + this.b * this.lengths[ordinal] / averageLength);
+					if (scores[ordinal] == 0.0) {
+						if (matches == matched.length) {
+							matched = Arrays.copyOf(matched, matches * 2);
+						}
+						matched[matches++] = ordinal;
+					}
+					scores[ordinal] += idf * frequency * (this.k1 + 1.0) / (frequency + norm);
+				}
+			}
+
+			// min-heap of the best ordinals seen so far
+			PriorityQueue<Integer> best = new PriorityQueue<>(
+					(left, right) -> Double.compare(scores[left], scores[right]));
+			for (int i = 0; i < matches; i++) {
+				int ordinal = matched[i];
+				if (!filter.test(this.documents[ordinal])) {
+					continue;
+				}
+				if (best.size() < topK) {
+					best.add(ordinal);
+				}
+				else if (scores[ordinal] > scores[best.peek()]) {
+					best.poll();
+					best.add(ordinal);
+				}
+			}
+
+			Document[] results = new Document[best.size()];
+			for (int i = results.length - 1; i >= 0; i--) {
+				int ordinal = best.poll();
+				results[i] = this.documents[ordinal].mutate().score(scores[ordinal]).build();
+			}
+			return List.of(results);
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	private void add(Document document, Map<String, Integer> termFrequencies) {
+		int ordinal = this.ordinals++;
+		if (ordinal == this.documents.length) {
+			this.documents = Arrays.copyOf(this.documents, ordinal * 2);
+			this.lengths = Arrays.copyOf(this.lengths, ordinal * 2);
+		}
+		int length = 0;
+		for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+			this.postingsByTerm.computeIfAbsent(entry.getKey(), term -> new Postings()).add(ordinal, entry.getValue());
+			length += entry.getValue();
+		}
+		this.documents[ordinal] = document;
+		this.lengths[ordinal] = length;
+		this.ordinalsById.put(document.getId(), ordinal);
+		this.liveDocuments++;
+		this.totalLength += length;
+	}
+
+	private void remove(String id) {
+		Integer ordinal = this.ordinalsById.remove(id);
+		if (ordinal == null) {
+			return;
+		}
+		for (String term : termFrequencies(this.documents[ordinal].getText()).keySet()) {
+			this.postingsByTerm.get(term).liveCount--;
+		}
+		this.documents[ordinal] = null;
+		this.liveDocuments--;
+		this.totalLength -= this.lengths[ordinal];
+	}
+
+	/**
+	 * Renumbers the live documents and drops the postings of the others once they make up
+	 * half of the index.
+	 */
+	private void purgeIfNeeded() {
+		int removed = this.ordinals - this.liveDocuments;
+		if (removed < INITIAL_CAPACITY || removed < this.liveDocuments) {
+			return;
+		}
+		int[] renumbered = new int[this.ordinals];
+		int next = 0;
+		for (int ordinal = 0; ordinal < this.ordinals; ordinal++) {
+			Document document = this.documents[ordinal];
+			renumbered[ordinal] = (document != null) ? next : -1;
+			if (document != null) {
+				this.documents[next] = document;
+				this.lengths[next] = this.lengths[ordinal];
+				this.ordinalsById.put(document.getId(), next);
+				next++;
+			}
+		}
+		Arrays.fill(this.documents, next, this.ordinals, null);
+		this.ordinals = next;
+		this.postingsByTerm.values().removeIf(postings -> postings.renumber(renumbered) == 0);
+	}
+
+	private Predicate<Document> filterPredicate(@Nullable Filter.Expression filterExpression) {
+		if (filterExpression == null) {
+			return document -> true;
+		}
+		Expression expression = this.expressionParser
+			.parseExpression(this.filterExpressionConverter.convertExpression(filterExpression));
+		return document -> {
+			StandardEvaluationContext context = new StandardEvaluationContext();
+			context.setVariable("metadata", document.getMetadata());
+			return Boolean.TRUE.equals(expression.getValue(context, Boolean.class));
+		};
+	}
+
+	private static Map<String, Integer> termFrequencies(String text) {
+		Map<String, Integer> frequencies = new LinkedHashMap<>();
+		Matcher matcher = TERM_PATTERN.matcher(text);
+		while (matcher.find()) {
+			frequencies.merge(matcher.group().toLowerCase(Locale.ROOT), 1, Integer::sum);
+		}
+		return frequencies;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * The documents containing a term, as parallel arrays of ordinals and term
+	 * frequencies in increasing order of ordinals.
+	 */
+	private static final class Postings {
+
+		private int[] ordinals = new int[4];
+
+		private int[] frequencies = new int[4];
+
+		private int size;
+
+		// the number of postings of documents that are neither replaced nor deleted
+		private int liveCount;
+
+		private void add(int ordinal, int frequency) {
+			if (this.size == this.ordinals.length) {
+				this.ordinals = Arrays.copyOf(this.ordinals, this.size * 2);
+				this.frequencies = Arrays.copyOf(this.frequencies, this.size * 2);
+			}
+			this.ordinals[this.size] = ordinal;
+			this.frequencies[this.size] = frequency;
+			this.size++;
+			this.liveCount++;
+		}
+
+		private int renumber(int[] renumbered) {
+			int kept = 0;
+			for (int i = 0; i < this.size; i++) {
+				int ordinal = renumbered[this.ordinals[i]];
+				if (ordinal >= 0) {
+					this.ordinals[kept] = ordinal;
+					this.frequencies[kept] = this.frequencies[i];
+					kept++;
+				}
+			}
+			this.size = kept;
+			return kept;
+		}
+
+	}
+
+	/**
+	 * Builder for {@link Bm25DocumentIndex}.
+	 */
+	public static final class Builder {
+
+		private double k1 = DEFAULT_K1;
+
+		private double b = DEFAULT_B;
+
+		private Builder() {
+		}
+
+		/**
+		 * The saturation of the term frequencies. Defaults to 1.2.
+		 */
+		public Builder k1(double k1) {
+			this.k1 = k1;
+			return this;
+		}
+
+		/**
+		 * The weight, from 0 to 1, of the normalization of the term frequencies by the
+		 * document length. Defaults to 0.75.
+		 */
+		public Builder b(double b) {
+			this.b = b;
+			return this;
+		}
+
+		public Bm25DocumentIndex build() {
+			return new Bm25DocumentIndex(this.k1, this.b);
+		}
+
+	}
+
+}
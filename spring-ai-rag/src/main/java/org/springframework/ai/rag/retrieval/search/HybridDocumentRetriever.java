@@ -0,0 +1,266 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.rag.retrieval.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.rag.Query;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.ai.vectorstore.filter.FilterExpressionTextParser;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Retrieves documents by combining the dense similarity search of a vector store with the
+ * lexical search of a {@link Bm25DocumentIndex}. The vector store is searched
+ * asynchronously while the index is searched in memory. The scores of each side are
+ * divided by their best score, then combined by a weighted sum, so that documents
+ * matching the exact terms of the query, such as product codes or error identifiers, are
+ * found without over-fetching from the vector store.
+ * <p>
+ * Documents are matched across both sides by id, so the index should be fed the same
+ * documents as the vector store, for example by writing them to both in the ETL pipeline.
+ * The filter expression applies to both sides.
+ *
+ * <p>
+ * Example usage: <pre>{@code
+ * Bm25DocumentIndex lexicalIndex = Bm25DocumentIndex.builder().build();
+ * vectorStore.write(documents);
+ * lexicalIndex.write(documents);
+ *
+ * HybridDocumentRetriever retriever = HybridDocumentRetriever.builder()
+ *     .vectorStore(vectorStore)
+ *     .lexicalIndex(lexicalIndex)
+ *     .lexicalWeight(0.3)
+ *     .topK(5)
+ *     .build();
+ * List<Document> documents = retriever.retrieve(new Query("How do I fix ERR-4012?"));
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+public final class HybridDocumentRetriever implements DocumentRetriever {
+
+	public static final double DEFAULT_LEXICAL_WEIGHT = 0.5;
+
+	private final VectorStore vectorStore;
+
+	private final Bm25DocumentIndex lexicalIndex;
+
+	private final double lexicalWeight;
+
+	private final Double similarityThreshold;
+
+	private final int topK;
+
+	private final int candidateTopK;
+
+	private final Supplier<Filter.Expression> filterExpression;
+
+	private final TaskExecutor taskExecutor;
+
+	public HybridDocumentRetriever(VectorStore vectorStore, Bm25DocumentIndex lexicalIndex,
+			@Nullable Double lexicalWeight, @Nullable Double similarityThreshold, @Nullable Integer topK,
+			@Nullable Integer candidateTopK, @Nullable Supplier<Filter.Expression> filterExpression,
+			@Nullable TaskExecutor taskExecutor) {
+		Assert.notNull(vectorStore, "vectorStore cannot be null");
+		Assert.notNull(lexicalIndex, "lexicalIndex cannot be null");
+		Assert.isTrue(lexicalWeight == null || (lexicalWeight >= 0.0 && lexicalWeight <= 1.0),
+				"lexicalWeight must be between 0.0 and 1.0");
+		Assert.isTrue(similarityThreshold == null || similarityThreshold >= 0.0,
+				"similarityThreshold must be equal to or greater than 0.0");
+		Assert.isTrue(topK == null || topK > 0, "topK must be greater than 0");
+		Assert.isTrue(candidateTopK == null || candidateTopK > 0, "candidateTopK must be greater than 0");
+		this.vectorStore = vectorStore;
+		this.lexicalIndex = lexicalIndex;
+		this.lexicalWeight = lexicalWeight != null ? lexicalWeight : DEFAULT_LEXICAL_WEIGHT;
+		this.similarityThreshold = similarityThreshold != null ? similarityThreshold
+				: SearchRequest.SIMILARITY_THRESHOLD_ACCEPT_ALL;
+		this.topK = topK != null ? topK : SearchRequest.DEFAULT_TOP_K;
+		this.candidateTopK = candidateTopK != null ? Math.max(candidateTopK, this.topK) : this.topK;
+		this.filterExpression = filterExpression != null ? filterExpression : () -> null;
+		this.taskExecutor = taskExecutor != null ? taskExecutor : buildDefaultTaskExecutor();
+	}
+
+	@Override
+	public List<Document> retrieve(Query query) {
+		Assert.notNull(query, "query cannot be null");
+		var requestFilterExpression = computeRequestFilterExpression(query);
+		var searchRequest = SearchRequest.builder()
+			.query(query.text())
+			.filterExpression(requestFilterExpression)
+			.similarityThreshold(this.similarityThreshold)
+			.topK(this.candidateTopK)
+			.build();
+
+		CompletableFuture<List<Document>> semanticDocuments = CompletableFuture
+			.supplyAsync(() -> this.vectorStore.similaritySearch(searchRequest), this.taskExecutor);
+		List<Document> lexicalDocuments = this.lexicalIndex.search(query.text(), this.candidateTopK,
+				requestFilterExpression);
+
+		return fuse(semanticDocuments.join(), lexicalDocuments);
+	}
+
+	private List<Document> fuse(List<Document> semanticDocuments, List<Document> lexicalDocuments) {
+		Map<String, Document> documentsById = new LinkedHashMap<>();
+		Map<String, Double> scoresById = new LinkedHashMap<>();
+		accumulate(semanticDocuments, 1.0 - this.lexicalWeight, documentsById, scoresById);
+		accumulate(lexicalDocuments, this.lexicalWeight, documentsById, scoresById);
+
+		List<Map.Entry<String, Double>> ranked = new ArrayList<>(scoresById.entrySet());
+		ranked.sort(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder()));
+		return ranked.stream()
+			.limit(this.topK)
+			.map(entry -> documentsById.get(entry.getKey()).mutate().score(entry.getValue()).build())
+			.toList();
+	}
+
+	private static void accumulate(List<Document> documents, double weight, Map<String, Document> documentsById,
+			Map<String, Double> scoresById) {
+		double maxScore = documents.stream()
+			.map(Document::getScore)
+			.filter(score -> score != null && score > 0.0)
+			.mapToDouble(Double::doubleValue)
+			.max()
+			.orElse(1.0);
+		for (Document document : documents) {
+			double score = (document.getScore() != null) ? Math.max(document.getScore(), 0.0) / maxScore : 0.0;
+			documentsById.putIfAbsent(document.getId(), document);
+			scoresById.merge(document.getId(), weight * score, Double::sum);
+		}
+	}
+
+	private Filter.Expression computeRequestFilterExpression(Query query) {
+		var contextFilterExpression = query.context().get(VectorStoreDocumentRetriever.FILTER_EXPRESSION);
+		if (contextFilterExpression != null && StringUtils.hasText(contextFilterExpression.toString())) {
+			return new FilterExpressionTextParser().parse(contextFilterExpression.toString());
+		}
+		return this.filterExpression.get();
+	}
+
+	private static TaskExecutor buildDefaultTaskExecutor() {
+		ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+		taskExecutor.setThreadNamePrefix("ai-hybrid-retriever-");
+		taskExecutor.setCorePoolSize(4);
+		taskExecutor.setMaxPoolSize(16);
+		taskExecutor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+		taskExecutor.initialize();
+		return taskExecutor;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Builder for {@link HybridDocumentRetriever}.
+	 */
+	public static final class Builder {
+
+		private VectorStore vectorStore;
+
+		private Bm25DocumentIndex lexicalIndex;
+
+		private Double lexicalWeight;
+
+		private Double similarityThreshold;
+
+		private Integer topK;
+
+		private Integer candidateTopK;
+
+		private Supplier<Filter.Expression> filterExpression;
+
+		private TaskExecutor taskExecutor;
+
+		private Builder() {
+		}
+
+		public Builder vectorStore(VectorStore vectorStore) {
+			this.vectorStore = vectorStore;
+			return this;
+		}
+
+		public Builder lexicalIndex(Bm25DocumentIndex lexicalIndex) {
+			this.lexicalIndex = lexicalIndex;
+			return this;
+		}
+
+		/**
+		 * The weight, from 0 to 1, of the lexical scores in the fused scores, the
+		 * semantic scores weighing the rest. Defaults to 0.5.
+		 */
+		public Builder lexicalWeight(Double lexicalWeight) {
+			this.lexicalWeight = lexicalWeight;
+			return this;
+		}
+
+		public Builder similarityThreshold(Double similarityThreshold) {
+			this.similarityThreshold = similarityThreshold;
+			return this;
+		}
+
+		public Builder topK(Integer topK) {
+			this.topK = topK;
+			return this;
+		}
+
+		/**
+		 * The number of documents to retrieve from each side before fusing them. Defaults
+		 * to the top K.
+		 */
+		public Builder candidateTopK(Integer candidateTopK) {
+			this.candidateTopK = candidateTopK;
+			return this;
+		}
+
+		public Builder filterExpression(Filter.Expression filterExpression) {
+			this.filterExpression = () -> filterExpression;
+			return this;
+		}
+
+		public Builder filterExpression(Supplier<Filter.Expression> filterExpression) {
+			this.filterExpression = filterExpression;
+			return this;
+		}
+
+		public Builder taskExecutor(TaskExecutor taskExecutor) {
+			this.taskExecutor = taskExecutor;
+			return this;
+		}
+
+		public HybridDocumentRetriever build() {
+			return new HybridDocumentRetriever(this.vectorStore, this.lexicalIndex, this.lexicalWeight,
+					this.similarityThreshold, this.topK, this.candidateTopK, this.filterExpression, this.taskExecutor);
+		}
+
+	}
+
+}
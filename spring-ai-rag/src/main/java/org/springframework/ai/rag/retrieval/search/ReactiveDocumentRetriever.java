@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.rag.retrieval.search;
+
+import java.util.List;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.rag.Query;
+import org.springframework.util.Assert;
+
+/**
+ * Non-blocking counterpart of {@link DocumentRetriever}, for data sources with a reactive
+ * client, so that retrieving from several of them does not hold a thread per source.
+ *
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ReactiveDocumentRetriever {
+
+	/**
+	 * Retrieves relevant documents from an underlying data source based on the given
+	 * query.
+	 * @param query The query to use for retrieving documents
+	 * @return The list of relevant documents
+	 */
+	Mono<List<Document>> retrieve(Query query);
+
+	/**
+	 * Adapts a blocking {@link DocumentRetriever}, running it on the bounded elastic
+	 * scheduler.
+	 */
+	static ReactiveDocumentRetriever from(DocumentRetriever documentRetriever) {
+		return from(documentRetriever, Schedulers.boundedElastic());
+	}
+
+	/**
+	 * Adapts a blocking {@link DocumentRetriever}, running it on the given scheduler.
+	 */
+	static ReactiveDocumentRetriever from(DocumentRetriever documentRetriever, Scheduler scheduler) {
+		Assert.notNull(documentRetriever, "documentRetriever cannot be null");
+		Assert.notNull(scheduler, "scheduler cannot be null");
+		return query -> Mono.fromCallable(() -> documentRetriever.retrieve(query)).subscribeOn(scheduler);
+	}
+
+}
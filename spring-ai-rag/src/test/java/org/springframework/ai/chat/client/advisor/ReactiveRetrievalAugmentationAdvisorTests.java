@@ -0,0 +1,181 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.chat.client.advisor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.client.ChatClientRequest;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.ChatGenerationMetadata;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.rag.Query;
+import org.springframework.ai.rag.advisor.ReactiveRetrievalAugmentationAdvisor;
+import org.springframework.ai.rag.preretrieval.query.expansion.ReactiveQueryExpander;
+import org.springframework.ai.rag.preretrieval.query.transformation.QueryTransformer;
+import org.springframework.ai.rag.preretrieval.query.transformation.ReactiveQueryTransformer;
+import org.springframework.ai.rag.retrieval.search.ReactiveDocumentRetriever;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link ReactiveRetrievalAugmentationAdvisor}.
+ */
+class ReactiveRetrievalAugmentationAdvisorTests {
+
+	@Test
+	void whenNoDocumentRetrieverThenThrow() {
+		assertThatThrownBy(() -> ReactiveRetrievalAugmentationAdvisor.builder().build())
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("documentRetrievers cannot be null or empty");
+	}
+
+	@Test
+	void whenQueryTransformersContainNullElementsThenThrow() {
+		assertThatThrownBy(() -> ReactiveRetrievalAugmentationAdvisor.builder()
+			.queryTransformers(query -> Mono.just(query), null)
+			.documentRetriever(query -> Mono.just(List.of()))
+			.build()).isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("queryTransformers cannot contain null elements");
+	}
+
+	@Test
+	void streamIsAugmentedWithTheDocumentsOfAllRetrievers() {
+		var chatModel = mock(ChatModel.class);
+		var promptCaptor = ArgumentCaptor.forClass(Prompt.class);
+		given(chatModel.stream(promptCaptor.capture())).willReturn(Flux.just(response("Felix"), finalResponse()));
+
+		QueryTransformer upperCase = query -> query.mutate().text(query.text().toUpperCase()).build();
+		var advisor = ReactiveRetrievalAugmentationAdvisor.builder()
+			.queryTransformers(ReactiveQueryTransformer.from(upperCase),
+					query -> Mono.just(query.mutate().text(query.text() + "!").build()))
+			.documentRetriever(query -> Mono.just(List.of(document("1", "doc1 for " + query.text()))))
+			.documentRetriever(ReactiveDocumentRetriever.from(query -> List.of(document("2", "doc2"))))
+			.build();
+
+		List<String> chunks = ChatClient.builder(chatModel)
+			.defaultAdvisors(advisor)
+			.build()
+			.prompt()
+			.user("potion")
+			.stream()
+			.content()
+			.collectList()
+			.block();
+
+		assertThat(chunks).containsExactly("Felix", "Felicis");
+		assertThat(promptCaptor.getValue().getContents()).contains("doc1 for POTION!", "doc2");
+	}
+
+	@Test
+	void expandedQueriesAndRetrieversRunConcurrently() {
+		var counter = new AtomicInteger();
+		ReactiveDocumentRetriever slowRetriever = query -> Mono.delay(Duration.ofMillis(300))
+			.map(tick -> List.of(document(query.text() + counter.incrementAndGet(), query.text())));
+		var advisor = ReactiveRetrievalAugmentationAdvisor.builder()
+			.queryExpander(query -> Mono.just(List.of(new Query("a"), new Query("b"), new Query("c"))))
+			.documentRetriever(slowRetriever)
+			.documentRetriever(slowRetriever)
+			.build();
+
+		long start = System.nanoTime();
+		List<Document> documents = augment(advisor);
+		long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+		assertThat(documents).hasSize(6);
+		assertThat(documents).extracting(Document::getText).containsExactlyInAnyOrder("a", "a", "b", "b", "c", "c");
+		assertThat(elapsedMillis).isLessThan(6 * 300);
+	}
+
+	@Test
+	void failedOrSlowRetrieversContributeNoDocuments() {
+		var advisor = ReactiveRetrievalAugmentationAdvisor.builder()
+			.documentRetriever(query -> Mono.just(List.of(document("1", "fast"))))
+			.documentRetriever(query -> Mono.delay(Duration.ofSeconds(5)).map(tick -> List.of(document("2", "slow"))),
+					Duration.ofMillis(100))
+			.documentRetriever(query -> Mono.error(new IllegalStateException("unavailable")))
+			.build();
+
+		assertThat(augment(advisor)).extracting(Document::getText).containsExactly("fast");
+	}
+
+	@Test
+	void failedRetrieversFailTheRequestWithoutPartialResults() {
+		var advisor = ReactiveRetrievalAugmentationAdvisor.builder()
+			.documentRetriever(query -> Mono.just(List.of(document("1", "fast"))))
+			.documentRetriever(query -> Mono.never())
+			.retrievalTimeout(Duration.ofMillis(100))
+			.allowPartialResults(false)
+			.build();
+
+		assertThatThrownBy(() -> augment(advisor)).hasRootCauseInstanceOf(TimeoutException.class);
+	}
+
+	@Test
+	void expandedQueriesAreTransformedOnce() {
+		var transformations = new AtomicInteger();
+		var advisor = ReactiveRetrievalAugmentationAdvisor.builder()
+			.queryTransformers(query -> Mono.fromCallable(() -> {
+				transformations.incrementAndGet();
+				return query;
+			}))
+			.queryExpander(ReactiveQueryExpander.from(query -> List.of(query, new Query("other"))))
+			.documentRetriever(query -> Mono.just(List.of(document(query.text(), query.text()))))
+			.build();
+
+		assertThat(augment(advisor)).extracting(Document::getText).containsExactlyInAnyOrder("potion", "other");
+		assertThat(transformations).hasValue(1);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Document> augment(ReactiveRetrievalAugmentationAdvisor advisor) {
+		ChatClientRequest augmented = advisor.augment(ChatClientRequest.builder().prompt(new Prompt("potion")).build())
+			.block();
+		return (List<Document>) augmented.context().get(ReactiveRetrievalAugmentationAdvisor.DOCUMENT_CONTEXT);
+	}
+
+	private static Document document(String id, String text) {
+		return Document.builder().id(id).text(text).build();
+	}
+
+	private static ChatResponse response(String text) {
+		return ChatResponse.builder().generations(List.of(new Generation(new AssistantMessage(text)))).build();
+	}
+
+	private static ChatResponse finalResponse() {
+		return ChatResponse.builder()
+			.generations(List.of(new Generation(new AssistantMessage("Felicis"),
+					ChatGenerationMetadata.builder().finishReason("STOP").build())))
+			.build();
+	}
+
+}
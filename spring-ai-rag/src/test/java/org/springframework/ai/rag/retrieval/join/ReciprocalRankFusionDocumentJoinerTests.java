@@ -0,0 +1,155 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.rag.retrieval.join;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.rag.Query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for {@link ReciprocalRankFusionDocumentJoiner}.
+ */
+class ReciprocalRankFusionDocumentJoinerTests {
+
+	@Test
+	void whenDocumentsForQueryIsNullThenThrow() {
+		DocumentJoiner documentJoiner = ReciprocalRankFusionDocumentJoiner.builder().build();
+		assertThatThrownBy(() -> documentJoiner.apply(null)).isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("documentsForQuery cannot be null");
+	}
+
+	@Test
+	void whenDocumentsForQueryContainsNullValuesThenThrow() {
+		DocumentJoiner documentJoiner = ReciprocalRankFusionDocumentJoiner.builder().build();
+		var documentsForQuery = new HashMap<Query, List<List<Document>>>();
+		documentsForQuery.put(new Query("test"), null);
+		assertThatThrownBy(() -> documentJoiner.apply(documentsForQuery)).isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("documentsForQuery cannot contain null values");
+	}
+
+	@Test
+	void whenTopKIsNotPositiveThenThrow() {
+		assertThatThrownBy(() -> ReciprocalRankFusionDocumentJoiner.builder().topK(0).build())
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("topK must be greater than 0");
+	}
+
+	@Test
+	void documentsRankedHighBySeveralQueriesComeFirst() {
+		DocumentJoiner documentJoiner = ReciprocalRankFusionDocumentJoiner.builder()
+			.rankConstant(0)
+			.normalizeScores(false)
+			.build();
+		var documentsForQuery = new LinkedHashMap<Query, List<List<Document>>>();
+		documentsForQuery.put(new Query("query1"),
+				List.of(List.of(document("1"), document("2"), document("3"), document("4"))));
+		documentsForQuery.put(new Query("query2"), List.of(List.of(document("3"), document("2"), document("5"))));
+
+		List<Document> result = documentJoiner.join(documentsForQuery);
+
+		// 3: 1/3 + 1, 1: 1, 2: 1/2 + 1/2, 5: 1/3, 4: 1/4, ties kept in retrieval order
+		assertThat(result).extracting(Document::getId).containsExactly("3", "1", "2", "5", "4");
+		assertThat(result.get(0).getScore()).isCloseTo(4.0 / 3, within(1e-9));
+		assertThat(result.get(1).getScore()).isCloseTo(1.0, within(1e-9));
+	}
+
+	@Test
+	void topKIsAppliedAcrossQueriesAndScoresAreNormalized() {
+		DocumentJoiner documentJoiner = ReciprocalRankFusionDocumentJoiner.builder().topK(2).build();
+		var documentsForQuery = new LinkedHashMap<Query, List<List<Document>>>();
+		documentsForQuery.put(new Query("query1"), List.of(List.of(document("1"), document("2"), document("3"))));
+		documentsForQuery.put(new Query("query2"), List.of(List.of(document("1"), document("4"), document("5"))));
+
+		List<Document> result = documentJoiner.join(documentsForQuery);
+
+		assertThat(result).extracting(Document::getId).containsExactly("1", "2");
+		assertThat(result.get(0).getScore()).isCloseTo(1.0, within(1e-9));
+		assertThat(result.get(1).getScore()).isBetween(0.0, 1.0);
+	}
+
+	@Test
+	void documentsWithTheSameIdOrTextAreFused() {
+		DocumentJoiner documentJoiner = ReciprocalRankFusionDocumentJoiner.builder().build();
+		var documentsForQuery = new LinkedHashMap<Query, List<List<Document>>>();
+		documentsForQuery.put(new Query("query1"),
+				List.of(List.of(new Document("1", "Spring AI", Map.of()), new Document("2", "Other", Map.of()))));
+		documentsForQuery.put(new Query("query2"), List.of(List.of(new Document("3", "  spring   ai ", Map.of())),
+				List.of(new Document("1", "Spring AI", Map.of()))));
+
+		List<Document> result = documentJoiner.join(documentsForQuery);
+
+		assertThat(result).extracting(Document::getId).containsExactly("1", "2");
+		assertThat(result.get(0).getScore()).isCloseTo(1.0, within(1e-9));
+	}
+
+	@Test
+	void nearDuplicatesOfBetterRankedDocumentsAreSuppressed() {
+		String text = "Reciprocal rank fusion combines the rankings of several queries into a single ranking "
+				+ "that favours the documents retrieved by most of them";
+		DocumentJoiner documentJoiner = ReciprocalRankFusionDocumentJoiner.builder()
+			.nearDuplicateThreshold(0.5)
+			.build();
+		var documentsForQuery = new LinkedHashMap<Query, List<List<Document>>>();
+		documentsForQuery.put(new Query("query1"),
+				List.of(List.of(new Document("1", text, Map.of()),
+						new Document("2", text.replace("several", "many"), Map.of()),
+						new Document("3", "An unrelated paragraph about vector stores", Map.of()))));
+
+		List<Document> result = documentJoiner.join(documentsForQuery);
+
+		assertThat(result).extracting(Document::getId).containsExactly("1", "3");
+	}
+
+	@Test
+	void largeCandidateSetsAreJoined() {
+		DocumentJoiner documentJoiner = ReciprocalRankFusionDocumentJoiner.builder()
+			.topK(10)
+			.nearDuplicateThreshold(0.9)
+			.build();
+		var documentsForQuery = new LinkedHashMap<Query, List<List<Document>>>();
+		for (int query = 0; query < 4; query++) {
+			List<Document> documents = new ArrayList<>();
+			for (int i = 0; i < 500; i++) {
+				documents.add(new Document("doc-" + ((i + query * 7) % 800),
+						"Document number " + ((i + query * 7) % 800) + " about topic " + (i % 13), Map.of()));
+			}
+			documentsForQuery.put(new Query("query" + query), List.of(documents));
+		}
+
+		List<Document> result = documentJoiner.join(documentsForQuery);
+
+		assertThat(result).hasSize(10);
+		assertThat(result).extracting(Document::getScore).isSortedAccordingTo((a, b) -> Double.compare(b, a));
+		assertThat(result).extracting(Document::getId).doesNotHaveDuplicates();
+	}
+
+	private static Document document(String id) {
+		return new Document(id, "Content " + id, Map.of());
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.rag.retrieval.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.filter.FilterExpressionBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link Bm25DocumentIndex}.
+ */
+class Bm25DocumentIndexTests {
+
+	@Test
+	void whenBIsOutOfRangeThenThrow() {
+		assertThatThrownBy(() -> Bm25DocumentIndex.builder().b(1.5).build())
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("b must be between 0.0 and 1.0");
+	}
+
+	@Test
+	void whenTopKIsNotPositiveThenThrow() {
+		Bm25DocumentIndex index = Bm25DocumentIndex.builder().build();
+		assertThatThrownBy(() -> index.search("query", 0)).isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("topK must be greater than 0");
+	}
+
+	@Test
+	void exactTermsAreMatchedAndRankedByScore() {
+		Bm25DocumentIndex index = Bm25DocumentIndex.builder().build();
+		index.write(List.of(new Document("1", "The upload fails with ERR-4012 when the quota is exceeded", Map.of()),
+				new Document("2", "Uploads are retried three times before failing", Map.of()),
+				new Document("3", "ERR-4012 ERR-4012: see the quota documentation", Map.of()),
+				new Document("4", "Error 4013 is unrelated", Map.of())));
+
+		List<Document> results = index.search("err-4012", 10);
+
+		assertThat(results).extracting(Document::getId).containsExactly("3", "1");
+		assertThat(results.get(0).getScore()).isGreaterThan(results.get(1).getScore());
+	}
+
+	@Test
+	void rareTermsWeighMoreThanCommonOnes() {
+		Bm25DocumentIndex index = Bm25DocumentIndex.builder().build();
+		index.write(List.of(new Document("1", "spring vector store", Map.of()),
+				new Document("2", "spring chat model", Map.of()), new Document("3", "spring embedding model", Map.of()),
+				new Document("4", "spring pgvector", Map.of())));
+
+		List<Document> results = index.search("spring pgvector", 2);
+
+		assertThat(results).extracting(Document::getId).first().isEqualTo("4");
+	}
+
+	@Test
+	void writingADocumentAgainReplacesIt() {
+		Bm25DocumentIndex index = Bm25DocumentIndex.builder().build();
+		index.write(List.of(new Document("1", "alpha", Map.of()), new Document("2", "beta", Map.of())));
+		index.write(List.of(new Document("1", "gamma", Map.of())));
+
+		assertThat(index.size()).isEqualTo(2);
+		assertThat(index.search("alpha", 5)).isEmpty();
+		assertThat(index.search("gamma", 5)).extracting(Document::getId).containsExactly("1");
+	}
+
+	@Test
+	void deletedDocumentsAreNotReturned() {
+		Bm25DocumentIndex index = Bm25DocumentIndex.builder().build();
+		List<Document> documents = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			documents.add(new Document("doc-" + i, "document " + i + " about topic-" + (i % 5), Map.of()));
+		}
+		index.write(documents);
+
+		index.delete(documents.subList(0, 90).stream().map(Document::getId).toList());
+
+		assertThat(index.size()).isEqualTo(10);
+		assertThat(index.search("topic-0", 100)).extracting(Document::getId)
+			.containsExactlyInAnyOrder("doc-90", "doc-95");
+		assertThat(index.search("document", 100)).hasSize(10);
+	}
+
+	@Test
+	void filterExpressionIsApplied() {
+		Bm25DocumentIndex index = Bm25DocumentIndex.builder().build();
+		index.write(List.of(new Document("1", "ERR-4012 in production", Map.of("env", "prod")),
+				new Document("2", "ERR-4012 in staging", Map.of("env", "staging"))));
+
+		List<Document> results = index.search("ERR-4012", 5, new FilterExpressionBuilder().eq("env", "prod").build());
+
+		assertThat(results).extracting(Document::getId).containsExactly("1");
+	}
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.rag.retrieval.search;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.rag.Query;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.filter.FilterExpressionBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link HybridDocumentRetriever}.
+ */
+class HybridDocumentRetrieverTests {
+
+	@Test
+	void whenLexicalIndexIsNullThenThrow() {
+		assertThatThrownBy(() -> HybridDocumentRetriever.builder().vectorStore(mock(VectorStore.class)).build())
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("lexicalIndex cannot be null");
+	}
+
+	@Test
+	void whenLexicalWeightIsOutOfRangeThenThrow() {
+		assertThatThrownBy(() -> HybridDocumentRetriever.builder()
+			.vectorStore(mock(VectorStore.class))
+			.lexicalIndex(Bm25DocumentIndex.builder().build())
+			.lexicalWeight(1.5)
+			.build()).isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("lexicalWeight must be between 0.0 and 1.0");
+	}
+
+	@Test
+	void exactTermMatchesMissedByTheVectorStoreAreRetrieved() {
+		var vectorStore = mock(VectorStore.class);
+		given(vectorStore.similaritySearch(any(SearchRequest.class)))
+			.willReturn(List.of(scored("1", "Uploads fail when the quota is exceeded", 0.8),
+					scored("2", "Uploads are retried three times", 0.6)));
+		var lexicalIndex = Bm25DocumentIndex.builder().build();
+		lexicalIndex.write(List.of(new Document("1", "Uploads fail when the quota is exceeded", Map.of()),
+				new Document("2", "Uploads are retried three times", Map.of()),
+				new Document("3", "ERR-4012 is raised when the upload quota is exceeded", Map.of())));
+
+		var retriever = HybridDocumentRetriever.builder()
+			.vectorStore(vectorStore)
+			.lexicalIndex(lexicalIndex)
+			.topK(2)
+			.build();
+		List<Document> documents = retriever.retrieve(new Query("ERR-4012"));
+
+		assertThat(documents).extracting(Document::getId).containsExactly("1", "3");
+		assertThat(documents.get(0).getScore()).isCloseTo(0.5, within(1e-9));
+		assertThat(documents.get(1).getScore()).isCloseTo(0.5, within(1e-9));
+	}
+
+	@Test
+	void scoresOfBothSidesAreFusedById() {
+		var vectorStore = mock(VectorStore.class);
+		given(vectorStore.similaritySearch(any(SearchRequest.class)))
+			.willReturn(List.of(scored("1", "spring vector store", 0.9), scored("2", "spring pgvector", 0.45)));
+		var lexicalIndex = Bm25DocumentIndex.builder().build();
+		lexicalIndex.write(List.of(new Document("1", "spring vector store", Map.of()),
+				new Document("2", "spring pgvector", Map.of()), new Document("3", "other", Map.of())));
+
+		var retriever = HybridDocumentRetriever.builder()
+			.vectorStore(vectorStore)
+			.lexicalIndex(lexicalIndex)
+			.lexicalWeight(0.8)
+			.build();
+		List<Document> documents = retriever.retrieve(new Query("pgvector"));
+
+		// 2: 0.2 * 0.5 + 0.8 * 1, 1: 0.2 * 1
+		assertThat(documents).extracting(Document::getId).containsExactly("2", "1");
+		assertThat(documents.get(0).getScore()).isCloseTo(0.9, within(1e-9));
+		assertThat(documents.get(1).getScore()).isCloseTo(0.2, within(1e-9));
+	}
+
+	@Test
+	void candidatesAndFilterExpressionApplyToBothSides() {
+		var vectorStore = mock(VectorStore.class);
+		var searchRequestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+		given(vectorStore.similaritySearch(searchRequestCaptor.capture())).willReturn(List.of());
+		var lexicalIndex = Bm25DocumentIndex.builder().build();
+		lexicalIndex.write(List.of(new Document("1", "ERR-4012 in production", Map.of("env", "prod")),
+				new Document("2", "ERR-4012 in staging", Map.of("env", "staging"))));
+
+		var retriever = HybridDocumentRetriever.builder()
+			.vectorStore(vectorStore)
+			.lexicalIndex(lexicalIndex)
+			.topK(1)
+			.candidateTopK(20)
+			.filterExpression(new FilterExpressionBuilder().eq("env", "staging").build())
+			.build();
+		List<Document> documents = retriever.retrieve(new Query("ERR-4012"));
+
+		assertThat(documents).extracting(Document::getId).containsExactly("2");
+		assertThat(searchRequestCaptor.getValue().getTopK()).isEqualTo(20);
+		assertThat(searchRequestCaptor.getValue().getFilterExpression())
+			.isEqualTo(new FilterExpressionBuilder().eq("env", "staging").build());
+	}
+
+	private static Document scored(String id, String text, double score) {
+		return Document.builder().id(id).text(text).score(score).build();
+	}
+
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.retry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * Non-blocking {@link Retry} strategy for model calls. Failed calls are retried with an
+ * exponential, jittered backoff unless the server tells how long to wait through the
+ * {@literal Retry-After} or rate-limit reset headers, in which case that delay is used
+ * instead (see {@link RetryAfterExtractor}). An optional {@link RetryBudget} caps the
+ * retries issued across all calls sharing this strategy.
+ * <p>
+ * Use {@link RetryUtils#retryBeforeFirstElement(Flux, Retry)} for streaming responses, so
+ * that a stream is never replayed after some of it has been emitted.
+ *
+ * @since 1.0.0
+ * @see RetryAfterBackOffPolicy
+ */
+public final class RetryAfterAwareRetry extends Retry {
+
+	private static final Logger logger = LoggerFactory.getLogger(RetryAfterAwareRetry.class);
+
+	private final long maxRetries;
+
+	private final Duration minBackoff;
+
+	private final Duration maxBackoff;
+
+	private final double multiplier;
+
+	private final double jitterFactor;
+
+	private final Duration maxServerDelay;
+
+	@Nullable
+	private final RetryBudget retryBudget;
+
+	private final Predicate<Throwable> retryOn;
+
+	private final Scheduler scheduler;
+
+	private RetryAfterAwareRetry(Builder builder) {
+		Assert.isTrue(builder.maxRetries >= 0, "maxRetries must not be negative");
+		Assert.notNull(builder.minBackoff, "minBackoff cannot be null");
+		Assert.notNull(builder.maxBackoff, "maxBackoff cannot be null");
+		Assert.isTrue(builder.minBackoff.compareTo(builder.maxBackoff) <= 0,
+				"minBackoff must not be greater than maxBackoff");
+		Assert.isTrue(builder.multiplier >= 1, "multiplier must be greater than or equal to 1");
+		Assert.isTrue(builder.jitterFactor >= 0 && builder.jitterFactor <= 1, "jitterFactor must be in [0, 1]");
+		Assert.notNull(builder.maxServerDelay, "maxServerDelay cannot be null");
+		Assert.notNull(builder.retryOn, "retryOn cannot be null");
+		Assert.notNull(builder.scheduler, "scheduler cannot be null");
+		this.maxRetries = builder.maxRetries;
+		this.minBackoff = builder.minBackoff;
+		this.maxBackoff = builder.maxBackoff;
+		this.multiplier = builder.multiplier;
+		this.jitterFactor = builder.jitterFactor;
+		this.maxServerDelay = builder.maxServerDelay;
+		this.retryBudget = builder.retryBudget;
+		this.retryOn = builder.retryOn;
+		this.scheduler = builder.scheduler;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Default retry condition: {@link TransientAiException}s, {@literal 429} and
+	 * {@literal 5xx} responses, and connection failures.
+	 * @param throwable the failure of the model call
+	 * @return {@code true} if the call may be retried
+	 */
+	public static boolean isTransient(Throwable throwable) {
+		if (throwable instanceof TransientAiException || throwable instanceof WebClientRequestException) {
+			return true;
+		}
+		if (throwable instanceof WebClientResponseException ex) {
+			return ex.getStatusCode().value() == 429 || ex.getStatusCode().is5xxServerError();
+		}
+		return false;
+	}
+
+	@Override
+	public Publisher<?> generateCompanion(Flux<RetrySignal> retrySignals) {
+		return retrySignals.concatMap(signal -> {
+			Throwable failure = signal.failure();
+			long attempt = signal.totalRetries();
+			if (!this.retryOn.test(failure) || attempt >= this.maxRetries) {
+				return Mono.error(failure);
+			}
+			if (this.retryBudget != null && !this.retryBudget.tryAcquire()) {
+				logger.warn("Retry budget exhausted, not retrying: {}", failure.getMessage());
+				return Mono.error(failure);
+			}
+			Duration delay = computeDelay(attempt, RetryAfterExtractor.extract(failure));
+			logger.warn("Retry error. Retry count: {}, next attempt in {}", attempt + 1, delay, failure);
+			return Mono.delay(delay, this.scheduler).thenReturn(attempt);
+		});
+	}
+
+	/**
+	 * Computes the delay before the given retry.
+	 * @param attempt the zero-based retry number
+	 * @param serverDelay the delay requested by the server, may be {@code null}
+	 * @return the delay to wait
+	 */
+	Duration computeDelay(long attempt, @Nullable Duration serverDelay) {
+		if (serverDelay != null) {
+			// A little spread on top of the server delay keeps the callers that were
+			// rejected together from coming back at the same instant.
+			long spread = (long) (this.minBackoff.toMillis() * this.jitterFactor);
+			long extra = spread > 0 ? ThreadLocalRandom.current().nextLong(spread + 1) : 0;
+			Duration capped = serverDelay.compareTo(this.maxServerDelay) > 0 ? this.maxServerDelay : serverDelay;
+			return capped.plusMillis(extra);
+		}
+		double base = this.minBackoff.toMillis() * Math.pow(this.multiplier, attempt);
+		base = Math.min(base, this.maxBackoff.toMillis());
+		double jitter = base * this.jitterFactor;
+		double millis = base + (jitter > 0 ? ThreadLocalRandom.current().nextDouble(-jitter, jitter) : 0);
+		millis = Math.max(this.minBackoff.toMillis(), Math.min(this.maxBackoff.toMillis(), millis));
+		return Duration.ofMillis((long) millis);
+	}
+
+	public static final class Builder {
+
+		private long maxRetries = 5;
+
+		private Duration minBackoff = Duration.ofMillis(500);
+
+		private Duration maxBackoff = Duration.ofSeconds(30);
+
+		private double multiplier = 2;
+
+		private double jitterFactor = 0.5;
+
+		private Duration maxServerDelay = Duration.ofMinutes(1);
+
+		private RetryBudget retryBudget;
+
+		private Predicate<Throwable> retryOn = RetryAfterAwareRetry::isTransient;
+
+		private Scheduler scheduler = Schedulers.parallel();
+
+		private Builder() {
+		}
+
+		public Builder maxRetries(long maxRetries) {
+			this.maxRetries = maxRetries;
+			return this;
+		}
+
+		public Builder backoff(Duration minBackoff, double multiplier, Duration maxBackoff) {
+			this.minBackoff = minBackoff;
+			this.multiplier = multiplier;
+			this.maxBackoff = maxBackoff;
+			return this;
+		}
+
+		public Builder jitterFactor(double jitterFactor) {
+			this.jitterFactor = jitterFactor;
+			return this;
+		}
+
+		/**
+		 * Upper bound for server-supplied delays.
+		 */
+		public Builder maxServerDelay(Duration maxServerDelay) {
+			this.maxServerDelay = maxServerDelay;
+			return this;
+		}
+
+		public Builder retryBudget(RetryBudget retryBudget) {
+			this.retryBudget = retryBudget;
+			return this;
+		}
+
+		public Builder retryOn(Predicate<Throwable> retryOn) {
+			this.retryOn = retryOn;
+			return this;
+		}
+
+		public Builder scheduler(Scheduler scheduler) {
+			this.scheduler = scheduler;
+			return this;
+		}
+
+		public RetryAfterAwareRetry build() {
+			return new RetryAfterAwareRetry(this);
+		}
+
+	}
+
+}
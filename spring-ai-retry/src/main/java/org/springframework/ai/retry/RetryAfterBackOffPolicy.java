@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.retry;
+
+import java.time.Duration;
+
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.backoff.BackOffContext;
+import org.springframework.retry.backoff.BackOffInterruptedException;
+import org.springframework.retry.backoff.BackOffPolicy;
+import org.springframework.retry.backoff.ExponentialBackOffPolicy;
+import org.springframework.retry.backoff.Sleeper;
+import org.springframework.retry.backoff.ThreadWaitSleeper;
+import org.springframework.util.Assert;
+
+/**
+ * {@link BackOffPolicy} for the {@link org.springframework.retry.support.RetryTemplate}
+ * that sleeps for the delay requested by the server through the {@literal Retry-After} or
+ * rate-limit reset headers of the last failure, and falls back to a delegate policy
+ * otherwise.
+ *
+ * @since 1.0.0
+ * @see RetryAfterExtractor
+ * @see RetryAfterAwareRetry
+ */
+public class RetryAfterBackOffPolicy implements BackOffPolicy {
+
+	private final BackOffPolicy delegate;
+
+	private final Duration maxServerDelay;
+
+	private Sleeper sleeper = new ThreadWaitSleeper();
+
+	/**
+	 * Creates a policy falling back to the same exponential backoff as
+	 * {@link RetryUtils#DEFAULT_RETRY_TEMPLATE}.
+	 */
+	public RetryAfterBackOffPolicy() {
+		this(defaultDelegate(), Duration.ofMinutes(3));
+	}
+
+	public RetryAfterBackOffPolicy(BackOffPolicy delegate, Duration maxServerDelay) {
+		Assert.notNull(delegate, "delegate cannot be null");
+		Assert.notNull(maxServerDelay, "maxServerDelay cannot be null");
+		this.delegate = delegate;
+		this.maxServerDelay = maxServerDelay;
+	}
+
+	public void setSleeper(Sleeper sleeper) {
+		Assert.notNull(sleeper, "sleeper cannot be null");
+		this.sleeper = sleeper;
+	}
+
+	@Override
+	public BackOffContext start(RetryContext context) {
+		return new RetryAfterBackOffContext(context, this.delegate.start(context));
+	}
+
+	@Override
+	public void backOff(BackOffContext backOffContext) throws BackOffInterruptedException {
+		RetryAfterBackOffContext context = (RetryAfterBackOffContext) backOffContext;
+		Duration serverDelay = RetryAfterExtractor.extract(context.retryContext.getLastThrowable());
+		if (serverDelay == null) {
+			this.delegate.backOff(context.delegateContext);
+			return;
+		}
+		Duration delay = serverDelay.compareTo(this.maxServerDelay) > 0 ? this.maxServerDelay : serverDelay;
+		try {
+			this.sleeper.sleep(delay.toMillis());
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new BackOffInterruptedException("Thread interrupted while sleeping", ex);
+		}
+	}
+
+	private static BackOffPolicy defaultDelegate() {
+		ExponentialBackOffPolicy policy = new ExponentialBackOffPolicy();
+		policy.setInitialInterval(2000);
+		policy.setMultiplier(5);
+		policy.setMaxInterval(3 * 60000);
+		return policy;
+	}
+
+	private record RetryAfterBackOffContext(RetryContext retryContext,
+			BackOffContext delegateContext) implements BackOffContext {
+
+	}
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.retry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * Utility used to extract the server-supplied retry delay from HTTP response headers.
+ * <p>
+ * The {@literal Retry-After} (delay in seconds or HTTP date) and
+ * {@literal retry-after-ms} headers take precedence. Otherwise the reset headers of the
+ * exhausted rate limits are used, such as {@literal x-ratelimit-reset-requests} and
+ * {@literal x-ratelimit-reset-tokens} ({@literal 6m0s} style durations) or
+ * {@literal anthropic-ratelimit-requests-reset} (RFC 3339 timestamps).
+ *
+ * @since 1.0.0
+ */
+public final class RetryAfterExtractor {
+
+	public static final String RETRY_AFTER_MS_HEADER = "retry-after-ms";
+
+	private static final String[][] RESET_HEADERS = {
+			{ "x-ratelimit-remaining-requests", "x-ratelimit-reset-requests" },
+			{ "x-ratelimit-remaining-tokens", "x-ratelimit-reset-tokens" },
+			{ "anthropic-ratelimit-requests-remaining", "anthropic-ratelimit-requests-reset" },
+			{ "anthropic-ratelimit-tokens-remaining", "anthropic-ratelimit-tokens-reset" } };
+
+	private static final Pattern DURATION_PATTERN = Pattern.compile("(\\d+(?:\\.\\d+)?)(ms|us|ns|s|m|h|d)");
+
+	private RetryAfterExtractor() {
+	}
+
+	/**
+	 * Extracts the retry delay from the HTTP response carried by the given exception or
+	 * one of its causes.
+	 * @param throwable the failure of the model call
+	 * @return the delay requested by the server, or {@code null} if none
+	 */
+	@Nullable
+	public static Duration extract(@Nullable Throwable throwable) {
+		Throwable current = throwable;
+		while (current != null) {
+			HttpHeaders headers = null;
+			if (current instanceof WebClientResponseException ex) {
+				headers = ex.getHeaders();
+			}
+			else if (current instanceof RestClientResponseException ex) {
+				headers = ex.getResponseHeaders();
+			}
+			if (headers != null) {
+				return extract(headers, Clock.systemUTC());
+			}
+			current = (current.getCause() != current) ? current.getCause() : null;
+		}
+		return null;
+	}
+
+	/**
+	 * Extracts the retry delay from the given HTTP response headers.
+	 * @param headers the HTTP response headers
+	 * @param clock the clock used to resolve absolute reset times
+	 * @return the delay requested by the server, or {@code null} if none
+	 */
+	@Nullable
+	public static Duration extract(HttpHeaders headers, Clock clock) {
+		String retryAfterMs = headers.getFirst(RETRY_AFTER_MS_HEADER);
+		if (StringUtils.hasText(retryAfterMs)) {
+			try {
+				return nonNegative(Duration.ofMillis((long) Double.parseDouble(retryAfterMs.trim())));
+			}
+			catch (NumberFormatException ex) {
+				// fall through to the other headers
+			}
+		}
+		String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+		if (StringUtils.hasText(retryAfter)) {
+			Duration delay = parseRetryAfter(retryAfter.trim(), clock);
+			if (delay != null) {
+				return delay;
+			}
+		}
+		Duration max = null;
+		for (String[] pair : RESET_HEADERS) {
+			String remaining = headers.getFirst(pair[0]);
+			String reset = headers.getFirst(pair[1]);
+			if (!StringUtils.hasText(reset) || (StringUtils.hasText(remaining) && !isExhausted(remaining))) {
+				continue;
+			}
+			Duration delay = parseReset(reset.trim(), clock);
+			if (delay != null && (max == null || delay.compareTo(max) > 0)) {
+				max = delay;
+			}
+		}
+		return max;
+	}
+
+	@Nullable
+	private static Duration parseRetryAfter(String value, Clock clock) {
+		try {
+			return nonNegative(Duration.ofSeconds(Long.parseLong(value)));
+		}
+		catch (NumberFormatException ex) {
+			// not delta-seconds, try an HTTP date
+		}
+		try {
+			Instant instant = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+			return nonNegative(Duration.between(clock.instant(), instant));
+		}
+		catch (DateTimeParseException ex) {
+			return null;
+		}
+	}
+
+	@Nullable
+	private static Duration parseReset(String value, Clock clock) {
+		try {
+			return nonNegative(Duration.ofMillis((long) (Double.parseDouble(value) * 1000)));
+		}
+		catch (NumberFormatException ex) {
+			// not plain seconds
+		}
+		Matcher matcher = DURATION_PATTERN.matcher(value);
+		Duration total = Duration.ZERO;
+		boolean matched = false;
+		while (matcher.find()) {
+			matched = true;
+			double amount = Double.parseDouble(matcher.group(1));
+			long nanos = switch (matcher.group(2)) {
+				case "ns" -> (long) amount;
+				case "us" -> (long) (amount * 1_000);
+				case "ms" -> (long) (amount * 1_000_000);
+				case "s" -> (long) (amount * 1_000_000_000);
+				case "m" -> (long) (amount * 60_000_000_000L);
+				case "h" -> (long) (amount * 3_600_000_000_000L);
+				default -> (long) (amount * 86_400_000_000_000L);
+			};
+			total = total.plusNanos(nanos);
+		}
+		if (matched) {
+			return total;
+		}
+		try {
+			return nonNegative(Duration.between(clock.instant(), Instant.parse(value)));
+		}
+		catch (DateTimeParseException ex) {
+			return null;
+		}
+	}
+
+	private static boolean isExhausted(String remaining) {
+		try {
+			return Double.parseDouble(remaining.trim()) <= 0;
+		}
+		catch (NumberFormatException ex) {
+			return true;
+		}
+	}
+
+	private static Duration nonNegative(Duration duration) {
+		return duration.isNegative() ? Duration.ZERO : duration;
+	}
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.retry;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Caps the number of retries that may be issued within a time window, shared by all the
+ * calls using the same budget. Once the budget is spent, failures are propagated
+ * immediately instead of adding retry load to a provider that is already struggling.
+ *
+ * @since 1.0.0
+ */
+public final class RetryBudget {
+
+	private final TokenBucket bucket;
+
+	/**
+	 * Creates a budget that allows up to {@code maxRetries} retries per {@code window}.
+	 * @param maxRetries the number of retries allowed per window
+	 * @param window the window the budget refers to
+	 */
+	public RetryBudget(int maxRetries, Duration window) {
+		Assert.isTrue(maxRetries > 0, "maxRetries must be positive");
+		Assert.notNull(window, "window cannot be null");
+		Assert.isTrue(!window.isNegative() && !window.isZero(), "window must be positive");
+		this.bucket = new TokenBucket(maxRetries, maxRetries / (window.toNanos() / 1_000_000_000d));
+	}
+
+	/**
+	 * Withdraws one retry from the budget.
+	 * @return {@code true} if the retry may be issued
+	 */
+	public boolean tryAcquire() {
+		return this.bucket.tryConsume(1);
+	}
+
+	/**
+	 * Returns the number of retries currently left in the budget.
+	 * @return the remaining retries
+	 */
+	public int getRemaining() {
+		return (int) Math.max(0, Math.floor(this.bucket.getAvailable()));
+	}
+
+}
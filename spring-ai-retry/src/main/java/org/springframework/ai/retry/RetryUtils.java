@@ -19,9 +19,13 @@ package org.springframework.ai.retry;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.lang.NonNull;
@@ -29,8 +33,10 @@ import org.springframework.retry.RetryCallback;
 import org.springframework.retry.RetryContext;
 import org.springframework.retry.RetryListener;
 import org.springframework.retry.support.RetryTemplate;
+import org.springframework.util.Assert;
 import org.springframework.util.StreamUtils;
 import org.springframework.web.client.ResponseErrorHandler;
+import org.springframework.web.client.RestClientResponseException;
 
 /**
  * RetryUtils is a utility class for configuring and handling retry operations. It
@@ -51,8 +57,13 @@ public abstract class RetryUtils {
 		@Override
 		public void handleError(@NonNull ClientHttpResponse response) throws IOException {
 			if (response.getStatusCode().isError()) {
-				String error = StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8);
+				byte[] body = StreamUtils.copyToByteArray(response.getBody());
+				String error = new String(body, StandardCharsets.UTF_8);
 				String message = String.format("%s - %s", response.getStatusCode().value(), error);
+				// Keep the response headers, e.g. Retry-After, available to the retry
+				// policies.
+				RestClientResponseException cause = new RestClientResponseException(message, response.getStatusCode(),
+						response.getStatusText(), response.getHeaders(), body, StandardCharsets.UTF_8);
 				/**
 				 * Thrown on 4xx client errors, such as 401 - Incorrect API key provided,
 				 * 401 - You must be a member of an organization to use the API, 429 -
@@ -60,9 +71,9 @@ public abstract class RetryUtils {
 				 * , please check your plan and billing details.
 				 */
 				if (response.getStatusCode().is4xxClientError()) {
-					throw new NonTransientAiException(message);
+					throw new NonTransientAiException(message, cause);
 				}
-				throw new TransientAiException(message);
+				throw new TransientAiException(message, cause);
 			}
 		}
 	};
@@ -101,4 +112,25 @@ public abstract class RetryUtils {
 		})
 		.build();
 
+	/**
+	 * Retries the given stream with the given strategy, but only as long as the stream
+	 * has not emitted any element. Once the first element has been emitted, failures are
+	 * propagated as is, since re-subscribing would replay the already emitted part of the
+	 * response.
+	 * @param <T> the type of the stream elements
+	 * @param source the stream to retry, re-subscribed on every attempt
+	 * @param retry the retry strategy, e.g. a {@link RetryAfterAwareRetry}
+	 * @return the stream with retries applied
+	 */
+	public static <T> Flux<T> retryBeforeFirstElement(Flux<T> source, Retry retry) {
+		Assert.notNull(source, "source cannot be null");
+		Assert.notNull(retry, "retry cannot be null");
+		return Flux.defer(() -> {
+			AtomicBoolean emitted = new AtomicBoolean();
+			Retry guarded = Retry.from(signals -> retry.generateCompanion(
+					signals.concatMap(signal -> emitted.get() ? Mono.error(signal.failure()) : Mono.just(signal))));
+			return source.doOnNext(element -> emitted.set(true)).retryWhen(guarded);
+		});
+	}
+
 }
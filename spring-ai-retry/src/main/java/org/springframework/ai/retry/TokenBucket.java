@@ -0,0 +1,183 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.retry;
+
+import java.util.function.LongSupplier;
+
+import org.springframework.util.Assert;
+
+/**
+ * Thread-safe token bucket that refills continuously at a fixed rate up to its capacity.
+ * A bucket with a non-positive capacity is unbounded and never delays a caller.
+ * <p>
+ * Requests larger than the capacity are admitted once the bucket is full and leave the
+ * bucket in debt, so that oversized requests are throttled rather than rejected.
+ *
+ * @since 1.0.0
+ */
+public final class TokenBucket {
+
+	private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+	private final LongSupplier nanoClock;
+
+	private double capacity;
+
+	private double refillPerNano;
+
+	private double available;
+
+	private long lastRefillNanos;
+
+	/**
+	 * Creates an unbounded bucket.
+	 */
+	public TokenBucket() {
+		this(0, 0);
+	}
+
+	/**
+	 * Creates a full bucket with the given capacity and refill rate.
+	 * @param capacity the maximum number of permits the bucket can hold
+	 * @param refillPerSecond the number of permits added per second
+	 */
+	public TokenBucket(double capacity, double refillPerSecond) {
+		this(capacity, refillPerSecond, System::nanoTime);
+	}
+
+	TokenBucket(double capacity, double refillPerSecond, LongSupplier nanoClock) {
+		Assert.notNull(nanoClock, "nanoClock cannot be null");
+		this.nanoClock = nanoClock;
+		this.lastRefillNanos = nanoClock.getAsLong();
+		this.capacity = Math.max(0, capacity);
+		this.refillPerNano = Math.max(0, refillPerSecond) / NANOS_PER_SECOND;
+		this.available = this.capacity;
+	}
+
+	/**
+	 * Whether this bucket imposes a limit at all.
+	 * @return {@code true} if the bucket has a positive capacity
+	 */
+	public synchronized boolean isBounded() {
+		return this.capacity > 0;
+	}
+
+	/**
+	 * Returns how long a caller has to wait until the given number of permits can be
+	 * consumed, without consuming them.
+	 * @param permits the number of permits required
+	 * @return the wait in nanoseconds, {@code 0} if the permits are available now
+	 */
+	public synchronized long nanosUntilAvailable(double permits) {
+		if (!isBounded()) {
+			return 0;
+		}
+		refill();
+		double required = Math.min(permits, this.capacity);
+		if (this.available >= required) {
+			return 0;
+		}
+		if (this.refillPerNano <= 0) {
+			return Long.MAX_VALUE;
+		}
+		return (long) Math.ceil((required - this.available) / this.refillPerNano);
+	}
+
+	/**
+	 * Consumes the given number of permits if they are available.
+	 * @param permits the number of permits to consume
+	 * @return {@code true} if the permits have been consumed
+	 */
+	public synchronized boolean tryConsume(double permits) {
+		if (nanosUntilAvailable(permits) > 0) {
+			return false;
+		}
+		if (isBounded()) {
+			this.available -= permits;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns permits to the bucket, or takes more when {@code permits} is negative. Used
+	 * to reconcile an up-front estimate with the actual consumption.
+	 * @param permits the number of permits to credit
+	 */
+	public synchronized void credit(double permits) {
+		if (isBounded()) {
+			refill();
+			this.available = Math.min(this.capacity, this.available + permits);
+		}
+	}
+
+	/**
+	 * Lowers the available permits to the remaining budget reported by the server. Stale
+	 * reports can never raise the level, only the refill does.
+	 * @param remaining the remaining permits reported by the server
+	 */
+	public synchronized void syncRemaining(double remaining) {
+		if (isBounded()) {
+			refill();
+			this.available = Math.min(this.available, remaining);
+		}
+	}
+
+	/**
+	 * Empties the bucket so that callers wait for a full refill interval.
+	 */
+	public synchronized void drain() {
+		refill();
+		this.available = Math.min(this.available, 0);
+	}
+
+	/**
+	 * Changes the capacity and refill rate, keeping the current level within the new
+	 * capacity.
+	 * @param capacity the maximum number of permits the bucket can hold
+	 * @param refillPerSecond the number of permits added per second
+	 */
+	public synchronized void reconfigure(double capacity, double refillPerSecond) {
+		boolean wasBounded = isBounded();
+		refill();
+		this.capacity = Math.max(0, capacity);
+		this.refillPerNano = Math.max(0, refillPerSecond) / NANOS_PER_SECOND;
+		this.available = wasBounded ? Math.min(this.available, this.capacity) : this.capacity;
+	}
+
+	/**
+	 * Returns the permits currently available.
+	 * @return the available permits, possibly negative while the bucket is in debt
+	 */
+	public synchronized double getAvailable() {
+		refill();
+		return this.available;
+	}
+
+	public synchronized double getCapacity() {
+		return this.capacity;
+	}
+
+	private void refill() {
+		long now = this.nanoClock.getAsLong();
+		long elapsed = now - this.lastRefillNanos;
+		this.lastRefillNanos = now;
+		if (elapsed > 0 && this.refillPerNano > 0) {
+			this.available = Math.min(this.capacity, this.available + elapsed * this.refillPerNano);
+		}
+	}
+
+}
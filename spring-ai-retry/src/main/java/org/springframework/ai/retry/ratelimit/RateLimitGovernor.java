@@ -0,0 +1,462 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.retry.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.ai.chat.metadata.RateLimit;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.TokenBucket;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * Client-side governor that keeps the calls to a model provider within its published rate
+ * limits, instead of relying on retries after the provider has rejected a call.
+ * <p>
+ * The governor keeps one limiter per provider and model. Each limiter combines a
+ * concurrency limit with two {@link TokenBucket token buckets}, one for requests and one
+ * for tokens. The buckets are seeded from the configured defaults and re-seeded from the
+ * {@link RateLimit} metadata returned by the provider. The effective refill rate follows
+ * an additive-increase/multiplicative-decrease (AIMD) policy: it is cut on every
+ * {@literal 429 Too Many Requests} response and recovers step by step on success.
+ * <p>
+ * Waiting callers are admitted in arrival order.
+ *
+ * @since 1.0.0
+ * @see RateLimitedChatModel
+ * @see RateLimitedEmbeddingModel
+ */
+public final class RateLimitGovernor {
+
+	private static final Logger logger = LoggerFactory.getLogger(RateLimitGovernor.class);
+
+	private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+
+	private final ConcurrentMap<String, ModelLimiter> limiters = new ConcurrentHashMap<>();
+
+	private final long defaultRequestsPerWindow;
+
+	private final long defaultTokensPerWindow;
+
+	private final int maxConcurrentRequests;
+
+	private final Duration window;
+
+	private final Duration maxWait;
+
+	private final double increaseStep;
+
+	private final double decreaseFactor;
+
+	private final double minRateFactor;
+
+	private RateLimitGovernor(long defaultRequestsPerWindow, long defaultTokensPerWindow, int maxConcurrentRequests,
+			Duration window, Duration maxWait, double increaseStep, double decreaseFactor, double minRateFactor) {
+		Assert.isTrue(defaultRequestsPerWindow >= 0, "defaultRequestsPerWindow must not be negative");
+		Assert.isTrue(defaultTokensPerWindow >= 0, "defaultTokensPerWindow must not be negative");
+		Assert.isTrue(maxConcurrentRequests >= 0, "maxConcurrentRequests must not be negative");
+		Assert.notNull(window, "window cannot be null");
+		Assert.isTrue(!window.isNegative() && !window.isZero(), "window must be positive");
+		Assert.notNull(maxWait, "maxWait cannot be null");
+		Assert.isTrue(increaseStep > 0 && increaseStep <= 1, "increaseStep must be in (0, 1]");
+		Assert.isTrue(decreaseFactor > 0 && decreaseFactor < 1, "decreaseFactor must be in (0, 1)");
+		Assert.isTrue(minRateFactor > 0 && minRateFactor <= 1, "minRateFactor must be in (0, 1]");
+		this.defaultRequestsPerWindow = defaultRequestsPerWindow;
+		this.defaultTokensPerWindow = defaultTokensPerWindow;
+		this.maxConcurrentRequests = maxConcurrentRequests;
+		this.window = window;
+		this.maxWait = maxWait;
+		this.increaseStep = increaseStep;
+		this.decreaseFactor = decreaseFactor;
+		this.minRateFactor = minRateFactor;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Blocks until a call with the given estimated token cost may be sent to the given
+	 * provider and model.
+	 * @param provider the model provider, for example {@literal openai}
+	 * @param model the model name, may be {@code null} if unknown
+	 * @param estimatedTokens the estimated number of tokens the call consumes
+	 * @return a permit that must be closed once the call has completed
+	 * @throws TransientAiException if the call could not be admitted within the
+	 * configured maximum wait
+	 */
+	public Permit acquire(String provider, @Nullable String model, long estimatedTokens) {
+		Assert.hasText(provider, "provider cannot be null or empty");
+		ModelLimiter limiter = this.limiters.computeIfAbsent(key(provider, model), k -> new ModelLimiter(k));
+		return limiter.acquire(Math.max(0, estimatedTokens));
+	}
+
+	/**
+	 * Returns the current rate factor applied by the AIMD policy for the given provider
+	 * and model, between the configured minimum and {@code 1.0}.
+	 * @param provider the model provider
+	 * @param model the model name, may be {@code null}
+	 * @return the current rate factor
+	 */
+	public double getRateFactor(String provider, @Nullable String model) {
+		ModelLimiter limiter = this.limiters.get(key(provider, model));
+		return limiter != null ? limiter.rateFactor : 1.0;
+	}
+
+	/**
+	 * Whether the given exception signals that the provider rejected the call with
+	 * {@literal 429 Too Many Requests}.
+	 * @param throwable the exception thrown by the model call
+	 * @return {@code true} if the exception, or one of its causes, is a rate-limit error
+	 */
+	public static boolean isRateLimitError(@Nullable Throwable throwable) {
+		Throwable current = throwable;
+		while (current != null) {
+			if (current instanceof HttpStatusCodeException ex
+					&& ex.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+				return true;
+			}
+			if (current instanceof WebClientResponseException ex
+					&& ex.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+				return true;
+			}
+			// RetryUtils.DEFAULT_RESPONSE_ERROR_HANDLER prefixes the message with the
+			// status code.
+			if ((current instanceof NonTransientAiException || current instanceof TransientAiException)
+					&& current.getMessage() != null && current.getMessage().startsWith("429")) {
+				return true;
+			}
+			current = (current.getCause() != current) ? current.getCause() : null;
+		}
+		return false;
+	}
+
+	private static String key(String provider, @Nullable String model) {
+		return StringUtils.hasText(model) ? provider + ":" + model : provider;
+	}
+
+	/**
+	 * Admission granted by the governor for a single model call. Report the outcome with
+	 * {@link #complete(RateLimit, Long)} or {@link #rateLimited()} and always
+	 * {@link #close()} the permit.
+	 */
+	public static final class Permit implements AutoCloseable {
+
+		private final ModelLimiter limiter;
+
+		private final long estimatedTokens;
+
+		private boolean closed;
+
+		private Permit(ModelLimiter limiter, long estimatedTokens) {
+			this.limiter = limiter;
+			this.estimatedTokens = estimatedTokens;
+		}
+
+		/**
+		 * Reports a successful call.
+		 * @param rateLimit the rate limits reported by the provider, may be {@code null}
+		 * @param actualTokens the tokens actually consumed, or {@code null} if unknown
+		 */
+		public void complete(@Nullable RateLimit rateLimit, @Nullable Long actualTokens) {
+			this.limiter.onSuccess(rateLimit, this.estimatedTokens, actualTokens);
+		}
+
+		/**
+		 * Reports that the provider rejected the call because of rate limiting.
+		 */
+		public void rateLimited() {
+			this.limiter.onRateLimited();
+		}
+
+		@Override
+		public void close() {
+			if (!this.closed) {
+				this.closed = true;
+				this.limiter.release();
+			}
+		}
+
+	}
+
+	private final class ModelLimiter {
+
+		private final String key;
+
+		private final ReentrantLock queue = new ReentrantLock(true);
+
+		// guards the read-modify-write of the rates by concurrent call outcomes
+		private final Object rates = new Object();
+
+		@Nullable
+		private final Semaphore concurrency;
+
+		private final TokenBucket requests;
+
+		private final TokenBucket tokens;
+
+		private volatile long requestsPerWindow;
+
+		private volatile long tokensPerWindow;
+
+		private volatile double rateFactor = 1.0;
+
+		ModelLimiter(String key) {
+			this.key = key;
+			RateLimitGovernor governor = RateLimitGovernor.this;
+			this.concurrency = governor.maxConcurrentRequests > 0 ? new Semaphore(governor.maxConcurrentRequests, true)
+					: null;
+			this.requestsPerWindow = governor.defaultRequestsPerWindow;
+			this.tokensPerWindow = governor.defaultTokensPerWindow;
+			this.requests = new TokenBucket();
+			this.tokens = new TokenBucket();
+			applyRates();
+		}
+
+		Permit acquire(long estimatedTokens) {
+			long deadline = System.nanoTime() + RateLimitGovernor.this.maxWait.toNanos();
+			try {
+				if (this.concurrency != null
+						&& !this.concurrency.tryAcquire(remaining(deadline), TimeUnit.NANOSECONDS)) {
+					throw timeout();
+				}
+				try {
+					awaitBuckets(estimatedTokens, deadline);
+				}
+				catch (RuntimeException | InterruptedException ex) {
+					release();
+					throw ex;
+				}
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new TransientAiException("Interrupted while waiting for rate limit of " + this.key, ex);
+			}
+			return new Permit(this, estimatedTokens);
+		}
+
+		private void awaitBuckets(long estimatedTokens, long deadline) throws InterruptedException {
+			// The fair lock makes the first waiter consume first, later arrivals queue
+			// up.
+			if (!this.queue.tryLock(remaining(deadline), TimeUnit.NANOSECONDS)) {
+				throw timeout();
+			}
+			try {
+				while (true) {
+					long wait = Math.max(this.requests.nanosUntilAvailable(1),
+							this.tokens.nanosUntilAvailable(estimatedTokens));
+					if (wait == 0) {
+						this.requests.tryConsume(1);
+						this.tokens.tryConsume(estimatedTokens);
+						return;
+					}
+					long remaining = remaining(deadline);
+					if (remaining <= 0 || wait == Long.MAX_VALUE) {
+						throw timeout();
+					}
+					LockSupport.parkNanos(Math.min(Math.min(wait, remaining), MAX_PARK_NANOS));
+					if (Thread.interrupted()) {
+						throw new InterruptedException();
+					}
+				}
+			}
+			finally {
+				this.queue.unlock();
+			}
+		}
+
+		void onSuccess(@Nullable RateLimit rateLimit, long estimatedTokens, @Nullable Long actualTokens) {
+			synchronized (this.rates) {
+				if (rateLimit != null) {
+					seed(rateLimit);
+				}
+				if (actualTokens != null && actualTokens > 0) {
+					this.tokens.credit(estimatedTokens - actualTokens);
+				}
+				if (this.rateFactor < 1.0) {
+					this.rateFactor = Math.min(1.0, this.rateFactor + RateLimitGovernor.this.increaseStep);
+					applyRates();
+				}
+			}
+		}
+
+		void onRateLimited() {
+			double reducedRateFactor;
+			synchronized (this.rates) {
+				reducedRateFactor = Math.max(RateLimitGovernor.this.minRateFactor,
+						this.rateFactor * RateLimitGovernor.this.decreaseFactor);
+				this.rateFactor = reducedRateFactor;
+				applyRates();
+			}
+			this.requests.drain();
+			this.tokens.drain();
+			logger.debug("Rate limited by {}, reducing rate factor to {}", this.key, reducedRateFactor);
+		}
+
+		void release() {
+			if (this.concurrency != null) {
+				this.concurrency.release();
+			}
+		}
+
+		private void seed(RateLimit rateLimit) {
+			boolean changed = false;
+			if (rateLimit.getRequestsLimit() != null && rateLimit.getRequestsLimit() > 0
+					&& rateLimit.getRequestsLimit() != this.requestsPerWindow) {
+				this.requestsPerWindow = rateLimit.getRequestsLimit();
+				changed = true;
+			}
+			if (rateLimit.getTokensLimit() != null && rateLimit.getTokensLimit() > 0
+					&& rateLimit.getTokensLimit() != this.tokensPerWindow) {
+				this.tokensPerWindow = rateLimit.getTokensLimit();
+				changed = true;
+			}
+			if (changed) {
+				applyRates();
+			}
+			if (rateLimit.getRequestsRemaining() != null && rateLimit.getRequestsLimit() != null
+					&& rateLimit.getRequestsLimit() > 0) {
+				this.requests.syncRemaining(rateLimit.getRequestsRemaining());
+			}
+			if (rateLimit.getTokensRemaining() != null && rateLimit.getTokensLimit() != null
+					&& rateLimit.getTokensLimit() > 0) {
+				this.tokens.syncRemaining(rateLimit.getTokensRemaining());
+			}
+		}
+
+		private void applyRates() {
+			double windowSeconds = RateLimitGovernor.this.window.toNanos() / 1_000_000_000d;
+			this.requests.reconfigure(this.requestsPerWindow, this.requestsPerWindow * this.rateFactor / windowSeconds);
+			this.tokens.reconfigure(this.tokensPerWindow, this.tokensPerWindow * this.rateFactor / windowSeconds);
+		}
+
+		private long remaining(long deadline) {
+			return Math.max(0, deadline - System.nanoTime());
+		}
+
+		private TransientAiException timeout() {
+			return new TransientAiException(
+					"Timed out after " + RateLimitGovernor.this.maxWait + " waiting for the rate limit of " + this.key);
+		}
+
+	}
+
+	public static final class Builder {
+
+		private long defaultRequestsPerWindow = 0;
+
+		private long defaultTokensPerWindow = 0;
+
+		private int maxConcurrentRequests = 0;
+
+		private Duration window = Duration.ofMinutes(1);
+
+		private Duration maxWait = Duration.ofMinutes(5);
+
+		private double increaseStep = 0.05;
+
+		private double decreaseFactor = 0.5;
+
+		private double minRateFactor = 0.05;
+
+		private Builder() {
+		}
+
+		/**
+		 * Requests allowed per window until the provider reports its own limit. {@code 0}
+		 * disables the request limit.
+		 */
+		public Builder defaultRequestsPerWindow(long defaultRequestsPerWindow) {
+			this.defaultRequestsPerWindow = defaultRequestsPerWindow;
+			return this;
+		}
+
+		/**
+		 * Tokens allowed per window until the provider reports its own limit. {@code 0}
+		 * disables the token limit.
+		 */
+		public Builder defaultTokensPerWindow(long defaultTokensPerWindow) {
+			this.defaultTokensPerWindow = defaultTokensPerWindow;
+			return this;
+		}
+
+		/**
+		 * Maximum number of in-flight calls per provider and model. {@code 0} disables
+		 * the concurrency limit.
+		 */
+		public Builder maxConcurrentRequests(int maxConcurrentRequests) {
+			this.maxConcurrentRequests = maxConcurrentRequests;
+			return this;
+		}
+
+		/**
+		 * The window the request and token limits refer to. Defaults to one minute, as
+		 * used by the {@literal x-ratelimit-limit-*} headers.
+		 */
+		public Builder window(Duration window) {
+			this.window = window;
+			return this;
+		}
+
+		/**
+		 * Maximum time a caller waits for admission before failing with a
+		 * {@link TransientAiException}.
+		 */
+		public Builder maxWait(Duration maxWait) {
+			this.maxWait = maxWait;
+			return this;
+		}
+
+		public Builder increaseStep(double increaseStep) {
+			this.increaseStep = increaseStep;
+			return this;
+		}
+
+		public Builder decreaseFactor(double decreaseFactor) {
+			this.decreaseFactor = decreaseFactor;
+			return this;
+		}
+
+		public Builder minRateFactor(double minRateFactor) {
+			this.minRateFactor = minRateFactor;
+			return this;
+		}
+
+		public RateLimitGovernor build() {
+			return new RateLimitGovernor(this.defaultRequestsPerWindow, this.defaultTokensPerWindow,
+					this.maxConcurrentRequests, this.window, this.maxWait, this.increaseStep, this.decreaseFactor,
+					this.minRateFactor);
+		}
+
+	}
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.retry.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.StreamingChatModel;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ChatModel} decorator that admits calls and streams through a
+ * {@link RateLimitGovernor} before delegating them. The token cost of a call is estimated
+ * from the prompt text and the requested maximum completion tokens, and reconciled with
+ * the usage reported in the response.
+ *
+ * @since 1.0.0
+ */
+public class RateLimitedChatModel implements ChatModel {
+
+	private final ChatModel chatModel;
+
+	private final RateLimitGovernor governor;
+
+	private final String provider;
+
+	private final TokenCountEstimator tokenCountEstimator;
+
+	public RateLimitedChatModel(ChatModel chatModel, RateLimitGovernor governor, String provider) {
+		this(chatModel, governor, provider, new JTokkitTokenCountEstimator());
+	}
+
+	public RateLimitedChatModel(ChatModel chatModel, RateLimitGovernor governor, String provider,
+			TokenCountEstimator tokenCountEstimator) {
+		Assert.notNull(chatModel, "chatModel cannot be null");
+		Assert.notNull(governor, "governor cannot be null");
+		Assert.hasText(provider, "provider cannot be null or empty");
+		Assert.notNull(tokenCountEstimator, "tokenCountEstimator cannot be null");
+		this.chatModel = chatModel;
+		this.governor = governor;
+		this.provider = provider;
+		this.tokenCountEstimator = tokenCountEstimator;
+	}
+
+	@Override
+	public ChatResponse call(Prompt prompt) {
+		try (RateLimitGovernor.Permit permit = acquire(this.governor, this.provider, prompt,
+				this.chatModel.getDefaultOptions(), this.tokenCountEstimator)) {
+			try {
+				ChatResponse response = this.chatModel.call(prompt);
+				complete(permit, response);
+				return response;
+			}
+			catch (RuntimeException ex) {
+				if (RateLimitGovernor.isRateLimitError(ex)) {
+					permit.rateLimited();
+				}
+				throw ex;
+			}
+		}
+	}
+
+	@Override
+	public Flux<ChatResponse> stream(Prompt prompt) {
+		return stream(this.chatModel, this.chatModel.getDefaultOptions(), this.governor, this.provider, prompt,
+				this.tokenCountEstimator);
+	}
+
+	@Override
+	public ChatOptions getDefaultOptions() {
+		return this.chatModel.getDefaultOptions();
+	}
+
+	static Flux<ChatResponse> stream(StreamingChatModel streamingChatModel, @Nullable ChatOptions defaultOptions,
+			RateLimitGovernor governor, String provider, Prompt prompt, TokenCountEstimator tokenCountEstimator) {
+		return Flux.defer(() -> {
+			RateLimitGovernor.Permit permit = acquire(governor, provider, prompt, defaultOptions, tokenCountEstimator);
+			AtomicReference<ChatResponse> lastResponse = new AtomicReference<>();
+			return streamingChatModel.stream(prompt)
+				.doOnNext(lastResponse::set)
+				.doOnComplete(() -> complete(permit, lastResponse.get()))
+				.doOnError(ex -> {
+					if (RateLimitGovernor.isRateLimitError(ex)) {
+						permit.rateLimited();
+					}
+				})
+				.doFinally(signalType -> permit.close());
+		}).subscribeOn(Schedulers.boundedElastic());
+	}
+
+	private static RateLimitGovernor.Permit acquire(RateLimitGovernor governor, String provider, Prompt prompt,
+			@Nullable ChatOptions defaultOptions, TokenCountEstimator tokenCountEstimator) {
+		ChatOptions options = prompt.getOptions() != null ? prompt.getOptions() : defaultOptions;
+		String model = options != null ? options.getModel() : null;
+		if (model == null && defaultOptions != null) {
+			model = defaultOptions.getModel();
+		}
+		long estimatedTokens = 0;
+		for (Message message : prompt.getInstructions()) {
+			estimatedTokens += tokenCountEstimator.estimate(message.getText());
+		}
+		if (options != null && options.getMaxTokens() != null) {
+			estimatedTokens += options.getMaxTokens();
+		}
+		return governor.acquire(provider, model, estimatedTokens);
+	}
+
+	private static void complete(RateLimitGovernor.Permit permit, @Nullable ChatResponse response) {
+		if (response == null || response.getMetadata() == null) {
+			permit.complete(null, null);
+			return;
+		}
+		ChatResponseMetadata metadata = response.getMetadata();
+		Long totalTokens = (metadata.getUsage() != null && metadata.getUsage().getTotalTokens() != null)
+				? metadata.getUsage().getTotalTokens().longValue() : null;
+		permit.complete(metadata.getRateLimit(), totalTokens);
+	}
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.retry.ratelimit;
+
+import org.springframework.ai.chat.metadata.RateLimit;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.ai.embedding.EmbeddingResponseMetadata;
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+import org.springframework.util.Assert;
+
+/**
+ * {@link EmbeddingModel} decorator that admits calls through a {@link RateLimitGovernor}
+ * before delegating them. The token cost of a call is estimated from the input texts and
+ * reconciled with the usage reported in the response. A {@link RateLimit} stored in the
+ * response metadata under the {@link EmbeddingResponseMetadata#RATE_LIMIT_KEY} key, as
+ * the OpenAI embedding model does from the {@literal x-ratelimit-*} response headers, is
+ * used to seed the limits.
+ *
+ * @since 1.0.0
+ */
+public class RateLimitedEmbeddingModel implements EmbeddingModel {
+
+	private final EmbeddingModel embeddingModel;
+
+	private final RateLimitGovernor governor;
+
+	private final String provider;
+
+	private final TokenCountEstimator tokenCountEstimator;
+
+	public RateLimitedEmbeddingModel(EmbeddingModel embeddingModel, RateLimitGovernor governor, String provider) {
+		this(embeddingModel, governor, provider, new JTokkitTokenCountEstimator());
+	}
+
+	public RateLimitedEmbeddingModel(EmbeddingModel embeddingModel, RateLimitGovernor governor, String provider,
+			TokenCountEstimator tokenCountEstimator) {
+		Assert.notNull(embeddingModel, "embeddingModel cannot be null");
+		Assert.notNull(governor, "governor cannot be null");
+		Assert.hasText(provider, "provider cannot be null or empty");
+		Assert.notNull(tokenCountEstimator, "tokenCountEstimator cannot be null");
+		this.embeddingModel = embeddingModel;
+		this.governor = governor;
+		this.provider = provider;
+		this.tokenCountEstimator = tokenCountEstimator;
+	}
+
+	@Override
+	public EmbeddingResponse call(EmbeddingRequest request) {
+		String model = request.getOptions() != null ? request.getOptions().getModel() : null;
+		long estimatedTokens = 0;
+		for (String text : request.getInstructions()) {
+			estimatedTokens += this.tokenCountEstimator.estimate(text);
+		}
+		try (RateLimitGovernor.Permit permit = this.governor.acquire(this.provider, model, estimatedTokens)) {
+			try {
+				EmbeddingResponse response = this.embeddingModel.call(request);
+				RateLimit rateLimit = null;
+				Long totalTokens = null;
+				if (response.getMetadata() != null) {
+					Object limitMetadata = response.getMetadata().get(EmbeddingResponseMetadata.RATE_LIMIT_KEY);
+					if (limitMetadata instanceof RateLimit limit) {
+						rateLimit = limit;
+					}
+					if (response.getMetadata().getUsage() != null
+							&& response.getMetadata().getUsage().getTotalTokens() != null) {
+						totalTokens = response.getMetadata().getUsage().getTotalTokens().longValue();
+					}
+				}
+				permit.complete(rateLimit, totalTokens);
+				return response;
+			}
+			catch (RuntimeException ex) {
+				onError(permit, ex);
+				throw ex;
+			}
+		}
+	}
+
+	@Override
+	public float[] embed(Document document) {
+		// the delegate embeds the document its own way, so neither the model nor the
+		// usage of the call are known
+		long estimatedTokens = this.tokenCountEstimator.estimate(document.getFormattedContent());
+		try (RateLimitGovernor.Permit permit = this.governor.acquire(this.provider, null, estimatedTokens)) {
+			try {
+				float[] embedding = this.embeddingModel.embed(document);
+				permit.complete(null, null);
+				return embedding;
+			}
+			catch (RuntimeException ex) {
+				onError(permit, ex);
+				throw ex;
+			}
+		}
+	}
+
+	@Override
+	public int dimensions() {
+		return this.embeddingModel.dimensions();
+	}
+
+	private static void onError(RateLimitGovernor.Permit permit, RuntimeException ex) {
+		if (RateLimitGovernor.isRateLimitError(ex)) {
+			permit.rateLimited();
+		}
+	}
+
+}
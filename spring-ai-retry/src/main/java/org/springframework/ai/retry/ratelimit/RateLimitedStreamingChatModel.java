@@ -0,0 +1,69 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.retry.ratelimit;
+
+import reactor.core.publisher.Flux;
+
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.StreamingChatModel;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+import org.springframework.util.Assert;
+
+/**
+ * {@link StreamingChatModel} decorator that admits streams through a
+ * {@link RateLimitGovernor}. The permit is held until the stream terminates or is
+ * cancelled.
+ *
+ * @since 1.0.0
+ * @see RateLimitedChatModel
+ */
+public class RateLimitedStreamingChatModel implements StreamingChatModel {
+
+	private final StreamingChatModel streamingChatModel;
+
+	private final RateLimitGovernor governor;
+
+	private final String provider;
+
+	private final TokenCountEstimator tokenCountEstimator;
+
+	public RateLimitedStreamingChatModel(StreamingChatModel streamingChatModel, RateLimitGovernor governor,
+			String provider) {
+		this(streamingChatModel, governor, provider, new JTokkitTokenCountEstimator());
+	}
+
+	public RateLimitedStreamingChatModel(StreamingChatModel streamingChatModel, RateLimitGovernor governor,
+			String provider, TokenCountEstimator tokenCountEstimator) {
+		Assert.notNull(streamingChatModel, "streamingChatModel cannot be null");
+		Assert.notNull(governor, "governor cannot be null");
+		Assert.hasText(provider, "provider cannot be null or empty");
+		Assert.notNull(tokenCountEstimator, "tokenCountEstimator cannot be null");
+		this.streamingChatModel = streamingChatModel;
+		this.governor = governor;
+		this.provider = provider;
+		this.tokenCountEstimator = tokenCountEstimator;
+	}
+
+	@Override
+	public Flux<ChatResponse> stream(Prompt prompt) {
+		return RateLimitedChatModel.stream(this.streamingChatModel, null, this.governor, this.provider, prompt,
+				this.tokenCountEstimator);
+	}
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.retry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.web.client.RestClientResponseException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link RetryAfterAwareRetry}, {@link RetryAfterBackOffPolicy} and
+ * {@link RetryUtils#retryBeforeFirstElement(Flux, reactor.util.retry.Retry)}.
+ */
+class RetryAfterAwareRetryTests {
+
+	private final RetryAfterAwareRetry retry = RetryAfterAwareRetry.builder()
+		.maxRetries(3)
+		.backoff(Duration.ofMillis(1), 2, Duration.ofMillis(5))
+		.build();
+
+	@Test
+	void retriesTransientFailuresBeforeFirstElement() {
+		AtomicInteger attempts = new AtomicInteger();
+		Flux<String> source = Flux.defer(() -> attempts.incrementAndGet() < 3
+				? Flux.error(new TransientAiException("503 - unavailable")) : Flux.just("a", "b"));
+
+		List<String> result = RetryUtils.retryBeforeFirstElement(source, this.retry).collectList().block();
+
+		assertThat(result).containsExactly("a", "b");
+		assertThat(attempts).hasValue(3);
+	}
+
+	@Test
+	void doesNotRetryAfterFirstElement() {
+		AtomicInteger attempts = new AtomicInteger();
+		Flux<String> source = Flux.defer(() -> {
+			attempts.incrementAndGet();
+			return Flux.concat(Flux.just("a"), Flux.error(new TransientAiException("connection reset")));
+		});
+		List<String> received = new ArrayList<>();
+
+		assertThatThrownBy(
+				() -> RetryUtils.retryBeforeFirstElement(source, this.retry).doOnNext(received::add).blockLast())
+			.isInstanceOf(TransientAiException.class);
+		assertThat(received).containsExactly("a");
+		assertThat(attempts).hasValue(1);
+	}
+
+	@Test
+	void doesNotRetryNonTransientFailures() {
+		AtomicInteger attempts = new AtomicInteger();
+		Flux<String> source = Flux.defer(() -> {
+			attempts.incrementAndGet();
+			return Flux.error(new NonTransientAiException("401 - Unauthorized"));
+		});
+
+		assertThatThrownBy(() -> source.retryWhen(this.retry).blockLast()).isInstanceOf(NonTransientAiException.class);
+		assertThat(attempts).hasValue(1);
+	}
+
+	@Test
+	void stopsAfterMaxRetries() {
+		AtomicInteger attempts = new AtomicInteger();
+		Flux<String> source = Flux.defer(() -> {
+			attempts.incrementAndGet();
+			return Flux.error(new TransientAiException("503 - unavailable"));
+		});
+
+		assertThatThrownBy(() -> source.retryWhen(this.retry).blockLast()).isInstanceOf(TransientAiException.class);
+		assertThat(attempts).hasValue(4);
+	}
+
+	@Test
+	void stopsWhenBudgetIsSpent() {
+		RetryAfterAwareRetry budgeted = RetryAfterAwareRetry.builder()
+			.maxRetries(10)
+			.backoff(Duration.ofMillis(1), 1, Duration.ofMillis(1))
+			.retryBudget(new RetryBudget(2, Duration.ofHours(1)))
+			.build();
+		AtomicInteger attempts = new AtomicInteger();
+		Flux<String> source = Flux.defer(() -> {
+			attempts.incrementAndGet();
+			return Flux.error(new TransientAiException("503 - unavailable"));
+		});
+
+		assertThatThrownBy(() -> source.retryWhen(budgeted).blockLast()).isInstanceOf(TransientAiException.class);
+		assertThat(attempts).hasValue(3);
+	}
+
+	@Test
+	void serverDelayTakesPrecedenceAndIsCapped() {
+		RetryAfterAwareRetry retry = RetryAfterAwareRetry.builder()
+			.backoff(Duration.ofMillis(100), 2, Duration.ofSeconds(1))
+			.jitterFactor(0)
+			.maxServerDelay(Duration.ofSeconds(10))
+			.build();
+
+		assertThat(retry.computeDelay(0, Duration.ofSeconds(4))).isEqualTo(Duration.ofSeconds(4));
+		assertThat(retry.computeDelay(0, Duration.ofMinutes(4))).isEqualTo(Duration.ofSeconds(10));
+		assertThat(retry.computeDelay(0, null)).isEqualTo(Duration.ofMillis(100));
+		assertThat(retry.computeDelay(2, null)).isEqualTo(Duration.ofMillis(400));
+		assertThat(retry.computeDelay(10, null)).isEqualTo(Duration.ofSeconds(1));
+	}
+
+	@Test
+	void backOffPolicyUsesServerDelay() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.RETRY_AFTER, "2");
+		RestClientResponseException cause = new RestClientResponseException("503", HttpStatus.SERVICE_UNAVAILABLE,
+				"Service Unavailable", headers, new byte[0], StandardCharsets.UTF_8);
+		List<Long> sleeps = new ArrayList<>();
+		RetryAfterBackOffPolicy backOffPolicy = new RetryAfterBackOffPolicy();
+		backOffPolicy.setSleeper(sleeps::add);
+		RetryTemplate retryTemplate = RetryTemplate.builder()
+			.maxAttempts(3)
+			.retryOn(TransientAiException.class)
+			.customBackoff(backOffPolicy)
+			.build();
+		AtomicInteger attempts = new AtomicInteger();
+
+		String result = retryTemplate.execute(context -> {
+			if (attempts.incrementAndGet() < 3) {
+				throw new TransientAiException("503 - unavailable", cause);
+			}
+			return "ok";
+		});
+
+		assertThat(result).isEqualTo("ok");
+		assertThat(sleeps).containsExactly(2000L, 2000L);
+	}
+
+}
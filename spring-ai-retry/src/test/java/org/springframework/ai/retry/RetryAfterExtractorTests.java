@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.retry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link RetryAfterExtractor}.
+ */
+class RetryAfterExtractorTests {
+
+	private final Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+	@Test
+	void retryAfterSeconds() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.RETRY_AFTER, "7");
+		assertThat(RetryAfterExtractor.extract(headers, this.clock)).isEqualTo(Duration.ofSeconds(7));
+	}
+
+	@Test
+	void retryAfterHttpDate() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.RETRY_AFTER, "Wed, 01 Jan 2025 00:00:30 GMT");
+		assertThat(RetryAfterExtractor.extract(headers, this.clock)).isEqualTo(Duration.ofSeconds(30));
+	}
+
+	@Test
+	void retryAfterMillisTakesPrecedence() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.RETRY_AFTER, "7");
+		headers.set(RetryAfterExtractor.RETRY_AFTER_MS_HEADER, "1500");
+		assertThat(RetryAfterExtractor.extract(headers, this.clock)).isEqualTo(Duration.ofMillis(1500));
+	}
+
+	@Test
+	void resetOfExhaustedLimitIsUsed() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set("x-ratelimit-remaining-requests", "10");
+		headers.set("x-ratelimit-reset-requests", "6m0s");
+		headers.set("x-ratelimit-remaining-tokens", "0");
+		headers.set("x-ratelimit-reset-tokens", "1s200ms");
+		assertThat(RetryAfterExtractor.extract(headers, this.clock)).isEqualTo(Duration.ofMillis(1200));
+	}
+
+	@Test
+	void resetTimestamp() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set("anthropic-ratelimit-requests-remaining", "0");
+		headers.set("anthropic-ratelimit-requests-reset", "2025-01-01T00:00:05Z");
+		assertThat(RetryAfterExtractor.extract(headers, this.clock)).isEqualTo(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void noHeaders() {
+		assertThat(RetryAfterExtractor.extract(new HttpHeaders(), this.clock)).isNull();
+		assertThat(RetryAfterExtractor.extract(new RuntimeException("boom"))).isNull();
+		assertThat(RetryAfterExtractor.extract(null)).isNull();
+	}
+
+	@Test
+	void extractFromExceptions() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.RETRY_AFTER, "3");
+
+		WebClientResponseException webClientException = WebClientResponseException
+			.create(HttpStatus.TOO_MANY_REQUESTS.value(), "Too Many Requests", headers, new byte[0], null);
+		assertThat(RetryAfterExtractor.extract(webClientException)).isEqualTo(Duration.ofSeconds(3));
+
+		RestClientResponseException restClientException = new RestClientResponseException("429",
+				HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, new byte[0], StandardCharsets.UTF_8);
+		assertThat(RetryAfterExtractor.extract(new NonTransientAiException("429", restClientException)))
+			.isEqualTo(Duration.ofSeconds(3));
+	}
+
+}
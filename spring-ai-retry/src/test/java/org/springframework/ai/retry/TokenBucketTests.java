@@ -0,0 +1,91 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.retry;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link TokenBucket}.
+ */
+class TokenBucketTests {
+
+	private final AtomicLong clock = new AtomicLong();
+
+	@Test
+	void unboundedBucketNeverWaits() {
+		TokenBucket bucket = new TokenBucket();
+		assertThat(bucket.isBounded()).isFalse();
+		assertThat(bucket.tryConsume(1_000_000)).isTrue();
+		assertThat(bucket.nanosUntilAvailable(1_000_000)).isZero();
+	}
+
+	@Test
+	void consumesUntilEmptyThenRefills() {
+		TokenBucket bucket = new TokenBucket(2, 1, this.clock::get);
+		assertThat(bucket.tryConsume(1)).isTrue();
+		assertThat(bucket.tryConsume(1)).isTrue();
+		assertThat(bucket.tryConsume(1)).isFalse();
+		assertThat(bucket.nanosUntilAvailable(1)).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+
+		this.clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+		assertThat(bucket.tryConsume(1)).isTrue();
+	}
+
+	@Test
+	void oversizedRequestIsAdmittedWhenFullAndLeavesDebt() {
+		TokenBucket bucket = new TokenBucket(10, 10, this.clock::get);
+		assertThat(bucket.tryConsume(25)).isTrue();
+		assertThat(bucket.getAvailable()).isEqualTo(-15);
+		assertThat(bucket.nanosUntilAvailable(1)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(1600));
+	}
+
+	@Test
+	void syncRemainingOnlyLowersLevel() {
+		TokenBucket bucket = new TokenBucket(100, 1, this.clock::get);
+		bucket.syncRemaining(40);
+		assertThat(bucket.getAvailable()).isEqualTo(40);
+		bucket.syncRemaining(90);
+		assertThat(bucket.getAvailable()).isEqualTo(40);
+	}
+
+	@Test
+	void reconfigureKeepsLevelWithinCapacity() {
+		TokenBucket bucket = new TokenBucket(100, 1, this.clock::get);
+		bucket.reconfigure(10, 1);
+		assertThat(bucket.getAvailable()).isEqualTo(10);
+
+		TokenBucket unbounded = new TokenBucket(0, 0, this.clock::get);
+		unbounded.reconfigure(50, 1);
+		assertThat(unbounded.getAvailable()).isEqualTo(50);
+	}
+
+	@Test
+	void creditReconcilesEstimate() {
+		TokenBucket bucket = new TokenBucket(100, 1, this.clock::get);
+		bucket.tryConsume(60);
+		bucket.credit(20);
+		assertThat(bucket.getAvailable()).isEqualTo(60);
+		bucket.credit(-30);
+		assertThat(bucket.getAvailable()).isEqualTo(30);
+	}
+
+}
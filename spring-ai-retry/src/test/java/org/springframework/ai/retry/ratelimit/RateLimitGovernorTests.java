@@ -0,0 +1,166 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.retry.ratelimit;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.metadata.EmptyRateLimit;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link RateLimitGovernor}, {@link RateLimitedChatModel} and
+ * {@link RateLimitedEmbeddingModel}.
+ */
+class RateLimitGovernorTests {
+
+	@Test
+	void whenProviderIsEmptyThenThrow() {
+		RateLimitGovernor governor = RateLimitGovernor.builder().build();
+		assertThatThrownBy(() -> governor.acquire("", "gpt-4o", 1)).isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("provider cannot be null or empty");
+	}
+
+	@Test
+	void whenNoLimitsThenCallsAreAdmitted() {
+		RateLimitGovernor governor = RateLimitGovernor.builder().build();
+		for (int i = 0; i < 100; i++) {
+			try (RateLimitGovernor.Permit permit = governor.acquire("openai", "gpt-4o", 1000)) {
+				permit.complete(null, null);
+			}
+		}
+	}
+
+	@Test
+	void whenRequestBudgetIsExhaustedThenCallerTimesOut() {
+		RateLimitGovernor governor = RateLimitGovernor.builder()
+			.defaultRequestsPerWindow(1)
+			.window(Duration.ofHours(1))
+			.maxWait(Duration.ofMillis(50))
+			.build();
+
+		governor.acquire("openai", "gpt-4o", 0).close();
+
+		assertThatThrownBy(() -> governor.acquire("openai", "gpt-4o", 0)).isInstanceOf(TransientAiException.class)
+			.hasMessageContaining("openai:gpt-4o");
+		// Limits are tracked per model.
+		governor.acquire("openai", "gpt-4o-mini", 0).close();
+	}
+
+	@Test
+	void whenConcurrencyLimitIsReachedThenCallerTimesOut() {
+		RateLimitGovernor governor = RateLimitGovernor.builder()
+			.maxConcurrentRequests(1)
+			.maxWait(Duration.ofMillis(50))
+			.build();
+
+		try (RateLimitGovernor.Permit permit = governor.acquire("ollama", "llama3", 0)) {
+			assertThatThrownBy(() -> governor.acquire("ollama", "llama3", 0)).isInstanceOf(TransientAiException.class);
+		}
+		governor.acquire("ollama", "llama3", 0).close();
+	}
+
+	@Test
+	void whenRateLimitedThenRateFactorDecreasesAndRecovers() {
+		RateLimitGovernor governor = RateLimitGovernor.builder()
+			.defaultRequestsPerWindow(1000)
+			.decreaseFactor(0.5)
+			.increaseStep(0.25)
+			.build();
+
+		try (RateLimitGovernor.Permit permit = governor.acquire("openai", "gpt-4o", 0)) {
+			permit.rateLimited();
+		}
+		assertThat(governor.getRateFactor("openai", "gpt-4o")).isEqualTo(0.5);
+
+		governor.acquire("openai", "gpt-4o", 0).complete(null, null);
+		assertThat(governor.getRateFactor("openai", "gpt-4o")).isEqualTo(0.75);
+	}
+
+	@Test
+	void detectsRateLimitErrors() {
+		assertThat(RateLimitGovernor.isRateLimitError(new NonTransientAiException("429 - Rate limit reached")))
+			.isTrue();
+		assertThat(RateLimitGovernor.isRateLimitError(new RuntimeException(
+				HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null))))
+			.isTrue();
+		assertThat(RateLimitGovernor.isRateLimitError(new NonTransientAiException("401 - Incorrect API key")))
+			.isFalse();
+		assertThat(RateLimitGovernor.isRateLimitError(null)).isFalse();
+	}
+
+	@Test
+	void chatModelReportsRateLimitErrorsToGovernor() {
+		ChatModel delegate = mock(ChatModel.class);
+		given(delegate.call(any(Prompt.class))).willThrow(new NonTransientAiException("429 - Rate limit reached"));
+		RateLimitGovernor governor = RateLimitGovernor.builder().defaultRequestsPerWindow(100).build();
+		RateLimitedChatModel chatModel = new RateLimitedChatModel(delegate, governor, "openai");
+
+		assertThatThrownBy(() -> chatModel.call(new Prompt("Hello"))).isInstanceOf(NonTransientAiException.class);
+		assertThat(governor.getRateFactor("openai", null)).isLessThan(1.0);
+	}
+
+	@Test
+	void chatModelDelegatesAndCompletesPermit() {
+		ChatModel delegate = mock(ChatModel.class);
+		ChatResponse response = new ChatResponse(List.of(new Generation(new AssistantMessage("Hi"))),
+				ChatResponseMetadata.builder().usage(new DefaultUsage(5, 5)).rateLimit(new EmptyRateLimit()).build());
+		given(delegate.call(any(Prompt.class))).willReturn(response);
+		RateLimitGovernor governor = RateLimitGovernor.builder()
+			.maxConcurrentRequests(1)
+			.maxWait(Duration.ofMillis(50))
+			.build();
+		RateLimitedChatModel chatModel = new RateLimitedChatModel(delegate, governor, "openai");
+
+		assertThat(chatModel.call(new Prompt("Hello"))).isSameAs(response);
+		// The permit has been released.
+		assertThat(chatModel.call(new Prompt("Hello"))).isSameAs(response);
+	}
+
+	@Test
+	void embeddingModelAdmitsDocumentEmbeddingsThroughGovernor() {
+		EmbeddingModel delegate = mock(EmbeddingModel.class);
+		given(delegate.embed(any(Document.class))).willThrow(new NonTransientAiException("429 - Rate limit reached"));
+		RateLimitGovernor governor = RateLimitGovernor.builder().defaultRequestsPerWindow(100).build();
+		RateLimitedEmbeddingModel embeddingModel = new RateLimitedEmbeddingModel(delegate, governor, "openai");
+
+		assertThatThrownBy(() -> embeddingModel.embed(new Document("Hello")))
+			.isInstanceOf(NonTransientAiException.class);
+		assertThat(governor.getRateFactor("openai", null)).isLessThan(1.0);
+	}
+
+}
@@ -16,12 +16,16 @@
 
 package org.springframework.ai.vectorstore;
 
+import java.util.List;
+import java.util.concurrent.Executor;
+
 import io.micrometer.observation.ObservationRegistry;
 
 import org.springframework.ai.embedding.BatchingStrategy;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.embedding.TokenCountBatchingStrategy;
 import org.springframework.ai.vectorstore.observation.VectorStoreObservationConvention;
+import org.springframework.ai.vectorstore.planner.FilteredSearchPlanner;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -44,6 +48,14 @@ public abstract class AbstractVectorStoreBuilder<T extends AbstractVectorStoreBu
 
 	protected BatchingStrategy batchingStrategy = new TokenCountBatchingStrategy();
 
+	@Nullable
+	protected Executor searchExecutor;
+
+	protected List<MetadataIndex> metadataIndexes = List.of();
+
+	@Nullable
+	protected FilteredSearchPlanner filteredSearchPlanner;
+
 	public AbstractVectorStoreBuilder(EmbeddingModel embeddingModel) {
 		Assert.notNull(embeddingModel, "EmbeddingModel must be configured");
 		this.embeddingModel = embeddingModel;
@@ -66,6 +78,20 @@ public abstract class AbstractVectorStoreBuilder<T extends AbstractVectorStoreBu
 		return this.customObservationConvention;
 	}
 
+	@Nullable
+	public Executor getSearchExecutor() {
+		return this.searchExecutor;
+	}
+
+	public List<MetadataIndex> getMetadataIndexes() {
+		return this.metadataIndexes;
+	}
+
+	@Nullable
+	public FilteredSearchPlanner getFilteredSearchPlanner() {
+		return this.filteredSearchPlanner;
+	}
+
 	/**
 	 * Returns this builder cast to the concrete builder type. Used internally to enable
 	 * proper method chaining in subclasses.
@@ -100,4 +126,57 @@ public abstract class AbstractVectorStoreBuilder<T extends AbstractVectorStoreBu
 		return self();
 	}
 
+	/**
+	 * Sets the executor running the searches of a batch concurrently, for stores that
+	 * cannot run them in a single request, and the blocking operations of the
+	 * {@link VectorStore#reactive() reactive view} of the store. Defaults to a shared
+	 * bounded pool of daemon threads for batches and to the bounded elastic scheduler for
+	 * the reactive view. The searches of a batch propagate the observation and logging
+	 * context of the caller to the executor.
+	 * @param searchExecutor the executor to use
+	 * @return the builder instance
+	 */
+	public T searchExecutor(Executor searchExecutor) {
+		Assert.notNull(searchExecutor, "SearchExecutor must not be null");
+		this.searchExecutor = searchExecutor;
+		return self();
+	}
+
+	/**
+	 * Declares the metadata keys that filter expressions use. Stores with native metadata
+	 * indexes create them when initializing their schema, and the searches filtering on a
+	 * key that the store does not index log a warning.
+	 * @param metadataIndexes the metadata index declarations
+	 * @return the builder instance
+	 */
+	public T metadataIndexes(MetadataIndex... metadataIndexes) {
+		Assert.notNull(metadataIndexes, "MetadataIndexes must not be null");
+		return this.metadataIndexes(List.of(metadataIndexes));
+	}
+
+	/**
+	 * Declares the metadata keys that filter expressions use.
+	 * @param metadataIndexes the metadata index declarations
+	 * @return the builder instance
+	 * @see #metadataIndexes(MetadataIndex...)
+	 */
+	public T metadataIndexes(List<MetadataIndex> metadataIndexes) {
+		Assert.notNull(metadataIndexes, "MetadataIndexes must not be null");
+		Assert.noNullElements(metadataIndexes, "MetadataIndexes must not contain null elements");
+		this.metadataIndexes = List.copyOf(metadataIndexes);
+		return self();
+	}
+
+	/**
+	 * Sets the planner choosing how the searches with a filter expression apply it, from
+	 * statistics sampled from the store. Stores that do not support planning ignore it.
+	 * @param filteredSearchPlanner the planner to use
+	 * @return the builder instance
+	 */
+	public T filteredSearchPlanner(FilteredSearchPlanner filteredSearchPlanner) {
+		Assert.notNull(filteredSearchPlanner, "FilteredSearchPlanner must not be null");
+		this.filteredSearchPlanner = filteredSearchPlanner;
+		return self();
+	}
+
 }
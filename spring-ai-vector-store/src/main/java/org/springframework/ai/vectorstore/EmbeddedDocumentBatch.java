@@ -0,0 +1,217 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.BatchingStrategy;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
+import org.springframework.util.Assert;
+
+/**
+ * An immutable batch of documents to add to a {@link VectorStore} together with their
+ * embeddings. The embedding at a given position belongs to the document at the same
+ * position, so vector stores can pair them by index rather than by looking up each
+ * document in the list, which is linear for every document and returns the first of
+ * several documents that are equal.
+ *
+ * @since 1.0.0
+ * @see org.springframework.ai.vectorstore.observation.AbstractObservationVectorStore
+ */
+public final class EmbeddedDocumentBatch implements Iterable<EmbeddedDocumentBatch.EmbeddedDocument> {
+
+	private final List<Document> documents;
+
+	private final float[][] embeddings;
+
+	private final int offset;
+
+	private final int size;
+
+	private EmbeddedDocumentBatch(List<Document> documents, float[][] embeddings, int offset, int size) {
+		this.documents = documents;
+		this.embeddings = embeddings;
+		this.offset = offset;
+		this.size = size;
+	}
+
+	/**
+	 * Creates a batch from documents and the embeddings computed for them, in the same
+	 * order.
+	 * @param documents the documents
+	 * @param embeddings the embedding of each document, in the order of the documents
+	 * @return the batch
+	 * @throws IllegalArgumentException if the number of embeddings does not match the
+	 * number of documents
+	 */
+	public static EmbeddedDocumentBatch of(List<Document> documents, List<float[]> embeddings) {
+		Assert.notNull(documents, "documents cannot be null");
+		Assert.notNull(embeddings, "embeddings cannot be null");
+		Assert.isTrue(documents.size() == embeddings.size(), () -> "The number of embeddings (" + embeddings.size()
+				+ ") must match the number of documents (" + documents.size() + ")");
+		return new EmbeddedDocumentBatch(List.copyOf(documents), embeddings.toArray(new float[0][]), 0,
+				documents.size());
+	}
+
+	/**
+	 * Embeds the given documents with the embedding model, sending them in batches as
+	 * decided by the batching strategy.
+	 * @param documents the documents to embed
+	 * @param embeddingModel the embedding model
+	 * @param batchingStrategy the strategy splitting the documents into embedding
+	 * requests
+	 * @return the batch of the documents and their embeddings
+	 */
+	public static EmbeddedDocumentBatch embed(List<Document> documents, EmbeddingModel embeddingModel,
+			BatchingStrategy batchingStrategy) {
+		Assert.notNull(documents, "documents cannot be null");
+		Assert.notNull(embeddingModel, "embeddingModel cannot be null");
+		Assert.notNull(batchingStrategy, "batchingStrategy cannot be null");
+		if (documents.isEmpty()) {
+			return of(documents, List.of());
+		}
+		return of(documents,
+				embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(), batchingStrategy));
+	}
+
+	public int size() {
+		return this.size;
+	}
+
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	public Document getDocument(int index) {
+		return this.documents.get(this.offset + checkIndex(index));
+	}
+
+	public float[] getEmbedding(int index) {
+		return this.embeddings[this.offset + checkIndex(index)];
+	}
+
+	/**
+	 * Returns the documents of this batch, in order.
+	 * @return an unmodifiable view of the documents
+	 */
+	public List<Document> getDocuments() {
+		return this.documents.subList(this.offset, this.offset + this.size);
+	}
+
+	/**
+	 * Returns the embeddings of this batch, in the order of the documents.
+	 * @return an unmodifiable view of the embeddings
+	 */
+	public List<float[]> getEmbeddings() {
+		return new AbstractList<>() {
+
+			@Override
+			public float[] get(int index) {
+				return getEmbedding(index);
+			}
+
+			@Override
+			public int size() {
+				return EmbeddedDocumentBatch.this.size;
+			}
+
+		};
+	}
+
+	/**
+	 * Returns a view of a range of this batch, without copying the documents or the
+	 * embeddings.
+	 * @param fromIndex the first position, inclusive
+	 * @param toIndex the last position, exclusive
+	 * @return the batch of the documents between the two positions
+	 */
+	public EmbeddedDocumentBatch subBatch(int fromIndex, int toIndex) {
+		Assert.isTrue(0 <= fromIndex && fromIndex <= toIndex && toIndex <= this.size,
+				() -> "Invalid range [" + fromIndex + ", " + toIndex + ") for a batch of size " + this.size);
+		return new EmbeddedDocumentBatch(this.documents, this.embeddings, this.offset + fromIndex, toIndex - fromIndex);
+	}
+
+	/**
+	 * Splits this batch into consecutive views of at most the given size.
+	 * @param maxSize the maximum size of each batch
+	 * @return the batches, in order
+	 */
+	public List<EmbeddedDocumentBatch> partition(int maxSize) {
+		Assert.isTrue(maxSize > 0, "maxSize must be greater than 0");
+		List<EmbeddedDocumentBatch> batches = new ArrayList<>((this.size + maxSize - 1) / maxSize);
+		for (int from = 0; from < this.size; from += maxSize) {
+			batches.add(subBatch(from, Math.min(from + maxSize, this.size)));
+		}
+		return batches;
+	}
+
+	public Stream<EmbeddedDocument> stream() {
+		return IntStream.range(0, this.size).mapToObj(this::get);
+	}
+
+	@Override
+	public Iterator<EmbeddedDocument> iterator() {
+		return new Iterator<>() {
+
+			private int next;
+
+			@Override
+			public boolean hasNext() {
+				return this.next < EmbeddedDocumentBatch.this.size;
+			}
+
+			@Override
+			public EmbeddedDocument next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return get(this.next++);
+			}
+
+		};
+	}
+
+	private EmbeddedDocument get(int index) {
+		return new EmbeddedDocument(getDocument(index), getEmbedding(index));
+	}
+
+	private int checkIndex(int index) {
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for a batch of size " + this.size);
+		}
+		return index;
+	}
+
+	/**
+	 * A document of a batch and its embedding.
+	 *
+	 * @param document the document
+	 * @param embedding the embedding of the document
+	 */
+	public record EmbeddedDocument(Document document, float[] embedding) {
+
+	}
+
+}
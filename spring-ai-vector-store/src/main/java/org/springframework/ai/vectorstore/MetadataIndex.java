@@ -0,0 +1,105 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import org.springframework.util.Assert;
+
+/**
+ * Declares a document metadata key that filter expressions use, so that vector stores
+ * index it in their backend: as a payload index, a TAG or NUMERIC field, or a filter
+ * field. Declared with
+ * {@link AbstractVectorStoreBuilder#metadataIndexes(MetadataIndex...)}.
+ *
+ * @param name the metadata key
+ * @param type the type of the values of the key
+ * @param cardinality a hint of the number of distinct values of the key, which stores use
+ * where their index has an option for it
+ * @since 1.0.0
+ */
+public record MetadataIndex(String name, Type type, Cardinality cardinality) {
+
+	public MetadataIndex {
+		Assert.hasText(name, "name must not be empty");
+		Assert.notNull(type, "type must not be null");
+		Assert.notNull(cardinality, "cardinality must not be null");
+	}
+
+	/**
+	 * Declares a key whose string values are matched as a whole, such as a category.
+	 */
+	public static MetadataIndex keyword(String name) {
+		return new MetadataIndex(name, Type.KEYWORD, Cardinality.UNKNOWN);
+	}
+
+	/**
+	 * Declares a key whose string values are free text.
+	 */
+	public static MetadataIndex text(String name) {
+		return new MetadataIndex(name, Type.TEXT, Cardinality.UNKNOWN);
+	}
+
+	public static MetadataIndex integer(String name) {
+		return new MetadataIndex(name, Type.INTEGER, Cardinality.UNKNOWN);
+	}
+
+	public static MetadataIndex number(String name) {
+		return new MetadataIndex(name, Type.NUMBER, Cardinality.UNKNOWN);
+	}
+
+	public static MetadataIndex bool(String name) {
+		return new MetadataIndex(name, Type.BOOLEAN, Cardinality.UNKNOWN);
+	}
+
+	/**
+	 * Returns a copy of this declaration with the given cardinality hint.
+	 */
+	public MetadataIndex withCardinality(Cardinality cardinality) {
+		return new MetadataIndex(this.name, this.type, cardinality);
+	}
+
+	/**
+	 * The type of the values of a metadata key.
+	 */
+	public enum Type {
+
+		KEYWORD, TEXT, INTEGER, NUMBER, BOOLEAN
+
+	}
+
+	/**
+	 * The number of distinct values of a metadata key.
+	 */
+	public enum Cardinality {
+
+		/**
+		 * No hint given.
+		 */
+		UNKNOWN,
+
+		/**
+		 * Few distinct values, such as a status or a language.
+		 */
+		LOW,
+
+		/**
+		 * Many distinct values, such as a user id.
+		 */
+		HIGH
+
+	}
+
+}
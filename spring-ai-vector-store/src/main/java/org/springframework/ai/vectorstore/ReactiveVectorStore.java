@@ -0,0 +1,121 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.util.List;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.ai.document.Document;
+import org.springframework.util.Assert;
+
+/**
+ * Non-blocking counterpart of {@link VectorStore}, for applications such as WebFlux
+ * services that must not block the thread retrieving documents. Obtain one with
+ * {@link VectorStore#reactive()}: vector stores with a non-blocking client return an
+ * implementation built on it, the others an adapter running the blocking operations on a
+ * scheduler.
+ *
+ * @since 1.0.0
+ */
+public interface ReactiveVectorStore {
+
+	default String getName() {
+		return this.getClass().getSimpleName();
+	}
+
+	/**
+	 * Adds documents to the vector store.
+	 * @param documents the documents to store
+	 * @return a {@link Mono} completing once the documents are stored
+	 */
+	Mono<Void> add(List<Document> documents);
+
+	/**
+	 * Deletes documents from the vector store.
+	 * @param idList the ids of the documents to remove
+	 * @return a {@link Mono} completing once the documents are removed
+	 */
+	Mono<Void> delete(List<String> idList);
+
+	/**
+	 * Retrieves the documents most similar to the query of the request, matching its
+	 * metadata filters.
+	 * @param request the search request, with the query text or embedding, topK,
+	 * similarity threshold and filter expression
+	 * @return a {@link Mono} of the matching documents
+	 */
+	Mono<List<Document>> similaritySearch(SearchRequest request);
+
+	/**
+	 * Retrieves the documents most similar to the query text, using the default
+	 * {@link SearchRequest} search criteria.
+	 * @param query the text to use for embedding similarity comparison
+	 * @return a {@link Mono} of the matching documents
+	 */
+	default Mono<List<Document>> similaritySearch(String query) {
+		return this.similaritySearch(SearchRequest.builder().query(query).build());
+	}
+
+	/**
+	 * Adapts a blocking {@link VectorStore}, running its operations on the bounded
+	 * elastic scheduler. On Java 21 and later, setting the
+	 * {@code reactor.schedulers.defaultBoundedElasticOnVirtualThreads} system property to
+	 * {@code true} makes that scheduler use virtual threads.
+	 */
+	static ReactiveVectorStore from(VectorStore vectorStore) {
+		return from(vectorStore, Schedulers.boundedElastic());
+	}
+
+	/**
+	 * Adapts a blocking {@link VectorStore}, running its operations on the given
+	 * scheduler.
+	 */
+	static ReactiveVectorStore from(VectorStore vectorStore, Scheduler scheduler) {
+		Assert.notNull(vectorStore, "vectorStore cannot be null");
+		Assert.notNull(scheduler, "scheduler cannot be null");
+		return new ReactiveVectorStore() {
+
+			@Override
+			public String getName() {
+				return vectorStore.getName();
+			}
+
+			@Override
+			public Mono<Void> add(List<Document> documents) {
+				return Mono.<Void>fromRunnable(() -> vectorStore.add(documents)).subscribeOn(scheduler);
+			}
+
+			@Override
+			public Mono<Void> delete(List<String> idList) {
+				return Mono.<Void>fromRunnable(() -> vectorStore.delete(idList)).subscribeOn(scheduler);
+			}
+
+			@Override
+			public Mono<List<Document>> similaritySearch(SearchRequest request) {
+				return Mono.fromCallable(() -> {
+					List<Document> documents = vectorStore.similaritySearch(request);
+					return (documents != null) ? documents : List.<Document>of();
+				}).subscribeOn(scheduler);
+			}
+
+		};
+	}
+
+}
@@ -16,9 +16,14 @@
 
 package org.springframework.ai.vectorstore;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import org.springframework.ai.document.Document;
+import org.springframework.ai.document.DocumentMetadata;
 import org.springframework.ai.vectorstore.filter.Filter;
 import org.springframework.ai.vectorstore.filter.FilterExpressionBuilder;
 import org.springframework.ai.vectorstore.filter.FilterExpressionTextParser;
@@ -52,6 +57,9 @@ public class SearchRequest {
 	 */
 	private String query = "";
 
+	@Nullable
+	private float[] queryEmbedding;
+
 	private int topK = DEFAULT_TOP_K;
 
 	private double similarityThreshold = SIMILARITY_THRESHOLD_ACCEPT_ALL;
@@ -59,6 +67,11 @@ public class SearchRequest {
 	@Nullable
 	private Filter.Expression filterExpression;
 
+	private Map<String, Object> hints = Map.of();
+
+	@Nullable
+	private String tenantId;
+
 	/**
 	 * Copy an existing {@link SearchRequest.Builder} instance.
 	 * @param originalSearchRequest {@link SearchRequest} instance to copy.
@@ -66,9 +79,12 @@ public class SearchRequest {
 	 */
 	public static Builder from(SearchRequest originalSearchRequest) {
 		return builder().query(originalSearchRequest.getQuery())
+			.queryEmbedding(originalSearchRequest.getQueryEmbedding())
 			.topK(originalSearchRequest.getTopK())
 			.similarityThreshold(originalSearchRequest.getSimilarityThreshold())
-			.filterExpression(originalSearchRequest.getFilterExpression());
+			.filterExpression(originalSearchRequest.getFilterExpression())
+			.hints(originalSearchRequest.getHints())
+			.tenantId(originalSearchRequest.getTenantId());
 	}
 
 	public SearchRequest() {
@@ -76,15 +92,32 @@ public class SearchRequest {
 
 	protected SearchRequest(SearchRequest original) {
 		this.query = original.query;
+		this.queryEmbedding = original.queryEmbedding;
 		this.topK = original.topK;
 		this.similarityThreshold = original.similarityThreshold;
 		this.filterExpression = original.filterExpression;
+		this.hints = original.hints;
+		this.tenantId = original.tenantId;
 	}
 
 	public String getQuery() {
 		return this.query;
 	}
 
+	/**
+	 * Returns the precomputed embedding to search with. When present, vector stores use
+	 * it instead of embedding the {@link #getQuery() query text}.
+	 * @return the query embedding, or {@code null} if the query text is to be embedded.
+	 */
+	@Nullable
+	public float[] getQueryEmbedding() {
+		return this.queryEmbedding;
+	}
+
+	public boolean hasQueryEmbedding() {
+		return this.queryEmbedding != null;
+	}
+
 	public int getTopK() {
 		return this.topK;
 	}
@@ -102,10 +135,42 @@ public class SearchRequest {
 		return this.filterExpression != null;
 	}
 
+	/**
+	 * Returns the store-specific hints tuning the execution of the search, such as the
+	 * breadth of an approximate nearest neighbor search. Stores ignore the hints they
+	 * don't support.
+	 * @return the hints by name, never {@code null}.
+	 */
+	public Map<String, Object> getHints() {
+		return this.hints;
+	}
+
+	@Nullable
+	public Object getHint(String name) {
+		return this.hints.get(name);
+	}
+
+	/**
+	 * Returns the tenant whose documents are searched. Vector stores supporting tenant
+	 * routing only search the partition, shard or group of the tenant, the others only
+	 * return the documents whose {@link DocumentMetadata#TENANT_ID} metadata matches it.
+	 * @return the tenant id, or {@code null} to search the documents of all tenants.
+	 */
+	@Nullable
+	public String getTenantId() {
+		return this.tenantId;
+	}
+
+	public boolean hasTenantId() {
+		return this.tenantId != null;
+	}
+
 	@Override
 	public String toString() {
-		return "SearchRequest{" + "query='" + this.query + '\'' + ", topK=" + this.topK + ", similarityThreshold="
-				+ this.similarityThreshold + ", filterExpression=" + this.filterExpression + '}';
+		return "SearchRequest{" + "query='" + this.query + '\'' + ", queryEmbedding="
+				+ (this.queryEmbedding != null ? "float[" + this.queryEmbedding.length + "]" : null) + ", topK="
+				+ this.topK + ", similarityThreshold=" + this.similarityThreshold + ", filterExpression="
+				+ this.filterExpression + ", hints=" + this.hints + ", tenantId=" + this.tenantId + '}';
 	}
 
 	@Override
@@ -118,13 +183,15 @@ public class SearchRequest {
 		}
 		SearchRequest that = (SearchRequest) o;
 		return this.topK == that.topK && Double.compare(that.similarityThreshold, this.similarityThreshold) == 0
-				&& Objects.equals(this.query, that.query)
-				&& Objects.equals(this.filterExpression, that.filterExpression);
+				&& Objects.equals(this.query, that.query) && Arrays.equals(this.queryEmbedding, that.queryEmbedding)
+				&& Objects.equals(this.filterExpression, that.filterExpression)
+				&& Objects.equals(this.hints, that.hints) && Objects.equals(this.tenantId, that.tenantId);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.query, this.topK, this.similarityThreshold, this.filterExpression);
+		return 31 * Objects.hash(this.query, this.topK, this.similarityThreshold, this.filterExpression, this.hints,
+				this.tenantId) + Arrays.hashCode(this.queryEmbedding);
 	}
 
 	/**
@@ -152,6 +219,20 @@ public class SearchRequest {
 			return this;
 		}
 
+		/**
+		 * Precomputed embedding to search with, for callers that already hold the vector
+		 * of the query. Vector stores use it instead of embedding the query text, which
+		 * then only serves observability. The value 'null' means the query text is
+		 * embedded.
+		 * @param queryEmbedding the embedding of the query.
+		 * @return this builder.
+		 */
+		public Builder queryEmbedding(@Nullable float[] queryEmbedding) {
+			Assert.isTrue(queryEmbedding == null || queryEmbedding.length > 0, "Query embedding must not be empty.");
+			this.searchRequest.queryEmbedding = queryEmbedding;
+			return this;
+		}
+
 		/**
 		 * @param topK the top 'k' similar results to return.
 		 * @return this builder.
@@ -287,6 +368,48 @@ public class SearchRequest {
 			return this;
 		}
 
+		/**
+		 * Store-specific hint tuning the execution of the search, such as the breadth of
+		 * an approximate nearest neighbor search. Stores ignore the hints they don't
+		 * support.
+		 * @param name the name of the hint, as documented by the store.
+		 * @param value the value of the hint.
+		 * @return this builder.
+		 */
+		public Builder hint(String name, Object value) {
+			Assert.hasText(name, "Hint name must not be empty.");
+			Assert.notNull(value, "Hint value must not be null.");
+			Map<String, Object> hints = new LinkedHashMap<>(this.searchRequest.hints);
+			hints.put(name, value);
+			this.searchRequest.hints = Collections.unmodifiableMap(hints);
+			return this;
+		}
+
+		/**
+		 * @param hints the store-specific hints tuning the execution of the search,
+		 * replacing the hints set so far.
+		 * @return this builder.
+		 * @see #hint(String, Object)
+		 */
+		public Builder hints(Map<String, Object> hints) {
+			Assert.notNull(hints, "Hints must not be null.");
+			Assert.noNullElements(hints.values(), "Hint values must not be null.");
+			this.searchRequest.hints = Collections.unmodifiableMap(new LinkedHashMap<>(hints));
+			return this;
+		}
+
+		/**
+		 * @param tenantId the tenant whose documents are searched, as stored in the
+		 * {@link DocumentMetadata#TENANT_ID} metadata of the documents. The 'null' value
+		 * searches the documents of all tenants.
+		 * @return this builder.
+		 */
+		public Builder tenantId(@Nullable String tenantId) {
+			Assert.isTrue(tenantId == null || !tenantId.isBlank(), "Tenant id must not be blank.");
+			this.searchRequest.tenantId = tenantId;
+			return this;
+		}
+
 		public SearchRequest build() {
 			return this.searchRequest;
 		}
@@ -25,6 +25,7 @@ import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
@@ -108,11 +109,20 @@ public class SimpleVectorStore extends AbstractObservationVectorStore {
 			throw new IllegalArgumentException("Documents list cannot be empty");
 		}
 
+		List<float[]> embeddings = new ArrayList<>(documents.size());
 		for (Document document : documents) {
 			logger.info("Calling EmbeddingModel for document id = {}", document.getId());
-			float[] embedding = this.embeddingModel.embed(document);
+			embeddings.add(this.embeddingModel.embed(document));
+		}
+		this.doAdd(EmbeddedDocumentBatch.of(documents, embeddings));
+	}
+
+	@Override
+	protected void doAdd(EmbeddedDocumentBatch batch) {
+		for (int i = 0; i < batch.size(); i++) {
+			Document document = batch.getDocument(i);
 			SimpleVectorStoreContent storeContent = new SimpleVectorStoreContent(document.getId(), document.getText(),
-					document.getMetadata(), embedding);
+					document.getMetadata(), batch.getEmbedding(i));
 			this.store.put(document.getId(), storeContent);
 		}
 	}
@@ -127,7 +137,7 @@ public class SimpleVectorStore extends AbstractObservationVectorStore {
 	@Override
 	public List<Document> doSimilaritySearch(SearchRequest request) {
 		Predicate<SimpleVectorStoreContent> documentFilterPredicate = doFilterPredicate(request);
-		float[] userQueryEmbedding = getUserQueryEmbedding(request.getQuery());
+		float[] userQueryEmbedding = getQueryEmbedding(request);
 		return this.store.values()
 			.stream()
 			.filter(documentFilterPredicate)
@@ -233,10 +243,6 @@ public class SimpleVectorStore extends AbstractObservationVectorStore {
 		}
 	}
 
-	private float[] getUserQueryEmbedding(String query) {
-		return this.embeddingModel.embed(query);
-	}
-
 	@Override
 	public VectorStoreObservationContext.Builder createObservationContextBuilder(String operationName) {
 
@@ -16,8 +16,10 @@
 
 package org.springframework.ai.vectorstore;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import io.micrometer.observation.ObservationRegistry;
 
@@ -106,6 +108,53 @@ public interface VectorStore extends DocumentWriter {
 		return this.similaritySearch(SearchRequest.builder().query(query).build());
 	}
 
+	/**
+	 * Retrieves documents like {@link #similaritySearch(SearchRequest)}, as a stream that
+	 * implementations can read from the database as it is consumed, so that large topK
+	 * searches do not hold all the documents in memory. The default implementation
+	 * streams the result of {@link #similaritySearch(SearchRequest)}. The stream may hold
+	 * database resources, so it must be closed, for example with a try-with-resources
+	 * statement.
+	 * @param request Search request for set search parameters, such as the query text,
+	 * topK, similarity threshold and metadata filter expressions.
+	 * @return the documents that match the query request conditions, most similar first.
+	 */
+	default Stream<Document> similaritySearchStream(SearchRequest request) {
+		List<Document> documents = this.similaritySearch(request);
+		return (documents != null) ? documents.stream() : Stream.empty();
+	}
+
+	/**
+	 * Runs several similarity searches at once, for example the searches of the queries
+	 * produced by a query expander. The default implementation runs them one after the
+	 * other; implementations embed the query texts in a single embedding request and use
+	 * the multi-query search of their backend where there is one.
+	 * @param requests the search requests, each with its own query text or
+	 * {@link SearchRequest#getQueryEmbedding() query embedding}, topK, similarity
+	 * threshold and filter expression.
+	 * @return the documents matching each request, in the order of the requests.
+	 */
+	default List<List<Document>> batchSimilaritySearch(List<SearchRequest> requests) {
+		Assert.notNull(requests, "Search requests must not be null");
+		Assert.noNullElements(requests, "Search requests must not contain null elements");
+		List<List<Document>> results = new ArrayList<>(requests.size());
+		for (SearchRequest request : requests) {
+			List<Document> documents = this.similaritySearch(request);
+			results.add(documents != null ? documents : List.of());
+		}
+		return results;
+	}
+
+	/**
+	 * Returns a non-blocking view of this vector store. The default implementation runs
+	 * the operations of this vector store on the bounded elastic scheduler; vector stores
+	 * with a non-blocking client override it.
+	 * @return the reactive vector store
+	 */
+	default ReactiveVectorStore reactive() {
+		return ReactiveVectorStore.from(this);
+	}
+
 	/**
 	 * Returns the native client if available in this vector store implementation.
 	 *
@@ -17,8 +17,10 @@
 package org.springframework.ai.vectorstore.filter;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.ai.vectorstore.filter.Filter.Expression;
 import org.springframework.ai.vectorstore.filter.Filter.ExpressionType;
@@ -102,6 +104,36 @@ public final class FilterHelper {
 		}
 	}
 
+	/**
+	 * Collects the metadata keys an expression filters on, without outer quotes, in the
+	 * order they appear.
+	 * @param operand the filter expression or group
+	 * @return the keys of the expression
+	 */
+	public static Set<String> keys(Operand operand) {
+		Set<String> keys = new LinkedHashSet<>();
+		collectKeys(operand, keys);
+		return keys;
+	}
+
+	private static void collectKeys(Operand operand, Set<String> keys) {
+		if (operand instanceof Filter.Group group) {
+			collectKeys(group.content(), keys);
+		}
+		else if (operand instanceof Expression exp) {
+			collectKeys(exp.left(), keys);
+			if (exp.right() != null) {
+				collectKeys(exp.right(), keys);
+			}
+		}
+		else if (operand instanceof Filter.Key key) {
+			String name = key.key().trim();
+			boolean quoted = name.length() > 1
+					&& ((name.startsWith("\"") && name.endsWith("\"")) || (name.startsWith("'") && name.endsWith("'")));
+			keys.add(quoted ? name.substring(1, name.length() - 1) : name);
+		}
+	}
+
 	/**
 	 * Expands the IN into a semantically equivalent boolean expressions of ORs of EQs.
 	 * Useful for providers that don't provide native IN support.
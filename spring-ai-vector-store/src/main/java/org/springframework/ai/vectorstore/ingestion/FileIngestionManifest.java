@@ -0,0 +1,181 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.ingestion;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link IngestionManifest} persisted to a local file, so that ingestion stays
+ * incremental across restarts and resumes after a crash.
+ * <p>
+ * Every change is appended to the file as a JSON line and flushed before the method
+ * returns, so each checkpoint costs one small write whatever the size of the manifest. An
+ * entry left incomplete by a crash is ignored. The file is compacted to one entry per
+ * source and state when it is opened.
+ *
+ * @since 1.0.0
+ */
+public class FileIngestionManifest extends InMemoryIngestionManifest implements Closeable {
+
+	private static final Logger logger = LoggerFactory.getLogger(FileIngestionManifest.class);
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final Path path;
+
+	private final Writer writer;
+
+	public FileIngestionManifest(Path path) {
+		Assert.notNull(path, "path cannot be null");
+		this.path = path;
+		try {
+			load();
+			compact();
+			this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+					StandardOpenOption.APPEND);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to open the ingestion manifest " + path, ex);
+		}
+	}
+
+	private void load() throws IOException {
+		if (!Files.exists(this.path)) {
+			return;
+		}
+		try (BufferedReader reader = Files.newBufferedReader(this.path, StandardCharsets.UTF_8)) {
+			String line;
+			int lineNumber = 0;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				if (line.isBlank()) {
+					continue;
+				}
+				Entry entry;
+				try {
+					entry = this.objectMapper.readValue(line, Entry.class);
+				}
+				catch (JsonProcessingException ex) {
+					logger.warn("Ignoring incomplete entry at line {} of the ingestion manifest {}", lineNumber,
+							this.path);
+					break;
+				}
+				apply(entry);
+			}
+		}
+	}
+
+	private void apply(Entry entry) {
+		switch (entry.op()) {
+			case ADD -> super.addChunks(entry.source(), entry.ids());
+			case REMOVE -> super.removeChunks(entry.source(), entry.ids());
+			case COMPLETE -> super.complete(entry.source(), entry.hash());
+			case DROP -> super.removeSource(entry.source());
+		}
+	}
+
+	private void compact() throws IOException {
+		Path compacted = this.path.resolveSibling(this.path.getFileName() + ".tmp");
+		try (BufferedWriter compactedWriter = Files.newBufferedWriter(compacted, StandardCharsets.UTF_8)) {
+			for (String sourceId : getSourceIds()) {
+				write(compactedWriter, new Entry(Operation.ADD, sourceId, null, List.copyOf(getChunkIds(sourceId))));
+				String hash = getSourceHash(sourceId);
+				if (hash != null) {
+					write(compactedWriter, new Entry(Operation.COMPLETE, sourceId, hash, null));
+				}
+			}
+		}
+		Files.move(compacted, this.path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	@Override
+	public synchronized void addChunks(String sourceId, Collection<String> chunkIds) {
+		super.addChunks(sourceId, chunkIds);
+		append(new Entry(Operation.ADD, sourceId, null, List.copyOf(chunkIds)));
+	}
+
+	@Override
+	public synchronized void removeChunks(String sourceId, Collection<String> chunkIds) {
+		super.removeChunks(sourceId, chunkIds);
+		append(new Entry(Operation.REMOVE, sourceId, null, List.copyOf(chunkIds)));
+	}
+
+	@Override
+	public synchronized void complete(String sourceId, String sourceHash) {
+		super.complete(sourceId, sourceHash);
+		append(new Entry(Operation.COMPLETE, sourceId, sourceHash, null));
+	}
+
+	@Override
+	public synchronized void removeSource(String sourceId) {
+		super.removeSource(sourceId);
+		append(new Entry(Operation.DROP, sourceId, null, null));
+	}
+
+	private void append(Entry entry) {
+		try {
+			write(this.writer, entry);
+			this.writer.flush();
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to write to the ingestion manifest " + this.path, ex);
+		}
+	}
+
+	private void write(Writer target, Entry entry) throws IOException {
+		target.write(this.objectMapper.writeValueAsString(entry));
+		target.write('\n');
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		this.writer.close();
+	}
+
+	private enum Operation {
+
+		ADD, REMOVE, COMPLETE, DROP
+
+	}
+
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private record Entry(Operation op, String source, @Nullable String hash, @Nullable List<String> ids) {
+
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.ingestion;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link IngestionManifest} kept in memory, for a vector store living as long as the
+ * application, such as a {@link org.springframework.ai.vectorstore.SimpleVectorStore}.
+ *
+ * @since 1.0.0
+ */
+public class InMemoryIngestionManifest implements IngestionManifest {
+
+	private final Map<String, SourceEntry> sources = new LinkedHashMap<>();
+
+	@Override
+	public synchronized Set<String> getSourceIds() {
+		return new LinkedHashSet<>(this.sources.keySet());
+	}
+
+	@Override
+	@Nullable
+	public synchronized String getSourceHash(String sourceId) {
+		SourceEntry entry = this.sources.get(sourceId);
+		return (entry != null) ? entry.hash : null;
+	}
+
+	@Override
+	public synchronized Set<String> getChunkIds(String sourceId) {
+		SourceEntry entry = this.sources.get(sourceId);
+		return (entry != null) ? new LinkedHashSet<>(entry.chunkIds) : new LinkedHashSet<>();
+	}
+
+	@Override
+	public synchronized void addChunks(String sourceId, Collection<String> chunkIds) {
+		Assert.notNull(chunkIds, "chunkIds cannot be null");
+		SourceEntry entry = entry(sourceId);
+		entry.hash = null;
+		entry.chunkIds.addAll(chunkIds);
+	}
+
+	@Override
+	public synchronized void removeChunks(String sourceId, Collection<String> chunkIds) {
+		Assert.notNull(chunkIds, "chunkIds cannot be null");
+		SourceEntry entry = entry(sourceId);
+		entry.hash = null;
+		entry.chunkIds.removeAll(chunkIds);
+	}
+
+	@Override
+	public synchronized void complete(String sourceId, String sourceHash) {
+		Assert.hasText(sourceHash, "sourceHash cannot be null or empty");
+		entry(sourceId).hash = sourceHash;
+	}
+
+	@Override
+	public synchronized void removeSource(String sourceId) {
+		this.sources.remove(sourceId);
+	}
+
+	private SourceEntry entry(String sourceId) {
+		Assert.hasText(sourceId, "sourceId cannot be null or empty");
+		return this.sources.computeIfAbsent(sourceId, id -> new SourceEntry());
+	}
+
+	private static final class SourceEntry {
+
+		@Nullable
+		private String hash;
+
+		private final Set<String> chunkIds = new LinkedHashSet<>();
+
+	}
+
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.ingestion;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.ai.content.Media;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.document.DocumentReader;
+import org.springframework.ai.document.DocumentTransformer;
+import org.springframework.ai.document.id.IdGenerator;
+import org.springframework.ai.document.id.JdkSha256HexIdGenerator;
+import org.springframework.ai.transformer.splitter.TokenTextSplitter;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.util.Assert;
+
+/**
+ * Ingests sources into a {@link VectorStore} incrementally: re-running it only embeds the
+ * chunks that are new or changed since the last run, and deletes the chunks that
+ * disappeared, so that re-indexing costs in proportion to the changes rather than to the
+ * corpus.
+ * <p>
+ * Each source, identified by a stable id such as its path or URL, is read and hashed.
+ * Sources whose hash matches the one recorded in the {@link IngestionManifest} are
+ * skipped without being split. The chunks of other sources get content-derived ids,
+ * hashing the source id, the chunk text and its metadata with the {@link IdGenerator}, a
+ * {@link JdkSha256HexIdGenerator} by default. Chunk ids therefore only change with their
+ * content, and the diff against the manifest tells which chunks to write and which to
+ * delete. New chunks are written before stale ones are deleted, so a source never goes
+ * missing from search results while it is re-ingested.
+ * <p>
+ * Written chunks are recorded in the manifest batch by batch. After a crash, the next run
+ * resumes with the chunks that were not written yet. Writing a chunk twice is harmless,
+ * since its id is the same and vector stores replace documents by id.
+ *
+ * @since 1.0.0
+ */
+public class IncrementalIngestionPipeline {
+
+	private static final Logger logger = LoggerFactory.getLogger(IncrementalIngestionPipeline.class);
+
+	private final VectorStore vectorStore;
+
+	private final DocumentTransformer transformer;
+
+	private final IngestionManifest manifest;
+
+	private final IdGenerator idGenerator;
+
+	private final int batchSize;
+
+	protected IncrementalIngestionPipeline(VectorStore vectorStore, DocumentTransformer transformer,
+			IngestionManifest manifest, IdGenerator idGenerator, int batchSize) {
+		Assert.notNull(vectorStore, "vectorStore cannot be null");
+		Assert.notNull(transformer, "transformer cannot be null");
+		Assert.notNull(manifest, "manifest cannot be null");
+		Assert.notNull(idGenerator, "idGenerator cannot be null");
+		Assert.isTrue(batchSize > 0, "batchSize must be positive");
+		this.vectorStore = vectorStore;
+		this.transformer = transformer;
+		this.manifest = manifest;
+		this.idGenerator = idGenerator;
+		this.batchSize = batchSize;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Ingests the complete set of sources. The chunks of the sources recorded in the
+	 * manifest but missing from the given ones are deleted.
+	 * @param sources the readers of the sources, by source id
+	 * @return the summary of the run
+	 */
+	public IngestionResult ingest(Map<String, ? extends DocumentReader> sources) {
+		Assert.notNull(sources, "sources cannot be null");
+		Tally tally = new Tally();
+		sources.forEach((sourceId, reader) -> ingest(sourceId, reader, tally));
+		for (String sourceId : this.manifest.getSourceIds()) {
+			if (!sources.containsKey(sourceId)) {
+				remove(sourceId, tally);
+			}
+		}
+		return tally.toResult();
+	}
+
+	/**
+	 * Ingests a single source, leaving the other sources untouched.
+	 * @param sourceId the stable id of the source
+	 * @param reader the reader of the source
+	 * @return the summary of the run
+	 */
+	public IngestionResult ingest(String sourceId, DocumentReader reader) {
+		Tally tally = new Tally();
+		ingest(sourceId, reader, tally);
+		return tally.toResult();
+	}
+
+	/**
+	 * Deletes the chunks of a source.
+	 * @param sourceId the id of the source
+	 * @return the summary of the run
+	 */
+	public IngestionResult remove(String sourceId) {
+		Tally tally = new Tally();
+		remove(sourceId, tally);
+		return tally.toResult();
+	}
+
+	private void ingest(String sourceId, DocumentReader reader, Tally tally) {
+		Assert.hasText(sourceId, "sourceId cannot be null or empty");
+		Assert.notNull(reader, "reader cannot be null");
+		List<Document> documents = reader.get();
+		List<String> fingerprints = new ArrayList<>(documents.size());
+		for (Document document : documents) {
+			fingerprints.add(fingerprint(document));
+		}
+		String sourceHash = this.idGenerator.generateId(sourceId, fingerprints);
+		Set<String> existing = this.manifest.getChunkIds(sourceId);
+		if (sourceHash.equals(this.manifest.getSourceHash(sourceId))) {
+			tally.sourcesUnchanged++;
+			tally.chunksUnchanged += existing.size();
+			return;
+		}
+
+		Map<String, Document> chunks = new LinkedHashMap<>();
+		Map<String, Integer> occurrences = new HashMap<>();
+		for (Document chunk : this.transformer.apply(documents)) {
+			String fingerprint = fingerprint(chunk);
+			// identical chunks of a source are told apart by their rank
+			int occurrence = occurrences.merge(fingerprint, 1, Integer::sum) - 1;
+			String id = this.idGenerator.generateId(sourceId, fingerprint, occurrence);
+			chunks.put(id, chunk.mutate().id(id).build());
+		}
+
+		List<Document> added = new ArrayList<>();
+		for (Map.Entry<String, Document> chunk : chunks.entrySet()) {
+			if (!existing.contains(chunk.getKey())) {
+				added.add(chunk.getValue());
+			}
+		}
+		List<String> deleted = new ArrayList<>();
+		for (String id : existing) {
+			if (!chunks.containsKey(id)) {
+				deleted.add(id);
+			}
+		}
+
+		for (int from = 0; from < added.size(); from += this.batchSize) {
+			List<Document> batch = added.subList(from, Math.min(from + this.batchSize, added.size()));
+			this.vectorStore.add(batch);
+			this.manifest.addChunks(sourceId, batch.stream().map(Document::getId).toList());
+		}
+		deleteChunks(sourceId, deleted);
+		this.manifest.complete(sourceId, sourceHash);
+
+		logger.debug("Ingested source {}: {} chunks added, {} deleted, {} unchanged", sourceId, added.size(),
+				deleted.size(), chunks.size() - added.size());
+		tally.sourcesUpdated++;
+		tally.chunksAdded += added.size();
+		tally.chunksDeleted += deleted.size();
+		tally.chunksUnchanged += chunks.size() - added.size();
+	}
+
+	private void remove(String sourceId, Tally tally) {
+		List<String> deleted = new ArrayList<>(this.manifest.getChunkIds(sourceId));
+		deleteChunks(sourceId, deleted);
+		this.manifest.removeSource(sourceId);
+		logger.debug("Removed source {}: {} chunks deleted", sourceId, deleted.size());
+		tally.sourcesRemoved++;
+		tally.chunksDeleted += deleted.size();
+	}
+
+	private void deleteChunks(String sourceId, List<String> ids) {
+		for (int from = 0; from < ids.size(); from += this.batchSize) {
+			List<String> batch = ids.subList(from, Math.min(from + this.batchSize, ids.size()));
+			this.vectorStore.delete(batch);
+			this.manifest.removeChunks(sourceId, batch);
+		}
+	}
+
+	/**
+	 * Returns the content of a document as hashed: its text, or its media, and its
+	 * metadata in key order.
+	 */
+	private static String fingerprint(Document document) {
+		String content = document.isText() ? document.getText()
+				: fingerprint(Objects.requireNonNull(document.getMedia()));
+		return content + '\u0000' + new TreeMap<>(document.getMetadata());
+	}
+
+	/**
+	 * Returns the content of a media as hashed: its MIME type, and the digest of its data
+	 * if held as bytes, else its data, such as a URL, as text.
+	 */
+	private static String fingerprint(Media media) {
+		Object data = media.getData();
+		String content = (data instanceof byte[] bytes) ? HexFormat.of().formatHex(sha256(bytes))
+				: Objects.toString(data);
+		return media.getMimeType() + "\u0000" + content;
+	}
+
+	private static byte[] sha256(byte[] bytes) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(bytes);
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static final class Tally {
+
+		private int sourcesUnchanged;
+
+		private int sourcesUpdated;
+
+		private int sourcesRemoved;
+
+		private int chunksAdded;
+
+		private int chunksDeleted;
+
+		private int chunksUnchanged;
+
+		private IngestionResult toResult() {
+			return new IngestionResult(this.sourcesUnchanged, this.sourcesUpdated, this.sourcesRemoved,
+					this.chunksAdded, this.chunksDeleted, this.chunksUnchanged);
+		}
+
+	}
+
+	public static final class Builder {
+
+		private VectorStore vectorStore;
+
+		private DocumentTransformer transformer = new TokenTextSplitter();
+
+		private IngestionManifest manifest = new InMemoryIngestionManifest();
+
+		private IdGenerator idGenerator = new JdkSha256HexIdGenerator();
+
+		private int batchSize = 100;
+
+		private Builder() {
+		}
+
+		public Builder vectorStore(VectorStore vectorStore) {
+			this.vectorStore = vectorStore;
+			return this;
+		}
+
+		/**
+		 * Splits the documents of a source into chunks. Defaults to a
+		 * {@link TokenTextSplitter}.
+		 */
+		public Builder transformer(DocumentTransformer transformer) {
+			this.transformer = transformer;
+			return this;
+		}
+
+		/**
+		 * Records the ingested chunks. Defaults to an {@link InMemoryIngestionManifest};
+		 * use a {@link FileIngestionManifest} to stay incremental across restarts.
+		 */
+		public Builder manifest(IngestionManifest manifest) {
+			this.manifest = manifest;
+			return this;
+		}
+
+		public Builder idGenerator(IdGenerator idGenerator) {
+			this.idGenerator = idGenerator;
+			return this;
+		}
+
+		/**
+		 * Number of chunks written to the vector store, and checkpointed in the manifest,
+		 * at a time. Defaults to 100.
+		 */
+		public Builder batchSize(int batchSize) {
+			this.batchSize = batchSize;
+			return this;
+		}
+
+		public IncrementalIngestionPipeline build() {
+			return new IncrementalIngestionPipeline(this.vectorStore, this.transformer, this.manifest, this.idGenerator,
+					this.batchSize);
+		}
+
+	}
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.ingestion;
+
+import java.util.Collection;
+import java.util.Set;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Records what {@link IncrementalIngestionPipeline} has written to the vector store: for
+ * each source, the content hash of its last completed ingestion and the ids of its
+ * chunks. Chunks are recorded as soon as they are written, so an interrupted ingestion
+ * resumes without writing them again.
+ *
+ * @since 1.0.0
+ * @see InMemoryIngestionManifest
+ * @see FileIngestionManifest
+ */
+public interface IngestionManifest {
+
+	/**
+	 * Returns the ids of the sources having chunks in the vector store.
+	 * @return the source ids
+	 */
+	Set<String> getSourceIds();
+
+	/**
+	 * Returns the content hash of the last completed ingestion of a source.
+	 * @param sourceId the source id
+	 * @return the hash, or {@code null} if the source was never ingested or its last
+	 * ingestion did not complete
+	 */
+	@Nullable
+	String getSourceHash(String sourceId);
+
+	/**
+	 * Returns the ids of the chunks of a source present in the vector store.
+	 * @param sourceId the source id
+	 * @return the chunk ids, empty for an unknown source
+	 */
+	Set<String> getChunkIds(String sourceId);
+
+	/**
+	 * Records chunks written to the vector store, marking the ingestion of their source
+	 * as in progress.
+	 * @param sourceId the source id
+	 * @param chunkIds the ids of the written chunks
+	 */
+	void addChunks(String sourceId, Collection<String> chunkIds);
+
+	/**
+	 * Records chunks deleted from the vector store.
+	 * @param sourceId the source id
+	 * @param chunkIds the ids of the deleted chunks
+	 */
+	void removeChunks(String sourceId, Collection<String> chunkIds);
+
+	/**
+	 * Records the completed ingestion of a source.
+	 * @param sourceId the source id
+	 * @param sourceHash the content hash of the ingested source
+	 */
+	void complete(String sourceId, String sourceHash);
+
+	/**
+	 * Forgets a source whose chunks were all deleted.
+	 * @param sourceId the source id
+	 */
+	void removeSource(String sourceId);
+
+}
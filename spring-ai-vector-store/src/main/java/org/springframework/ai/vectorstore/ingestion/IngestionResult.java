@@ -0,0 +1,33 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.ingestion;
+
+/**
+ * Summary of an {@link IncrementalIngestionPipeline} run.
+ *
+ * @param sourcesUnchanged the sources skipped because their content did not change
+ * @param sourcesUpdated the new or changed sources
+ * @param sourcesRemoved the sources missing from the run, whose chunks were deleted
+ * @param chunksAdded the chunks embedded and written to the vector store
+ * @param chunksDeleted the chunks deleted from the vector store
+ * @param chunksUnchanged the chunks left untouched in the vector store
+ * @since 1.0.0
+ */
+public record IngestionResult(int sourcesUnchanged, int sourcesUpdated, int sourcesRemoved, int chunksAdded,
+		int chunksDeleted, int chunksUnchanged) {
+
+}
@@ -16,18 +16,47 @@
 
 package org.springframework.ai.vectorstore.observation;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import org.springframework.ai.document.Document;
+import org.springframework.ai.document.DocumentMetadata;
 import org.springframework.ai.embedding.BatchingStrategy;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
+import org.springframework.ai.vectorstore.EmbeddedDocumentBatch;
+import org.springframework.ai.vectorstore.MetadataIndex;
+import org.springframework.ai.vectorstore.ReactiveVectorStore;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.ai.vectorstore.filter.FilterHelper;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
 import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * Abstract base class for {@link VectorStore} implementations that provides observation
@@ -41,6 +70,8 @@ public abstract class AbstractObservationVectorStore implements VectorStore {
 
 	private static final VectorStoreObservationConvention DEFAULT_OBSERVATION_CONVENTION = new DefaultVectorStoreObservationConvention();
 
+	private static final Logger logger = LoggerFactory.getLogger(AbstractObservationVectorStore.class);
+
 	private final ObservationRegistry observationRegistry;
 
 	@Nullable
@@ -50,12 +81,38 @@ public abstract class AbstractObservationVectorStore implements VectorStore {
 
 	protected final BatchingStrategy batchingStrategy;
 
+	@Nullable
+	private final Executor searchExecutor;
+
+	private final Scheduler blockingScheduler;
+
+	private final List<MetadataIndex> metadataIndexes;
+
+	private final Set<String> unindexedFilterKeys = ConcurrentHashMap.newKeySet();
+
+	private final ReactiveVectorStore reactiveVectorStore = new ObservationReactiveVectorStore();
+
+	private final boolean addsDocumentLists;
+
 	private AbstractObservationVectorStore(EmbeddingModel embeddingModel, ObservationRegistry observationRegistry,
-			@Nullable VectorStoreObservationConvention customObservationConvention, BatchingStrategy batchingStrategy) {
+			@Nullable VectorStoreObservationConvention customObservationConvention, BatchingStrategy batchingStrategy,
+			@Nullable Executor searchExecutor, List<MetadataIndex> metadataIndexes) {
 		this.embeddingModel = embeddingModel;
 		this.observationRegistry = observationRegistry;
 		this.customObservationConvention = customObservationConvention;
 		this.batchingStrategy = batchingStrategy;
+		this.searchExecutor = searchExecutor;
+		this.blockingScheduler = (searchExecutor != null) ? Schedulers.fromExecutor(searchExecutor)
+				: Schedulers.boundedElastic();
+		this.metadataIndexes = metadataIndexes;
+		this.addsDocumentLists = overridesDoAdd(List.class);
+		Assert.state(this.addsDocumentLists || overridesDoAdd(EmbeddedDocumentBatch.class),
+				() -> getClass().getSimpleName() + " must override doAdd(List) or doAdd(EmbeddedDocumentBatch)");
+	}
+
+	private boolean overridesDoAdd(Class<?> parameterType) {
+		Method method = ReflectionUtils.findMethod(getClass(), "doAdd", parameterType);
+		return method != null && method.getDeclaringClass() != AbstractObservationVectorStore.class;
 	}
 
 	/**
@@ -65,7 +122,7 @@ public abstract class AbstractObservationVectorStore implements VectorStore {
 	 */
 	public AbstractObservationVectorStore(AbstractVectorStoreBuilder<?> builder) {
 		this(builder.getEmbeddingModel(), builder.getObservationRegistry(), builder.getCustomObservationConvention(),
-				builder.getBatchingStrategy());
+				builder.getBatchingStrategy(), builder.getSearchExecutor(), builder.getMetadataIndexes());
 	}
 
 	/**
@@ -112,8 +169,9 @@ public abstract class AbstractObservationVectorStore implements VectorStore {
 
 	@Override
 	@Nullable
-	public List<Document> similaritySearch(SearchRequest request) {
+	public List<Document> similaritySearch(SearchRequest searchRequest) {
 
+		SearchRequest request = this.prepareSearch(searchRequest);
 		VectorStoreObservationContext searchObservationContext = this
 			.createObservationContextBuilder(VectorStoreObservationContext.Operation.QUERY.value())
 			.queryRequest(request)
@@ -130,10 +188,390 @@ public abstract class AbstractObservationVectorStore implements VectorStore {
 	}
 
 	/**
-	 * Perform the actual add operation.
+	 * Runs the search in an observation that stops when the stream is closed. The query
+	 * response of the observation is not recorded, since the documents are not held in
+	 * memory.
+	 * @param searchRequest the search request
+	 * @return the documents that match the query request conditions
+	 */
+	@Override
+	public Stream<Document> similaritySearchStream(SearchRequest searchRequest) {
+
+		SearchRequest request = this.prepareSearch(searchRequest);
+		VectorStoreObservationContext searchObservationContext = this
+			.createObservationContextBuilder(VectorStoreObservationContext.Operation.QUERY.value())
+			.queryRequest(request)
+			.build();
+
+		Observation observation = VectorStoreObservationDocumentation.AI_VECTOR_STORE
+			.observation(this.customObservationConvention, DEFAULT_OBSERVATION_CONVENTION,
+					() -> searchObservationContext, this.observationRegistry)
+			.start();
+
+		try (Observation.Scope scope = observation.openScope()) {
+			return this.doSimilaritySearchStream(request).onClose(observation::stop);
+		}
+		catch (RuntimeException ex) {
+			observation.error(ex);
+			observation.stop();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Runs the searches in a single observation. The query texts of the requests without
+	 * a {@link SearchRequest#getQueryEmbedding() query embedding} are embedded in a
+	 * single embedding request before delegating to
+	 * {@link #doBatchSimilaritySearch(List, List)}.
+	 * @param searchRequests the search requests
+	 * @return the documents matching each request, in the order of the requests
+	 */
+	@Override
+	public List<List<Document>> batchSimilaritySearch(List<SearchRequest> searchRequests) {
+		Assert.notNull(searchRequests, "Search requests must not be null");
+		Assert.noNullElements(searchRequests, "Search requests must not contain null elements");
+		if (searchRequests.isEmpty()) {
+			return List.of();
+		}
+
+		List<SearchRequest> requests = searchRequests.stream().map(this::prepareSearch).toList();
+
+		VectorStoreObservationContext searchObservationContext = this
+			.createObservationContextBuilder(VectorStoreObservationContext.Operation.QUERY.value())
+			.queryRequest(requests.get(0))
+			.build();
+
+		return VectorStoreObservationDocumentation.AI_VECTOR_STORE
+			.observation(this.customObservationConvention, DEFAULT_OBSERVATION_CONVENTION,
+					() -> searchObservationContext, this.observationRegistry)
+			.observe(() -> {
+				var results = this.doBatchSimilaritySearch(requests, this.embedQueries(requests));
+				searchObservationContext.setQueryResponse(results.stream().flatMap(List::stream).toList());
+				return results;
+			});
+	}
+
+	/**
+	 * Whether this vector store maps the {@link SearchRequest#getTenantId() tenant} of
+	 * the searches to a native construct, such as a partition or a shard. The searches of
+	 * the stores that don't are restricted to the tenant with a filter on the
+	 * {@link DocumentMetadata#TENANT_ID} metadata of the documents instead.
+	 * @return {@code true} if the store routes the searches to the data of the tenant
+	 */
+	protected boolean supportsTenantRouting() {
+		return false;
+	}
+
+	/**
+	 * Returns the metadata index declarations of the store, for the stores creating
+	 * native metadata indexes when initializing their schema.
+	 * @return the metadata index declarations
+	 */
+	protected List<MetadataIndex> getMetadataIndexes() {
+		return this.metadataIndexes;
+	}
+
+	/**
+	 * Returns the metadata keys that the store indexes for filtering. The searches with a
+	 * filter expression on another key log a warning, once per key, since the store
+	 * evaluates it by scanning the candidate documents or not at all. Defaults to
+	 * {@code null}, for stores that index all the metadata keys or do not know which they
+	 * index.
+	 * @return the indexed metadata keys, or {@code null} not to check the filter keys
+	 */
+	@Nullable
+	protected Set<String> getFilterableMetadataKeys() {
+		return null;
+	}
+
+	private SearchRequest prepareSearch(SearchRequest searchRequest) {
+		SearchRequest request = this.routeTenant(searchRequest);
+		Filter.Expression filterExpression = request.getFilterExpression();
+		Set<String> filterableKeys = (filterExpression != null) ? this.getFilterableMetadataKeys() : null;
+		if (filterableKeys != null) {
+			for (String key : FilterHelper.keys(filterExpression)) {
+				if (!filterableKeys.contains(key) && this.unindexedFilterKeys.add(key)) {
+					logger.warn("{} does not index the metadata key '{}' used by a filter expression, declare it with "
+							+ "metadataIndexes on the builder of the store", this.getName(), key);
+				}
+			}
+		}
+		return request;
+	}
+
+	private SearchRequest routeTenant(SearchRequest request) {
+		String tenantId = request.getTenantId();
+		if (tenantId == null || this.supportsTenantRouting()) {
+			return request;
+		}
+		Filter.Expression tenantFilter = new Filter.Expression(Filter.ExpressionType.EQ,
+				new Filter.Key(DocumentMetadata.TENANT_ID.value()), new Filter.Value(tenantId));
+		Filter.Expression filterExpression = request.getFilterExpression();
+		SearchRequest routedRequest = this.copySearchRequest(request, SearchRequest.from(request)
+			.filterExpression((filterExpression != null)
+					? new Filter.Expression(Filter.ExpressionType.AND, tenantFilter, filterExpression) : tenantFilter)
+			.build());
+		Assert.isTrue(routedRequest != null,
+				() -> this.getName() + " does not route " + request.getClass().getSimpleName() + " to tenants");
+		return routedRequest;
+	}
+
+	/**
+	 * Copies a search request with other standard fields, such as an added tenant filter
+	 * or a query embedding. Stores accepting a store-specific subclass of
+	 * {@link SearchRequest} override it to copy the settings of the subclass too.
+	 * @param request the request to copy
+	 * @param fields a request holding the standard fields of the copy
+	 * @return the copy, or {@code null} if the store does not copy requests of the class
+	 * of the given request
+	 */
+	@Nullable
+	protected SearchRequest copySearchRequest(SearchRequest request, SearchRequest fields) {
+		return (request.getClass() == SearchRequest.class) ? fields : null;
+	}
+
+	/**
+	 * Returns the embedding to search with: the query embedding of the request if it has
+	 * one, else the embedding of its query text.
+	 * @param request the search request
+	 * @return the query embedding
+	 */
+	protected float[] getQueryEmbedding(SearchRequest request) {
+		float[] queryEmbedding = request.getQueryEmbedding();
+		return (queryEmbedding != null) ? queryEmbedding : this.embeddingModel.embed(request.getQuery());
+	}
+
+	/**
+	 * Requests of a class the store does not {@link #copySearchRequest copy} cannot carry
+	 * a query embedding to {@link #doSimilaritySearch(SearchRequest)}, so their query
+	 * text is left to be embedded on its own, and their entry is {@code null}.
+	 */
+	private List<float[]> embedQueries(List<SearchRequest> requests) {
+		List<String> queries = requests.stream()
+			.filter(this::needsQueryEmbedding)
+			.map(SearchRequest::getQuery)
+			.toList();
+		List<float[]> embeddings = queries.isEmpty() ? List.of() : this.embeddingModel.embed(queries);
+		Assert.isTrue(embeddings.size() == queries.size(), "The embedding model must return one embedding per query");
+		List<float[]> queryEmbeddings = new ArrayList<>(requests.size());
+		int next = 0;
+		for (SearchRequest request : requests) {
+			if (this.needsQueryEmbedding(request)) {
+				queryEmbeddings.add(embeddings.get(next++));
+			}
+			else {
+				queryEmbeddings.add(request.getQueryEmbedding());
+			}
+		}
+		return queryEmbeddings;
+	}
+
+	private boolean needsQueryEmbedding(SearchRequest request) {
+		return !request.hasQueryEmbedding() && this.copySearchRequest(request, request) != null;
+	}
+
+	/**
+	 * Template method for concrete implementations to run several searches in as few
+	 * round trips as their backend allows. The default implementation runs
+	 * {@link #doSimilaritySearch(SearchRequest)} concurrently on the search executor,
+	 * propagating the observation and logging context of the caller, and cancels the
+	 * searches not yet started once one failed.
+	 * @param requests the search requests
+	 * @param queryEmbeddings the embedding to search with for each request, in the order
+	 * of the requests, or {@code null} for the requests of a class the store does not
+	 * {@link #copySearchRequest copy}, whose query text is still to be embedded
+	 * @return the documents matching each request, in the order of the requests
+	 */
+	protected List<List<Document>> doBatchSimilaritySearch(List<SearchRequest> requests,
+			List<float[]> queryEmbeddings) {
+		List<SearchRequest> embeddedRequests = new ArrayList<>(requests.size());
+		for (int i = 0; i < requests.size(); i++) {
+			embeddedRequests.add(withQueryEmbedding(requests.get(i), queryEmbeddings.get(i)));
+		}
+		if (embeddedRequests.size() == 1) {
+			return List.of(this.searchOrEmpty(embeddedRequests.get(0)));
+		}
+		Executor executor = (this.searchExecutor != null) ? propagatingContext(this.searchExecutor)
+				: DefaultSearchExecutor.INSTANCE;
+		List<CompletableFuture<List<Document>>> futures = embeddedRequests.stream()
+			.map(request -> CompletableFuture.supplyAsync(() -> this.searchOrEmpty(request), executor))
+			.toList();
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		futures.forEach(future -> future.whenComplete((documents, ex) -> {
+			if (ex != null && failure.compareAndSet(null, ex)) {
+				futures.forEach(other -> other.cancel(false));
+			}
+		}));
+		try {
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		}
+		catch (CompletionException | CancellationException ex) {
+			Throwable cause = failure.get();
+			if (cause instanceof CompletionException && cause.getCause() != null) {
+				cause = cause.getCause();
+			}
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException("Batch similarity search failed", cause);
+		}
+		return futures.stream().map(CompletableFuture::join).toList();
+	}
+
+	private static Executor propagatingContext(Executor executor) {
+		return task -> executor.execute(DefaultSearchExecutor.CONTEXT_PROPAGATION.decorate(task));
+	}
+
+	/**
+	 * Template method for concrete implementations to stream the results of a search from
+	 * the database. The default implementation streams the result of
+	 * {@link #doSimilaritySearch(SearchRequest)}.
+	 * @param request the search request
+	 * @return the documents that match the query request conditions, closing the database
+	 * resources they are read from when closed
+	 */
+	protected Stream<Document> doSimilaritySearchStream(SearchRequest request) {
+		return this.searchOrEmpty(request).stream();
+	}
+
+	/**
+	 * Requests of a class the store does not {@link #copySearchRequest copy} are passed
+	 * as is, and embed their query text on their own.
+	 */
+	private SearchRequest withQueryEmbedding(SearchRequest request, @Nullable float[] queryEmbedding) {
+		if (request.hasQueryEmbedding() || queryEmbedding == null) {
+			return request;
+		}
+		SearchRequest embeddedRequest = this.copySearchRequest(request,
+				SearchRequest.from(request).queryEmbedding(queryEmbedding).build());
+		return (embeddedRequest != null) ? embeddedRequest : request;
+	}
+
+	private List<Document> searchOrEmpty(SearchRequest request) {
+		List<Document> documents = this.doSimilaritySearch(request);
+		return (documents != null) ? documents : List.of();
+	}
+
+	/**
+	 * Returns a non-blocking view of this vector store, observed like its blocking
+	 * operations. The operations delegate to {@link #doReactiveAdd(List)},
+	 * {@link #doReactiveDelete(List)} and
+	 * {@link #doReactiveSimilaritySearch(SearchRequest)}.
+	 * @return the reactive vector store
+	 */
+	@Override
+	public ReactiveVectorStore reactive() {
+		return this.reactiveVectorStore;
+	}
+
+	/**
+	 * Template method for concrete implementations with a non-blocking client to add
+	 * documents. The default implementation runs {@link #doAdd(List)} on the executor set
+	 * with {@link AbstractVectorStoreBuilder#searchExecutor(Executor)}, or on the bounded
+	 * elastic scheduler.
 	 * @param documents the documents to add
+	 * @return a {@link Mono} completing once the documents are stored
+	 */
+	protected Mono<Void> doReactiveAdd(List<Document> documents) {
+		return Mono.<Void>fromRunnable(() -> this.doAdd(documents)).subscribeOn(this.blockingScheduler);
+	}
+
+	/**
+	 * Template method for concrete implementations with a non-blocking client to delete
+	 * documents. The default implementation runs {@link #doDelete(List)} on the blocking
+	 * scheduler.
+	 * @param idList the ids of the documents to delete
+	 * @return a {@link Mono} completing once the documents are deleted
+	 */
+	protected Mono<Void> doReactiveDelete(List<String> idList) {
+		return Mono.<Void>fromRunnable(() -> this.doDelete(idList)).subscribeOn(this.blockingScheduler);
+	}
+
+	/**
+	 * Template method for concrete implementations with a non-blocking client to search
+	 * documents. The default implementation runs
+	 * {@link #doSimilaritySearch(SearchRequest)} on the blocking scheduler.
+	 * @param request the search request
+	 * @return a {@link Mono} of the documents that match the query request conditions
 	 */
-	public abstract void doAdd(List<Document> documents);
+	protected Mono<List<Document>> doReactiveSimilaritySearch(SearchRequest request) {
+		return Mono.fromCallable(() -> this.searchOrEmpty(request)).subscribeOn(this.blockingScheduler);
+	}
+
+	/**
+	 * Embeds the documents like {@link #doAdd(List)}. The embedding model is blocking, so
+	 * it runs on the blocking scheduler.
+	 * @param documents the documents to embed
+	 * @return a {@link Mono} of the documents and their embeddings
+	 */
+	protected Mono<EmbeddedDocumentBatch> embedReactive(List<Document> documents) {
+		return Mono
+			.fromCallable(() -> EmbeddedDocumentBatch.embed(documents, this.embeddingModel, this.batchingStrategy))
+			.subscribeOn(this.blockingScheduler);
+	}
+
+	/**
+	 * Non-blocking counterpart of {@link #getQueryEmbedding(SearchRequest)}. The query
+	 * text is embedded on the blocking scheduler, since the embedding model is blocking.
+	 * @param request the search request
+	 * @return a {@link Mono} of the query embedding
+	 */
+	protected Mono<float[]> getReactiveQueryEmbedding(SearchRequest request) {
+		float[] queryEmbedding = request.getQueryEmbedding();
+		if (queryEmbedding != null) {
+			return Mono.just(queryEmbedding);
+		}
+		return Mono.fromCallable(() -> this.embeddingModel.embed(request.getQuery()))
+			.subscribeOn(this.blockingScheduler);
+	}
+
+	private <T> Mono<T> observeReactive(VectorStoreObservationContext observationContext, Supplier<Mono<T>> operation) {
+		return Mono.deferContextual(contextView -> {
+			Observation observation = VectorStoreObservationDocumentation.AI_VECTOR_STORE.observation(
+					this.customObservationConvention, DEFAULT_OBSERVATION_CONVENTION, () -> observationContext,
+					this.observationRegistry);
+
+			observation.parentObservation(contextView.getOrDefault(ObservationThreadLocalAccessor.KEY, null)).start();
+
+			// stopped before the result reaches the subscriber, so that the observation
+			// is complete once the operation is
+			return Mono.defer(operation)
+				.doOnError(observation::error)
+				.doOnTerminate(observation::stop)
+				.doOnCancel(observation::stop)
+				.contextWrite(ctx -> ctx.put(ObservationThreadLocalAccessor.KEY, observation));
+		});
+	}
+
+	/**
+	 * Perform the actual add operation. Embeds the documents with the configured
+	 * embedding model and batching strategy, then delegates to
+	 * {@link #doAdd(EmbeddedDocumentBatch)}. Stores that embed the documents otherwise
+	 * override this method. Subclasses must override at least one of the two
+	 * {@code doAdd} methods, as their default implementations delegate to each other.
+	 * @param documents the documents to add
+	 */
+	public void doAdd(List<Document> documents) {
+		this.doAdd(EmbeddedDocumentBatch.embed(documents, this.embeddingModel, this.batchingStrategy));
+	}
+
+	/**
+	 * Template method for concrete implementations to store documents along with their
+	 * embeddings. The embedding at each position of the batch belongs to the document at
+	 * the same position. The default implementation adds the documents of the batch with
+	 * {@link #doAdd(List)}, for stores that override only that method, and thus embed the
+	 * documents themselves.
+	 * @param batch the documents to add and their embeddings
+	 */
+	protected void doAdd(EmbeddedDocumentBatch batch) {
+		// the default doAdd(List) delegates back to this method
+		Assert.state(this.addsDocumentLists,
+				() -> getClass().getSimpleName() + " must override doAdd(List) or doAdd(EmbeddedDocumentBatch)");
+		this.doAdd(batch.getDocuments());
+	}
 
 	/**
 	 * Perform the actual delete operation.
@@ -167,4 +605,70 @@ public abstract class AbstractObservationVectorStore implements VectorStore {
 	 */
 	public abstract VectorStoreObservationContext.Builder createObservationContextBuilder(String operationName);
 
+	/**
+	 * The {@link ReactiveVectorStore} view of this vector store.
+	 */
+	private final class ObservationReactiveVectorStore implements ReactiveVectorStore {
+
+		@Override
+		public String getName() {
+			return AbstractObservationVectorStore.this.getName();
+		}
+
+		@Override
+		public Mono<Void> add(List<Document> documents) {
+			VectorStoreObservationContext observationContext = createObservationContextBuilder(
+					VectorStoreObservationContext.Operation.ADD.value())
+				.build();
+
+			return observeReactive(observationContext, () -> doReactiveAdd(documents));
+		}
+
+		@Override
+		public Mono<Void> delete(List<String> idList) {
+			VectorStoreObservationContext observationContext = createObservationContextBuilder(
+					VectorStoreObservationContext.Operation.DELETE.value())
+				.build();
+
+			return observeReactive(observationContext, () -> doReactiveDelete(idList));
+		}
+
+		@Override
+		public Mono<List<Document>> similaritySearch(SearchRequest searchRequest) {
+			SearchRequest request = prepareSearch(searchRequest);
+			VectorStoreObservationContext searchObservationContext = createObservationContextBuilder(
+					VectorStoreObservationContext.Operation.QUERY.value())
+				.queryRequest(request)
+				.build();
+
+			return observeReactive(searchObservationContext,
+					() -> doReactiveSimilaritySearch(request).doOnNext(searchObservationContext::setQueryResponse));
+		}
+
+	}
+
+	/**
+	 * Lazily created bounded pool running the searches of a batch when no search executor
+	 * is configured, so that a batch takes at most as many backend connections as the
+	 * pool has threads.
+	 */
+	private static final class DefaultSearchExecutor {
+
+		static final TaskDecorator CONTEXT_PROPAGATION = new ContextPropagatingTaskDecorator();
+
+		static final TaskExecutor INSTANCE = buildExecutor();
+
+		private static TaskExecutor buildExecutor() {
+			ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+			taskExecutor.setThreadNamePrefix("ai-vector-store-search-");
+			taskExecutor.setDaemon(true);
+			taskExecutor.setCorePoolSize(4);
+			taskExecutor.setMaxPoolSize(16);
+			taskExecutor.setTaskDecorator(CONTEXT_PROPAGATION);
+			taskExecutor.initialize();
+			return taskExecutor;
+		}
+
+	}
+
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.planner;
+
+import org.springframework.util.Assert;
+
+/**
+ * How a vector store runs a similarity search with a filter expression, as chosen by a
+ * {@link FilteredSearchPlanner}.
+ *
+ * @param strategy the way the filter is applied
+ * @param selectivity the estimated fraction of the documents matching the filter
+ * @param estimatedMatches the estimated number of documents matching the filter
+ * @param topK the number of documents requested
+ * @param candidates the number of nearest neighbors the approximate search retrieves
+ * before the filter is applied, for the {@link Strategy#POST_FILTER} strategy
+ * @since 1.0.0
+ */
+public record FilteredSearchPlan(Strategy strategy, double selectivity, long estimatedMatches, int topK,
+		int candidates) {
+
+	public FilteredSearchPlan {
+		Assert.notNull(strategy, "strategy must not be null");
+		Assert.isTrue(topK > 0, "topK must be greater than 0");
+		Assert.isTrue(candidates >= topK, "candidates must not be lower than topK");
+	}
+
+	/**
+	 * Returns a copy of this plan retrieving the given number of candidates.
+	 */
+	public FilteredSearchPlan withCandidates(int candidates) {
+		return new FilteredSearchPlan(this.strategy, this.selectivity, this.estimatedMatches, this.topK, candidates);
+	}
+
+	/**
+	 * The way a filter is applied to a similarity search.
+	 */
+	public enum Strategy {
+
+		/**
+		 * Exact search among the documents matching the filter, without the vector index.
+		 * Chosen when few documents match.
+		 */
+		PRE_FILTER,
+
+		/**
+		 * Approximate search applying the filter while traversing the vector index, for
+		 * stores supporting it.
+		 */
+		NATIVE_FILTER,
+
+		/**
+		 * Approximate search of an oversampled number of candidates, to which the filter
+		 * is applied, raised until enough documents match.
+		 */
+		POST_FILTER
+
+	}
+
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.planner;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Chooses how a vector store applies the filter expression of a similarity search, from
+ * the selectivity of the filter estimated on a {@link MetadataSample}:
+ * <ul>
+ * <li>{@link FilteredSearchPlan.Strategy#PRE_FILTER} when few enough documents match for
+ * an exact search among them to be cheap, which never misses a document</li>
+ * <li>{@link FilteredSearchPlan.Strategy#NATIVE_FILTER} when the filter is selective and
+ * the store can apply it while traversing its vector index</li>
+ * <li>{@link FilteredSearchPlan.Strategy#POST_FILTER} otherwise, retrieving
+ * {@code topK / selectivity} candidates so that about topK of them match, and doubling
+ * them while fewer match</li>
+ * </ul>
+ * Approximate searches filtering a fixed number of candidates return fewer than topK
+ * documents when the filter is selective, and scan far more than needed when it is not.
+ * Set the planner with
+ * {@link org.springframework.ai.vectorstore.AbstractVectorStoreBuilder#filteredSearchPlanner(FilteredSearchPlanner)}
+ * on the stores supporting it.
+ *
+ * @since 1.0.0
+ */
+public final class FilteredSearchPlanner {
+
+	public static final long DEFAULT_EXACT_SCAN_THRESHOLD = 10_000;
+
+	public static final double DEFAULT_NATIVE_FILTER_SELECTIVITY = 0.1;
+
+	public static final int DEFAULT_MAX_CANDIDATES = 1000;
+
+	public static final int DEFAULT_SAMPLE_SIZE = 1000;
+
+	public static final Duration DEFAULT_STATISTICS_TTL = Duration.ofMinutes(5);
+
+	private static final Logger logger = LoggerFactory.getLogger(FilteredSearchPlanner.class);
+
+	private final long exactScanThreshold;
+
+	private final double nativeFilterSelectivity;
+
+	private final int maxCandidates;
+
+	private final int sampleSize;
+
+	private final Duration statisticsTtl;
+
+	private FilteredSearchPlanner(Builder builder) {
+		this.exactScanThreshold = builder.exactScanThreshold;
+		this.nativeFilterSelectivity = builder.nativeFilterSelectivity;
+		this.maxCandidates = builder.maxCandidates;
+		this.sampleSize = builder.sampleSize;
+		this.statisticsTtl = builder.statisticsTtl;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public int getMaxCandidates() {
+		return this.maxCandidates;
+	}
+
+	/**
+	 * Plans the search of a request with a filter expression.
+	 * @param request the search request
+	 * @param sample the metadata statistics of the store
+	 * @param nativeFilter whether the store can apply the filter while traversing its
+	 * vector index
+	 * @return the plan of the search
+	 */
+	public FilteredSearchPlan plan(SearchRequest request, MetadataSample sample, boolean nativeFilter) {
+		Assert.notNull(request, "request must not be null");
+		Assert.notNull(sample, "sample must not be null");
+		Filter.Expression filterExpression = request.getFilterExpression();
+		Assert.notNull(filterExpression, "The search request must have a filter expression");
+
+		int topK = request.getTopK();
+		double selectivity = sample.selectivity(filterExpression);
+		long estimatedMatches = Math.round(selectivity * sample.documentCount());
+		FilteredSearchPlan plan;
+		if (estimatedMatches <= this.exactScanThreshold) {
+			plan = new FilteredSearchPlan(FilteredSearchPlan.Strategy.PRE_FILTER, selectivity, estimatedMatches, topK,
+					topK);
+		}
+		else if (nativeFilter && selectivity < this.nativeFilterSelectivity) {
+			plan = new FilteredSearchPlan(FilteredSearchPlan.Strategy.NATIVE_FILTER, selectivity, estimatedMatches,
+					topK, topK);
+		}
+		else {
+			int candidates = (int) Math.min(Math.max(this.maxCandidates, topK), Math.ceil(topK / selectivity));
+			plan = new FilteredSearchPlan(FilteredSearchPlan.Strategy.POST_FILTER, selectivity, estimatedMatches, topK,
+					candidates);
+		}
+		logger.debug("Planned filtered search {}", plan);
+		return plan;
+	}
+
+	/**
+	 * Runs a {@link FilteredSearchPlan.Strategy#POST_FILTER} search, doubling the
+	 * candidates while fewer than topK documents match, up to the maximum candidates. It
+	 * stops early when more candidates do not return more documents, such as when the
+	 * similarity threshold excludes the others.
+	 * @param plan the plan of the search
+	 * @param search runs the search retrieving the given number of candidates, returning
+	 * the matching documents
+	 * @return the documents of the last search
+	 */
+	public List<Document> postFilter(FilteredSearchPlan plan, IntFunction<List<Document>> search) {
+		Assert.notNull(plan, "plan must not be null");
+		Assert.notNull(search, "search must not be null");
+		int candidates = plan.candidates();
+		List<Document> documents = search.apply(candidates);
+		int maxCandidates = Math.max(this.maxCandidates, plan.topK());
+		while (documents.size() < plan.topK() && candidates < maxCandidates) {
+			candidates = (int) Math.min(maxCandidates, 2L * candidates);
+			logger.debug("Retrying the filtered search with {} candidates, {} of {} documents matched", candidates,
+					documents.size(), plan.topK());
+			List<Document> moreDocuments = search.apply(candidates);
+			if (moreDocuments.size() <= documents.size()) {
+				return moreDocuments;
+			}
+			documents = moreDocuments;
+		}
+		return documents;
+	}
+
+	/**
+	 * Returns the metadata statistics of a store, sampling it when first requested and
+	 * once they are older than the statistics TTL.
+	 * @param sampler samples the metadata of the given number of documents of the store
+	 * @return the statistics of the store
+	 */
+	public Supplier<MetadataSample> statistics(IntFunction<MetadataSample> sampler) {
+		Assert.notNull(sampler, "sampler must not be null");
+		return new CachedMetadataSample(sampler, this.sampleSize, this.statisticsTtl);
+	}
+
+	private static final class CachedMetadataSample implements Supplier<MetadataSample> {
+
+		private final IntFunction<MetadataSample> sampler;
+
+		private final int sampleSize;
+
+		private final long ttlNanos;
+
+		@Nullable
+		private volatile MetadataSample sample;
+
+		private volatile long sampledAt;
+
+		CachedMetadataSample(IntFunction<MetadataSample> sampler, int sampleSize, Duration ttl) {
+			this.sampler = sampler;
+			this.sampleSize = sampleSize;
+			this.ttlNanos = ttl.toNanos();
+		}
+
+		@Override
+		public MetadataSample get() {
+			MetadataSample current = this.sample;
+			if (current != null && System.nanoTime() - this.sampledAt < this.ttlNanos) {
+				return current;
+			}
+			synchronized (this) {
+				current = this.sample;
+				if (current == null || System.nanoTime() - this.sampledAt >= this.ttlNanos) {
+					current = this.sampler.apply(this.sampleSize);
+					this.sampledAt = System.nanoTime();
+					this.sample = current;
+				}
+				return current;
+			}
+		}
+
+	}
+
+	public static final class Builder {
+
+		private long exactScanThreshold = DEFAULT_EXACT_SCAN_THRESHOLD;
+
+		private double nativeFilterSelectivity = DEFAULT_NATIVE_FILTER_SELECTIVITY;
+
+		private int maxCandidates = DEFAULT_MAX_CANDIDATES;
+
+		private int sampleSize = DEFAULT_SAMPLE_SIZE;
+
+		private Duration statisticsTtl = DEFAULT_STATISTICS_TTL;
+
+		private Builder() {
+		}
+
+		/**
+		 * Sets the estimated number of matching documents up to which the documents
+		 * matching the filter are searched exactly.
+		 * @param exactScanThreshold the number of documents, 0 to only search exactly
+		 * when no document is estimated to match
+		 * @return the builder instance
+		 */
+		public Builder exactScanThreshold(long exactScanThreshold) {
+			Assert.isTrue(exactScanThreshold >= 0, "exactScanThreshold must not be negative");
+			this.exactScanThreshold = exactScanThreshold;
+			return this;
+		}
+
+		/**
+		 * Sets the selectivity below which the stores supporting it apply the filter
+		 * while traversing their vector index rather than to oversampled candidates.
+		 * @param nativeFilterSelectivity the fraction of matching documents
+		 * @return the builder instance
+		 */
+		public Builder nativeFilterSelectivity(double nativeFilterSelectivity) {
+			Assert.isTrue(nativeFilterSelectivity >= 0 && nativeFilterSelectivity <= 1,
+					"nativeFilterSelectivity must be between 0 and 1");
+			this.nativeFilterSelectivity = nativeFilterSelectivity;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of candidates of a post-filtered search, which should
+		 * not exceed what the store accepts, such as 1000 for the {@code hnsw.ef_search}
+		 * of pgvector.
+		 * @param maxCandidates the maximum number of candidates
+		 * @return the builder instance
+		 */
+		public Builder maxCandidates(int maxCandidates) {
+			Assert.isTrue(maxCandidates > 0, "maxCandidates must be greater than 0");
+			this.maxCandidates = maxCandidates;
+			return this;
+		}
+
+		/**
+		 * Sets the number of documents sampled to estimate the selectivity of filters.
+		 * @param sampleSize the number of documents
+		 * @return the builder instance
+		 */
+		public Builder sampleSize(int sampleSize) {
+			Assert.isTrue(sampleSize > 0, "sampleSize must be greater than 0");
+			this.sampleSize = sampleSize;
+			return this;
+		}
+
+		/**
+		 * Sets how long the sampled statistics are used before the store is sampled
+		 * again.
+		 * @param statisticsTtl the time to live of the statistics
+		 * @return the builder instance
+		 */
+		public Builder statisticsTtl(Duration statisticsTtl) {
+			Assert.notNull(statisticsTtl, "statisticsTtl must not be null");
+			Assert.isTrue(!statisticsTtl.isNegative(), "statisticsTtl must not be negative");
+			this.statisticsTtl = statisticsTtl;
+			return this;
+		}
+
+		public FilteredSearchPlanner build() {
+			return new FilteredSearchPlanner(this);
+		}
+
+	}
+
+}
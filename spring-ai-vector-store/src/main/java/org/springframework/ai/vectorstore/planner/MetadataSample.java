@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.planner;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
+import org.springframework.ai.vectorstore.filter.converter.SimpleVectorStoreFilterExpressionConverter;
+import org.springframework.expression.EvaluationException;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.util.Assert;
+
+/**
+ * The metadata of a random sample of the documents of a vector store, with the number of
+ * documents of the store, from which the selectivity of filter expressions is estimated.
+ *
+ * @param metadata the metadata of the sampled documents
+ * @param documentCount the number of documents of the store, possibly estimated
+ * @since 1.0.0
+ */
+public record MetadataSample(List<Map<String, Object>> metadata, long documentCount) {
+
+	private static final FilterExpressionConverter FILTER_EXPRESSION_CONVERTER = new SimpleVectorStoreFilterExpressionConverter();
+
+	private static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
+
+	public MetadataSample {
+		Assert.notNull(metadata, "metadata must not be null");
+		Assert.isTrue(documentCount >= 0, "documentCount must not be negative");
+		metadata = List.copyOf(metadata);
+	}
+
+	/**
+	 * Estimates the fraction of the documents matching the filter expression, from the
+	 * fraction of the sampled documents matching it. The estimate is smoothed so that a
+	 * filter no sampled document matches still has a small selectivity rather than none.
+	 * @param filterExpression the filter expression
+	 * @return the estimated selectivity, between 0 and 1, or 1 if the sample is empty
+	 */
+	public double selectivity(Filter.Expression filterExpression) {
+		Assert.notNull(filterExpression, "filterExpression must not be null");
+		if (this.metadata.isEmpty()) {
+			return 1.0;
+		}
+		Expression expression = EXPRESSION_PARSER
+			.parseExpression(FILTER_EXPRESSION_CONVERTER.convertExpression(filterExpression));
+		int matches = 0;
+		for (Map<String, Object> documentMetadata : this.metadata) {
+			StandardEvaluationContext context = new StandardEvaluationContext();
+			context.setVariable("metadata", documentMetadata);
+			try {
+				if (Boolean.TRUE.equals(expression.getValue(context, Boolean.class))) {
+					matches++;
+				}
+			}
+			catch (EvaluationException ex) {
+				// values of another type than the filter compares them to don't match
+			}
+		}
+		return (matches + 1.0) / (this.metadata.size() + 2.0);
+	}
+
+}
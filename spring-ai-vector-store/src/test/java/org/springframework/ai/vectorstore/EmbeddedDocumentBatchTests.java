@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.TokenCountBatchingStrategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit tests for {@link EmbeddedDocumentBatch}.
+ */
+class EmbeddedDocumentBatchTests {
+
+	@Test
+	void whenSizesDoNotMatchThenThrow() {
+		assertThatThrownBy(() -> EmbeddedDocumentBatch.of(List.of(new Document("foo")), List.of()))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("The number of embeddings (0) must match the number of documents (1)");
+	}
+
+	@Test
+	void equalDocumentsKeepTheirOwnEmbeddings() {
+		var documents = List.of(new Document("1", "foo", Map.of()), new Document("1", "foo", Map.of()));
+		var batch = EmbeddedDocumentBatch.of(documents, List.of(new float[] { 1 }, new float[] { 2 }));
+
+		assertThat(batch.stream().map(embeddedDocument -> embeddedDocument.embedding()[0])).containsExactly(1f, 2f);
+		assertThat(batch.getEmbedding(1)).containsExactly(2f);
+	}
+
+	@Test
+	void partitionKeepsDocumentsAndEmbeddingsAligned() {
+		var documents = List.of(new Document("a"), new Document("b"), new Document("c"), new Document("d"),
+				new Document("e"));
+		var embeddings = List.of(new float[] { 0 }, new float[] { 1 }, new float[] { 2 }, new float[] { 3 },
+				new float[] { 4 });
+		var batch = EmbeddedDocumentBatch.of(documents, embeddings);
+
+		var partitions = batch.partition(2);
+
+		assertThat(partitions).extracting(EmbeddedDocumentBatch::size).containsExactly(2, 2, 1);
+		var last = partitions.get(2);
+		assertThat(last.getDocuments()).containsExactly(documents.get(4));
+		assertThat(last.getEmbeddings()).containsExactly(embeddings.get(4));
+		assertThat(partitions.get(1).getDocument(1)).isSameAs(documents.get(3));
+		assertThat(partitions.get(1).getEmbedding(1)).isSameAs(embeddings.get(3));
+		assertThatThrownBy(() -> last.getEmbedding(1)).isInstanceOf(IndexOutOfBoundsException.class);
+	}
+
+	@Test
+	void embedCallsTheModelOnceWithTheBatchingStrategy() {
+		var embeddingModel = mock(EmbeddingModel.class);
+		var batchingStrategy = new TokenCountBatchingStrategy();
+		var documents = List.of(new Document("foo"), new Document("bar"));
+		given(embeddingModel.embed(eq(documents), any(), eq(batchingStrategy)))
+			.willReturn(List.of(new float[] { 1 }, new float[] { 2 }));
+
+		var batch = EmbeddedDocumentBatch.embed(documents, embeddingModel, batchingStrategy);
+
+		assertThat(batch.getDocuments()).containsExactlyElementsOf(documents);
+		assertThat(batch.getEmbedding(0)).containsExactly(1f);
+		assertThat(batch.getEmbedding(1)).containsExactly(2f);
+	}
+
+	@Test
+	void embeddingNoDocumentsDoesNotCallTheModel() {
+		var embeddingModel = mock(EmbeddingModel.class);
+
+		var batch = EmbeddedDocumentBatch.embed(List.of(), embeddingModel, new TokenCountBatchingStrategy());
+
+		assertThat(batch.isEmpty()).isTrue();
+		verifyNoInteractions(embeddingModel);
+	}
+
+}
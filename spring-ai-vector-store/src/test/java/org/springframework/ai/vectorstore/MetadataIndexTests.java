@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.MetadataIndex.Cardinality;
+import org.springframework.ai.vectorstore.MetadataIndex.Type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link MetadataIndex}.
+ */
+class MetadataIndexTests {
+
+	@Test
+	void factoriesDeclareTheTypeWithoutCardinalityHint() {
+		assertThat(MetadataIndex.keyword("country"))
+			.isEqualTo(new MetadataIndex("country", Type.KEYWORD, Cardinality.UNKNOWN));
+		assertThat(MetadataIndex.integer("year").withCardinality(Cardinality.LOW))
+			.isEqualTo(new MetadataIndex("year", Type.INTEGER, Cardinality.LOW));
+	}
+
+	@Test
+	void whenNameIsEmptyThenThrow() {
+		assertThatThrownBy(() -> MetadataIndex.keyword(" ")).isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("name must not be empty");
+	}
+
+	@Test
+	void builderKeepsTheDeclarations() {
+		var builder = SimpleVectorStore.builder(mock(EmbeddingModel.class))
+			.metadataIndexes(MetadataIndex.keyword("country"), MetadataIndex.bool("isOpen"));
+
+		assertThat(builder.getMetadataIndexes()).extracting(MetadataIndex::name).containsExactly("country", "isOpen");
+		assertThatThrownBy(() -> builder.metadataIndexes(Arrays.asList(MetadataIndex.text("title"), null)))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("MetadataIndexes must not contain null elements");
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.util.List;
+import java.util.Map;
+
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.observation.DefaultVectorStoreObservationConvention;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link ReactiveVectorStore}.
+ */
+class ReactiveVectorStoreTests {
+
+	@Test
+	void adapterRunsTheBlockingVectorStoreOnTheScheduler() {
+		var vectorStore = mock(VectorStore.class);
+		var request = SearchRequest.builder().query("foo").build();
+		var document = new Document("bar");
+		given(vectorStore.similaritySearch(request)).will(invocation -> {
+			assertThat(Thread.currentThread().getName()).startsWith("test-");
+			return List.of(document);
+		});
+
+		var reactiveVectorStore = ReactiveVectorStore.from(vectorStore, Schedulers.newSingle("test"));
+
+		assertThat(reactiveVectorStore.similaritySearch(request).block()).containsExactly(document);
+		reactiveVectorStore.add(List.of(document)).block();
+		verify(vectorStore).add(List.of(document));
+	}
+
+	@Test
+	void adapterReturnsNoDocumentsForANullResult() {
+		var vectorStore = mock(VectorStore.class);
+
+		assertThat(ReactiveVectorStore.from(vectorStore).similaritySearch("foo").block()).isEmpty();
+	}
+
+	@Test
+	void reactiveViewOfAnObservedVectorStoreIsObserved() {
+		var embeddingModel = mock(EmbeddingModel.class);
+		given(embeddingModel.embed(any(Document.class))).willReturn(new float[] { 1f, 0f }, new float[] { 0f, 1f });
+		var observationRegistry = TestObservationRegistry.create();
+		var vectorStore = SimpleVectorStore.builder(embeddingModel).observationRegistry(observationRegistry).build();
+
+		var reactiveVectorStore = vectorStore.reactive();
+		reactiveVectorStore.add(List.of(new Document("1", "foo", Map.of()), new Document("2", "bar", Map.of())))
+			.block();
+		List<Document> results = reactiveVectorStore
+			.similaritySearch(SearchRequest.builder().queryEmbedding(new float[] { 0f, 1f }).topK(1).build())
+			.block();
+
+		assertThat(results).extracting(Document::getId).containsExactly("2");
+		verify(embeddingModel, never()).embed(any(String.class));
+		TestObservationRegistryAssert.assertThat(observationRegistry)
+			.doesNotHaveAnyRemainingCurrentObservation()
+			.hasNumberOfObservationsWithNameEqualTo(DefaultVectorStoreObservationConvention.DEFAULT_NAME, 2)
+			.hasAnObservation(observation -> observation.hasContextualNameEqualTo("simple query"));
+	}
+
+	@Test
+	void reactiveErrorsAreRecordedOnTheObservation() {
+		var embeddingModel = mock(EmbeddingModel.class);
+		given(embeddingModel.embed(any(String.class))).willThrow(new IllegalStateException("embedding failed"));
+		var observationRegistry = TestObservationRegistry.create();
+		var vectorStore = SimpleVectorStore.builder(embeddingModel).observationRegistry(observationRegistry).build();
+
+		assertThatThrownBy(() -> vectorStore.reactive().similaritySearch("foo").block())
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("embedding failed");
+		TestObservationRegistryAssert.assertThat(observationRegistry)
+			.hasSingleObservationThat()
+			.hasError()
+			.hasBeenStopped();
+	}
+
+}
@@ -19,14 +19,24 @@ package org.springframework.ai.vectorstore;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.CleanupMode;
@@ -39,8 +49,12 @@ import org.springframework.core.io.Resource;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class SimpleVectorStoreTests {
@@ -246,6 +260,222 @@ class SimpleVectorStoreTests {
 			.hasMessage("Vectors lengths must be equal");
 	}
 
+	@Test
+	void shouldSearchWithPrecomputedQueryEmbedding() {
+		when(this.mockEmbeddingModel.embed(any(Document.class))).thenReturn(new float[] { 1f, 0f, 0f },
+				new float[] { 0f, 1f, 0f });
+		this.vectorStore.add(List.of(Document.builder().id("1").text("first").build(),
+				Document.builder().id("2").text("second").build()));
+
+		List<Document> results = this.vectorStore
+			.similaritySearch(SearchRequest.builder().queryEmbedding(new float[] { 0f, 1f, 0f }).topK(1).build());
+
+		assertThat(results).extracting(Document::getId).containsExactly("2");
+		verify(this.mockEmbeddingModel, never()).embed(any(String.class));
+	}
+
+	@Test
+	void shouldEmbedBatchQueriesInASingleRequest() {
+		when(this.mockEmbeddingModel.embed(any(Document.class))).thenReturn(new float[] { 1f, 0f, 0f },
+				new float[] { 0f, 1f, 0f }, new float[] { 0f, 0f, 1f });
+		this.vectorStore.add(List.of(Document.builder().id("1").text("first").build(),
+				Document.builder().id("2").text("second").build(), Document.builder().id("3").text("third").build()));
+		when(this.mockEmbeddingModel.embed(List.of("third", "first")))
+			.thenReturn(List.of(new float[] { 0f, 0f, 1f }, new float[] { 1f, 0f, 0f }));
+
+		List<List<Document>> results = this.vectorStore
+			.batchSimilaritySearch(List.of(SearchRequest.builder().query("third").topK(1).build(),
+					SearchRequest.builder().queryEmbedding(new float[] { 0f, 1f, 0f }).topK(1).build(),
+					SearchRequest.builder().query("first").topK(1).build()));
+
+		assertThat(results).hasSize(3);
+		assertThat(results.get(0)).extracting(Document::getId).containsExactly("3");
+		assertThat(results.get(1)).extracting(Document::getId).containsExactly("2");
+		assertThat(results.get(2)).extracting(Document::getId).containsExactly("1");
+		verify(this.mockEmbeddingModel).embed(List.of("third", "first"));
+		verify(this.mockEmbeddingModel, never()).embed(any(String.class));
+	}
+
+	@Test
+	void shouldNotBatchEmbedQueriesOfRequestSubclassesTheStoreDoesNotCopy() {
+		when(this.mockEmbeddingModel.embed(any(Document.class))).thenReturn(new float[] { 1f, 0f, 0f },
+				new float[] { 0f, 1f, 0f });
+		this.vectorStore.add(List.of(Document.builder().id("1").text("first").build(),
+				Document.builder().id("2").text("second").build()));
+		when(this.mockEmbeddingModel.embed(List.of("first"))).thenReturn(List.of(new float[] { 1f, 0f, 0f }));
+		when(this.mockEmbeddingModel.embed("second")).thenReturn(new float[] { 0f, 1f, 0f });
+
+		List<List<Document>> results = this.vectorStore
+			.batchSimilaritySearch(List.of(SearchRequest.builder().query("first").topK(1).build(),
+					new TaggedSearchRequest(SearchRequest.builder().query("second").topK(1).build())));
+
+		assertThat(results.get(0)).extracting(Document::getId).containsExactly("1");
+		assertThat(results.get(1)).extracting(Document::getId).containsExactly("2");
+		verify(this.mockEmbeddingModel).embed(List.of("first"));
+		verify(this.mockEmbeddingModel).embed("second");
+	}
+
+	@Test
+	void shouldPropagateTheObservationToTheBatchSearches() {
+		var observationRegistry = TestObservationRegistry.create();
+		var accessorRegistry = ObservationThreadLocalAccessor.getInstance().getObservationRegistry();
+		ObservationThreadLocalAccessor.getInstance().setObservationRegistry(observationRegistry);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			List<Observation> searchObservations = new CopyOnWriteArrayList<>();
+			SimpleVectorStore observedVectorStore = new SimpleVectorStore(
+					SimpleVectorStore.builder(this.mockEmbeddingModel)
+						.observationRegistry(observationRegistry)
+						.searchExecutor(executor)) {
+
+				@Override
+				public List<Document> doSimilaritySearch(SearchRequest request) {
+					searchObservations.add(observationRegistry.getCurrentObservation());
+					return super.doSimilaritySearch(request);
+				}
+
+			};
+
+			observedVectorStore.batchSimilaritySearch(
+					List.of(SearchRequest.builder().queryEmbedding(new float[] { 1f, 0f, 0f }).build(),
+							SearchRequest.builder().queryEmbedding(new float[] { 0f, 1f, 0f }).build()));
+
+			assertThat(searchObservations).hasSize(2)
+				.allSatisfy(observation -> assertThat(observation.getContext().getContextualName())
+					.isEqualTo("simple query"));
+		}
+		finally {
+			ObservationThreadLocalAccessor.getInstance().setObservationRegistry(accessorRegistry);
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void shouldNotWaitForTheOtherBatchSearchesOnceOneFailed() {
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			SimpleVectorStore failingVectorStore = new SimpleVectorStore(
+					SimpleVectorStore.builder(this.mockEmbeddingModel).searchExecutor(executor)) {
+
+				@Override
+				public List<Document> doSimilaritySearch(SearchRequest request) {
+					if (request.getTopK() == 1) {
+						throw new IllegalStateException("Search failed");
+					}
+					try {
+						release.await();
+					}
+					catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					}
+					return List.of();
+				}
+
+			};
+			float[] queryEmbedding = new float[] { 1f, 0f, 0f };
+
+			assertTimeoutPreemptively(Duration.ofSeconds(10),
+					() -> assertThatThrownBy(() -> failingVectorStore.batchSimilaritySearch(
+							List.of(SearchRequest.builder().queryEmbedding(queryEmbedding).topK(2).build(),
+									SearchRequest.builder().queryEmbedding(queryEmbedding).topK(1).build(),
+									SearchRequest.builder().queryEmbedding(queryEmbedding).topK(3).build())))
+						.isInstanceOf(IllegalStateException.class)
+						.hasMessage("Search failed"));
+		}
+		finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void shouldReturnNoResultsForEmptyBatch() {
+		assertThat(this.vectorStore.batchSimilaritySearch(List.of())).isEmpty();
+		verify(this.mockEmbeddingModel, never()).embed(anyList());
+	}
+
+	@Test
+	void shouldOnlySearchTheDocumentsOfTheTenant() {
+		this.vectorStore.add(List.of(Document.builder().id("1").text("first").metadata("tenant_id", "acme").build(),
+				Document.builder().id("2").text("second").metadata(Map.of("tenant_id", "globex", "year", 2024)).build(),
+				Document.builder()
+					.id("3")
+					.text("third")
+					.metadata(Map.of("tenant_id", "globex", "year", 2025))
+					.build()));
+
+		List<Document> results = this.vectorStore
+			.similaritySearch(SearchRequest.builder().query("query").topK(5).tenantId("globex").build());
+		assertThat(results).extracting(Document::getId).containsExactlyInAnyOrder("2", "3");
+
+		results = this.vectorStore.similaritySearch(SearchRequest.builder()
+			.query("query")
+			.topK(5)
+			.tenantId("globex")
+			.filterExpression("year == 2025")
+			.build());
+		assertThat(results).extracting(Document::getId).containsExactly("3");
+	}
+
+	@Test
+	void shouldRouteRequestSubclassesTheStoreCopiesToTheTenant() {
+		SimpleVectorStore copyingVectorStore = new SimpleVectorStore(
+				SimpleVectorStore.builder(this.mockEmbeddingModel)) {
+
+			@Override
+			protected SearchRequest copySearchRequest(SearchRequest request, SearchRequest fields) {
+				return (request instanceof TaggedSearchRequest) ? new TaggedSearchRequest(fields)
+						: super.copySearchRequest(request, fields);
+			}
+
+			@Override
+			public List<Document> doSimilaritySearch(SearchRequest request) {
+				assertThat(request).isInstanceOf(TaggedSearchRequest.class);
+				return super.doSimilaritySearch(request);
+			}
+
+		};
+		copyingVectorStore.add(List.of(Document.builder().id("1").text("first").metadata("tenant_id", "acme").build(),
+				Document.builder().id("2").text("second").metadata("tenant_id", "globex").build()));
+
+		List<Document> results = copyingVectorStore.similaritySearch(
+				new TaggedSearchRequest(SearchRequest.builder().query("query").topK(5).tenantId("globex").build()));
+		assertThat(results).extracting(Document::getId).containsExactly("2");
+	}
+
+	@Test
+	void shouldRejectTenantsOfRequestSubclassesTheStoreDoesNotCopy() {
+		SearchRequest request = new TaggedSearchRequest(
+				SearchRequest.builder().query("query").topK(5).tenantId("globex").build());
+
+		assertThatThrownBy(() -> this.vectorStore.similaritySearch(request))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("does not route TaggedSearchRequest to tenants");
+	}
+
+	@Test
+	void shouldStopTheObservationWhenTheSearchStreamIsClosed() {
+		var observationRegistry = TestObservationRegistry.create();
+		var observedVectorStore = SimpleVectorStore.builder(this.mockEmbeddingModel)
+			.observationRegistry(observationRegistry)
+			.build();
+
+		try (Stream<Document> results = observedVectorStore
+			.similaritySearchStream(SearchRequest.builder().query("first").build())) {
+			assertThat(results.toList()).isEmpty();
+			TestObservationRegistryAssert.assertThat(observationRegistry)
+				.doesNotHaveAnyRemainingCurrentObservation()
+				.hasSingleObservationThat()
+				.isNotStopped();
+		}
+
+		TestObservationRegistryAssert.assertThat(observationRegistry)
+			.hasSingleObservationThat()
+			.hasContextualNameEqualTo("simple query")
+			.hasBeenStopped();
+	}
+
 	@Test
 	void shouldHandleNullVectors() {
 		float[] vector = new float[] { 1f, 2f, 3f };
@@ -259,4 +489,12 @@ class SimpleVectorStoreTests {
 			.hasMessage("Vectors must not be null");
 	}
 
+	static class TaggedSearchRequest extends SearchRequest {
+
+		TaggedSearchRequest(SearchRequest original) {
+			super(original);
+		}
+
+	}
+
 }
@@ -151,6 +151,14 @@ public class FilterHelperTests {
 		assertThat(new InNinTestConverter().convertExpression(exp1)).isEqualTo("key NE 11 AND key NE 12 AND key NE 13");
 	}
 
+	@Test
+	public void keys() {
+		var exp = new FilterExpressionTextParser()
+			.parse("NOT (country == 'UK' && 'year' >= 2020) || country IN ['NL'] || isOpen == true");
+
+		assertThat(FilterHelper.keys(exp)).containsExactly("country", "year", "isOpen");
+	}
+
 	private static class InNinTestConverter extends PrintFilterExpressionConverter {
 
 		@Override
@@ -16,6 +16,8 @@
 
 package org.springframework.ai.vectorstore.filter;
 
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.ai.vectorstore.SearchRequest;
@@ -23,6 +25,7 @@ import org.springframework.ai.vectorstore.filter.FilterExpressionTextParser.Filt
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 
 /**
  * @author Christian Tzolov
@@ -138,10 +141,70 @@ public class SearchRequestTests {
 
 	}
 
+	@Test
+	public void hints() {
+		var request = SearchRequest.builder().query("Test").hint("hnsw.ef_search", 100).build();
+		assertThat(request.getHints()).containsExactly(entry("hnsw.ef_search", 100));
+		assertThat(request.getHint("hnsw.ef_search")).isEqualTo(100);
+
+		var request1 = SearchRequest.from(request).hint("ivfflat.probes", 10).build();
+		assertThat(request1.getHints()).containsExactly(entry("hnsw.ef_search", 100), entry("ivfflat.probes", 10));
+		assertThat(request.getHints()).hasSize(1);
+		assertThat(request1).isNotEqualTo(request);
+
+		var request2 = SearchRequest.from(request1).hints(Map.of()).build();
+		assertThat(request2.getHints()).isEmpty();
+		assertThat(request2.getHint("hnsw.ef_search")).isNull();
+
+		assertThatThrownBy(() -> SearchRequest.builder().hint("", 1)).isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("Hint name must not be empty.");
+	}
+
+	@Test
+	public void queryEmbedding() {
+		var request = SearchRequest.builder().queryEmbedding(new float[] { 0.1f, 0.2f }).build();
+		assertThat(request.hasQueryEmbedding()).isTrue();
+		assertThat(request.getQueryEmbedding()).containsExactly(0.1f, 0.2f);
+
+		var request1 = SearchRequest.from(request).build();
+		assertThat(request1.getQueryEmbedding()).containsExactly(0.1f, 0.2f);
+		assertThat(request1).isEqualTo(request).hasSameHashCodeAs(request);
+
+		var request2 = SearchRequest.from(request).queryEmbedding(new float[] { 0.3f }).build();
+		assertThat(request2).isNotEqualTo(request);
+
+		var request3 = SearchRequest.from(request).queryEmbedding(null).build();
+		assertThat(request3.hasQueryEmbedding()).isFalse();
+
+		assertThatThrownBy(() -> SearchRequest.builder().queryEmbedding(new float[0]))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("Query embedding must not be empty.");
+	}
+
+	@Test
+	public void tenantId() {
+		var request = SearchRequest.builder().query("Test").tenantId("acme").build();
+		assertThat(request.getTenantId()).isEqualTo("acme");
+
+		var request1 = SearchRequest.from(request).build();
+		assertThat(request1.getTenantId()).isEqualTo("acme");
+		assertThat(request1).isEqualTo(request).hasSameHashCodeAs(request);
+
+		var request2 = SearchRequest.from(request).tenantId(null).build();
+		assertThat(request2.hasTenantId()).isFalse();
+		assertThat(request2).isNotEqualTo(request);
+
+		assertThatThrownBy(() -> SearchRequest.builder().tenantId(" ")).isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("Tenant id must not be blank.");
+	}
+
 	private void checkDefaults(SearchRequest request) {
 		assertThat(request.getFilterExpression()).isNull();
 		assertThat(request.getSimilarityThreshold()).isEqualTo(SearchRequest.SIMILARITY_THRESHOLD_ACCEPT_ALL);
 		assertThat(request.getTopK()).isEqualTo(SearchRequest.DEFAULT_TOP_K);
+		assertThat(request.getHints()).isEmpty();
+		assertThat(request.hasQueryEmbedding()).isFalse();
+		assertThat(request.hasTenantId()).isFalse();
 	}
 
 }
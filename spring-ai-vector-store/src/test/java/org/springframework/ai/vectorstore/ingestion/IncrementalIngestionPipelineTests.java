@@ -0,0 +1,201 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.ingestion;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.ai.content.Media;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.document.DocumentReader;
+import org.springframework.ai.document.DocumentTransformer;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.util.MimeTypeUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link IncrementalIngestionPipeline}.
+ */
+class IncrementalIngestionPipelineTests {
+
+	// one chunk per paragraph
+	private static final DocumentTransformer PARAGRAPHS = documents -> documents.stream()
+		.flatMap(document -> Arrays.stream(document.getText().split("\n\n"))
+			.map(paragraph -> new Document(paragraph, document.getMetadata())))
+		.toList();
+
+	@TempDir
+	Path tempDir;
+
+	private final RecordingVectorStore vectorStore = new RecordingVectorStore();
+
+	@Test
+	void unchangedSourcesAreSkipped() {
+		IncrementalIngestionPipeline pipeline = pipeline(new InMemoryIngestionManifest(), 100);
+		Map<String, DocumentReader> sources = Map.of("a", reader("one\n\ntwo"), "b", reader("three"));
+
+		IngestionResult first = pipeline.ingest(sources);
+		IngestionResult second = pipeline.ingest(sources);
+
+		assertThat(first).isEqualTo(new IngestionResult(0, 2, 0, 3, 0, 0));
+		assertThat(second).isEqualTo(new IngestionResult(2, 0, 0, 0, 0, 3));
+		assertThat(this.vectorStore.documents).hasSize(3);
+		assertThat(this.vectorStore.addCalls).isEqualTo(2);
+	}
+
+	@Test
+	void mediaSourcesAreComparedOnTheirBytes() {
+		IncrementalIngestionPipeline pipeline = IncrementalIngestionPipeline.builder()
+			.vectorStore(this.vectorStore)
+			.transformer(documents -> documents)
+			.manifest(new InMemoryIngestionManifest())
+			.build();
+
+		pipeline.ingest(Map.of("a", mediaReader(new byte[] { 1, 2, 3 })));
+		IngestionResult unchanged = pipeline.ingest(Map.of("a", mediaReader(new byte[] { 1, 2, 3 })));
+		IngestionResult changed = pipeline.ingest(Map.of("a", mediaReader(new byte[] { 1, 2, 4 })));
+
+		assertThat(unchanged).isEqualTo(new IngestionResult(1, 0, 0, 0, 0, 1));
+		assertThat(changed).isEqualTo(new IngestionResult(0, 1, 0, 1, 1, 0));
+	}
+
+	@Test
+	void onlyChangedChunksAreWrittenAndStaleChunksDeleted() {
+		IncrementalIngestionPipeline pipeline = pipeline(new InMemoryIngestionManifest(), 100);
+		pipeline.ingest(Map.of("a", reader("one\n\ntwo\n\nthree")));
+		Map<String, Document> before = new LinkedHashMap<>(this.vectorStore.documents);
+
+		IngestionResult result = pipeline.ingest(Map.of("a", reader("one\n\nTWO\n\nthree")));
+
+		assertThat(result).isEqualTo(new IngestionResult(0, 1, 0, 1, 1, 2));
+		assertThat(this.vectorStore.documents.values()).extracting(Document::getText)
+			.containsExactlyInAnyOrder("one", "TWO", "three");
+		assertThat(this.vectorStore.documents.keySet())
+			.containsAll(before.keySet().stream().filter(id -> !before.get(id).getText().equals("two")).toList());
+	}
+
+	@Test
+	void identicalChunksOfASourceAreKeptApart() {
+		IncrementalIngestionPipeline pipeline = pipeline(new InMemoryIngestionManifest(), 100);
+
+		pipeline.ingest(Map.of("a", reader("same\n\nsame")));
+
+		assertThat(this.vectorStore.documents).hasSize(2);
+	}
+
+	@Test
+	void missingSourcesAreRemoved() {
+		IncrementalIngestionPipeline pipeline = pipeline(new InMemoryIngestionManifest(), 100);
+		pipeline.ingest(Map.of("a", reader("one"), "b", reader("two\n\nthree")));
+
+		IngestionResult result = pipeline.ingest(Map.of("a", reader("one")));
+
+		assertThat(result).isEqualTo(new IngestionResult(1, 0, 1, 0, 2, 1));
+		assertThat(this.vectorStore.documents.values()).extracting(Document::getText).containsExactly("one");
+	}
+
+	@Test
+	void interruptedIngestionResumesFromTheManifest() throws IOException {
+		Path path = this.tempDir.resolve("manifest.jsonl");
+		DocumentReader source = reader("one\n\ntwo\n\nthree\n\nfour");
+		this.vectorStore.failOnAddCall = 2;
+		try (FileIngestionManifest manifest = new FileIngestionManifest(path)) {
+			assertThatThrownBy(() -> pipeline(manifest, 2).ingest(Map.of("a", source)))
+				.isInstanceOf(IllegalStateException.class);
+		}
+		assertThat(this.vectorStore.documents.values()).extracting(Document::getText).containsExactly("one", "two");
+
+		try (FileIngestionManifest manifest = new FileIngestionManifest(path)) {
+			IngestionResult result = pipeline(manifest, 2).ingest(Map.of("a", source));
+
+			assertThat(result).isEqualTo(new IngestionResult(0, 1, 0, 2, 0, 2));
+		}
+		try (FileIngestionManifest manifest = new FileIngestionManifest(path)) {
+			IngestionResult result = pipeline(manifest, 2).ingest(Map.of("a", source));
+
+			assertThat(result).isEqualTo(new IngestionResult(1, 0, 0, 0, 0, 4));
+			assertThat(manifest.getChunkIds("a"))
+				.containsExactlyInAnyOrderElementsOf(this.vectorStore.documents.keySet());
+		}
+	}
+
+	private IncrementalIngestionPipeline pipeline(IngestionManifest manifest, int batchSize) {
+		return IncrementalIngestionPipeline.builder()
+			.vectorStore(this.vectorStore)
+			.transformer(PARAGRAPHS)
+			.manifest(manifest)
+			.batchSize(batchSize)
+			.build();
+	}
+
+	private static DocumentReader reader(String text) {
+		return () -> List.of(new Document(text, Map.of("source", "test")));
+	}
+
+	private static DocumentReader mediaReader(byte[] data) {
+		return () -> List.of(Document.builder()
+			.media(Media.builder().mimeType(MimeTypeUtils.IMAGE_PNG).data(data).build())
+			.metadata("source", "test")
+			.build());
+	}
+
+	private static class RecordingVectorStore implements VectorStore {
+
+		final Map<String, Document> documents = new LinkedHashMap<>();
+
+		int addCalls;
+
+		int failOnAddCall;
+
+		@Override
+		public void add(List<Document> documents) {
+			if (++this.addCalls == this.failOnAddCall) {
+				throw new IllegalStateException("Simulated failure");
+			}
+			documents.forEach(document -> this.documents.put(document.getId(), document));
+		}
+
+		@Override
+		public void delete(List<String> idList) {
+			idList.forEach(this.documents::remove);
+		}
+
+		@Override
+		public void delete(Filter.Expression filterExpression) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public List<Document> similaritySearch(SearchRequest request) {
+			return new ArrayList<>(this.documents.values());
+		}
+
+	}
+
+}
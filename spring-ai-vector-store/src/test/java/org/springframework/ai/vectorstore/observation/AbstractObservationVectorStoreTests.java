@@ -0,0 +1,107 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.observation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
+import org.springframework.ai.vectorstore.EmbeddedDocumentBatch;
+import org.springframework.ai.vectorstore.SearchRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link AbstractObservationVectorStore}.
+ */
+class AbstractObservationVectorStoreTests {
+
+	private final EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+
+	@Test
+	void batchesAreAddedThroughTheDocumentListsOfAStoreEmbeddingThemItself() {
+		var vectorStore = new DocumentListVectorStore(new TestBuilder(this.embeddingModel));
+		var documents = List.of(new Document("a"), new Document("b"));
+
+		vectorStore.doAdd(EmbeddedDocumentBatch.of(documents, List.of(new float[] { 1 }, new float[] { 2 })));
+
+		assertThat(vectorStore.added).containsExactlyElementsOf(documents);
+	}
+
+	@Test
+	void storeOverridingNeitherAddMethodIsRejected() {
+		assertThatIllegalStateException().isThrownBy(() -> new NoAddVectorStore(new TestBuilder(this.embeddingModel)))
+			.withMessageContaining("must override doAdd(List) or doAdd(EmbeddedDocumentBatch)");
+	}
+
+	private static class TestBuilder extends AbstractVectorStoreBuilder<TestBuilder> {
+
+		TestBuilder(EmbeddingModel embeddingModel) {
+			super(embeddingModel);
+		}
+
+		@Override
+		public AbstractObservationVectorStore build() {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+	private static class NoAddVectorStore extends AbstractObservationVectorStore {
+
+		NoAddVectorStore(TestBuilder builder) {
+			super(builder);
+		}
+
+		@Override
+		public void doDelete(List<String> idList) {
+		}
+
+		@Override
+		public List<Document> doSimilaritySearch(SearchRequest request) {
+			return List.of();
+		}
+
+		@Override
+		public VectorStoreObservationContext.Builder createObservationContextBuilder(String operationName) {
+			return VectorStoreObservationContext.builder("test", operationName);
+		}
+
+	}
+
+	private static class DocumentListVectorStore extends NoAddVectorStore {
+
+		final List<Document> added = new ArrayList<>();
+
+		DocumentListVectorStore(TestBuilder builder) {
+			super(builder);
+		}
+
+		@Override
+		public void doAdd(List<Document> documents) {
+			this.added.addAll(documents);
+		}
+
+	}
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.planner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.planner.FilteredSearchPlan.Strategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for {@link FilteredSearchPlanner}.
+ */
+class FilteredSearchPlannerTests {
+
+	// 1 of the 100 sampled documents is in NL, 10 are in DE and 89 in UK
+	private final MetadataSample sample = new MetadataSample(IntStream.range(0, 100)
+		.<Map<String, Object>>mapToObj(i -> Map.of("country", (i == 0) ? "NL" : (i <= 10) ? "DE" : "UK", "year", i))
+		.toList(), 1_000_000);
+
+	private final FilteredSearchPlanner planner = FilteredSearchPlanner.builder().build();
+
+	@Test
+	void selectivityIsEstimatedFromTheSample() {
+		assertThat(this.sample.selectivity(request("country == 'UK'").getFilterExpression())).isCloseTo(0.89,
+				within(0.01));
+		assertThat(this.sample.selectivity(request("year >= 50 && country != 'NL'").getFilterExpression()))
+			.isCloseTo(0.5, within(0.01));
+		assertThat(this.sample.selectivity(request("country == 'FR'").getFilterExpression())).isGreaterThan(0);
+		assertThat(new MetadataSample(List.of(), 0).selectivity(request("country == 'FR'").getFilterExpression()))
+			.isEqualTo(1.0);
+	}
+
+	@Test
+	void fewMatchingDocumentsAreSearchedExactly() {
+		var plan = this.planner.plan(request("country == 'NL'"), new MetadataSample(this.sample.metadata(), 100_000),
+				true);
+
+		assertThat(plan.strategy()).isEqualTo(Strategy.PRE_FILTER);
+		assertThat(plan.estimatedMatches()).isLessThan(FilteredSearchPlanner.DEFAULT_EXACT_SCAN_THRESHOLD);
+	}
+
+	@Test
+	void selectiveFiltersAreAppliedNativelyWhenSupported() {
+		var request = request("country == 'NL'");
+
+		assertThat(this.planner.plan(request, this.sample, true).strategy()).isEqualTo(Strategy.NATIVE_FILTER);
+
+		var plan = this.planner.plan(request, this.sample, false);
+		assertThat(plan.strategy()).isEqualTo(Strategy.POST_FILTER);
+		assertThat(plan.candidates()).isEqualTo(408);
+		assertThat(FilteredSearchPlanner.builder().maxCandidates(100).build().plan(request, this.sample, false))
+			.extracting(FilteredSearchPlan::candidates)
+			.isEqualTo(100);
+	}
+
+	@Test
+	void candidatesAreOversampledByTheInverseSelectivity() {
+		var plan = this.planner.plan(request("country == 'DE'"), this.sample, true);
+
+		assertThat(plan.strategy()).isEqualTo(Strategy.POST_FILTER);
+		assertThat(plan.candidates()).isEqualTo(75);
+	}
+
+	@Test
+	void postFilterDoublesTheCandidatesUntilEnoughDocumentsMatch() {
+		var plan = new FilteredSearchPlan(Strategy.POST_FILTER, 0.1, 100_000, 8, 40);
+		List<Integer> candidates = new ArrayList<>();
+
+		var documents = this.planner.postFilter(plan, n -> {
+			candidates.add(n);
+			return documents(n / 20);
+		});
+
+		assertThat(candidates).containsExactly(40, 80, 160);
+		assertThat(documents).hasSize(8);
+	}
+
+	@Test
+	void postFilterStopsWhenMoreCandidatesDoNotMatchMoreDocuments() {
+		var plan = new FilteredSearchPlan(Strategy.POST_FILTER, 0.1, 100_000, 8, 40);
+		List<Integer> candidates = new ArrayList<>();
+
+		var documents = this.planner.postFilter(plan, n -> {
+			candidates.add(n);
+			return documents(3);
+		});
+
+		assertThat(candidates).containsExactly(40, 80);
+		assertThat(documents).hasSize(3);
+	}
+
+	@Test
+	void statisticsAreSampledOncePerTtl() {
+		var samples = new AtomicInteger();
+		var statistics = this.planner.statistics(sampleSize -> {
+			samples.incrementAndGet();
+			assertThat(sampleSize).isEqualTo(FilteredSearchPlanner.DEFAULT_SAMPLE_SIZE);
+			return this.sample;
+		});
+
+		assertThat(statistics.get()).isSameAs(this.sample);
+		assertThat(statistics.get()).isSameAs(this.sample);
+		assertThat(samples).hasValue(1);
+	}
+
+	private static SearchRequest request(String filterExpression) {
+		return SearchRequest.builder().query("foo").topK(8).filterExpression(filterExpression).build();
+	}
+
+	private static List<Document> documents(int count) {
+		return IntStream.range(0, count).mapToObj(i -> new Document("document " + i)).toList();
+	}
+
+}
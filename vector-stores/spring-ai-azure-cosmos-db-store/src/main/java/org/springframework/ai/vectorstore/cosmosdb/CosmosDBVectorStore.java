@@ -64,9 +64,9 @@ import reactor.core.publisher.Flux;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.embedding.EmbeddingModel;
-import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
 import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
+import org.springframework.ai.vectorstore.EmbeddedDocumentBatch;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.filter.Filter;
 import org.springframework.ai.vectorstore.observation.AbstractObservationVectorStore;
@@ -230,15 +230,12 @@ public class CosmosDBVectorStore extends AbstractObservationVectorStore implemen
 	}
 
 	@Override
-	public void doAdd(List<Document> documents) {
-
-		// Batch the documents based on the batching strategy
-		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
-				this.batchingStrategy);
+	protected void doAdd(EmbeddedDocumentBatch batch) {
 
 		// Create a list to hold both the CosmosItemOperation and the corresponding
 		// document ID
-		List<ImmutablePair<String, CosmosItemOperation>> itemOperationsWithIds = documents.stream().map(doc -> {
+		List<ImmutablePair<String, CosmosItemOperation>> itemOperationsWithIds = batch.stream().map(embeddedDoc -> {
+			Document doc = embeddedDoc.document();
 			String partitionKeyValue;
 
 			if ("/id".equals(this.partitionKeyPath)) {
@@ -259,9 +256,8 @@ public class CosmosDBVectorStore extends AbstractObservationVectorStore implemen
 			}
 
 			CosmosItemOperation operation = CosmosBulkOperations.getCreateItemOperation(
-					mapCosmosDocument(doc, embeddings.get(documents.indexOf(doc))),
-					new PartitionKey(partitionKeyValue)); // Pair the document ID
-			// with the operation
+					mapCosmosDocument(doc, embeddedDoc.embedding()), new PartitionKey(partitionKeyValue));
+			// Pair the document ID with the operation
 			return new ImmutablePair<>(doc.getId(), operation);
 		}).toList();
 
@@ -379,7 +375,7 @@ public class CosmosDBVectorStore extends AbstractObservationVectorStore implemen
 		}
 
 		// Convert query into vector embedding
-		float[] embedding = this.embeddingModel.embed(request.getQuery());
+		float[] embedding = getQueryEmbedding(request);
 
 		logger.info("similarity threshold: {}", request.getSimilarityThreshold());
 
@@ -48,11 +48,11 @@ import org.slf4j.LoggerFactory;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
 import org.springframework.ai.embedding.EmbeddingModel;
-import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.model.EmbeddingUtils;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
 import org.springframework.ai.observation.conventions.VectorStoreSimilarityMetric;
 import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
+import org.springframework.ai.vectorstore.EmbeddedDocumentBatch;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
 import org.springframework.ai.vectorstore.observation.AbstractObservationVectorStore;
@@ -157,14 +157,16 @@ public class AzureVectorStore extends AbstractObservationVectorStore implements
 		if (CollectionUtils.isEmpty(documents)) {
 			return; // nothing to do;
 		}
+		super.doAdd(documents);
+	}
 
-		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
-				this.batchingStrategy);
-
-		final var searchDocuments = documents.stream().map(document -> {
+	@Override
+	protected void doAdd(EmbeddedDocumentBatch batch) {
+		final var searchDocuments = batch.stream().map(embeddedDocument -> {
+			Document document = embeddedDocument.document();
 			SearchDocument searchDocument = new SearchDocument();
 			searchDocument.put(ID_FIELD_NAME, document.getId());
-			searchDocument.put(EMBEDDING_FIELD_NAME, embeddings.get(documents.indexOf(document)));
+			searchDocument.put(EMBEDDING_FIELD_NAME, embeddedDocument.embedding());
 			searchDocument.put(CONTENT_FIELD_NAME, document.getText());
 			searchDocument.put(METADATA_FIELD_NAME, new JSONObject(document.getMetadata()).toJSONString());
 
@@ -215,7 +217,7 @@ public class AzureVectorStore extends AbstractObservationVectorStore implements
 
 		Assert.notNull(request, "The search request must not be null.");
 
-		var searchEmbedding = this.embeddingModel.embed(request.getQuery());
+		var searchEmbedding = getQueryEmbedding(request);
 
 		final var vectorQuery = new VectorizedQuery(EmbeddingUtils.toList(searchEmbedding))
 			.setKNearestNeighborsCount(request.getTopK())
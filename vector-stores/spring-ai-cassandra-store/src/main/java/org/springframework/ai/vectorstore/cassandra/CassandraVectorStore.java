@@ -16,32 +16,43 @@
 
 package org.springframework.ai.vectorstore.cassandra;
 
+import java.math.BigInteger;
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.CqlSessionBuilder;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.DefaultBatchType;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
 import com.datastax.oss.driver.api.core.data.CqlVector;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
 import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
 import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
 import com.datastax.oss.driver.api.core.type.DataType;
@@ -63,21 +74,26 @@ import com.datastax.oss.driver.shaded.guava.common.annotations.VisibleForTesting
 import com.datastax.oss.driver.shaded.guava.common.base.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
 import org.springframework.ai.embedding.EmbeddingModel;
-import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.model.EmbeddingUtils;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
 import org.springframework.ai.observation.conventions.VectorStoreSimilarityMetric;
 import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
+import org.springframework.ai.vectorstore.EmbeddedDocumentBatch;
+import org.springframework.ai.vectorstore.EmbeddedDocumentBatch.EmbeddedDocument;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.ai.vectorstore.filter.Filter;
 import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
+import org.springframework.ai.vectorstore.filter.FilterHelper;
 import org.springframework.ai.vectorstore.observation.AbstractObservationVectorStore;
 import org.springframework.ai.vectorstore.observation.VectorStoreObservationContext;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -153,14 +169,14 @@ import org.springframework.util.Assert;
  * change the schema server-side you need a new CassandraVectorStore instance.
  *
  * When adding documents with the method {@link #add(List<Document>)} it first calls
- * embeddingModel to create the embeddings. This is slow. Configure
- * {@link Builder#fixedThreadPoolExecutorSize(int)} accordingly to improve performance so
- * embeddings are created and the documents are added concurrently. The default
- * concurrency is 16 ({@link Builder#DEFAULT_ADD_CONCURRENCY}). Remote transformers
- * probably want higher concurrency, and local transformers may need lower concurrency.
- * This concurrency limit does not need to be higher than the max parallel calls made to
- * the {@link #add(List<Document>)} method multiplied by the list size. This setting can
- * also serve as a protecting throttle against your embedding model.
+ * embeddingModel to create the embeddings. This is slow. The documents are then written
+ * with the asynchronous API of the driver, grouped into unlogged batches by partition
+ * key, with at most {@link Builder#fixedThreadPoolExecutorSize(int)} requests in flight.
+ * The default concurrency is 16 ({@link Builder#DEFAULT_ADD_CONCURRENCY}). This setting
+ * serves as a protecting throttle against your cluster.
+ *
+ * Filtered searches can be split over ranges of the token ring that are searched in
+ * parallel, see {@link Builder#tokenRangeSplits(int)}.
  *
  * @author Mick Semb Wever
  * @author Christian Tzolov
@@ -186,12 +202,20 @@ public class CassandraVectorStore extends AbstractObservationVectorStore impleme
 
 	public static final int DEFAULT_ADD_CONCURRENCY = 16;
 
+	/**
+	 * The default maximum size of the unlogged batches, matching the default
+	 * {@code batch_size_warn_threshold} of Cassandra.
+	 */
+	public static final int DEFAULT_BATCH_SIZE_THRESHOLD = 5 * 1024;
+
 	public static final String DRIVER_PROFILE_UPDATES = "spring-ai-updates";
 
 	public static final String DRIVER_PROFILE_SEARCH = "spring-ai-search";
 
 	private static final String QUERY_FORMAT = "select %s,%s,%s%s from %s.%s ? order by %s ann of ? limit ?";
 
+	private static final String MURMUR3_PARTITIONER = "org.apache.cassandra.dht.Murmur3Partitioner";
+
 	private static final Logger logger = LoggerFactory.getLogger(CassandraVectorStore.class);
 
 	private static final Map<Similarity, VectorStoreSimilarityMetric> SIMILARITY_TYPE_MAPPING = Map.of(
@@ -210,7 +234,11 @@ public class CassandraVectorStore extends AbstractObservationVectorStore impleme
 
 	private final PrimaryKeyTranslator primaryKeyTranslator;
 
-	private final Executor executor;
+	private final int addConcurrency;
+
+	private final int batchSizeThreshold;
+
+	private final List<TokenRange> tokenRanges;
 
 	private final boolean closeSessionOnClose;
 
@@ -232,7 +260,8 @@ public class CassandraVectorStore extends AbstractObservationVectorStore impleme
 		this.disallowSchemaChanges = builder.disallowSchemaChanges;
 		this.documentIdTranslator = builder.documentIdTranslator;
 		this.primaryKeyTranslator = builder.primaryKeyTranslator;
-		this.executor = Executors.newFixedThreadPool(builder.fixedThreadPoolExecutorSize);
+		this.addConcurrency = builder.fixedThreadPoolExecutorSize;
+		this.batchSizeThreshold = builder.batchSizeThreshold;
 		this.closeSessionOnClose = builder.closeSessionOnClose;
 
 		ensureSchemaExists(this.embeddingModel.dimensions());
@@ -247,6 +276,7 @@ public class CassandraVectorStore extends AbstractObservationVectorStore impleme
 
 		this.similarity = getIndexSimilarity(cassandraMetadata);
 		this.similarityStmt = similaritySearchStatement();
+		this.tokenRanges = tokenRanges(builder.tokenRangeSplits);
 
 		this.filterExpressionConverter = builder.filterExpressionConverter != null ? builder.filterExpressionConverter
 				: new CassandraFilterExpressionConverter(cassandraMetadata.getColumns().values());
@@ -266,53 +296,168 @@ public class CassandraVectorStore extends AbstractObservationVectorStore impleme
 	}
 
 	@Override
-	public void doAdd(List<Document> documents) {
-		var futures = new CompletableFuture[documents.size()];
+	protected void doAdd(EmbeddedDocumentBatch batch) {
+		executeWindowed(toAddStatements(batch));
+	}
 
-		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
-				this.batchingStrategy);
+	/**
+	 * Inserts the documents with the asynchronous API of the driver, with at most as many
+	 * inserts in flight as the {@link Builder#fixedThreadPoolExecutorSize(int) add
+	 * concurrency}.
+	 */
+	@Override
+	protected Mono<Void> doReactiveAdd(List<Document> documents) {
+		return embedReactive(documents).flatMapMany(batch -> Flux.fromIterable(toAddStatements(batch)))
+			.flatMap(statement -> Mono.fromCompletionStage(() -> this.session.executeAsync(statement)),
+					this.addConcurrency)
+			.then();
+	}
 
-		int i = 0;
-		for (Document d : documents) {
-			futures[i++] = CompletableFuture.runAsync(() -> {
-				List<Object> primaryKeyValues = this.documentIdTranslator.apply(d.getId());
-
-				BoundStatementBuilder builder = prepareAddStatement(d.getMetadata().keySet()).boundStatementBuilder();
-				for (int k = 0; k < primaryKeyValues.size(); ++k) {
-					SchemaColumn keyColumn = this.getPrimaryKeyColumn(k);
-					builder = builder.set(keyColumn.name(), primaryKeyValues.get(k), keyColumn.javaType());
+	/**
+	 * Groups the inserts of the documents by partition key into unlogged batches of at
+	 * most {@link Builder#batchSizeThreshold(int)} bytes. Batches spanning several
+	 * partitions would make their coordinator wait on every replica involved, so
+	 * documents alone in their partition are inserted on their own.
+	 */
+	private List<Statement<?>> toAddStatements(EmbeddedDocumentBatch batch) {
+		int partitionKeySize = this.schema.partitionKeys().size();
+		Map<List<Object>, List<BoundStatement>> partitions = new LinkedHashMap<>();
+		for (var embeddedDocument : batch) {
+			List<Object> partitionKey = this.documentIdTranslator.apply(embeddedDocument.document().getId())
+				.subList(0, partitionKeySize);
+			partitions.computeIfAbsent(partitionKey, key -> new ArrayList<>()).add(toAddStatement(embeddedDocument));
+		}
+
+		List<Statement<?>> statements = new ArrayList<>();
+		for (List<BoundStatement> inserts : partitions.values()) {
+			List<BatchableStatement<?>> chunk = new ArrayList<>();
+			int chunkSize = 0;
+			for (BoundStatement insert : inserts) {
+				int size = insert.computeSizeInBytes(this.session.getContext());
+				if (!chunk.isEmpty() && chunkSize + size > this.batchSizeThreshold) {
+					statements.add(toBatchStatement(chunk));
+					chunk = new ArrayList<>();
+					chunkSize = 0;
 				}
+				chunk.add(insert);
+				chunkSize += size;
+			}
+			statements.add(toBatchStatement(chunk));
+		}
+		return statements;
+	}
 
-				builder = builder.setString(this.schema.content(), d.getText())
-					.setVector(this.schema.embedding(),
-							CqlVector.newInstance(EmbeddingUtils.toList(embeddings.get(documents.indexOf(d)))),
-							Float.class);
+	private Statement<?> toBatchStatement(List<BatchableStatement<?>> statements) {
+		if (statements.size() == 1) {
+			return statements.get(0);
+		}
+		return BatchStatement.newInstance(DefaultBatchType.UNLOGGED, statements)
+			.setExecutionProfileName(DRIVER_PROFILE_UPDATES);
+	}
 
-				for (var metadataColumn : this.schema.metadataColumns()
-					.stream()
-					.filter(mc -> d.getMetadata().containsKey(mc.name()))
-					.toList()) {
+	/**
+	 * Executes the statements with the asynchronous API of the driver, keeping at most
+	 * {@link Builder#fixedThreadPoolExecutorSize(int)} of them in flight, and waits for
+	 * all of them. No more statements are sent once one failed, and its failure is
+	 * thrown.
+	 */
+	private void executeWindowed(List<? extends Statement<?>> statements) {
+		executeWindowed(statements, this.addConcurrency, this.session::executeAsync);
+	}
 
-					builder = builder.set(metadataColumn.name(), d.getMetadata().get(metadataColumn.name()),
-							metadataColumn.javaType());
+	/**
+	 * Executes the statements with the given asynchronous executor, keeping at most
+	 * {@code concurrency} of them in flight. When the executor throws rather than
+	 * returning a stage, the statements in flight are cancelled and the exception is
+	 * thrown once they completed.
+	 */
+	static void executeWindowed(List<? extends Statement<?>> statements, int concurrency,
+			Function<Statement<?>, ? extends CompletionStage<?>> executor) {
+		Semaphore window = new Semaphore(concurrency);
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		Set<CompletableFuture<?>> inFlight = ConcurrentHashMap.newKeySet();
+		try {
+			for (Statement<?> statement : statements) {
+				window.acquire();
+				if (failure.get() != null) {
+					window.release();
+					break;
 				}
-				BoundStatement s = builder.build().setExecutionProfileName(DRIVER_PROFILE_UPDATES);
-				this.session.execute(s);
-			}, this.executor);
+				CompletableFuture<?> future;
+				try {
+					future = executor.apply(statement).toCompletableFuture();
+				}
+				catch (RuntimeException ex) {
+					failure.compareAndSet(null, ex);
+					window.release();
+					inFlight.forEach(pending -> pending.cancel(false));
+					break;
+				}
+				inFlight.add(future);
+				future.whenComplete((resultSet, ex) -> {
+					inFlight.remove(future);
+					if (ex != null) {
+						failure.compareAndSet(null, ex);
+					}
+					window.release();
+				});
+			}
+			window.acquire(concurrency);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for the in-flight requests", ex);
 		}
-		CompletableFuture.allOf(futures).join();
+		Throwable ex = failure.get();
+		if (ex instanceof RuntimeException runtimeException) {
+			throw runtimeException;
+		}
+		if (ex != null) {
+			throw new IllegalStateException("Failed to execute the requests", ex);
+		}
+	}
+
+	private BoundStatement toAddStatement(EmbeddedDocument embeddedDocument) {
+		Document d = embeddedDocument.document();
+		List<Object> primaryKeyValues = this.documentIdTranslator.apply(d.getId());
+
+		BoundStatementBuilder builder = prepareAddStatement(d.getMetadata().keySet()).boundStatementBuilder();
+		for (int k = 0; k < primaryKeyValues.size(); ++k) {
+			SchemaColumn keyColumn = this.getPrimaryKeyColumn(k);
+			builder = builder.set(keyColumn.name(), primaryKeyValues.get(k), keyColumn.javaType());
+		}
+
+		builder = builder.setString(this.schema.content(), d.getText())
+			.setVector(this.schema.embedding(),
+					CqlVector.newInstance(EmbeddingUtils.toList(embeddedDocument.embedding())), Float.class);
+
+		for (var metadataColumn : this.schema.metadataColumns()
+			.stream()
+			.filter(mc -> d.getMetadata().containsKey(mc.name()))
+			.toList()) {
+
+			builder = builder.set(metadataColumn.name(), d.getMetadata().get(metadataColumn.name()),
+					metadataColumn.javaType());
+		}
+		return builder.build().setExecutionProfileName(DRIVER_PROFILE_UPDATES);
 	}
 
 	@Override
 	public void doDelete(List<String> idList) {
-		CompletableFuture[] futures = new CompletableFuture[idList.size()];
-		int i = 0;
-		for (String id : idList) {
-			List<Object> primaryKeyValues = this.documentIdTranslator.apply(id);
-			BoundStatement s = this.deleteStmt.bind(primaryKeyValues.toArray());
-			futures[i++] = this.session.executeAsync(s).toCompletableFuture();
-		}
-		CompletableFuture.allOf(futures).join();
+		executeWindowed(idList.stream().map(this::toDeleteStatement).toList());
+	}
+
+	@Override
+	protected Mono<Void> doReactiveDelete(List<String> idList) {
+		return Flux.fromIterable(idList)
+			.flatMap(id -> Mono.fromCompletionStage(() -> this.session.executeAsync(toDeleteStatement(id))),
+					this.addConcurrency)
+			.then();
+	}
+
+	private BoundStatement toDeleteStatement(String id) {
+		List<Object> primaryKeyValues = this.documentIdTranslator.apply(id);
+		return this.deleteStmt.bind(primaryKeyValues.toArray());
 	}
 
 	@Override
@@ -349,46 +494,139 @@ public class CassandraVectorStore extends AbstractObservationVectorStore impleme
 
 	@Override
 	public List<Document> doSimilaritySearch(SearchRequest request) {
-		Preconditions.checkArgument(request.getTopK() <= 1000);
-		var embedding = toFloatArray(this.embeddingModel.embed(request.getQuery()));
-		CqlVector<Float> cqlVector = CqlVector.newInstance(embedding);
+		float[] queryEmbedding = getQueryEmbedding(request);
+		if (isScatterGather(request)) {
+			try {
+				return scatterGather(request, queryEmbedding).join();
+			}
+			catch (CompletionException ex) {
+				if (ex.getCause() instanceof RuntimeException cause) {
+					throw cause;
+				}
+				throw ex;
+			}
+		}
 
-		String whereClause = "";
+		SimpleStatement s = toSimilarityStatement(request, queryEmbedding, null);
+		List<Document> documents = new ArrayList<>();
+
+		for (Row row : this.session.execute(s)) {
+			if (row.getFloat(0) < request.getSimilarityThreshold()) {
+				break;
+			}
+			documents.add(toDocument(row));
+		}
+		return documents;
+	}
+
+	/**
+	 * Runs the search with the asynchronous API of the driver, fetching the following
+	 * pages of results only while they are above the similarity threshold.
+	 */
+	@Override
+	protected Mono<List<Document>> doReactiveSimilaritySearch(SearchRequest request) {
+		if (isScatterGather(request)) {
+			return getReactiveQueryEmbedding(request)
+				.flatMap(embedding -> Mono.fromCompletionStage(() -> scatterGather(request, embedding)));
+		}
+		return getReactiveQueryEmbedding(request)
+			.flatMap(embedding -> Mono
+				.fromCompletionStage(() -> this.session.executeAsync(toSimilarityStatement(request, embedding, null))))
+			.expand(resultSet -> resultSet.hasMorePages() ? Mono.fromCompletionStage(resultSet::fetchNextPage)
+					: Mono.empty())
+			.concatMapIterable(AsyncResultSet::currentPage)
+			.takeWhile(row -> row.getFloat(0) >= request.getSimilarityThreshold())
+			.map(this::toDocument)
+			.collectList();
+	}
+
+	/**
+	 * Whether the search is split over token ranges: when it has a filter expression that
+	 * doesn't restrict the whole partition key, which confines it to one partition.
+	 */
+	private boolean isScatterGather(SearchRequest request) {
+		if (this.tokenRanges.size() < 2 || !request.hasFilterExpression()) {
+			return false;
+		}
+		Set<String> filterKeys = FilterHelper.keys(request.getFilterExpression());
+		return !this.schema.partitionKeys().stream().allMatch(column -> filterKeys.contains(column.name()));
+	}
+
+	/**
+	 * Searches every token range in parallel, each for the topK most similar documents,
+	 * and keeps the topK most similar of all of them.
+	 */
+	private CompletableFuture<List<Document>> scatterGather(SearchRequest request, float[] queryEmbedding) {
+		List<CompletableFuture<List<Document>>> searches = this.tokenRanges.stream()
+			.map(range -> this.session.executeAsync(toSimilarityStatement(request, queryEmbedding, range))
+				.thenCompose(resultSet -> collectDocuments(resultSet, request, new ArrayList<>()))
+				.toCompletableFuture())
+			.toList();
+
+		return CompletableFuture.allOf(searches.toArray(CompletableFuture[]::new))
+			.thenApply(done -> searches.stream()
+				.flatMap(search -> search.join().stream())
+				.sorted(Comparator.comparingDouble(Document::getScore).reversed())
+				.limit(request.getTopK())
+				.toList());
+	}
+
+	private CompletionStage<List<Document>> collectDocuments(AsyncResultSet resultSet, SearchRequest request,
+			List<Document> documents) {
+		for (Row row : resultSet.currentPage()) {
+			if (row.getFloat(0) < request.getSimilarityThreshold()) {
+				return CompletableFuture.completedFuture(documents);
+			}
+			documents.add(toDocument(row));
+		}
+		if (resultSet.hasMorePages()) {
+			return resultSet.fetchNextPage().thenCompose(next -> collectDocuments(next, request, documents));
+		}
+		return CompletableFuture.completedFuture(documents);
+	}
+
+	private SimpleStatement toSimilarityStatement(SearchRequest request, float[] queryEmbedding,
+			@Nullable TokenRange tokenRange) {
+		Preconditions.checkArgument(request.getTopK() <= 1000);
+		CqlVector<Float> cqlVector = CqlVector.newInstance(toFloatArray(queryEmbedding));
+
+		List<String> restrictions = new ArrayList<>();
+		if (tokenRange != null) {
+			String token = this.schema.partitionKeys()
+				.stream()
+				.map(SchemaColumn::name)
+				.collect(Collectors.joining(",", "token(", ")"));
+			restrictions.add(String.format("%s > %d and %s <= %d", token, tokenRange.start(), token, tokenRange.end()));
+		}
 		if (request.hasFilterExpression()) {
 			String expression = this.filterExpressionConverter.convertExpression(request.getFilterExpression());
 			if (!expression.isBlank()) {
-				whereClause = String.format("where %s", expression);
+				restrictions.add(expression);
 			}
 		}
+		String whereClause = restrictions.isEmpty() ? "" : "where " + String.join(" and ", restrictions);
 
 		String query = String.format(this.similarityStmt, cqlVector, whereClause, cqlVector, request.getTopK());
-		List<Document> documents = new ArrayList<>();
 		logger.trace("Executing {}", query);
-		SimpleStatement s = SimpleStatement.newInstance(query).setExecutionProfileName(DRIVER_PROFILE_SEARCH);
+		return SimpleStatement.newInstance(query).setExecutionProfileName(DRIVER_PROFILE_SEARCH);
+	}
 
-		for (Row row : this.session.execute(s)) {
-			float score = row.getFloat(0);
-			if (score < request.getSimilarityThreshold()) {
-				break;
+	private Document toDocument(Row row) {
+		float score = row.getFloat(0);
+		Map<String, Object> docFields = new HashMap<>();
+		docFields.put(DocumentMetadata.DISTANCE.value(), 1 - score);
+		for (var metadata : this.schema.metadataColumns()) {
+			var value = row.get(metadata.name(), metadata.javaType());
+			if (null != value) {
+				docFields.put(metadata.name(), value);
 			}
-			Map<String, Object> docFields = new HashMap<>();
-			docFields.put(DocumentMetadata.DISTANCE.value(), 1 - score);
-			for (var metadata : this.schema.metadataColumns()) {
-				var value = row.get(metadata.name(), metadata.javaType());
-				if (null != value) {
-					docFields.put(metadata.name(), value);
-				}
-			}
-			Document doc = Document.builder()
-				.id(getDocumentId(row))
-				.text(row.getString(this.schema.content()))
-				.metadata(docFields)
-				.score((double) score)
-				.build();
-
-			documents.add(doc);
 		}
-		return documents;
+		return Document.builder()
+			.id(getDocumentId(row))
+			.text(row.getString(this.schema.content()))
+			.metadata(docFields)
+			.score((double) score)
+			.build();
 	}
 
 	void checkSchemaValid() {
@@ -513,6 +751,39 @@ public class CassandraVectorStore extends AbstractObservationVectorStore impleme
 		}
 	}
 
+	/**
+	 * Splits the token ring into ranges of equal size, when the partitioner of the
+	 * cluster is the Murmur3 partitioner whose tokens are all the longs.
+	 */
+	private List<TokenRange> tokenRanges(int splits) {
+		if (splits < 2) {
+			return List.of();
+		}
+		String partitioner = this.session.getMetadata()
+			.getTokenMap()
+			.map(TokenMap::getPartitionerName)
+			.orElse("unknown");
+		if (!MURMUR3_PARTITIONER.equals(partitioner)) {
+			logger.warn("Filtered searches are not split over token ranges with the {} partitioner", partitioner);
+			return List.of();
+		}
+		return splitTokenRing(splits);
+	}
+
+	static List<TokenRange> splitTokenRing(int splits) {
+		BigInteger min = BigInteger.valueOf(Long.MIN_VALUE);
+		BigInteger span = BigInteger.valueOf(Long.MAX_VALUE).subtract(min);
+		List<TokenRange> ranges = new ArrayList<>(splits);
+		long start = Long.MIN_VALUE;
+		for (int i = 1; i <= splits; ++i) {
+			long end = (i == splits) ? Long.MAX_VALUE
+					: min.add(span.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(splits))).longValueExact();
+			ranges.add(new TokenRange(start, end));
+			start = end;
+		}
+		return ranges;
+	}
+
 	SchemaColumn getPrimaryKeyColumn(int index) {
 		return index < this.schema.partitionKeys().size() ? this.schema.partitionKeys().get(index)
 				: this.schema.clusteringKeys().get(index - this.schema.partitionKeys().size());
@@ -741,6 +1012,13 @@ public class CassandraVectorStore extends AbstractObservationVectorStore impleme
 
 	}
 
+	/**
+	 * The tokens after start, up to and including end.
+	 */
+	record TokenRange(long start, long end) {
+
+	}
+
 	record Schema(String keyspace, String table, List<SchemaColumn> partitionKeys, List<SchemaColumn> clusteringKeys,
 			String content, String embedding, String index, Set<SchemaColumn> metadataColumns) {
 
@@ -809,6 +1087,10 @@ public class CassandraVectorStore extends AbstractObservationVectorStore impleme
 
 		private int fixedThreadPoolExecutorSize = DEFAULT_ADD_CONCURRENCY;
 
+		private int batchSizeThreshold = DEFAULT_BATCH_SIZE_THRESHOLD;
+
+		private int tokenRangeSplits = 1;
+
 		private FilterExpressionConverter filterExpressionConverter;
 
 		private DocumentIdTranslator documentIdTranslator = (String id) -> List.of(id);
@@ -840,10 +1122,9 @@ public class CassandraVectorStore extends AbstractObservationVectorStore impleme
 		}
 
 		/**
-		 * Executor to use when adding documents. The hotspot is the call to the
-		 * embeddingModel. For remote transformers you probably want a higher value to
-		 * utilize network. For local transformers you probably want a lower value to
-		 * avoid saturation.
+		 * Maximum number of requests in flight when adding and deleting documents. They
+		 * are sent with the asynchronous API of the driver, so no thread is used per
+		 * request.
 		 **/
 		public Builder fixedThreadPoolExecutorSize(int threads) {
 			Preconditions.checkArgument(0 < threads);
@@ -851,6 +1132,36 @@ public class CassandraVectorStore extends AbstractObservationVectorStore impleme
 			return this;
 		}
 
+		/**
+		 * Sets the maximum size of the unlogged batches the documents of a same partition
+		 * are inserted with. Cassandra warns about batches larger than its
+		 * {@code batch_size_warn_threshold} and rejects those larger than its
+		 * {@code batch_size_fail_threshold}.
+		 * @param bytes the maximum size in bytes, a document larger than it being
+		 * inserted on its own
+		 * @return the builder instance
+		 */
+		public Builder batchSizeThreshold(int bytes) {
+			Assert.isTrue(bytes > 0, "batchSizeThreshold must be greater than 0");
+			this.batchSizeThreshold = bytes;
+			return this;
+		}
+
+		/**
+		 * Sets the number of token ranges filtered searches are split into, which are
+		 * searched in parallel. A filter that doesn't restrict the partition key makes
+		 * the search scan every node, which then finish sooner each with a part of the
+		 * token ring. Searches restricting the whole partition key are never split. Only
+		 * supported with the Murmur3 partitioner.
+		 * @param splits the number of token ranges, 1 to not split searches
+		 * @return the builder instance
+		 */
+		public Builder tokenRangeSplits(int splits) {
+			Assert.isTrue(splits > 0, "tokenRangeSplits must be greater than 0");
+			this.tokenRangeSplits = splits;
+			return this;
+		}
+
 		/**
 		 * Sets the keyspace name.
 		 * @param keyspace the keyspace name
@@ -439,6 +439,38 @@ class CassandraRichSchemaVectorStoreIT {
 		});
 	}
 
+	@Test
+	void searchWithFiltersOverTokenRanges() {
+		this.contextRunner.run(context -> {
+			CassandraVectorStore.Builder builder = storeBuilder(context, List.of()).tokenRangeSplits(8)
+				.batchSizeThreshold(1024);
+			CassandraVectorStore.dropKeyspace(builder);
+			try (CassandraVectorStore store = builder.build()) {
+				store.add(documents);
+
+				List<Document> results = store.similaritySearch(SearchRequest.builder()
+					.query(URANUS_ORBIT_QUERY)
+					.topK(2)
+					.similarityThresholdAll()
+					.filterExpression("id > 557")
+					.build());
+
+				assertThat(results).hasSize(2);
+				assertThat(results.get(0).getId()).isEqualTo(documents.get(1).getId());
+				assertThat(results.get(0).getScore()).isGreaterThanOrEqualTo(results.get(1).getScore());
+
+				results = store.similaritySearch(SearchRequest.builder()
+					.query(URANUS_ORBIT_QUERY)
+					.topK(5)
+					.similarityThresholdAll()
+					.filterExpression("wiki == 'simplewiki' && language == 'en' && title == 'Neptune'")
+					.build());
+
+				assertThat(results).hasSize(3);
+			}
+		});
+	}
+
 	@Test
 	void searchWithFilterOnPrimaryKeys() throws InterruptedException {
 		this.contextRunner.run(context -> {
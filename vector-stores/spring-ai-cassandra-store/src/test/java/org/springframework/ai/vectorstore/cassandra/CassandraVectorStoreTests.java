@@ -0,0 +1,90 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.cassandra;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.vectorstore.cassandra.CassandraVectorStore.TokenRange;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * Unit tests for {@link CassandraVectorStore}.
+ */
+class CassandraVectorStoreTests {
+
+	@Test
+	void splitTokenRingCoversEveryToken() {
+		List<TokenRange> ranges = CassandraVectorStore.splitTokenRing(4);
+
+		assertThat(ranges).containsExactly(new TokenRange(Long.MIN_VALUE, -4611686018427387905L),
+				new TokenRange(-4611686018427387905L, -1L), new TokenRange(-1L, 4611686018427387903L),
+				new TokenRange(4611686018427387903L, Long.MAX_VALUE));
+	}
+
+	@Test
+	void splitTokenRingInOneRange() {
+		assertThat(CassandraVectorStore.splitTokenRing(1))
+			.containsExactly(new TokenRange(Long.MIN_VALUE, Long.MAX_VALUE));
+	}
+
+	@Test
+	void executeWindowedCancelsTheStatementsInFlightWhenTheExecutorThrows() {
+		List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+		List<Statement<?>> statements = List.of(SimpleStatement.newInstance("1"), SimpleStatement.newInstance("2"),
+				SimpleStatement.newInstance("3"));
+
+		assertTimeoutPreemptively(Duration.ofSeconds(10), () -> assertThatIllegalStateException()
+			.isThrownBy(() -> CassandraVectorStore.executeWindowed(statements, 2, statement -> {
+				if (inFlight.size() == 1) {
+					throw new IllegalStateException("Session closed");
+				}
+				CompletableFuture<Void> future = new CompletableFuture<>();
+				inFlight.add(future);
+				return future;
+			}))
+			.withMessage("Session closed"));
+		assertThat(inFlight).singleElement().satisfies(future -> assertThat(future).isCancelled());
+	}
+
+	@Test
+	void executeWindowedReleasesTheWindowWhenTheExecutorThrows() {
+		List<Statement<?>> executed = new ArrayList<>();
+		List<Statement<?>> statements = List.of(SimpleStatement.newInstance("1"), SimpleStatement.newInstance("2"),
+				SimpleStatement.newInstance("3"));
+
+		assertTimeoutPreemptively(Duration.ofSeconds(10), () -> assertThatIllegalStateException()
+			.isThrownBy(() -> CassandraVectorStore.executeWindowed(statements, 1, statement -> {
+				executed.add(statement);
+				if (executed.size() == 2) {
+					throw new IllegalStateException("Session closed");
+				}
+				return CompletableFuture.completedFuture(null);
+			})));
+		assertThat(executed).hasSize(2);
+	}
+
+}
@@ -33,10 +33,10 @@ import org.springframework.ai.chroma.vectorstore.ChromaApi.Embedding;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
 import org.springframework.ai.embedding.EmbeddingModel;
-import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
 import org.springframework.ai.util.JacksonUtils;
 import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
+import org.springframework.ai.vectorstore.EmbeddedDocumentBatch;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.ai.vectorstore.filter.Filter;
@@ -136,24 +136,23 @@ public class ChromaVectorStore extends AbstractObservationVectorStore implements
 		if (CollectionUtils.isEmpty(documents)) {
 			return;
 		}
+		super.doAdd(documents);
+	}
 
-		List<String> ids = new ArrayList<>();
-		List<Map<String, Object>> metadatas = new ArrayList<>();
-		List<String> contents = new ArrayList<>();
-		List<float[]> embeddings = new ArrayList<>();
-
-		List<float[]> documentEmbeddings = this.embeddingModel.embed(documents,
-				EmbeddingOptionsBuilder.builder().build(), this.batchingStrategy);
+	@Override
+	protected void doAdd(EmbeddedDocumentBatch batch) {
+		List<String> ids = new ArrayList<>(batch.size());
+		List<Map<String, Object>> metadatas = new ArrayList<>(batch.size());
+		List<String> contents = new ArrayList<>(batch.size());
 
-		for (Document document : documents) {
+		for (Document document : batch.getDocuments()) {
 			ids.add(document.getId());
 			metadatas.add(document.getMetadata());
 			contents.add(document.getText());
-			embeddings.add(documentEmbeddings.get(documents.indexOf(document)));
 		}
 
 		this.chromaApi.upsertEmbeddings(this.collectionId,
-				new AddEmbeddingsRequest(ids, embeddings, metadatas, contents));
+				new AddEmbeddingsRequest(ids, batch.getEmbeddings(), metadatas, contents));
 	}
 
 	@Override
@@ -190,7 +189,7 @@ public class ChromaVectorStore extends AbstractObservationVectorStore implements
 		String query = request.getQuery();
 		Assert.notNull(query, "Query string must not be null");
 
-		float[] embedding = this.embeddingModel.embed(query);
+		float[] embedding = getQueryEmbedding(request);
 
 		Map<String, Object> where = (request.getFilterExpression() != null)
 				? jsonToMap(this.filterExpressionConverter.convertExpression(request.getFilterExpression())) : null;
@@ -41,6 +41,7 @@ import org.springframework.ai.document.DocumentMetadata;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
 import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
+import org.springframework.ai.vectorstore.EmbeddedDocumentBatch;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.filter.Filter.Expression;
 import org.springframework.ai.vectorstore.observation.AbstractObservationVectorStore;
@@ -167,11 +168,20 @@ public class CoherenceVectorStore extends AbstractObservationVectorStore impleme
 
 	@Override
 	public void doAdd(final List<Document> documents) {
-		Map<DocumentChunk.Id, DocumentChunk> chunks = new HashMap<>((int) Math.ceil(documents.size() / 0.75f));
+		List<float[]> embeddings = new ArrayList<>(documents.size());
 		for (Document doc : documents) {
+			embeddings.add(this.embeddingModel.embed(doc));
+		}
+		this.doAdd(EmbeddedDocumentBatch.of(documents, embeddings));
+	}
+
+	@Override
+	protected void doAdd(final EmbeddedDocumentBatch batch) {
+		Map<DocumentChunk.Id, DocumentChunk> chunks = new HashMap<>((int) Math.ceil(batch.size() / 0.75f));
+		for (int i = 0; i < batch.size(); i++) {
+			Document doc = batch.getDocument(i);
 			var id = toChunkId(doc.getId());
-			var chunk = new DocumentChunk(doc.getText(), doc.getMetadata(),
-					toFloat32Vector(this.embeddingModel.embed(doc)));
+			var chunk = new DocumentChunk(doc.getText(), doc.getMetadata(), toFloat32Vector(batch.getEmbedding(i)));
 			chunks.put(id, chunk);
 		}
 		this.documentChunks.putAll(chunks);
@@ -192,7 +202,7 @@ public class CoherenceVectorStore extends AbstractObservationVectorStore impleme
 	@Override
 	public List<Document> doSimilaritySearch(SearchRequest request) {
 		// From the provided query, generate a vector using the embedding model
-		final Float32Vector vector = toFloat32Vector(this.embeddingModel.embed(request.getQuery()));
+		final Float32Vector vector = toFloat32Vector(getQueryEmbedding(request));
 
 		Expression expression = request.getFilterExpression();
 		final Filter<?> filter = expression == null ? null : FILTER_EXPRESSION_CONVERTER.convert(expression);
@@ -42,7 +42,6 @@ import reactor.util.retry.RetrySpec;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.embedding.EmbeddingModel;
-import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
 import org.springframework.ai.vectorstore.filter.Filter;
 import org.springframework.ai.vectorstore.observation.AbstractObservationVectorStore;
@@ -133,15 +132,14 @@ public class CouchbaseSearchVectorStore extends AbstractObservationVectorStore
 	}
 
 	@Override
-	public void doAdd(List<Document> documents) {
+	protected void doAdd(EmbeddedDocumentBatch batch) {
 		logger.info("Trying Add");
 		logger.info(this.bucketName);
 		logger.info(this.scopeName);
-		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
-				this.batchingStrategy);
-		for (Document document : documents) {
+		for (var embeddedDocument : batch) {
+			Document document = embeddedDocument.document();
 			CouchbaseDocument cbDoc = new CouchbaseDocument(document.getId(), document.getText(),
-					document.getMetadata(), embeddings.get(documents.indexOf(document)));
+					document.getMetadata(), embeddedDocument.embedding());
 			this.collection.upsert(document.getId(), cbDoc);
 		}
 	}
@@ -169,7 +167,7 @@ public class CouchbaseSearchVectorStore extends AbstractObservationVectorStore
 
 	@Override
 	public List<Document> doSimilaritySearch(org.springframework.ai.vectorstore.SearchRequest springAiRequest) {
-		float[] embeddings = this.embeddingModel.embed(springAiRequest.getQuery());
+		float[] embeddings = getQueryEmbedding(springAiRequest);
 		int topK = springAiRequest.getTopK();
 
 		double similarityThreshold = springAiRequest.getSimilarityThreshold();
@@ -17,17 +17,24 @@
 package org.springframework.ai.vectorstore.elasticsearch;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.KnnSearch;
 import co.elastic.clients.elasticsearch.core.BulkRequest;
 import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.MsearchResponse;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.msearch.MultiSearchResponseItem;
+import co.elastic.clients.elasticsearch.core.msearch.RequestItem;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import co.elastic.clients.transport.Version;
@@ -37,21 +44,26 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.elasticsearch.client.RestClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
 import org.springframework.ai.embedding.EmbeddingModel;
-import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.model.EmbeddingUtils;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
 import org.springframework.ai.observation.conventions.VectorStoreSimilarityMetric;
 import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
+import org.springframework.ai.vectorstore.EmbeddedDocumentBatch;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.filter.Filter;
 import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
 import org.springframework.ai.vectorstore.observation.AbstractObservationVectorStore;
 import org.springframework.ai.vectorstore.observation.VectorStoreObservationContext;
+import org.springframework.ai.vectorstore.planner.FilteredSearchPlan;
+import org.springframework.ai.vectorstore.planner.FilteredSearchPlanner;
+import org.springframework.ai.vectorstore.planner.MetadataSample;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -135,6 +147,16 @@ import org.springframework.util.Assert;
  * embeddings).</li>
  * </ul>
  *
+ * <p>
+ * With a {@link FilteredSearchPlanner}, the number of candidates ({@code num_candidates})
+ * of the blocking searches with a filter expression is planned from the metadata of a
+ * random sample of the documents: a selective filter retrieves as many candidates as
+ * documents are estimated to match it, so that Elasticsearch searches them exactly, the
+ * others keep the default of one and a half times the top K, the filter being applied
+ * while traversing the index. The reactive searches are not planned, so as not to sample
+ * on a non-blocking thread.
+ * </p>
+ *
  * @author Jemin Huh
  * @author Wei Jiang
  * @author Laura Trotta
@@ -153,14 +175,25 @@ public class ElasticsearchVectorStore extends AbstractObservationVectorStore imp
 			SimilarityFunction.cosine, VectorStoreSimilarityMetric.COSINE, SimilarityFunction.l2_norm,
 			VectorStoreSimilarityMetric.EUCLIDEAN, SimilarityFunction.dot_product, VectorStoreSimilarityMetric.DOT);
 
+	// the maximum num_candidates of a kNN search
+	private static final int MAX_NUM_CANDIDATES = 10_000;
+
 	private final ElasticsearchClient elasticsearchClient;
 
+	private final ElasticsearchAsyncClient elasticsearchAsyncClient;
+
 	private final ElasticsearchVectorStoreOptions options;
 
 	private final FilterExpressionConverter filterExpressionConverter;
 
 	private final boolean initializeSchema;
 
+	@Nullable
+	private final FilteredSearchPlanner filteredSearchPlanner;
+
+	@Nullable
+	private final Supplier<MetadataSample> metadataStatistics;
+
 	protected ElasticsearchVectorStore(Builder builder) {
 		super(builder);
 
@@ -169,12 +202,17 @@ public class ElasticsearchVectorStore extends AbstractObservationVectorStore imp
 		this.initializeSchema = builder.initializeSchema;
 		this.options = builder.options;
 		this.filterExpressionConverter = builder.filterExpressionConverter;
+		this.filteredSearchPlanner = builder.getFilteredSearchPlanner();
+		this.metadataStatistics = (this.filteredSearchPlanner != null)
+				? this.filteredSearchPlanner.statistics(this::sampleMetadata) : null;
 
 		String version = Version.VERSION == null ? "Unknown" : Version.VERSION.toString();
 		this.elasticsearchClient = new ElasticsearchClient(new RestClientTransport(builder.restClient,
 				new JacksonJsonpMapper(
 						new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false))))
 			.withTransportOptions(t -> t.addHeader("user-agent", "spring-ai elastic-java/" + version));
+		this.elasticsearchAsyncClient = new ElasticsearchAsyncClient(this.elasticsearchClient._transport(),
+				this.elasticsearchClient._transportOptions());
 	}
 
 	@Override
@@ -184,21 +222,38 @@ public class ElasticsearchVectorStore extends AbstractObservationVectorStore imp
 		if (!indexExists()) {
 			throw new IllegalArgumentException("Index not found");
 		}
-		BulkRequest.Builder bulkRequestBuilder = new BulkRequest.Builder();
+		super.doAdd(documents);
+	}
+
+	@Override
+	protected void doAdd(EmbeddedDocumentBatch batch) {
+		checkAddResponse(bulkRequest(toAddRequest(batch)));
+	}
+
+	@Override
+	protected Mono<Void> doReactiveAdd(List<Document> documents) {
+		return requireIndex().then(embedReactive(documents))
+			.flatMap(batch -> Mono.fromFuture(() -> this.elasticsearchAsyncClient.bulk(toAddRequest(batch))))
+			.doOnNext(this::checkAddResponse)
+			.then();
+	}
 
-		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
-				this.batchingStrategy);
+	private BulkRequest toAddRequest(EmbeddedDocumentBatch batch) {
+		BulkRequest.Builder bulkRequestBuilder = new BulkRequest.Builder();
 
-		for (int i = 0; i < embeddings.size(); i++) {
-			Document document = documents.get(i);
-			float[] embedding = embeddings.get(i);
+		for (int i = 0; i < batch.size(); i++) {
+			Document document = batch.getDocument(i);
+			float[] embedding = batch.getEmbedding(i);
 			bulkRequestBuilder.operations(op -> op.index(idx -> idx.index(this.options.getIndexName())
 				.id(document.getId())
 				.document(getDocument(document, embedding, this.options.getEmbeddingFieldName()))));
 		}
-		BulkResponse bulkRequest = bulkRequest(bulkRequestBuilder.build());
-		if (bulkRequest.errors()) {
-			List<BulkResponseItem> bulkResponseItems = bulkRequest.items();
+		return bulkRequestBuilder.build();
+	}
+
+	private void checkAddResponse(BulkResponse bulkResponse) {
+		if (bulkResponse.errors()) {
+			List<BulkResponseItem> bulkResponseItems = bulkResponse.items();
 			for (BulkResponseItem bulkResponseItem : bulkResponseItems) {
 				if (bulkResponseItem.error() != null) {
 					throw new IllegalStateException(bulkResponseItem.error().reason());
@@ -216,18 +271,29 @@ public class ElasticsearchVectorStore extends AbstractObservationVectorStore imp
 
 	@Override
 	public void doDelete(List<String> idList) {
-		BulkRequest.Builder bulkRequestBuilder = new BulkRequest.Builder();
 		// For the index to be present, either it must be pre-created or set the
 		// initializeSchema to true.
 		if (!indexExists()) {
 			throw new IllegalArgumentException("Index not found");
 		}
+		if (bulkRequest(toDeleteRequest(idList)).errors()) {
+			throw new IllegalStateException("Delete operation failed");
+		}
+	}
+
+	@Override
+	protected Mono<Void> doReactiveDelete(List<String> idList) {
+		return requireIndex().then(Mono.fromFuture(() -> this.elasticsearchAsyncClient.bulk(toDeleteRequest(idList))))
+			.flatMap(bulkResponse -> bulkResponse.errors()
+					? Mono.<Void>error(new IllegalStateException("Delete operation failed")) : Mono.<Void>empty());
+	}
+
+	private BulkRequest toDeleteRequest(List<String> idList) {
+		BulkRequest.Builder bulkRequestBuilder = new BulkRequest.Builder();
 		for (String id : idList) {
 			bulkRequestBuilder.operations(op -> op.delete(idx -> idx.index(this.options.getIndexName()).id(id)));
 		}
-		if (bulkRequest(bulkRequestBuilder.build()).errors()) {
-			throw new IllegalStateException("Delete operation failed");
-		}
+		return bulkRequestBuilder.build();
 	}
 
 	@Override
@@ -260,23 +326,12 @@ public class ElasticsearchVectorStore extends AbstractObservationVectorStore imp
 	public List<Document> doSimilaritySearch(SearchRequest searchRequest) {
 		Assert.notNull(searchRequest, "The search request must not be null.");
 		try {
-			float threshold = (float) searchRequest.getSimilarityThreshold();
-			// reverting l2_norm distance to its original value
-			if (this.options.getSimilarity().equals(SimilarityFunction.l2_norm)) {
-				threshold = 1 - threshold;
-			}
-			final float finalThreshold = threshold;
-			float[] vectors = this.embeddingModel.embed(searchRequest.getQuery());
-
-			SearchResponse<Document> res = this.elasticsearchClient.search(sr -> sr.index(this.options.getIndexName())
-				.knn(knn -> knn.queryVector(EmbeddingUtils.toList(vectors))
-					.similarity(finalThreshold)
-					.k(searchRequest.getTopK())
-					.field(this.options.getEmbeddingFieldName())
-					.numCandidates((int) (1.5 * searchRequest.getTopK()))
-					.filter(fl -> fl
-						.queryString(qs -> qs.query(getElasticsearchQueryString(searchRequest.getFilterExpression())))))
-				.size(searchRequest.getTopK()), Document.class);
+			KnnSearch knnSearch = toKnnSearch(searchRequest, getQueryEmbedding(searchRequest),
+					numCandidates(searchRequest.getTopK(), plan(searchRequest)));
+
+			SearchResponse<Document> res = this.elasticsearchClient.search(
+					sr -> sr.index(this.options.getIndexName()).knn(knnSearch).size(searchRequest.getTopK()),
+					Document.class);
 
 			return res.hits().hits().stream().map(this::toDocument).collect(Collectors.toList());
 		}
@@ -285,6 +340,124 @@ public class ElasticsearchVectorStore extends AbstractObservationVectorStore imp
 		}
 	}
 
+	@Override
+	protected Mono<List<Document>> doReactiveSimilaritySearch(SearchRequest searchRequest) {
+		Assert.notNull(searchRequest, "The search request must not be null.");
+		return getReactiveQueryEmbedding(searchRequest)
+			.flatMap(embedding -> Mono
+				.fromFuture(() -> this.elasticsearchAsyncClient.search(sr -> sr.index(this.options.getIndexName())
+					.knn(toKnnSearch(searchRequest, embedding, numCandidates(searchRequest.getTopK(), null)))
+					.size(searchRequest.getTopK()), Document.class)))
+			.map(res -> res.hits().hits().stream().map(this::toDocument).collect(Collectors.toList()));
+	}
+
+	/**
+	 * Runs all the searches in a single multi search ({@code _msearch}) request.
+	 * @param requests the search requests
+	 * @param queryEmbeddings the embedding to search with for each request
+	 * @return the documents similar to each query, in the order of the requests
+	 */
+	@Override
+	protected List<List<Document>> doBatchSimilaritySearch(List<SearchRequest> requests,
+			List<float[]> queryEmbeddings) {
+		List<RequestItem> searches = new ArrayList<>(requests.size());
+		for (int i = 0; i < requests.size(); i++) {
+			SearchRequest searchRequest = requests.get(i);
+			KnnSearch knnSearch = toKnnSearch(searchRequest,
+					Objects.requireNonNullElseGet(queryEmbeddings.get(i), () -> getQueryEmbedding(searchRequest)),
+					numCandidates(searchRequest.getTopK(), plan(searchRequest)));
+			searches.add(RequestItem.of(item -> item.header(header -> header.index(this.options.getIndexName()))
+				.body(body -> body.knn(knnSearch).size(searchRequest.getTopK()))));
+		}
+		try {
+			MsearchResponse<Document> res = this.elasticsearchClient.msearch(ms -> ms.searches(searches),
+					Document.class);
+
+			List<List<Document>> results = new ArrayList<>(requests.size());
+			for (MultiSearchResponseItem<Document> item : res.responses()) {
+				if (item.isFailure()) {
+					throw new IllegalStateException("Similarity search failed: " + item.failure().error().reason());
+				}
+				results.add(item.result().hits().hits().stream().map(this::toDocument).collect(Collectors.toList()));
+			}
+			return results;
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private KnnSearch toKnnSearch(SearchRequest searchRequest, float[] vectors, int numCandidates) {
+		float threshold = (float) searchRequest.getSimilarityThreshold();
+		// reverting l2_norm distance to its original value
+		if (this.options.getSimilarity().equals(SimilarityFunction.l2_norm)) {
+			threshold = 1 - threshold;
+		}
+		final float finalThreshold = threshold;
+		return KnnSearch.of(knn -> knn.queryVector(EmbeddingUtils.toList(vectors))
+			.similarity(finalThreshold)
+			.k(searchRequest.getTopK())
+			.field(this.options.getEmbeddingFieldName())
+			.numCandidates(numCandidates)
+			.filter(fl -> fl
+				.queryString(qs -> qs.query(getElasticsearchQueryString(searchRequest.getFilterExpression())))));
+	}
+
+	/**
+	 * Plans the searches with a filter expression, which Elasticsearch applies while
+	 * traversing the index.
+	 */
+	@Nullable
+	private FilteredSearchPlan plan(SearchRequest request) {
+		if (this.filteredSearchPlanner == null || this.metadataStatistics == null || !request.hasFilterExpression()) {
+			return null;
+		}
+		return this.filteredSearchPlanner.plan(request, this.metadataStatistics.get(), true);
+	}
+
+	/**
+	 * Returns the number of candidates of a kNN search: one and a half times the top K,
+	 * raised to the estimated matches of a selective filter, so that they are all
+	 * compared, or to the candidates of a post-filtered plan, up to the limit of
+	 * Elasticsearch.
+	 */
+	static int numCandidates(int topK, @Nullable FilteredSearchPlan plan) {
+		int numCandidates = (int) (1.5 * topK);
+		if (plan == null) {
+			return numCandidates;
+		}
+		long planned = switch (plan.strategy()) {
+			case PRE_FILTER -> plan.estimatedMatches();
+			case POST_FILTER -> plan.candidates();
+			case NATIVE_FILTER -> numCandidates;
+		};
+		return (int) Math.max(numCandidates, Math.min(MAX_NUM_CANDIDATES, planned));
+	}
+
+	/**
+	 * Samples the metadata of randomly scored documents of the index.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private MetadataSample sampleMetadata(int sampleSize) {
+		try {
+			long count = this.elasticsearchClient.count(c -> c.index(this.options.getIndexName())).count();
+			SearchResponse<Map> res = this.elasticsearchClient.search(s -> s.index(this.options.getIndexName())
+				.size(sampleSize)
+				.query(q -> q.functionScore(fs -> fs.functions(fn -> fn.randomScore(rs -> rs))))
+				.source(src -> src.filter(sf -> sf.includes("metadata"))), Map.class);
+			List<Map<String, Object>> metadata = new ArrayList<>();
+			for (Hit<Map> hit : res.hits().hits()) {
+				if (hit.source() != null && hit.source().get("metadata") instanceof Map documentMetadata) {
+					metadata.add(documentMetadata);
+				}
+			}
+			return new MetadataSample(metadata, count);
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
 	private String getElasticsearchQueryString(Filter.Expression filterExpression) {
 		return Objects.isNull(filterExpression) ? "*"
 				: this.filterExpressionConverter.convertExpression(filterExpression);
@@ -317,6 +490,18 @@ public class ElasticsearchVectorStore extends AbstractObservationVectorStore imp
 		}
 	}
 
+	/**
+	 * Non-blocking counterpart of the index check of the add and delete operations: the
+	 * index must be pre-created or initializeSchema set to true.
+	 */
+	private Mono<Void> requireIndex() {
+		return Mono
+			.fromFuture(
+					() -> this.elasticsearchAsyncClient.indices().exists(ex -> ex.index(this.options.getIndexName())))
+			.flatMap(exists -> exists.value() ? Mono.<Void>empty()
+					: Mono.<Void>error(new IllegalArgumentException("Index not found")));
+	}
+
 	public boolean indexExists() {
 		try {
 			return this.elasticsearchClient.indices().exists(ex -> ex.index(this.options.getIndexName())).value();
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.elasticsearch;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.vectorstore.planner.FilteredSearchPlan;
+import org.springframework.ai.vectorstore.planner.FilteredSearchPlan.Strategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ElasticsearchVectorStore}.
+ */
+class ElasticsearchVectorStoreTests {
+
+	@Test
+	void unplannedSearchesRetrieveOneAndAHalfTimesTheTopK() {
+		assertThat(ElasticsearchVectorStore.numCandidates(10, null)).isEqualTo(15);
+		assertThat(ElasticsearchVectorStore.numCandidates(10, plan(Strategy.NATIVE_FILTER, 50_000, 10))).isEqualTo(15);
+	}
+
+	@Test
+	void selectiveFiltersRetrieveTheirEstimatedMatches() {
+		assertThat(ElasticsearchVectorStore.numCandidates(10, plan(Strategy.PRE_FILTER, 800, 10))).isEqualTo(800);
+		assertThat(ElasticsearchVectorStore.numCandidates(10, plan(Strategy.PRE_FILTER, 3, 10))).isEqualTo(15);
+	}
+
+	@Test
+	void postFilteredSearchesRetrieveThePlannedCandidatesUpToTheLimit() {
+		assertThat(ElasticsearchVectorStore.numCandidates(10, plan(Strategy.POST_FILTER, 50_000, 400))).isEqualTo(400);
+		assertThat(ElasticsearchVectorStore.numCandidates(10, plan(Strategy.POST_FILTER, 500_000, 40_000)))
+			.isEqualTo(10_000);
+	}
+
+	private static FilteredSearchPlan plan(Strategy strategy, long estimatedMatches, int candidates) {
+		return new FilteredSearchPlan(strategy, 0.1, estimatedMatches, 10, candidates);
+	}
+
+}
@@ -32,10 +32,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
 import org.springframework.ai.embedding.EmbeddingModel;
-import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
 import org.springframework.ai.util.JacksonUtils;
 import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
+import org.springframework.ai.vectorstore.EmbeddedDocumentBatch;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.observation.AbstractObservationVectorStore;
 import org.springframework.ai.vectorstore.observation.VectorStoreObservationContext;
@@ -200,12 +200,11 @@ public class GemFireVectorStore extends AbstractObservationVectorStore implement
 	}
 
 	@Override
-	public void doAdd(List<Document> documents) {
-		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
-				this.batchingStrategy);
-		UploadRequest upload = new UploadRequest(documents.stream()
-			.map(document -> new UploadRequest.Embedding(document.getId(), embeddings.get(documents.indexOf(document)),
-					DOCUMENT_FIELD, document.getText(), document.getMetadata()))
+	protected void doAdd(EmbeddedDocumentBatch batch) {
+		UploadRequest upload = new UploadRequest(batch.stream()
+			.map(embeddedDocument -> new UploadRequest.Embedding(embeddedDocument.document().getId(),
+					embeddedDocument.embedding(), DOCUMENT_FIELD, embeddedDocument.document().getText(),
+					embeddedDocument.document().getMetadata()))
 			.toList());
 
 		String embeddingsJson = null;
@@ -248,7 +247,7 @@ public class GemFireVectorStore extends AbstractObservationVectorStore implement
 		if (request.hasFilterExpression()) {
 			throw new UnsupportedOperationException("GemFire currently does not support metadata filter expressions.");
 		}
-		float[] floatVector = this.embeddingModel.embed(request.getQuery());
+		float[] floatVector = getQueryEmbedding(request);
 		return this.client.post()
 			.uri("/" + this.indexName + QUERY)
 			.contentType(MediaType.APPLICATION_JSON)
@@ -16,6 +16,7 @@
 
 package org.springframework.ai.vectorstore.hanadb;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -33,6 +34,7 @@ import org.springframework.ai.observation.conventions.VectorStoreProvider;
 import org.springframework.ai.observation.conventions.VectorStoreSimilarityMetric;
 import org.springframework.ai.util.JacksonUtils;
 import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
+import org.springframework.ai.vectorstore.EmbeddedDocumentBatch;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.observation.AbstractObservationVectorStore;
 import org.springframework.ai.vectorstore.observation.VectorStoreObservationContext;
@@ -113,15 +115,25 @@ public class HanaCloudVectorStore extends AbstractObservationVectorStore {
 
 	@Override
 	public void doAdd(List<Document> documents) {
+		List<float[]> embeddings = new ArrayList<>(documents.size());
 		int count = 1;
 		for (Document document : documents) {
 			logger.info("[{}/{}] Calling EmbeddingModel for document id = {}", count++, documents.size(),
 					document.getId());
+			embeddings.add(this.embeddingModel.embed(document));
+		}
+		this.doAdd(EmbeddedDocumentBatch.of(documents, embeddings));
+	}
+
+	@Override
+	protected void doAdd(EmbeddedDocumentBatch batch) {
+		for (int i = 0; i < batch.size(); i++) {
+			Document document = batch.getDocument(i);
 			String content = document.getText().replaceAll("\\s+", " ");
-			String embedding = getEmbedding(document);
+			String embedding = toVectorString(batch.getEmbedding(i));
 			this.repository.save(this.tableName, document.getId(), embedding, content);
 		}
-		logger.info("Embeddings saved in HanaCloudVectorStore for {} documents", count - 1);
+		logger.info("Embeddings saved in HanaCloudVectorStore for {} documents", batch.size());
 	}
 
 	@Override
@@ -165,17 +177,15 @@ public class HanaCloudVectorStore extends AbstractObservationVectorStore {
 	}
 
 	private String getEmbedding(SearchRequest searchRequest) {
-		return "[" + EmbeddingUtils.toList(this.embeddingModel.embed(searchRequest.getQuery()))
+		return "[" + EmbeddingUtils.toList(getQueryEmbedding(searchRequest))
 			.stream()
 			.map(String::valueOf)
 			.collect(Collectors.joining(", ")) + "]";
 	}
 
-	private String getEmbedding(Document document) {
-		return "[" + EmbeddingUtils.toList(this.embeddingModel.embed(document))
-			.stream()
-			.map(String::valueOf)
-			.collect(Collectors.joining(", ")) + "]";
+	private String toVectorString(float[] embedding) {
+		return "[" + EmbeddingUtils.toList(embedding).stream().map(String::valueOf).collect(Collectors.joining(", "))
+				+ "]";
 	}
 
 	@Override
@@ -19,7 +19,6 @@ package org.springframework.ai.vectorstore.mariadb;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -33,11 +32,11 @@ import org.slf4j.LoggerFactory;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.embedding.EmbeddingModel;
-import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
 import org.springframework.ai.observation.conventions.VectorStoreSimilarityMetric;
 import org.springframework.ai.util.JacksonUtils;
 import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
+import org.springframework.ai.vectorstore.EmbeddedDocumentBatch;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.filter.Filter;
 import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
@@ -249,35 +248,13 @@ public class MariaDBVectorStore extends AbstractObservationVectorStore implement
 	}
 
 	@Override
-	public void doAdd(List<Document> documents) {
-		// Batch the documents based on the batching strategy
-		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
-				this.batchingStrategy);
-
-		List<List<MariaDBDocument>> batchedDocuments = batchDocuments(documents, embeddings);
-		batchedDocuments.forEach(this::insertOrUpdateBatch);
-	}
-
-	private List<List<MariaDBDocument>> batchDocuments(List<Document> documents, List<float[]> embeddings) {
-		List<List<MariaDBDocument>> batches = new ArrayList<>();
-		List<MariaDBDocument> mariaDBDocuments = new ArrayList<>(documents.size());
-		if (embeddings.size() == documents.size()) {
-			for (Document document : documents) {
-				mariaDBDocuments.add(new MariaDBDocument(document.getId(), document.getText(), document.getMetadata(),
-						embeddings.get(documents.indexOf(document))));
-			}
-		}
-		else {
-			for (Document document : documents) {
-				mariaDBDocuments
-					.add(new MariaDBDocument(document.getId(), document.getText(), document.getMetadata(), null));
-			}
-		}
-
-		for (int i = 0; i < mariaDBDocuments.size(); i += this.maxDocumentBatchSize) {
-			batches.add(mariaDBDocuments.subList(i, Math.min(i + this.maxDocumentBatchSize, mariaDBDocuments.size())));
-		}
-		return batches;
+	protected void doAdd(EmbeddedDocumentBatch batch) {
+		batch.partition(this.maxDocumentBatchSize)
+			.forEach(subBatch -> insertOrUpdateBatch(subBatch.stream()
+				.map(embeddedDocument -> new MariaDBDocument(embeddedDocument.document().getId(),
+						embeddedDocument.document().getText(), embeddedDocument.document().getMetadata(),
+						embeddedDocument.embedding()))
+				.toList()));
 	}
 
 	private void insertOrUpdateBatch(List<MariaDBDocument> batch) {
@@ -349,7 +326,7 @@ public class MariaDBVectorStore extends AbstractObservationVectorStore implement
 
 		String nativeFilterExpression = (request.getFilterExpression() != null)
 				? this.filterExpressionConverter.convertExpression(request.getFilterExpression()) : "";
-		float[] embedding = this.embeddingModel.embed(request.getQuery());
+		float[] embedding = getQueryEmbedding(request);
 		String jsonPathFilter = "";
 
 		if (StringUtils.hasText(nativeFilterExpression)) {
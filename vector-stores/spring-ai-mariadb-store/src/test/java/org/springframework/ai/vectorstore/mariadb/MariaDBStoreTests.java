@@ -33,6 +33,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.only;
 import static org.mockito.Mockito.times;
@@ -74,6 +75,8 @@ public class MariaDBStoreTests {
 
 		// Testing with 9989 documents
 		var documents = Collections.nCopies(9989, new Document("foo"));
+		given(embeddingModel.embed(eq(documents), any(), any()))
+			.willReturn(Collections.nCopies(9989, new float[] { 1 }));
 
 		// When
 		mariadbVectorStore.doAdd(documents);
@@ -53,9 +53,24 @@ public final class MilvusSearchRequest extends SearchRequest {
 	 * @param builder The {@link MilvusBuilder} containing Milvus-specific parameters.
 	 */
 	private MilvusSearchRequest(SearchRequest baseRequest, MilvusBuilder builder) {
+		this(baseRequest, builder.nativeExpression, builder.searchParamsJson);
+	}
+
+	private MilvusSearchRequest(SearchRequest baseRequest, @Nullable String nativeExpression,
+			@Nullable String searchParamsJson) {
 		super(baseRequest); // Copy all standard fields
-		this.nativeExpression = builder.nativeExpression;
-		this.searchParamsJson = builder.searchParamsJson;
+		this.nativeExpression = nativeExpression;
+		this.searchParamsJson = searchParamsJson;
+	}
+
+	/**
+	 * Copies this request with the standard fields of the given request, keeping the
+	 * Milvus-specific parameters.
+	 * @param baseRequest the request holding the standard fields of the copy
+	 * @return the copy
+	 */
+	MilvusSearchRequest withBaseRequest(SearchRequest baseRequest) {
+		return new MilvusSearchRequest(baseRequest, this.nativeExpression, this.searchParamsJson);
 	}
 
 	/**
@@ -146,6 +161,14 @@ public final class MilvusSearchRequest extends SearchRequest {
 			return this;
 		}
 
+		/**
+		 * {@link Builder#tenantId(String)}
+		 */
+		public MilvusBuilder tenantId(String tenantId) {
+			this.baseBuilder.tenantId(tenantId);
+			return this;
+		}
+
 		/**
 		 * Sets the native Milvus filter expression.
 		 * @param nativeExpression The native Milvus expression string.
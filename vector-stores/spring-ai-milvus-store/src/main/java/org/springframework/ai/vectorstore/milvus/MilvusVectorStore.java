@@ -18,9 +18,14 @@ package org.springframework.ai.vectorstore.milvus;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import com.google.gson.Gson;
@@ -50,6 +55,10 @@ import io.milvus.param.dml.SearchParam;
 import io.milvus.param.index.CreateIndexParam;
 import io.milvus.param.index.DescribeIndexParam;
 import io.milvus.param.index.DropIndexParam;
+import io.milvus.param.partition.CreatePartitionParam;
+import io.milvus.param.partition.HasPartitionParam;
+import io.milvus.param.partition.LoadPartitionsParam;
+import io.milvus.param.partition.ReleasePartitionsParam;
 import io.milvus.response.QueryResultsWrapper.RowRecord;
 import io.milvus.response.SearchResultsWrapper;
 import org.slf4j.Logger;
@@ -58,11 +67,12 @@ import org.slf4j.LoggerFactory;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
 import org.springframework.ai.embedding.EmbeddingModel;
-import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.model.EmbeddingUtils;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
 import org.springframework.ai.observation.conventions.VectorStoreSimilarityMetric;
 import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
+import org.springframework.ai.vectorstore.EmbeddedDocumentBatch;
+import org.springframework.ai.vectorstore.EmbeddedDocumentBatch.EmbeddedDocument;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.ai.vectorstore.filter.Filter;
@@ -70,6 +80,7 @@ import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
 import org.springframework.ai.vectorstore.observation.AbstractObservationVectorStore;
 import org.springframework.ai.vectorstore.observation.VectorStoreObservationContext;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -161,6 +172,10 @@ public class MilvusVectorStore extends AbstractObservationVectorStore implements
 
 	public static final String EMBEDDING_FIELD_NAME = "embedding";
 
+	public static final String TENANT_FIELD_NAME = "tenant_id";
+
+	public static final int DEFAULT_NUM_PARTITIONS = 64;
+
 	// Metadata, automatically assigned by Milvus.
 	public static final String SIMILARITY_FIELD_NAME = "score";
 
@@ -198,6 +213,16 @@ public class MilvusVectorStore extends AbstractObservationVectorStore implements
 
 	private final String embeddingFieldName;
 
+	private final MilvusTenantRouting tenantRouting;
+
+	private final String tenantFieldName;
+
+	private final int numPartitions;
+
+	private final Set<String> createdPartitions = ConcurrentHashMap.newKeySet();
+
+	private final Set<String> loadedPartitions = ConcurrentHashMap.newKeySet();
+
 	/**
 	 * @param builder {@link VectorStore.Builder} for chroma vector store
 	 */
@@ -219,6 +244,9 @@ public class MilvusVectorStore extends AbstractObservationVectorStore implements
 		this.contentFieldName = builder.contentFieldName;
 		this.metadataFieldName = builder.metadataFieldName;
 		this.embeddingFieldName = builder.embeddingFieldName;
+		this.tenantRouting = builder.tenantRouting;
+		this.tenantFieldName = builder.tenantFieldName;
+		this.numPartitions = builder.numPartitions;
 	}
 
 	/**
@@ -232,19 +260,42 @@ public class MilvusVectorStore extends AbstractObservationVectorStore implements
 
 	@Override
 	public void doAdd(List<Document> documents) {
-
 		Assert.notNull(documents, "Documents must not be null");
+		// TODO: Need to customize how we pass the embedding options
+		super.doAdd(documents);
+	}
+
+	/**
+	 * Inserts the documents, with {@link MilvusTenantRouting#PARTITION} in the partitions
+	 * of their tenants, created if missing.
+	 */
+	@Override
+	protected void doAdd(EmbeddedDocumentBatch batch) {
+		if (this.tenantRouting != MilvusTenantRouting.PARTITION) {
+			insert(null, batch);
+			return;
+		}
+		Map<String, List<EmbeddedDocument>> documentsByTenant = new LinkedHashMap<>();
+		for (EmbeddedDocument embeddedDocument : batch) {
+			documentsByTenant.computeIfAbsent(getTenantId(embeddedDocument.document()), tenantId -> new ArrayList<>())
+				.add(embeddedDocument);
+		}
+		documentsByTenant.forEach((tenantId, documents) -> {
+			createPartition(tenantId);
+			insert(tenantId, documents);
+		});
+	}
+
+	private void insert(@Nullable String partitionName, Iterable<EmbeddedDocument> embeddedDocuments) {
 
 		List<String> docIdArray = new ArrayList<>();
 		List<String> contentArray = new ArrayList<>();
 		List<JsonObject> metadataArray = new ArrayList<>();
 		List<List<Float>> embeddingArray = new ArrayList<>();
+		List<String> tenantArray = new ArrayList<>();
 
-		// TODO: Need to customize how we pass the embedding options
-		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
-				this.batchingStrategy);
-
-		for (Document document : documents) {
+		for (var embeddedDocument : embeddedDocuments) {
+			Document document = embeddedDocument.document();
 			docIdArray.add(document.getId());
 			// Use a (future) DocumentTextLayoutFormatter instance to extract
 			// the content used to compute the embeddings
@@ -252,7 +303,10 @@ public class MilvusVectorStore extends AbstractObservationVectorStore implements
 			Gson gson = new Gson();
 			String jsonString = gson.toJson(document.getMetadata());
 			metadataArray.add(gson.fromJson(jsonString, JsonObject.class));
-			embeddingArray.add(EmbeddingUtils.toList(embeddings.get(documents.indexOf(document))));
+			embeddingArray.add(EmbeddingUtils.toList(embeddedDocument.embedding()));
+			if (this.tenantRouting == MilvusTenantRouting.PARTITION_KEY) {
+				tenantArray.add(getTenantId(document));
+			}
 		}
 
 		List<InsertParam.Field> fields = new ArrayList<>();
@@ -263,14 +317,19 @@ public class MilvusVectorStore extends AbstractObservationVectorStore implements
 		fields.add(new InsertParam.Field(this.contentFieldName, contentArray));
 		fields.add(new InsertParam.Field(this.metadataFieldName, metadataArray));
 		fields.add(new InsertParam.Field(this.embeddingFieldName, embeddingArray));
+		if (this.tenantRouting == MilvusTenantRouting.PARTITION_KEY) {
+			fields.add(new InsertParam.Field(this.tenantFieldName, tenantArray));
+		}
 
-		InsertParam insertParam = InsertParam.newBuilder()
+		var insertParamBuilder = InsertParam.newBuilder()
 			.withDatabaseName(this.databaseName)
 			.withCollectionName(this.collectionName)
-			.withFields(fields)
-			.build();
+			.withFields(fields);
+		if (partitionName != null) {
+			insertParamBuilder.withPartitionName(partitionName);
+		}
 
-		R<MutationResult> status = this.milvusClient.insert(insertParam);
+		R<MutationResult> status = this.milvusClient.insert(insertParamBuilder.build());
 		if (status.getException() != null) {
 			throw new RuntimeException("Failed to insert:", status.getException());
 		}
@@ -323,25 +382,75 @@ public class MilvusVectorStore extends AbstractObservationVectorStore implements
 
 	@Override
 	public List<Document> doSimilaritySearch(SearchRequest request) {
-		String nativeFilterExpressions = "";
+		Assert.notNull(request.getQuery(), "Query string must not be null");
+		return search(toSearchKey(request), List.of(request), List.of(getQueryEmbedding(request))).get(0);
+	}
+
+	/**
+	 * Runs the searches sharing the same top K, filter expression and search parameters
+	 * as a single search with several query vectors.
+	 * @param requests the search requests
+	 * @param queryEmbeddings the embedding to search with for each request
+	 * @return the documents similar to each query, in the order of the requests
+	 */
+	@Override
+	protected List<List<Document>> doBatchSimilaritySearch(List<SearchRequest> requests,
+			List<float[]> queryEmbeddings) {
+		Map<SearchKey, List<Integer>> indicesByKey = new LinkedHashMap<>();
+		for (int i = 0; i < requests.size(); i++) {
+			indicesByKey.computeIfAbsent(toSearchKey(requests.get(i)), key -> new ArrayList<>()).add(i);
+		}
+
+		List<List<Document>> results = new ArrayList<>(Collections.nCopies(requests.size(), List.of()));
+		indicesByKey.forEach((key, indices) -> {
+			List<List<Document>> keyResults = search(key, indices.stream().map(requests::get).toList(),
+					indices.stream()
+						.map(i -> Objects.requireNonNullElseGet(queryEmbeddings.get(i),
+								() -> getQueryEmbedding(requests.get(i))))
+						.toList());
+			for (int i = 0; i < indices.size(); i++) {
+				results.set(indices.get(i), keyResults.get(i));
+			}
+		});
+		return results;
+	}
+
+	private SearchKey toSearchKey(SearchRequest request) {
+		String filterExpression = getConvertedFilterExpression(request);
 		String searchParamsJson = null;
 		if (request instanceof MilvusSearchRequest milvusReq) {
-			nativeFilterExpressions = StringUtils.hasText(milvusReq.getNativeExpression())
-					? milvusReq.getNativeExpression() : getConvertedFilterExpression(request);
+			if (StringUtils.hasText(milvusReq.getNativeExpression())) {
+				filterExpression = milvusReq.getNativeExpression();
+			}
+			if (StringUtils.hasText(milvusReq.getSearchParamsJson())) {
+				searchParamsJson = milvusReq.getSearchParamsJson();
+			}
+		}
 
-			searchParamsJson = StringUtils.hasText(milvusReq.getSearchParamsJson()) ? milvusReq.getSearchParamsJson()
-					: null;
+		String tenantId = request.getTenantId();
+		String partitionName = null;
+		if (this.tenantRouting == MilvusTenantRouting.PARTITION) {
+			Assert.isTrue(tenantId != null, "The search request must have a tenant id to search the partition of");
+			partitionName = tenantId;
 		}
-		else {
-			nativeFilterExpressions = getConvertedFilterExpression(request);
+		else if (this.tenantRouting == MilvusTenantRouting.PARTITION_KEY && tenantId != null) {
+			// Milvus only searches the partitions the partition key filter hashes to
+			String tenantFilter = this.tenantFieldName + " == " + quote(tenantId);
+			filterExpression = StringUtils.hasText(filterExpression) ? tenantFilter + " && (" + filterExpression + ")"
+					: tenantFilter;
 		}
+		return new SearchKey(request.getTopK(), filterExpression, searchParamsJson, partitionName);
+	}
 
-		Assert.notNull(request.getQuery(), "Query string must not be null");
+	private static String quote(String value) {
+		return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+	}
+
+	private List<List<Document>> search(SearchKey key, List<SearchRequest> requests, List<float[]> queryEmbeddings) {
 		List<String> outFieldNames = new ArrayList<>();
 		outFieldNames.add(this.idFieldName);
 		outFieldNames.add(this.contentFieldName);
 		outFieldNames.add(this.metadataFieldName);
-		float[] embedding = this.embeddingModel.embed(request.getQuery());
 
 		var searchParamBuilder = SearchParam.newBuilder()
 			.withDatabaseName(this.databaseName)
@@ -349,19 +458,31 @@ public class MilvusVectorStore extends AbstractObservationVectorStore implements
 			.withConsistencyLevel(ConsistencyLevelEnum.STRONG)
 			.withMetricType(this.metricType)
 			.withOutFields(outFieldNames)
-			.withTopK(request.getTopK())
-			.withVectors(List.of(EmbeddingUtils.toList(embedding)))
+			.withTopK(key.topK())
+			.withVectors(queryEmbeddings.stream().map(EmbeddingUtils::toList).toList())
 			.withVectorFieldName(this.embeddingFieldName);
 
-		if (StringUtils.hasText(nativeFilterExpressions)) {
-			searchParamBuilder.withExpr(nativeFilterExpressions);
+		if (StringUtils.hasText(key.filterExpression())) {
+			searchParamBuilder.withExpr(key.filterExpression());
 		}
 
-		if (StringUtils.hasText(searchParamsJson)) {
-			searchParamBuilder.withParams(searchParamsJson);
+		if (StringUtils.hasText(key.searchParamsJson())) {
+			searchParamBuilder.withParams(key.searchParamsJson());
 		}
 
-		R<SearchResults> respSearch = this.milvusClient.search(searchParamBuilder.build());
+		if (key.partitionName() != null) {
+			loadTenant(key.partitionName());
+			searchParamBuilder.withPartitionNames(List.of(key.partitionName()));
+		}
+
+		SearchParam searchParam = searchParamBuilder.build();
+		R<SearchResults> respSearch = this.milvusClient.search(searchParam);
+		if (respSearch.getException() != null && key.partitionName() != null) {
+			// another store instance on the collection may have released the partition
+			this.loadedPartitions.remove(key.partitionName());
+			loadTenant(key.partitionName());
+			respSearch = this.milvusClient.search(searchParam);
+		}
 
 		if (respSearch.getException() != null) {
 			throw new RuntimeException("Search failed!", respSearch.getException());
@@ -369,9 +490,16 @@ public class MilvusVectorStore extends AbstractObservationVectorStore implements
 
 		SearchResultsWrapper wrapperSearch = new SearchResultsWrapper(respSearch.getData().getResults());
 
-		return wrapperSearch.getRowRecords(0)
-			.stream()
-			.filter(rowRecord -> getResultSimilarity(rowRecord) >= request.getSimilarityThreshold())
+		List<List<Document>> results = new ArrayList<>(requests.size());
+		for (int i = 0; i < requests.size(); i++) {
+			results.add(toDocuments(wrapperSearch.getRowRecords(i), requests.get(i).getSimilarityThreshold()));
+		}
+		return results;
+	}
+
+	private List<Document> toDocuments(List<RowRecord> rowRecords, double similarityThreshold) {
+		return rowRecords.stream()
+			.filter(rowRecord -> getResultSimilarity(rowRecord) >= similarityThreshold)
 			.map(rowRecord -> {
 				String docId = String.valueOf(rowRecord.get(this.idFieldName));
 				String content = (String) rowRecord.get(this.contentFieldName);
@@ -398,6 +526,97 @@ public class MilvusVectorStore extends AbstractObservationVectorStore implements
 			.toList();
 	}
 
+	@Override
+	protected boolean supportsTenantRouting() {
+		return this.tenantRouting != MilvusTenantRouting.NONE;
+	}
+
+	@Override
+	@Nullable
+	protected SearchRequest copySearchRequest(SearchRequest request, SearchRequest fields) {
+		if (request instanceof MilvusSearchRequest milvusRequest) {
+			return milvusRequest.withBaseRequest(fields);
+		}
+		return super.copySearchRequest(request, fields);
+	}
+
+	private String getTenantId(Document document) {
+		Object tenantId = document.getMetadata().get(DocumentMetadata.TENANT_ID.value());
+		Assert.isTrue(tenantId != null && StringUtils.hasText(tenantId.toString()),
+				() -> "Document " + document.getId() + " has no " + DocumentMetadata.TENANT_ID + " metadata");
+		return tenantId.toString();
+	}
+
+	/**
+	 * Loads the partition of a tenant, so that its documents can be searched. With
+	 * {@link MilvusTenantRouting#PARTITION}, the partitions are loaded on the first
+	 * search of their tenant rather than with the collection.
+	 * @param tenantId the tenant whose partition to load
+	 */
+	public void loadTenant(String tenantId) {
+		Assert.state(this.tenantRouting == MilvusTenantRouting.PARTITION,
+				"Only the partitions of the PARTITION tenant routing can be loaded");
+		if (this.loadedPartitions.contains(tenantId)) {
+			return;
+		}
+		R<RpcStatus> status = this.milvusClient.loadPartitions(LoadPartitionsParam.newBuilder()
+			.withDatabaseName(this.databaseName)
+			.withCollectionName(this.collectionName)
+			.withPartitionNames(List.of(tenantId))
+			.build());
+		if (status.getException() != null) {
+			throw new RuntimeException("Failed to load the partition of tenant " + tenantId, status.getException());
+		}
+		this.loadedPartitions.add(tenantId);
+	}
+
+	/**
+	 * Releases the partition of a tenant from memory, for instance once the tenant has
+	 * not been searched for a while. It is loaded again on the next search of the tenant,
+	 * including by the other store instances on the collection, which load it again when
+	 * their search of the released partition fails.
+	 * @param tenantId the tenant whose partition to release
+	 */
+	public void releaseTenant(String tenantId) {
+		Assert.state(this.tenantRouting == MilvusTenantRouting.PARTITION,
+				"Only the partitions of the PARTITION tenant routing can be released");
+		R<RpcStatus> status = this.milvusClient.releasePartitions(ReleasePartitionsParam.newBuilder()
+			.withDatabaseName(this.databaseName)
+			.withCollectionName(this.collectionName)
+			.withPartitionNames(List.of(tenantId))
+			.build());
+		if (status.getException() != null) {
+			throw new RuntimeException("Failed to release the partition of tenant " + tenantId, status.getException());
+		}
+		this.loadedPartitions.remove(tenantId);
+	}
+
+	private void createPartition(String tenantId) {
+		if (this.createdPartitions.contains(tenantId)) {
+			return;
+		}
+		R<Boolean> exists = this.milvusClient.hasPartition(HasPartitionParam.newBuilder()
+			.withDatabaseName(this.databaseName)
+			.withCollectionName(this.collectionName)
+			.withPartitionName(tenantId)
+			.build());
+		if (exists.getException() != null) {
+			throw new RuntimeException("Failed to check the partition of tenant " + tenantId, exists.getException());
+		}
+		if (!Boolean.TRUE.equals(exists.getData())) {
+			R<RpcStatus> status = this.milvusClient.createPartition(CreatePartitionParam.newBuilder()
+				.withDatabaseName(this.databaseName)
+				.withCollectionName(this.collectionName)
+				.withPartitionName(tenantId)
+				.build());
+			if (status.getException() != null) {
+				throw new RuntimeException("Failed to create the partition of tenant " + tenantId,
+						status.getException());
+			}
+		}
+		this.createdPartitions.add(tenantId);
+	}
+
 	private String getConvertedFilterExpression(SearchRequest request) {
 		return (request.getFilterExpression() != null)
 				? this.filterExpressionConverter.convertExpression(request.getFilterExpression()) : "";
@@ -467,6 +686,11 @@ public class MilvusVectorStore extends AbstractObservationVectorStore implements
 			}
 		}
 
+		if (this.tenantRouting == MilvusTenantRouting.PARTITION) {
+			// the partitions are loaded on the first search of their tenant
+			return;
+		}
+
 		R<RpcStatus> loadCollectionStatus = this.milvusClient.loadCollection(LoadCollectionParam.newBuilder()
 			.withDatabaseName(this.databaseName)
 			.withCollectionName(this.collectionName)
@@ -501,7 +725,7 @@ public class MilvusVectorStore extends AbstractObservationVectorStore implements
 			.withDimension(this.embeddingDimensions())
 			.build();
 
-		CreateCollectionParam createCollectionReq = CreateCollectionParam.newBuilder()
+		var createCollectionReqBuilder = CreateCollectionParam.newBuilder()
 			.withDatabaseName(databaseName)
 			.withCollectionName(collectionName)
 			.withDescription("Spring AI Vector Store")
@@ -510,10 +734,20 @@ public class MilvusVectorStore extends AbstractObservationVectorStore implements
 			.addFieldType(docIdFieldType)
 			.addFieldType(contentFieldType)
 			.addFieldType(metadataFieldType)
-			.addFieldType(embeddingFieldType)
-			.build();
+			.addFieldType(embeddingFieldType);
+
+		if (this.tenantRouting == MilvusTenantRouting.PARTITION_KEY) {
+			createCollectionReqBuilder
+				.addFieldType(FieldType.newBuilder()
+					.withName(this.tenantFieldName)
+					.withDataType(DataType.VarChar)
+					.withMaxLength(256)
+					.withPartitionKey(true)
+					.build())
+				.withPartitionsNum(this.numPartitions);
+		}
 
-		R<RpcStatus> collectionStatus = this.milvusClient.createCollection(createCollectionReq);
+		R<RpcStatus> collectionStatus = this.milvusClient.createCollection(createCollectionReqBuilder.build());
 		if (collectionStatus.getException() != null) {
 			throw new RuntimeException("Failed to create collection", collectionStatus.getException());
 		}
@@ -617,6 +851,12 @@ public class MilvusVectorStore extends AbstractObservationVectorStore implements
 
 		private boolean initializeSchema = false;
 
+		private MilvusTenantRouting tenantRouting = MilvusTenantRouting.NONE;
+
+		private String tenantFieldName = TENANT_FIELD_NAME;
+
+		private int numPartitions = DEFAULT_NUM_PARTITIONS;
+
 		/**
 		 * @param milvusClient the Milvus service client to use for database operations
 		 * @throws IllegalArgumentException if milvusClient is null
@@ -764,6 +1004,46 @@ public class MilvusVectorStore extends AbstractObservationVectorStore implements
 			return this;
 		}
 
+		/**
+		 * Configures how the documents of the tenants, given by their
+		 * {@link DocumentMetadata#TENANT_ID} metadata, are partitioned and how the
+		 * searches of a {@link SearchRequest#getTenantId() tenant} are routed to them.
+		 * @param tenantRouting the tenant routing (defaults to
+		 * {@link MilvusTenantRouting#NONE})
+		 * @return this builder instance
+		 */
+		public Builder tenantRouting(MilvusTenantRouting tenantRouting) {
+			Assert.notNull(tenantRouting, "tenantRouting must not be null");
+			this.tenantRouting = tenantRouting;
+			return this;
+		}
+
+		/**
+		 * Configures the name of the partition key field holding the tenant of the
+		 * documents with {@link MilvusTenantRouting#PARTITION_KEY}.
+		 * @param tenantFieldName the name for the tenant field (defaults to
+		 * TENANT_FIELD_NAME)
+		 * @return this builder instance
+		 */
+		public Builder tenantFieldName(String tenantFieldName) {
+			Assert.hasText(tenantFieldName, "tenantFieldName must not be empty");
+			this.tenantFieldName = tenantFieldName;
+			return this;
+		}
+
+		/**
+		 * Configures the number of partitions the tenants are hashed to with
+		 * {@link MilvusTenantRouting#PARTITION_KEY}.
+		 * @param numPartitions the number of partitions (defaults to
+		 * DEFAULT_NUM_PARTITIONS)
+		 * @return this builder instance
+		 */
+		public Builder numPartitions(int numPartitions) {
+			Assert.isTrue(numPartitions > 0, "numPartitions must be greater than 0");
+			this.numPartitions = numPartitions;
+			return this;
+		}
+
 		/**
 		 * Builds and returns a new MilvusVectorStore instance with the configured
 		 * settings.
@@ -776,4 +1056,40 @@ public class MilvusVectorStore extends AbstractObservationVectorStore implements
 
 	}
 
+	/**
+	 * How the documents of the tenants are partitioned in the collection.
+	 */
+	public enum MilvusTenantRouting {
+
+		/**
+		 * The documents of all tenants share the collection. Tenant searches filter the
+		 * documents on their tenant metadata.
+		 */
+		NONE,
+
+		/**
+		 * The tenant is stored in a partition key field, which Milvus hashes to one of a
+		 * fixed number of partitions. Tenant searches only scan the partition of the
+		 * tenant. Suited to many tenants.
+		 */
+		PARTITION_KEY,
+
+		/**
+		 * Each tenant has its own partition, created on the first insert of the tenant
+		 * and loaded on its first search, which can be released once the tenant is cold.
+		 * Searches must have a tenant, and the tenant ids must be valid partition names.
+		 * Milvus limits the number of partitions of a collection, to 1024 by default.
+		 */
+		PARTITION
+
+	}
+
+	/**
+	 * The settings that searches must share to run as a single multi-vector search.
+	 */
+	private record SearchKey(int topK, String filterExpression, @Nullable String searchParamsJson,
+			@Nullable String partitionName) {
+
+	}
+
 }
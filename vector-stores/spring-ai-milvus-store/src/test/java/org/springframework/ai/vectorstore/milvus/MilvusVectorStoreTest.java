@@ -23,6 +23,7 @@ import io.milvus.grpc.SearchResultData;
 import io.milvus.grpc.SearchResults;
 import io.milvus.param.R;
 import io.milvus.param.dml.SearchParam;
+import io.milvus.param.partition.LoadPartitionsParam;
 import io.milvus.response.SearchResultsWrapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -39,10 +40,12 @@ import org.springframework.ai.model.EmbeddingUtils;
 import org.springframework.ai.vectorstore.SearchRequest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -138,9 +141,57 @@ class MilvusVectorStoreTest {
 		}
 	}
 
+	@Test
+	void shouldFilterOnThePartitionKeyOfTheTenant() {
+		try (MockedStatic<EmbeddingUtils> mockedEmbeddingUtils = mockStatic(EmbeddingUtils.class);
+				MockedConstruction<SearchResultsWrapper> mockedSearchResultsWrapper = mockConstruction(
+						SearchResultsWrapper.class,
+						(mock, context) -> when(mock.getRowRecords(0)).thenReturn(List.of()))) {
+
+			this.vectorStore = MilvusVectorStore.builder(this.milvusClient, this.embeddingModel)
+				.tenantRouting(MilvusVectorStore.MilvusTenantRouting.PARTITION_KEY)
+				.build();
+			SearchRequest request = SearchRequest.builder()
+				.query("sample query")
+				.tenantId("acme")
+				.filterExpression("age > 30")
+				.build();
+
+			SearchParam capturedParam = performSimilaritySearch(mockedEmbeddingUtils, request);
+
+			assertThat(capturedParam.getExpr()).isEqualTo("tenant_id == \"acme\" && (metadata[\"age\"] > 30)");
+			assertThat(capturedParam.getPartitionNames()).isEmpty();
+		}
+	}
+
+	@Test
+	void shouldLoadAndSearchThePartitionOfTheTenant() {
+		try (MockedStatic<EmbeddingUtils> mockedEmbeddingUtils = mockStatic(EmbeddingUtils.class);
+				MockedConstruction<SearchResultsWrapper> mockedSearchResultsWrapper = mockConstruction(
+						SearchResultsWrapper.class,
+						(mock, context) -> when(mock.getRowRecords(0)).thenReturn(List.of()))) {
+
+			this.vectorStore = MilvusVectorStore.builder(this.milvusClient, this.embeddingModel)
+				.tenantRouting(MilvusVectorStore.MilvusTenantRouting.PARTITION)
+				.build();
+			when(this.milvusClient.loadPartitions(any(LoadPartitionsParam.class))).thenReturn(R.success(null));
+			SearchRequest request = SearchRequest.builder().query("sample query").tenantId("acme").build();
+
+			SearchParam capturedParam = performSimilaritySearch(mockedEmbeddingUtils, request);
+			this.vectorStore.doSimilaritySearch(request);
+
+			assertThat(capturedParam.getPartitionNames()).containsExactly("acme");
+			verify(this.milvusClient, times(1)).loadPartitions(any(LoadPartitionsParam.class));
+			assertThatThrownBy(
+					() -> this.vectorStore.doSimilaritySearch(SearchRequest.builder().query("query").build()))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
 	private SearchParam performSimilaritySearch(MockedStatic<EmbeddingUtils> mockedEmbeddingUtils,
 			SearchRequest request) {
 		List<Float> mockVector = List.of(1.0f, 2.0f, 3.0f);
+		when(this.embeddingModel.embed(any(String.class))).thenReturn(new float[] { 1.0f, 2.0f, 3.0f });
 		mockedEmbeddingUtils.when(() -> EmbeddingUtils.toList(any())).thenReturn(mockVector);
 
 		SearchResults mockResults = mock(SearchResults.class);
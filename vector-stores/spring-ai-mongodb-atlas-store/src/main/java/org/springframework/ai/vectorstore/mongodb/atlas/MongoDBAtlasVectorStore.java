@@ -18,22 +18,28 @@ package org.springframework.ai.vectorstore.mongodb.atlas;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import com.mongodb.MongoCommandException;
 import com.mongodb.client.result.DeleteResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
 import org.springframework.ai.embedding.EmbeddingModel;
-import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.model.EmbeddingUtils;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
 import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
+import org.springframework.ai.vectorstore.EmbeddedDocumentBatch;
+import org.springframework.ai.vectorstore.EmbeddedDocumentBatch.EmbeddedDocument;
+import org.springframework.ai.vectorstore.MetadataIndex;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.filter.Filter;
 import org.springframework.ai.vectorstore.observation.AbstractObservationVectorStore;
@@ -41,10 +47,12 @@ import org.springframework.ai.vectorstore.observation.VectorStoreObservationCont
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.data.mongodb.UncategorizedMongoDbException;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -152,6 +160,9 @@ public class MongoDBAtlasVectorStore extends AbstractObservationVectorStore impl
 
 	private final MongoTemplate mongoTemplate;
 
+	@Nullable
+	private final ReactiveMongoOperations reactiveMongoOperations;
+
 	private final String collectionName;
 
 	private final String vectorIndexName;
@@ -172,11 +183,14 @@ public class MongoDBAtlasVectorStore extends AbstractObservationVectorStore impl
 		Assert.notNull(builder.mongoTemplate, "MongoTemplate must not be null");
 
 		this.mongoTemplate = builder.mongoTemplate;
+		this.reactiveMongoOperations = builder.reactiveMongoOperations;
 		this.collectionName = builder.collectionName;
 		this.vectorIndexName = builder.vectorIndexName;
 		this.pathName = builder.pathName;
 		this.numCandidates = builder.numCandidates;
-		this.metadataFieldsToFilter = builder.metadataFieldsToFilter;
+		Set<String> metadataFieldsToFilter = new LinkedHashSet<>(builder.metadataFieldsToFilter);
+		builder.getMetadataIndexes().stream().map(MetadataIndex::name).forEach(metadataFieldsToFilter::add);
+		this.metadataFieldsToFilter = List.copyOf(metadataFieldsToFilter);
 		this.filterExpressionConverter = builder.filterExpressionConverter;
 		this.initializeSchema = builder.initializeSchema;
 	}
@@ -257,20 +271,44 @@ public class MongoDBAtlasVectorStore extends AbstractObservationVectorStore impl
 	}
 
 	@Override
-	public void doAdd(List<Document> documents) {
-		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
-				this.batchingStrategy);
-		for (Document document : documents) {
-			MongoDBDocument mdbDocument = new MongoDBDocument(document.getId(), document.getText(),
-					document.getMetadata(), embeddings.get(documents.indexOf(document)));
-			this.mongoTemplate.save(mdbDocument, this.collectionName);
+	protected void doAdd(EmbeddedDocumentBatch batch) {
+		for (var embeddedDocument : batch) {
+			this.mongoTemplate.save(toMongoDBDocument(embeddedDocument), this.collectionName);
+		}
+	}
+
+	@Override
+	protected Mono<Void> doReactiveAdd(List<Document> documents) {
+		if (this.reactiveMongoOperations == null) {
+			return super.doReactiveAdd(documents);
 		}
+		ReactiveMongoOperations operations = this.reactiveMongoOperations;
+		return embedReactive(documents).flatMapMany(Flux::fromIterable)
+			.flatMap(embeddedDocument -> operations.save(toMongoDBDocument(embeddedDocument), this.collectionName))
+			.then();
+	}
+
+	private static MongoDBDocument toMongoDBDocument(EmbeddedDocument embeddedDocument) {
+		Document document = embeddedDocument.document();
+		return new MongoDBDocument(document.getId(), document.getText(), document.getMetadata(),
+				embeddedDocument.embedding());
 	}
 
 	@Override
 	public void doDelete(List<String> idList) {
-		Query query = new Query(org.springframework.data.mongodb.core.query.Criteria.where(ID_FIELD_NAME).in(idList));
-		this.mongoTemplate.remove(query, this.collectionName);
+		this.mongoTemplate.remove(toIdQuery(idList), this.collectionName);
+	}
+
+	@Override
+	protected Mono<Void> doReactiveDelete(List<String> idList) {
+		if (this.reactiveMongoOperations == null) {
+			return super.doReactiveDelete(idList);
+		}
+		return this.reactiveMongoOperations.remove(toIdQuery(idList), this.collectionName).then();
+	}
+
+	private static Query toIdQuery(List<String> idList) {
+		return new Query(org.springframework.data.mongodb.core.query.Criteria.where(ID_FIELD_NAME).in(idList));
 	}
 
 	@Override
@@ -296,26 +334,49 @@ public class MongoDBAtlasVectorStore extends AbstractObservationVectorStore impl
 
 	@Override
 	public List<Document> doSimilaritySearch(SearchRequest request) {
+		float[] queryEmbedding = getQueryEmbedding(request);
+
+		return this.mongoTemplate
+			.aggregate(toAggregation(request, queryEmbedding), this.collectionName, org.bson.Document.class)
+			.getMappedResults()
+			.stream()
+			.map(d -> mapMongoDocument(d, queryEmbedding))
+			.toList();
+	}
 
+	@Override
+	protected Mono<List<Document>> doReactiveSimilaritySearch(SearchRequest request) {
+		if (this.reactiveMongoOperations == null) {
+			return super.doReactiveSimilaritySearch(request);
+		}
+		ReactiveMongoOperations operations = this.reactiveMongoOperations;
+		return getReactiveQueryEmbedding(request).flatMap(queryEmbedding -> operations
+			.aggregate(toAggregation(request, queryEmbedding), this.collectionName, org.bson.Document.class)
+			.map(d -> mapMongoDocument(d, queryEmbedding))
+			.collectList());
+	}
+
+	private Aggregation toAggregation(SearchRequest request, float[] queryEmbedding) {
 		String nativeFilterExpressions = (request.getFilterExpression() != null)
 				? this.filterExpressionConverter.convertExpression(request.getFilterExpression()) : "";
 
-		float[] queryEmbedding = this.embeddingModel.embed(request.getQuery());
 		var vectorSearch = new VectorSearchAggregation(EmbeddingUtils.toList(queryEmbedding), this.pathName,
 				this.numCandidates, this.vectorIndexName, request.getTopK(), nativeFilterExpressions);
 
-		Aggregation aggregation = Aggregation.newAggregation(vectorSearch,
+		return Aggregation.newAggregation(vectorSearch,
 				Aggregation.addFields()
 					.addField(SCORE_FIELD_NAME)
 					.withValueOfExpression("{\"$meta\":\"vectorSearchScore\"}")
 					.build(),
 				Aggregation.match(new Criteria(SCORE_FIELD_NAME).gte(request.getSimilarityThreshold())));
+	}
 
-		return this.mongoTemplate.aggregate(aggregation, this.collectionName, org.bson.Document.class)
-			.getMappedResults()
-			.stream()
-			.map(d -> mapMongoDocument(d, queryEmbedding))
-			.toList();
+	/**
+	 * The vector search only filters on the filter fields of the search index.
+	 */
+	@Override
+	protected Set<String> getFilterableMetadataKeys() {
+		return Set.copyOf(this.metadataFieldsToFilter);
 	}
 
 	@Override
@@ -346,6 +407,9 @@ public class MongoDBAtlasVectorStore extends AbstractObservationVectorStore impl
 
 		private final MongoTemplate mongoTemplate;
 
+		@Nullable
+		private ReactiveMongoOperations reactiveMongoOperations;
+
 		private String collectionName = DEFAULT_VECTOR_COLLECTION_NAME;
 
 		private String vectorIndexName = DEFAULT_VECTOR_INDEX_NAME;
@@ -452,6 +516,21 @@ public class MongoDBAtlasVectorStore extends AbstractObservationVectorStore impl
 			return this;
 		}
 
+		/**
+		 * Sets the reactive MongoDB operations used by the
+		 * {@link MongoDBAtlasVectorStore#reactive() reactive view} of the store, so that
+		 * it does not block. It requires the MongoDB Reactive Streams driver. When not
+		 * set, the reactive view runs the blocking operations on a scheduler.
+		 * @param reactiveMongoOperations the reactive MongoDB operations to use
+		 * @return the builder instance
+		 * @throws IllegalArgumentException if reactiveMongoOperations is null
+		 */
+		public Builder reactiveMongoOperations(ReactiveMongoOperations reactiveMongoOperations) {
+			Assert.notNull(reactiveMongoOperations, "ReactiveMongoOperations must not be null");
+			this.reactiveMongoOperations = reactiveMongoOperations;
+			return this;
+		}
+
 		/**
 		 * Builds the MongoDBAtlasVectorStore instance.
 		 * @return a new MongoDBAtlasVectorStore instance
@@ -20,10 +20,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.neo4j.cypherdsl.support.schema_name.SchemaNames;
 import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
 import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.Transaction;
+import org.neo4j.driver.TransactionConfig;
 import org.neo4j.driver.Values;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,10 +35,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
 import org.springframework.ai.embedding.EmbeddingModel;
-import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
 import org.springframework.ai.observation.conventions.VectorStoreSimilarityMetric;
 import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
+import org.springframework.ai.vectorstore.EmbeddedDocumentBatch;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.filter.Filter;
 import org.springframework.ai.vectorstore.neo4j.filter.Neo4jVectorFilterExpressionConverter;
@@ -197,13 +201,10 @@ public class Neo4jVectorStore extends AbstractObservationVectorStore implements
 	}
 
 	@Override
-	public void doAdd(List<Document> documents) {
+	protected void doAdd(EmbeddedDocumentBatch batch) {
 
-		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
-				this.batchingStrategy);
-
-		var rows = documents.stream()
-			.map(document -> documentToRecord(document, embeddings.get(documents.indexOf(document))))
+		var rows = batch.stream()
+			.map(embeddedDocument -> documentToRecord(embeddedDocument.document(), embeddedDocument.embedding()))
 			.toList();
 
 		try (var session = this.driver.session()) {
@@ -262,29 +263,64 @@ public class Neo4jVectorStore extends AbstractObservationVectorStore implements
 
 	@Override
 	public List<Document> doSimilaritySearch(SearchRequest request) {
+		String query = similarityQuery(request);
+		Map<String, Object> parameters = similarityParameters(request);
+		try (var session = this.driver.session(this.sessionConfig)) {
+			return session.executeRead(tx -> tx.run(query, parameters).list(this::recordToDocument));
+		}
+	}
+
+	/**
+	 * Pulls the records from the server in batches of the fetch size of the
+	 * {@link SessionConfig}, 1000 by default, as the stream is consumed. The stream holds
+	 * a session and a read transaction until it is closed.
+	 */
+	@Override
+	protected Stream<Document> doSimilaritySearchStream(SearchRequest request) {
+		String query = similarityQuery(request);
+		Map<String, Object> parameters = similarityParameters(request);
+		Session session = this.driver.session(this.sessionConfig);
+		Transaction transaction = null;
+		try {
+			transaction = session.beginTransaction(TransactionConfig.empty());
+			Transaction openTransaction = transaction;
+			return transaction.run(query, parameters).stream().map(this::recordToDocument).onClose(() -> {
+				try (session) {
+					openTransaction.close();
+				}
+			});
+		}
+		catch (RuntimeException ex) {
+			try (session) {
+				if (transaction != null) {
+					transaction.close();
+				}
+			}
+			throw ex;
+		}
+	}
+
+	private String similarityQuery(SearchRequest request) {
 		Assert.isTrue(request.getTopK() > 0, "The number of documents to returned must be greater than zero");
 		Assert.isTrue(request.getSimilarityThreshold() >= 0 && request.getSimilarityThreshold() <= 1,
 				"The similarity score is bounded between 0 and 1; least to most similar respectively.");
 
-		var embedding = Values.value(this.embeddingModel.embed(request.getQuery()));
-		try (var session = this.driver.session(this.sessionConfig)) {
-			StringBuilder condition = new StringBuilder("score >= $threshold");
-			if (request.hasFilterExpression()) {
-				condition.append(" AND ")
-					.append(this.filterExpressionConverter.convertExpression(request.getFilterExpression()));
-			}
-			String query = """
-					CALL db.index.vector.queryNodes($indexName, $numberOfNearestNeighbours, $embeddingValue)
-					YIELD node, score
-					WHERE %s
-					RETURN node, score""".formatted(condition);
-
-			return session.executeRead(tx -> tx
-				.run(query,
-						Map.of("indexName", this.indexNameNotSanitized, "numberOfNearestNeighbours", request.getTopK(),
-								"embeddingValue", embedding, "threshold", request.getSimilarityThreshold()))
-				.list(this::recordToDocument));
+		StringBuilder condition = new StringBuilder("score >= $threshold");
+		if (request.hasFilterExpression()) {
+			condition.append(" AND ")
+				.append(this.filterExpressionConverter.convertExpression(request.getFilterExpression()));
 		}
+		return """
+				CALL db.index.vector.queryNodes($indexName, $numberOfNearestNeighbours, $embeddingValue)
+				YIELD node, score
+				WHERE %s
+				RETURN node, score""".formatted(condition);
+	}
+
+	private Map<String, Object> similarityParameters(SearchRequest request) {
+		return Map.of("indexName", this.indexNameNotSanitized, "numberOfNearestNeighbours", request.getTopK(),
+				"embeddingValue", Values.value(getQueryEmbedding(request)), "threshold",
+				request.getSimilarityThreshold());
 	}
 
 	@Override
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.neo4j;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.Transaction;
+import org.neo4j.driver.TransactionConfig;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.types.Node;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.SearchRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link Neo4jVectorStore}.
+ */
+class Neo4jVectorStoreTests {
+
+	private final Driver driver = mock(Driver.class);
+
+	private final Session session = mock(Session.class);
+
+	private final Transaction transaction = mock(Transaction.class);
+
+	private final Result result = mock(Result.class);
+
+	private Neo4jVectorStore vectorStore;
+
+	@BeforeEach
+	void setUp() {
+		var embeddingModel = mock(EmbeddingModel.class);
+		given(embeddingModel.embed(anyString())).willReturn(new float[] { 1, 2, 3 });
+		given(this.driver.session(any(SessionConfig.class))).willReturn(this.session);
+		given(this.session.beginTransaction(any(TransactionConfig.class))).willReturn(this.transaction);
+		given(this.transaction.run(anyString(), anyMap())).willReturn(this.result);
+		this.vectorStore = Neo4jVectorStore.builder(this.driver, embeddingModel).build();
+	}
+
+	@Test
+	void streamReadsTheRecordsInATransactionClosedWithTheStream() {
+		given(this.result.stream()).willReturn(Stream.of(neoRecord("1", 0.9f), neoRecord("2", 0.8f)));
+
+		try (Stream<Document> documents = this.vectorStore
+			.similaritySearchStream(SearchRequest.builder().query("foo").build())) {
+			assertThat(documents).extracting(Document::getId).containsExactly("1", "2");
+			verify(this.transaction, never()).close();
+		}
+
+		var inOrder = inOrder(this.transaction, this.session);
+		inOrder.verify(this.transaction).close();
+		inOrder.verify(this.session).close();
+		verify(this.transaction, never()).commit();
+	}
+
+	@Test
+	void closingTheStreamEarlyReleasesTheResultTheTransactionAndTheSession() {
+		var resultClosed = new AtomicBoolean();
+		given(this.result.stream())
+			.willReturn(Stream.of(neoRecord("1", 0.9f), neoRecord("2", 0.8f)).onClose(() -> resultClosed.set(true)));
+
+		Stream<Document> documents = this.vectorStore
+			.similaritySearchStream(SearchRequest.builder().query("foo").build());
+		assertThat(documents.iterator().next().getId()).isEqualTo("1");
+		documents.close();
+
+		assertThat(resultClosed).isTrue();
+		verify(this.transaction).close();
+		verify(this.session).close();
+	}
+
+	@Test
+	void failingToRunTheQueryReleasesTheTransactionAndTheSession() {
+		given(this.transaction.run(anyString(), anyMap())).willThrow(new IllegalStateException("query"));
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> this.vectorStore.similaritySearchStream(SearchRequest.builder().query("foo").build()));
+
+		verify(this.transaction).close();
+		verify(this.session).close();
+	}
+
+	private static org.neo4j.driver.Record neoRecord(String id, float score) {
+		var node = mock(Node.class);
+		given(node.keys()).willReturn(List.of("id", "text"));
+		given(node.get("id")).willReturn(Values.value(id));
+		given(node.get("text")).willReturn(Values.value("text " + id));
+		var nodeValue = mock(Value.class);
+		given(nodeValue.asNode()).willReturn(node);
+		var neoRecord = mock(org.neo4j.driver.Record.class);
+		given(neoRecord.get("node")).willReturn(nodeValue);
+		given(neoRecord.get("score")).willReturn(Values.value(score));
+		return neoRecord;
+	}
+
+}
@@ -44,10 +44,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
 import org.springframework.ai.embedding.EmbeddingModel;
-import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
 import org.springframework.ai.observation.conventions.VectorStoreSimilarityMetric;
 import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
+import org.springframework.ai.vectorstore.EmbeddedDocumentBatch;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.filter.Filter;
 import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
@@ -203,13 +203,12 @@ public class OpenSearchVectorStore extends AbstractObservationVectorStore implem
 	}
 
 	@Override
-	public void doAdd(List<Document> documents) {
-		List<float[]> embedding = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
-				this.batchingStrategy);
+	protected void doAdd(EmbeddedDocumentBatch batch) {
 		BulkRequest.Builder bulkRequestBuilder = new BulkRequest.Builder();
-		for (Document document : documents) {
+		for (var embeddedDocument : batch) {
+			Document document = embeddedDocument.document();
 			OpenSearchDocument openSearchDocument = new OpenSearchDocument(document.getId(), document.getText(),
-					document.getMetadata(), embedding.get(documents.indexOf(document)));
+					document.getMetadata(), embeddedDocument.embedding());
 			bulkRequestBuilder.operations(op -> op
 				.index(idx -> idx.index(this.index).id(openSearchDocument.id()).document(openSearchDocument)));
 		}
@@ -264,7 +263,7 @@ public class OpenSearchVectorStore extends AbstractObservationVectorStore implem
 	@Override
 	public List<Document> doSimilaritySearch(SearchRequest searchRequest) {
 		Assert.notNull(searchRequest, "The search request must not be null.");
-		return similaritySearch(this.embeddingModel.embed(searchRequest.getQuery()), searchRequest.getTopK(),
+		return similaritySearch(getQueryEmbedding(searchRequest), searchRequest.getTopK(),
 				searchRequest.getSimilarityThreshold(), searchRequest.getFilterExpression());
 	}
 
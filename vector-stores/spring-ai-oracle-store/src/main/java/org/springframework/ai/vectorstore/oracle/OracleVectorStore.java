@@ -40,10 +40,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
 import org.springframework.ai.embedding.EmbeddingModel;
-import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
 import org.springframework.ai.observation.conventions.VectorStoreSimilarityMetric;
 import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
+import org.springframework.ai.vectorstore.EmbeddedDocumentBatch;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.filter.Filter;
 import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
@@ -167,17 +167,15 @@ public class OracleVectorStore extends AbstractObservationVectorStore implements
 	}
 
 	@Override
-	public void doAdd(final List<Document> documents) {
-		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
-				this.batchingStrategy);
+	protected void doAdd(final EmbeddedDocumentBatch batch) {
 		this.jdbcTemplate.batchUpdate(getIngestStatement(), new BatchPreparedStatementSetter() {
 
 			@Override
 			public void setValues(PreparedStatement ps, int i) throws SQLException {
-				final Document document = documents.get(i);
+				final Document document = batch.getDocument(i);
 				final String content = document.getText();
 				final byte[] json = toJson(document.getMetadata());
-				final VECTOR embeddingVector = toVECTOR(embeddings.get(documents.indexOf(document)));
+				final VECTOR embeddingVector = toVECTOR(batch.getEmbedding(i));
 
 				org.springframework.jdbc.core.StatementCreatorUtils.setParameterValue(ps, 1, Types.VARCHAR,
 						document.getId());
@@ -190,7 +188,7 @@ public class OracleVectorStore extends AbstractObservationVectorStore implements
 
 			@Override
 			public int getBatchSize() {
-				return documents.size();
+				return batch.size();
 			}
 		});
 	}
@@ -329,7 +327,7 @@ public class OracleVectorStore extends AbstractObservationVectorStore implements
 	public List<Document> doSimilaritySearch(SearchRequest request) {
 		try {
 			// From the provided query, generate a vector using the embedding model
-			final VECTOR embeddingVector = toVECTOR(this.embeddingModel.embed(request.getQuery()));
+			final VECTOR embeddingVector = toVECTOR(getQueryEmbedding(request));
 
 			if (logger.isDebugEnabled()) {
 				this.jdbcTemplate.batchUpdate("insert into debug(embedding) values(?)",
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.pgvector;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Writes the rows of the staging table of a {@link PgVectorStore} bulk load in the binary
+ * format of {@code COPY ... FROM STDIN (FORMAT BINARY)}: a sequence number, the id,
+ * content and metadata as text, and the embedding in the binary representation of the
+ * pgvector {@code vector} type. All values are big-endian.
+ *
+ * @since 1.0.0
+ * @see <a href="https://www.postgresql.org/docs/current/sql-copy.html">COPY</a>
+ */
+final class PgBinaryCopyWriter {
+
+	static final int COLUMNS = 5;
+
+	private static final byte[] SIGNATURE = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0 };
+
+	private final DataOutputStream out;
+
+	PgBinaryCopyWriter(OutputStream out) {
+		this.out = new DataOutputStream(out);
+	}
+
+	void writeHeader() throws IOException {
+		this.out.write(SIGNATURE);
+		// flags, then the length of the header extension
+		this.out.writeInt(0);
+		this.out.writeInt(0);
+	}
+
+	void writeRow(long sequence, String id, @Nullable String content, String metadata, float[] embedding)
+			throws IOException {
+		this.out.writeShort(COLUMNS);
+		this.out.writeInt(Long.BYTES);
+		this.out.writeLong(sequence);
+		writeText(id);
+		writeText(content);
+		writeText(metadata);
+		// dimensions, an unused short, then the components
+		this.out.writeInt(2 * Short.BYTES + embedding.length * Float.BYTES);
+		this.out.writeShort(embedding.length);
+		this.out.writeShort(0);
+		for (float component : embedding) {
+			this.out.writeFloat(component);
+		}
+	}
+
+	void writeTrailer() throws IOException {
+		this.out.writeShort(-1);
+		this.out.flush();
+	}
+
+	private void writeText(@Nullable String value) throws IOException {
+		if (value == null) {
+			this.out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		this.out.writeInt(bytes.length);
+		this.out.write(bytes);
+	}
+
+}
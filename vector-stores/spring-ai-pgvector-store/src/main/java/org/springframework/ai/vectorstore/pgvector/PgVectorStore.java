@@ -16,19 +16,37 @@
 
 package org.springframework.ai.vectorstore.pgvector;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.sql.DataSource;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.pgvector.PGvector;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
 import org.postgresql.util.PGobject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,23 +54,34 @@ import org.slf4j.LoggerFactory;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
 import org.springframework.ai.embedding.EmbeddingModel;
-import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
 import org.springframework.ai.observation.conventions.VectorStoreSimilarityMetric;
 import org.springframework.ai.util.JacksonUtils;
 import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
+import org.springframework.ai.vectorstore.EmbeddedDocumentBatch;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.ai.vectorstore.filter.Filter;
 import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
 import org.springframework.ai.vectorstore.observation.AbstractObservationVectorStore;
 import org.springframework.ai.vectorstore.observation.VectorStoreObservationContext;
+import org.springframework.ai.vectorstore.planner.FilteredSearchPlan;
+import org.springframework.ai.vectorstore.planner.FilteredSearchPlanner;
+import org.springframework.ai.vectorstore.planner.MetadataSample;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
 import org.springframework.jdbc.core.SqlTypeValue;
 import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -75,6 +104,8 @@ import org.springframework.util.StringUtils;
  * <li>Metadata filtering using JSON path expressions</li>
  * <li>Configurable similarity thresholds for search results</li>
  * <li>Batch processing support with configurable batch sizes</li>
+ * <li>Bulk loading with binary {@code COPY}, optionally creating the vector index only
+ * once the data is loaded</li>
  * </ul>
  *
  * <p>
@@ -145,6 +176,63 @@ import org.springframework.util.StringUtils;
  * <li>NONE: Exact search without indexing</li>
  * </ul>
  *
+ * <p>
+ * Ingestion Modes:
+ * </p>
+ * <ul>
+ * <li>UPSERT: Default, batched {@code INSERT ... ON CONFLICT DO UPDATE} statements</li>
+ * <li>COPY: Streams the rows with {@code COPY ... FROM STDIN (FORMAT BINARY)} into a
+ * temporary staging table, then merges it into the vector table with a single statement.
+ * Best suited to loading large numbers of documents.</li>
+ * </ul>
+ *
+ * <p>
+ * Quantization Types:
+ * </p>
+ * <ul>
+ * <li>NONE: Default, the index is built over the full precision vectors</li>
+ * <li>HALFVEC: The index is built over the vectors cast to half precision, halving its
+ * size</li>
+ * <li>BIT: The index is built over the binary quantized vectors, one bit per dimension,
+ * and searched by Hamming distance</li>
+ * </ul>
+ * <p>
+ * With a quantization type, the full precision vectors are still stored. A search first
+ * retrieves an oversampled number of candidates through the quantized index, then
+ * re-scores them exactly against the full precision vectors.
+ * </p>
+ *
+ * <p>
+ * Search Hints:
+ * </p>
+ * <ul>
+ * <li>{@link #HNSW_EF_SEARCH_HINT}: the size of the dynamic candidate list of an HNSW
+ * search</li>
+ * <li>{@link #IVFFLAT_PROBES_HINT}: the number of lists probed by an IVFFlat search</li>
+ * <li>{@link #QUANTIZATION_OVERSAMPLING_HINT}: the factor of the top K retrieved through
+ * the quantized index before re-scoring</li>
+ * </ul>
+ * <p>
+ * For example, {@code SearchRequest.builder().query("text").hint("hnsw.ef_search", 100)}.
+ * The settings apply to the transaction of the search only.
+ * </p>
+ *
+ * <p>
+ * With a {@link FilteredSearchPlanner} and an HNSW index, the searches with a filter
+ * expression and no {@code hnsw.ef_search} hint are planned from the metadata of a sample
+ * of the rows: the rows matching a selective filter are searched exactly without the
+ * index, the others through the index with an {@code hnsw.ef_search} raised until enough
+ * of them match. With {@code iterativeIndexScan(true)}, which requires pgvector 0.8,
+ * selective filters are applied while scanning the index instead.
+ * </p>
+ *
+ * <p>
+ * When bulk loading into an empty table, building the vector index once after the load is
+ * much faster than maintaining it row by row. Set {@code deferIndexCreation(true)} to
+ * skip the index creation on initialization, then call {@link #createVectorIndex()} once
+ * the data is loaded.
+ * </p>
+ *
  * @author Christian Tzolov
  * @author Josh Long
  * @author Muthukumaran Navaneethakrishnan
@@ -173,6 +261,40 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 
 	public static final int MAX_DOCUMENT_BATCH_SIZE = 10_000;
 
+	public static final PgIngestionMode DEFAULT_INGESTION_MODE = PgIngestionMode.UPSERT;
+
+	public static final PgQuantizationType DEFAULT_QUANTIZATION_TYPE = PgQuantizationType.NONE;
+
+	public static final int DEFAULT_QUANTIZATION_OVERSAMPLING = 4;
+
+	public static final int DEFAULT_FETCH_SIZE = 1000;
+
+	/**
+	 * {@link SearchRequest} hint setting {@code hnsw.ef_search} for the search.
+	 */
+	public static final String HNSW_EF_SEARCH_HINT = "hnsw.ef_search";
+
+	/**
+	 * {@link SearchRequest} hint setting {@code ivfflat.probes} for the search.
+	 */
+	public static final String IVFFLAT_PROBES_HINT = "ivfflat.probes";
+
+	/**
+	 * {@link SearchRequest} hint overriding the quantization oversampling for the search.
+	 */
+	public static final String QUANTIZATION_OVERSAMPLING_HINT = "pgvector.quantization_oversampling";
+
+	private static final int COPY_BUFFER_SIZE = 1 << 16;
+
+	// the default hnsw.ef_search of pgvector, and the maximum it accepts
+	private static final int DEFAULT_HNSW_EF_SEARCH = 40;
+
+	private static final int MAX_HNSW_EF_SEARCH = 1000;
+
+	private static final String HNSW_ITERATIVE_SCAN = "hnsw.iterative_scan";
+
+	private static final String ENABLE_INDEX_SCAN = "enable_indexscan";
+
 	private static final Logger logger = LoggerFactory.getLogger(PgVectorStore.class);
 
 	private static Map<PgDistanceType, VectorStoreSimilarityMetric> SIMILARITY_TYPE_MAPPING = Map.of(
@@ -210,6 +332,24 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 
 	private final int maxDocumentBatchSize;
 
+	private final PgIngestionMode ingestionMode;
+
+	private final boolean deferIndexCreation;
+
+	private final PgQuantizationType quantizationType;
+
+	private final int quantizationOversampling;
+
+	private final int fetchSize;
+
+	private final boolean iterativeIndexScan;
+
+	@Nullable
+	private final FilteredSearchPlanner filteredSearchPlanner;
+
+	@Nullable
+	private final Supplier<MetadataSample> metadataStatistics;
+
 	/**
 	 * @param builder {@link VectorStore.Builder} for pg vector store
 	 */
@@ -240,6 +380,15 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 		this.initializeSchema = builder.initializeSchema;
 		this.schemaValidator = new PgVectorSchemaValidator(this.jdbcTemplate);
 		this.maxDocumentBatchSize = builder.maxDocumentBatchSize;
+		this.ingestionMode = builder.ingestionMode;
+		this.deferIndexCreation = builder.deferIndexCreation;
+		this.quantizationType = builder.quantizationType;
+		this.quantizationOversampling = builder.quantizationOversampling;
+		this.fetchSize = builder.fetchSize;
+		this.iterativeIndexScan = builder.iterativeIndexScan;
+		this.filteredSearchPlanner = builder.getFilteredSearchPlanner();
+		this.metadataStatistics = (this.filteredSearchPlanner != null)
+				? this.filteredSearchPlanner.statistics(this::sampleMetadata) : null;
 	}
 
 	public PgDistanceType getDistanceType() {
@@ -251,46 +400,34 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 	}
 
 	@Override
-	public void doAdd(List<Document> documents) {
-		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
-				this.batchingStrategy);
-
-		List<List<Document>> batchedDocuments = batchDocuments(documents);
-		batchedDocuments.forEach(batchDocument -> insertOrUpdateBatch(batchDocument, documents, embeddings));
-	}
-
-	private List<List<Document>> batchDocuments(List<Document> documents) {
-		List<List<Document>> batches = new ArrayList<>();
-		for (int i = 0; i < documents.size(); i += this.maxDocumentBatchSize) {
-			batches.add(documents.subList(i, Math.min(i + this.maxDocumentBatchSize, documents.size())));
+	protected void doAdd(EmbeddedDocumentBatch batch) {
+		if (this.ingestionMode == PgIngestionMode.COPY) {
+			copyAndMerge(batch);
+			return;
 		}
-		return batches;
+		batch.partition(this.maxDocumentBatchSize).forEach(this::insertOrUpdateBatch);
 	}
 
-	private void insertOrUpdateBatch(List<Document> batch, List<Document> documents, List<float[]> embeddings) {
+	private void insertOrUpdateBatch(EmbeddedDocumentBatch batch) {
 		String sql = "INSERT INTO " + getFullyQualifiedTableName()
 				+ " (id, content, metadata, embedding) VALUES (?, ?, ?::jsonb, ?) " + "ON CONFLICT (id) DO "
-				+ "UPDATE SET content = ? , metadata = ?::jsonb , embedding = ? ";
+				+ "UPDATE SET content = EXCLUDED.content, metadata = EXCLUDED.metadata, embedding = EXCLUDED.embedding";
 
 		this.jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
 
 			@Override
 			public void setValues(PreparedStatement ps, int i) throws SQLException {
 
-				var document = batch.get(i);
+				var document = batch.getDocument(i);
 				var id = convertIdToPgType(document.getId());
 				var content = document.getText();
 				var json = toJson(document.getMetadata());
-				var embedding = embeddings.get(documents.indexOf(document));
-				var pGvector = new PGvector(embedding);
+				var pGvector = new PGvector(batch.getEmbedding(i));
 
 				StatementCreatorUtils.setParameterValue(ps, 1, SqlTypeValue.TYPE_UNKNOWN, id);
 				StatementCreatorUtils.setParameterValue(ps, 2, SqlTypeValue.TYPE_UNKNOWN, content);
 				StatementCreatorUtils.setParameterValue(ps, 3, SqlTypeValue.TYPE_UNKNOWN, json);
 				StatementCreatorUtils.setParameterValue(ps, 4, SqlTypeValue.TYPE_UNKNOWN, pGvector);
-				StatementCreatorUtils.setParameterValue(ps, 5, SqlTypeValue.TYPE_UNKNOWN, content);
-				StatementCreatorUtils.setParameterValue(ps, 6, SqlTypeValue.TYPE_UNKNOWN, json);
-				StatementCreatorUtils.setParameterValue(ps, 7, SqlTypeValue.TYPE_UNKNOWN, pGvector);
 			}
 
 			@Override
@@ -300,6 +437,59 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 		});
 	}
 
+	/**
+	 * Streams the documents into a temporary staging table with a binary {@code COPY},
+	 * then merges them into the vector table with a single statement. The last document
+	 * with a given id wins, as with the upserts.
+	 */
+	private void copyAndMerge(EmbeddedDocumentBatch batch) {
+		String stagingTableName = "spring_ai_" + this.vectorTableName + "_staging";
+		String copySql = "COPY " + stagingTableName
+				+ " (seq, id, content, metadata, embedding) FROM STDIN (FORMAT BINARY)";
+		String mergeSql = "INSERT INTO " + getFullyQualifiedTableName() + " (id, content, metadata, embedding) "
+				+ "SELECT DISTINCT ON (id) id" + getIdCast() + ", content, metadata::jsonb, embedding FROM "
+				+ stagingTableName
+				+ " ORDER BY id, seq DESC ON CONFLICT (id) DO UPDATE SET content = EXCLUDED.content, "
+				+ "metadata = EXCLUDED.metadata, embedding = EXCLUDED.embedding";
+
+		this.jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+			PGConnection pgConnection = connection.unwrap(PGConnection.class);
+			try (Statement statement = connection.createStatement()) {
+				// a staging table left over by a failed load of the same session is
+				// dropped first
+				statement.execute("DROP TABLE IF EXISTS " + stagingTableName);
+				statement.execute("CREATE TEMP TABLE " + stagingTableName
+						+ " (seq bigint, id text, content text, metadata text, embedding vector)");
+				try (OutputStream out = new PGCopyOutputStream(pgConnection, copySql, COPY_BUFFER_SIZE)) {
+					PgBinaryCopyWriter writer = new PgBinaryCopyWriter(out);
+					writer.writeHeader();
+					for (int i = 0; i < batch.size(); i++) {
+						Document document = batch.getDocument(i);
+						writer.writeRow(i, document.getId(), document.getText(), toJson(document.getMetadata()),
+								batch.getEmbedding(i));
+					}
+					writer.writeTrailer();
+				}
+				catch (IOException e) {
+					throw new IllegalStateException("Failed to copy the documents to " + stagingTableName, e);
+				}
+				int merged = statement.executeUpdate(mergeSql);
+				statement.execute("DROP TABLE " + stagingTableName);
+				logger.debug("Merged {} documents into {}", merged, getFullyQualifiedTableName());
+			}
+			return null;
+		});
+	}
+
+	private String getIdCast() {
+		return switch (getIdType()) {
+			case UUID -> "::uuid";
+			case TEXT -> "";
+			case INTEGER, SERIAL -> "::integer";
+			case BIGSERIAL -> "::bigint";
+		};
+	}
+
 	private String toJson(Map<String, Object> map) {
 		try {
 			return this.objectMapper.writeValueAsString(map);
@@ -355,7 +545,73 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 
 	@Override
 	public List<Document> doSimilaritySearch(SearchRequest request) {
+		PGvector queryEmbedding = new PGvector(getQueryEmbedding(request));
+		FilteredSearchPlan plan = plan(request);
+		if (this.filteredSearchPlanner != null && plan != null
+				&& plan.strategy() == FilteredSearchPlan.Strategy.POST_FILTER) {
+			return this.filteredSearchPlanner.postFilter(plan,
+					candidates -> query(similarityQuery(request, queryEmbedding, plan.withCandidates(candidates))));
+		}
+		return query(similarityQuery(request, queryEmbedding, plan));
+	}
+
+	/**
+	 * Reads the rows through a cursor, {@link PgVectorStoreBuilder#fetchSize(int)
+	 * fetchSize} rows at a time, so that only the documents being consumed are mapped and
+	 * held in memory. The PostgreSQL driver only uses a cursor in a transaction, so the
+	 * stream holds a connection, in a transaction when it is not already, until it is
+	 * closed. The index options of a stream joining a transaction of the caller are
+	 * rolled back to a savepoint when it is closed. A planned post-filtered search is run
+	 * once, with the planned number of candidates.
+	 */
+	@Override
+	protected Stream<Document> doSimilaritySearchStream(SearchRequest request) {
+		return stream(similarityQuery(request, new PGvector(getQueryEmbedding(request)), plan(request)));
+	}
+
+	/**
+	 * Plans the searches with a filter expression through an HNSW index, unless they set
+	 * the {@code hnsw.ef_search} hint.
+	 */
+	@Nullable
+	private FilteredSearchPlan plan(SearchRequest request) {
+		if (this.filteredSearchPlanner == null || this.metadataStatistics == null || !request.hasFilterExpression()
+				|| this.createIndexMethod != PgIndexType.HNSW || request.getHint(HNSW_EF_SEARCH_HINT) != null) {
+			return null;
+		}
+		return this.filteredSearchPlanner.plan(request, this.metadataStatistics.get(), this.iterativeIndexScan);
+	}
 
+	/**
+	 * Samples the metadata of the rows, counting them from the statistics of the table
+	 * when it has been analyzed.
+	 */
+	private MetadataSample sampleMetadata(int sampleSize) {
+		Long estimatedCount = this.jdbcTemplate.queryForObject(
+				"SELECT COALESCE((SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)), -1)", Long.class,
+				getFullyQualifiedTableName());
+		long count = (estimatedCount != null && estimatedCount > 0) ? estimatedCount
+				: this.jdbcTemplate.queryForObject("SELECT count(*) FROM " + getFullyQualifiedTableName(), Long.class);
+		RowMapper<Map<String, Object>> metadataMapper = (rs, rowNum) -> DocumentRowMapper.toMap(this.objectMapper,
+				rs.getObject(1, PGobject.class));
+		List<Map<String, Object>> metadata;
+		if (count <= sampleSize) {
+			metadata = this.jdbcTemplate.query("SELECT metadata FROM " + getFullyQualifiedTableName() + " LIMIT ?",
+					metadataMapper, sampleSize);
+		}
+		else {
+			// sample twice the needed fraction of the rows, so that the sample is rarely
+			// smaller than needed
+			double percent = Math.min(100, 200.0 * sampleSize / count);
+			metadata = this.jdbcTemplate.query(
+					"SELECT metadata FROM " + getFullyQualifiedTableName() + " TABLESAMPLE BERNOULLI (?) LIMIT ?",
+					metadataMapper, percent, sampleSize);
+		}
+		return new MetadataSample(metadata, count);
+	}
+
+	private SimilarityQuery similarityQuery(SearchRequest request, PGvector queryEmbedding,
+			@Nullable FilteredSearchPlan plan) {
 		String nativeFilterExpression = (request.getFilterExpression() != null)
 				? this.filterExpressionConverter.convertExpression(request.getFilterExpression()) : "";
 
@@ -367,12 +623,223 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 
 		double distance = 1 - request.getSimilarityThreshold();
 
-		PGvector queryEmbedding = getQueryEmbedding(request.getQuery());
+		if (this.quantizationType == PgQuantizationType.NONE) {
+			return new SimilarityQuery(
+					String.format(this.getDistanceType().similaritySearchSqlTemplate, getFullyQualifiedTableName(),
+							jsonPathFilter),
+					new Object[] { queryEmbedding, queryEmbedding, distance, request.getTopK() },
+					settings(request, -1, plan));
+		}
 
-		return this.jdbcTemplate.query(
-				String.format(this.getDistanceType().similaritySearchSqlTemplate, getFullyQualifiedTableName(),
-						jsonPathFilter),
-				new DocumentRowMapper(this.objectMapper), queryEmbedding, queryEmbedding, distance, request.getTopK());
+		// oversampled search through the quantized index, then exact re-scoring of the
+		// candidates against the full precision vectors
+		int candidates = request.getTopK()
+				* intHint(request, QUANTIZATION_OVERSAMPLING_HINT).orElse(this.quantizationOversampling);
+		String distanceExpression = distanceExpression();
+		String sql = "SELECT *, " + distanceExpression + " AS distance FROM (SELECT * FROM "
+				+ getFullyQualifiedTableName() + " WHERE true " + jsonPathFilter + "ORDER BY "
+				+ quantizedExpression("embedding") + " " + quantizedOperator() + " " + quantizedExpression("?::vector")
+				+ " LIMIT ?) candidates WHERE " + distanceExpression + " < ? ORDER BY distance LIMIT ? ";
+		return new SimilarityQuery(sql, new Object[] { queryEmbedding, queryEmbedding, candidates, queryEmbedding,
+				distance, request.getTopK() }, settings(request, candidates, plan));
+	}
+
+	/**
+	 * Returns the options to set for the search from its hints and its plan. The
+	 * {@code hnsw.ef_search} is raised to the number of quantized or post-filtered
+	 * candidates, unless hinted, so that the index returns enough of them. Pre-filtered
+	 * searches disable index scans, so that the matching rows are searched exactly, and
+	 * natively filtered ones enable the iterative index scans of pgvector.
+	 */
+	private Map<String, String> settings(SearchRequest request, int quantizedCandidates,
+			@Nullable FilteredSearchPlan plan) {
+		Map<String, String> settings = new LinkedHashMap<>();
+		int candidates = (plan != null && plan.strategy() == FilteredSearchPlan.Strategy.POST_FILTER)
+				? Math.max(plan.candidates(), quantizedCandidates) : quantizedCandidates;
+		OptionalInt efSearch = intHint(request, HNSW_EF_SEARCH_HINT);
+		if (efSearch.isPresent()) {
+			settings.put(HNSW_EF_SEARCH_HINT, String.valueOf(efSearch.getAsInt()));
+		}
+		else if (this.createIndexMethod == PgIndexType.HNSW && candidates > DEFAULT_HNSW_EF_SEARCH) {
+			settings.put(HNSW_EF_SEARCH_HINT, String.valueOf(Math.min(candidates, MAX_HNSW_EF_SEARCH)));
+		}
+		intHint(request, IVFFLAT_PROBES_HINT)
+			.ifPresent(probes -> settings.put(IVFFLAT_PROBES_HINT, String.valueOf(probes)));
+		if (plan != null && plan.strategy() == FilteredSearchPlan.Strategy.PRE_FILTER) {
+			settings.put(ENABLE_INDEX_SCAN, "off");
+		}
+		else if (plan != null && plan.strategy() == FilteredSearchPlan.Strategy.NATIVE_FILTER) {
+			settings.put(HNSW_ITERATIVE_SCAN, "strict_order");
+		}
+		return settings;
+	}
+
+	/**
+	 * Runs the search, in a transaction setting the index options of the hints when there
+	 * are any. The options are set for the current transaction only, so when the search
+	 * joins a transaction of the caller they are set in a savepoint rolled back after the
+	 * search, rather than left in effect for the rest of the transaction.
+	 */
+	private List<Document> query(SimilarityQuery query) {
+		DocumentRowMapper rowMapper = new DocumentRowMapper(this.objectMapper);
+		if (query.settings().isEmpty()) {
+			return this.jdbcTemplate.query(query.sql(), rowMapper, query.args());
+		}
+		return this.jdbcTemplate.execute((ConnectionCallback<List<Document>>) connection -> {
+			boolean autoCommit = connection.getAutoCommit();
+			if (autoCommit) {
+				connection.setAutoCommit(false);
+			}
+			Savepoint savepoint = autoCommit ? null : connection.setSavepoint();
+			try {
+				applySettings(connection, query.settings());
+				List<Document> documents;
+				try (PreparedStatement statement = connection.prepareStatement(query.sql())) {
+					new ArgumentPreparedStatementSetter(query.args()).setValues(statement);
+					try (ResultSet resultSet = statement.executeQuery()) {
+						documents = new RowMapperResultSetExtractor<>(rowMapper).extractData(resultSet);
+					}
+				}
+				if (autoCommit) {
+					connection.commit();
+				}
+				return documents;
+			}
+			catch (SQLException | RuntimeException ex) {
+				if (autoCommit) {
+					connection.rollback();
+				}
+				throw ex;
+			}
+			finally {
+				if (savepoint != null) {
+					rollbackSettings(connection, savepoint);
+				}
+				if (autoCommit) {
+					connection.setAutoCommit(true);
+				}
+			}
+		});
+	}
+
+	private Stream<Document> stream(SimilarityQuery query) {
+		DataSource dataSource = this.jdbcTemplate.getDataSource();
+		Assert.state(dataSource != null, "The JdbcTemplate must have a DataSource");
+		Connection connection = DataSourceUtils.getConnection(dataSource);
+		PreparedStatement statement = null;
+		ResultSet resultSet = null;
+		boolean autoCommit = false;
+		Savepoint savepoint = null;
+		try {
+			autoCommit = connection.getAutoCommit();
+			if (autoCommit) {
+				connection.setAutoCommit(false);
+			}
+			else if (!query.settings().isEmpty()) {
+				savepoint = connection.setSavepoint();
+			}
+			applySettings(connection, query.settings());
+			statement = connection.prepareStatement(query.sql());
+			statement.setFetchSize(this.fetchSize);
+			new ArgumentPreparedStatementSetter(query.args()).setValues(statement);
+			resultSet = statement.executeQuery();
+		}
+		catch (SQLException | RuntimeException ex) {
+			closeCursor(connection, dataSource, statement, resultSet, autoCommit, savepoint);
+			if (ex instanceof SQLException sqlException) {
+				throw translate(query, sqlException);
+			}
+			throw (RuntimeException) ex;
+		}
+
+		ResultSetIterator iterator = new ResultSetIterator(resultSet, new DocumentRowMapper(this.objectMapper),
+				ex -> translate(query, ex));
+		PreparedStatement openStatement = statement;
+		ResultSet openResultSet = resultSet;
+		boolean restoreAutoCommit = autoCommit;
+		Savepoint settingsSavepoint = savepoint;
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+			.onClose(() -> closeCursor(connection, dataSource, openStatement, openResultSet, restoreAutoCommit,
+					settingsSavepoint));
+	}
+
+	private static void closeCursor(Connection connection, DataSource dataSource, @Nullable PreparedStatement statement,
+			@Nullable ResultSet resultSet, boolean autoCommit, @Nullable Savepoint savepoint) {
+		JdbcUtils.closeResultSet(resultSet);
+		JdbcUtils.closeStatement(statement);
+		try {
+			if (savepoint != null) {
+				rollbackSettings(connection, savepoint);
+			}
+			if (autoCommit) {
+				// the transaction only read, so it is ended without committing
+				connection.rollback();
+				connection.setAutoCommit(true);
+			}
+		}
+		catch (SQLException ex) {
+			logger.debug("Could not end the transaction of the similarity search cursor", ex);
+		}
+		finally {
+			DataSourceUtils.releaseConnection(connection, dataSource);
+		}
+	}
+
+	private DataAccessException translate(SimilarityQuery query, SQLException ex) {
+		DataAccessException translated = this.jdbcTemplate.getExceptionTranslator()
+			.translate("Similarity search", query.sql(), ex);
+		return (translated != null) ? translated : new UncategorizedSQLException("Similarity search", query.sql(), ex);
+	}
+
+	/**
+	 * Restores the options a search set in a transaction of the caller.
+	 */
+	private static void rollbackSettings(Connection connection, Savepoint savepoint) throws SQLException {
+		connection.rollback(savepoint);
+		connection.releaseSavepoint(savepoint);
+	}
+
+	private static void applySettings(Connection connection, Map<String, String> settings) throws SQLException {
+		if (settings.isEmpty()) {
+			return;
+		}
+		try (PreparedStatement setConfig = connection.prepareStatement("SELECT set_config(?, ?, true)")) {
+			for (Map.Entry<String, String> setting : settings.entrySet()) {
+				setConfig.setString(1, setting.getKey());
+				setConfig.setString(2, setting.getValue());
+				setConfig.execute();
+			}
+		}
+	}
+
+	private static OptionalInt intHint(SearchRequest request, String name) {
+		Object value = request.getHint(name);
+		if (value == null) {
+			return OptionalInt.empty();
+		}
+		int intValue = (value instanceof Number number) ? number.intValue() : Integer.parseInt(value.toString());
+		Assert.isTrue(intValue > 0, "The " + name + " hint must be greater than 0");
+		return OptionalInt.of(intValue);
+	}
+
+	private String distanceExpression() {
+		return switch (getDistanceType()) {
+			case EUCLIDEAN_DISTANCE -> "embedding <-> ?";
+			case NEGATIVE_INNER_PRODUCT -> "(1 + (embedding <#> ?))";
+			case COSINE_DISTANCE -> "embedding <=> ?";
+		};
+	}
+
+	private String quantizedExpression(String vector) {
+		return switch (this.quantizationType) {
+			case NONE -> vector;
+			case HALFVEC -> "(" + vector + ")::halfvec(" + embeddingDimensions() + ")";
+			case BIT -> "binary_quantize(" + vector + ")::bit(" + embeddingDimensions() + ")";
+		};
+	}
+
+	private String quantizedOperator() {
+		return (this.quantizationType == PgQuantizationType.BIT) ? "<~>" : comparisonOperator();
 	}
 
 	public List<Double> embeddingDistance(String query) {
@@ -385,12 +852,7 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 						return rs.getDouble(DocumentRowMapper.COLUMN_DISTANCE);
 					}
 
-				}, getQueryEmbedding(query));
-	}
-
-	private PGvector getQueryEmbedding(String query) {
-		float[] embedding = this.embeddingModel.embed(query);
-		return new PGvector(embedding);
+				}, new PGvector(this.embeddingModel.embed(query)));
 	}
 
 	private String comparisonOperator() {
@@ -441,12 +903,33 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 				)
 				""", this.getFullyQualifiedTableName(), this.getColumnTypeName(), this.embeddingDimensions()));
 
-		if (this.createIndexMethod != PgIndexType.NONE) {
-			this.jdbcTemplate.execute(String.format("""
-					CREATE INDEX IF NOT EXISTS %s ON %s USING %s (embedding %s)
-					""", this.getVectorIndexName(), this.getFullyQualifiedTableName(), this.createIndexMethod,
-					this.getDistanceType().index));
+		if (this.deferIndexCreation) {
+			logger.info("Deferring the creation of the vector index of the table: {}",
+					this.getFullyQualifiedTableName());
+			return;
 		}
+		createVectorIndex();
+	}
+
+	/**
+	 * Creates the vector index of the table, unless it exists or the index type is
+	 * {@link PgIndexType#NONE}. Meant to be called once a bulk load completes when the
+	 * index creation is deferred.
+	 */
+	public void createVectorIndex() {
+		if (this.createIndexMethod == PgIndexType.NONE) {
+			return;
+		}
+		String indexedExpression = switch (this.quantizationType) {
+			case NONE -> "embedding " + this.getDistanceType().index;
+			case HALFVEC -> "(" + quantizedExpression("embedding") + ") "
+					+ this.getDistanceType().index.replace("vector_", "halfvec_");
+			case BIT -> "(" + quantizedExpression("embedding") + ") bit_hamming_ops";
+		};
+		this.jdbcTemplate.execute(String.format("""
+				CREATE INDEX IF NOT EXISTS %s ON %s USING %s (%s)
+				""", this.getVectorIndexName(), this.getFullyQualifiedTableName(), this.createIndexMethod,
+				indexedExpression));
 	}
 
 	private String getFullyQualifiedTableName() {
@@ -560,6 +1043,52 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 
 	}
 
+	/**
+	 * The quantized form of the vectors the index is built over. Quantized indexes are
+	 * smaller and faster to scan, at the cost of precision, which is recovered by
+	 * re-scoring an oversampled number of candidates against the full precision vectors.
+	 * Defaults to NONE.
+	 */
+	public enum PgQuantizationType {
+
+		/**
+		 * The index is built over the full precision vectors.
+		 */
+		NONE,
+		/**
+		 * The index is built over the vectors cast to {@code halfvec}, with 2 bytes per
+		 * dimension instead of 4. Vectors of up to 4,000 dimensions can be indexed.
+		 */
+		HALFVEC,
+		/**
+		 * The index is built over the {@code binary_quantize} of the vectors, with 1 bit
+		 * per dimension, and searched by Hamming distance. Best suited to embeddings of
+		 * many dimensions centered on zero, with a larger oversampling.
+		 */
+		BIT
+
+	}
+
+	/**
+	 * How documents are written to the vector table. Defaults to UPSERT.
+	 */
+	public enum PgIngestionMode {
+
+		/**
+		 * Writes the documents with batched {@code INSERT ... ON CONFLICT DO UPDATE}
+		 * statements of at most the max document batch size.
+		 */
+		UPSERT,
+		/**
+		 * Streams the documents with a binary {@code COPY} into a temporary staging
+		 * table, then merges them into the vector table with a single statement. It
+		 * avoids the per-row overhead of the statements when loading large numbers of
+		 * documents.
+		 */
+		COPY
+
+	}
+
 	/**
 	 * Defaults to CosineDistance. But if vectors are normalized to length 1 (like OpenAI
 	 * embeddings), use inner product (NegativeInnerProduct) for best performance.
@@ -635,10 +1164,15 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 		}
 
 		private Map<String, Object> toMap(PGobject pgObject) {
+			return toMap(this.objectMapper, pgObject);
+		}
+
+		@SuppressWarnings("unchecked")
+		static Map<String, Object> toMap(ObjectMapper objectMapper, PGobject pgObject) {
 
 			String source = pgObject.getValue();
 			try {
-				return (Map<String, Object>) this.objectMapper.readValue(source, Map.class);
+				return (Map<String, Object>) objectMapper.readValue(source, Map.class);
 			}
 			catch (JsonProcessingException e) {
 				throw new RuntimeException(e);
@@ -647,6 +1181,63 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 
 	}
 
+	/**
+	 * Maps the rows of a result set as they are iterated, so that the driver only fetches
+	 * the next rows when the previous ones are consumed.
+	 */
+	private static final class ResultSetIterator implements Iterator<Document> {
+
+		private final ResultSet resultSet;
+
+		private final RowMapper<Document> rowMapper;
+
+		private final Function<SQLException, RuntimeException> exceptionTranslator;
+
+		private int rowNum;
+
+		@Nullable
+		private Boolean hasNext;
+
+		ResultSetIterator(ResultSet resultSet, RowMapper<Document> rowMapper,
+				Function<SQLException, RuntimeException> exceptionTranslator) {
+			this.resultSet = resultSet;
+			this.rowMapper = rowMapper;
+			this.exceptionTranslator = exceptionTranslator;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (this.hasNext == null) {
+				try {
+					this.hasNext = this.resultSet.next();
+				}
+				catch (SQLException ex) {
+					throw this.exceptionTranslator.apply(ex);
+				}
+			}
+			return this.hasNext;
+		}
+
+		@Override
+		public Document next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			this.hasNext = null;
+			try {
+				return this.rowMapper.mapRow(this.resultSet, this.rowNum++);
+			}
+			catch (SQLException ex) {
+				throw this.exceptionTranslator.apply(ex);
+			}
+		}
+
+	}
+
+	private record SimilarityQuery(String sql, Object[] args, Map<String, String> settings) {
+
+	}
+
 	public static final class PgVectorStoreBuilder extends AbstractVectorStoreBuilder<PgVectorStoreBuilder> {
 
 		private final JdbcTemplate jdbcTemplate;
@@ -671,6 +1262,18 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 
 		private int maxDocumentBatchSize = MAX_DOCUMENT_BATCH_SIZE;
 
+		private PgIngestionMode ingestionMode = DEFAULT_INGESTION_MODE;
+
+		private boolean deferIndexCreation = false;
+
+		private PgQuantizationType quantizationType = DEFAULT_QUANTIZATION_TYPE;
+
+		private int quantizationOversampling = DEFAULT_QUANTIZATION_OVERSAMPLING;
+
+		private int fetchSize = DEFAULT_FETCH_SIZE;
+
+		private boolean iterativeIndexScan = false;
+
 		private PgVectorStoreBuilder(JdbcTemplate jdbcTemplate, EmbeddingModel embeddingModel) {
 			super(embeddingModel);
 			Assert.notNull(jdbcTemplate, "JdbcTemplate must not be null");
@@ -727,6 +1330,58 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 			return this;
 		}
 
+		public PgVectorStoreBuilder ingestionMode(PgIngestionMode ingestionMode) {
+			Assert.notNull(ingestionMode, "IngestionMode must not be null");
+			this.ingestionMode = ingestionMode;
+			return this;
+		}
+
+		/**
+		 * Whether to skip the creation of the vector index on initialization, so that it
+		 * can be created with {@link PgVectorStore#createVectorIndex()} once a bulk load
+		 * completes.
+		 */
+		public PgVectorStoreBuilder deferIndexCreation(boolean deferIndexCreation) {
+			this.deferIndexCreation = deferIndexCreation;
+			return this;
+		}
+
+		public PgVectorStoreBuilder quantizationType(PgQuantizationType quantizationType) {
+			Assert.notNull(quantizationType, "QuantizationType must not be null");
+			this.quantizationType = quantizationType;
+			return this;
+		}
+
+		/**
+		 * The factor of the top K of a search retrieved through the quantized index
+		 * before re-scoring them against the full precision vectors. Defaults to 4.
+		 */
+		public PgVectorStoreBuilder quantizationOversampling(int quantizationOversampling) {
+			Assert.isTrue(quantizationOversampling > 0, "QuantizationOversampling must be greater than 0");
+			this.quantizationOversampling = quantizationOversampling;
+			return this;
+		}
+
+		/**
+		 * The number of rows {@link PgVectorStore#similaritySearchStream(SearchRequest)}
+		 * reads from the database at a time. Defaults to 1000.
+		 */
+		public PgVectorStoreBuilder fetchSize(int fetchSize) {
+			Assert.isTrue(fetchSize > 0, "FetchSize must be greater than 0");
+			this.fetchSize = fetchSize;
+			return this;
+		}
+
+		/**
+		 * Whether planned searches apply selective filters while scanning the HNSW index,
+		 * with the iterative index scans of pgvector 0.8 and later. Defaults to false.
+		 * @see #filteredSearchPlanner(FilteredSearchPlanner)
+		 */
+		public PgVectorStoreBuilder iterativeIndexScan(boolean iterativeIndexScan) {
+			this.iterativeIndexScan = iterativeIndexScan;
+			return this;
+		}
+
 		public PgVectorStore build() {
 			return new PgVectorStore(this);
 		}
@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import javax.sql.DataSource;
@@ -54,6 +55,8 @@ import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.ai.vectorstore.filter.FilterExpressionTextParser.FilterExpressionParseException;
 import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgIdType;
 import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgIndexType;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgIngestionMode;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgQuantizationType;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringBootConfiguration;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
@@ -183,6 +186,33 @@ public class PgVectorStoreIT extends BaseVectorStoreTests {
 			});
 	}
 
+	@ParameterizedTest(name = "{0} : {displayName} ")
+	@ValueSource(strings = { "HALFVEC", "BIT" })
+	public void addAndSearchWithQuantizedIndex(String quantizationType) {
+		this.contextRunner
+			.withPropertyValues("test.spring.ai.vectorstore.pgvector.quantizationType=" + quantizationType)
+			.run(context -> {
+
+				VectorStore vectorStore = context.getBean(VectorStore.class);
+
+				vectorStore.add(this.documents);
+
+				List<Document> results = vectorStore.similaritySearch(SearchRequest.builder()
+					.query("What is Great Depression")
+					.topK(1)
+					.hint(PgVectorStore.HNSW_EF_SEARCH_HINT, 100)
+					.hint(PgVectorStore.QUANTIZATION_OVERSAMPLING_HINT, 3)
+					.build());
+
+				assertThat(results).hasSize(1);
+				Document resultDoc = results.get(0);
+				assertThat(resultDoc.getId()).isEqualTo(this.documents.get(2).getId());
+				assertThat(resultDoc.getMetadata()).containsKeys("meta2", DocumentMetadata.DISTANCE.value());
+
+				dropTable(context);
+			});
+	}
+
 	@Test
 	public void testToPgTypeWithUuidIdType() {
 		this.contextRunner.withPropertyValues("test.spring.ai.vectorstore.pgvector.distanceType=" + "COSINE_DISTANCE")
@@ -396,6 +426,40 @@ public class PgVectorStoreIT extends BaseVectorStoreTests {
 			});
 	}
 
+	@ParameterizedTest(name = "{0} : {displayName} ")
+	@ValueSource(strings = { "UUID", "TEXT", "BIGSERIAL" })
+	public void copyIngestionWithDeferredIndex(String idType) {
+		this.contextRunner
+			.withPropertyValues("test.spring.ai.vectorstore.pgvector.ingestionMode=COPY",
+					"test.spring.ai.vectorstore.pgvector.deferIndexCreation=true",
+					"test.spring.ai.vectorstore.pgvector.idType=" + idType)
+			.run(context -> {
+
+				PgVectorStore vectorStore = context.getBean(PgVectorStore.class);
+				JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+				String indexQuery = "SELECT count(*) FROM pg_indexes WHERE indexname = 'spring_ai_vector_index'";
+
+				Function<String, String> id = key -> "UUID".equals(idType)
+						? UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString() : key;
+				vectorStore.add(List.of(new Document(id.apply("1"), "Spring AI rocks!!", Map.of("meta1", "meta1")),
+						new Document(id.apply("2"), "The World is Big and Salvation Lurks Around the Corner", Map.of()),
+						new Document(id.apply("1"), "Spring AI rocks even more!!", Map.of("meta2", "meta2"))));
+				assertThat(jdbcTemplate.queryForObject(indexQuery, Integer.class)).isZero();
+
+				vectorStore.createVectorIndex();
+				assertThat(jdbcTemplate.queryForObject(indexQuery, Integer.class)).isEqualTo(1);
+
+				List<Document> results = vectorStore
+					.similaritySearch(SearchRequest.builder().query("Spring").topK(5).build());
+
+				assertThat(results).hasSize(2);
+				assertThat(results.get(0).getText()).isEqualTo("Spring AI rocks even more!!");
+				assertThat(results.get(0).getMetadata()).containsKey("meta2").doesNotContainKey("meta1");
+
+				dropTable(context);
+			});
+	}
+
 	@ParameterizedTest(name = "{0} : {displayName} ")
 	@ValueSource(strings = { "COSINE_DISTANCE", "EUCLIDEAN_DISTANCE", "NEGATIVE_INNER_PRODUCT" })
 	public void documentUpdate(String distanceType) {
@@ -499,6 +563,15 @@ public class PgVectorStoreIT extends BaseVectorStoreTests {
 		@Value("${test.spring.ai.vectorstore.pgvector.idType:UUID}")
 		PgIdType idType;
 
+		@Value("${test.spring.ai.vectorstore.pgvector.ingestionMode:UPSERT}")
+		PgIngestionMode ingestionMode;
+
+		@Value("${test.spring.ai.vectorstore.pgvector.deferIndexCreation:false}")
+		boolean deferIndexCreation;
+
+		@Value("${test.spring.ai.vectorstore.pgvector.quantizationType:NONE}")
+		PgQuantizationType quantizationType;
+
 		@Bean
 		public VectorStore vectorStore(JdbcTemplate jdbcTemplate, EmbeddingModel embeddingModel) {
 			return PgVectorStore.builder(jdbcTemplate, embeddingModel)
@@ -508,6 +581,9 @@ public class PgVectorStoreIT extends BaseVectorStoreTests {
 				.initializeSchema(this.initializeSchema)
 				.indexType(PgIndexType.HNSW)
 				.removeExistingVectorStoreTable(true)
+				.ingestionMode(this.ingestionMode)
+				.deferIndexCreation(this.deferIndexCreation)
+				.quantizationType(this.quantizationType)
 				.build();
 		}
 
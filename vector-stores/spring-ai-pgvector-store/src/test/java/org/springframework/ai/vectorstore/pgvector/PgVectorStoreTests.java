@@ -16,24 +16,58 @@
 
 package org.springframework.ai.vectorstore.pgvector;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import javax.sql.DataSource;
+
+import com.pgvector.PGvector;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.postgresql.util.PGobject;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgIngestionMode;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgQuantizationType;
+import org.springframework.ai.vectorstore.planner.FilteredSearchPlanner;
+import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.only;
+import static org.mockito.Mockito.startsWith;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -83,6 +117,8 @@ public class PgVectorStoreTests {
 
 		// Testing with 9989 documents
 		var documents = Collections.nCopies(9989, new Document("foo"));
+		given(embeddingModel.embed(eq(documents), any(), any()))
+			.willReturn(Collections.nCopies(9989, new float[] { 1 }));
 
 		// When
 		pgVectorStore.doAdd(documents);
@@ -104,4 +140,372 @@ public class PgVectorStoreTests {
 			});
 	}
 
+	@Test
+	void shouldPairEachDocumentWithTheEmbeddingAtTheSameIndex() throws SQLException {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		var embeddingModel = mock(EmbeddingModel.class);
+		var documents = List.of(new Document("foo"), new Document("foo"), new Document("bar"));
+		var embeddings = List.of(new float[] { 1 }, new float[] { 2 }, new float[] { 3 });
+		given(embeddingModel.embed(eq(documents), any(), any())).willReturn(embeddings);
+		var pgVectorStore = PgVectorStore.builder(jdbcTemplate, embeddingModel).maxDocumentBatchSize(2).build();
+
+		pgVectorStore.doAdd(documents);
+
+		var batchUpdateCaptor = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+		verify(jdbcTemplate, times(2)).batchUpdate(anyString(), batchUpdateCaptor.capture());
+		var ps = mock(PreparedStatement.class);
+		for (BatchPreparedStatementSetter batch : batchUpdateCaptor.getAllValues()) {
+			for (int i = 0; i < batch.getBatchSize(); i++) {
+				batch.setValues(ps, i);
+			}
+		}
+		var vectorCaptor = ArgumentCaptor.forClass(Object.class);
+		verify(ps, times(3)).setObject(eq(4), vectorCaptor.capture());
+		assertThat(vectorCaptor.getAllValues()).extracting(vector -> ((PGvector) vector).toArray()[0])
+			.containsExactly(1f, 2f, 3f);
+	}
+
+	@Test
+	void shouldCopyAndMergeDocumentsInCopyMode() {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		var embeddingModel = mock(EmbeddingModel.class);
+		var pgVectorStore = PgVectorStore.builder(jdbcTemplate, embeddingModel)
+			.ingestionMode(PgIngestionMode.COPY)
+			.build();
+
+		var documents = List.of(new Document("foo"), new Document("bar"));
+		given(embeddingModel.embed(eq(documents), any(), any()))
+			.willReturn(List.of(new float[] { 1 }, new float[] { 2 }));
+
+		pgVectorStore.doAdd(documents);
+
+		verify(jdbcTemplate).execute(any(ConnectionCallback.class));
+		verify(jdbcTemplate, never()).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+	}
+
+	@Test
+	void shouldCreateTheVectorIndexOnlyWhenRequestedIfDeferred() {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		var pgVectorStore = PgVectorStore.builder(jdbcTemplate, mock(EmbeddingModel.class))
+			.dimensions(3)
+			.initializeSchema(true)
+			.deferIndexCreation(true)
+			.build();
+
+		pgVectorStore.afterPropertiesSet();
+		verify(jdbcTemplate, never()).execute(contains("CREATE INDEX"));
+
+		pgVectorStore.createVectorIndex();
+		verify(jdbcTemplate).execute(contains("CREATE INDEX IF NOT EXISTS spring_ai_vector_index"));
+	}
+
+	@Test
+	void shouldStreamTheRowsThroughACursorInATransaction() throws SQLException {
+		var connection = mock(Connection.class);
+		var statement = mock(PreparedStatement.class);
+		var resultSet = mock(ResultSet.class);
+		var pgVectorStore = streamingStore(connection, statement, resultSet);
+		given(resultSet.next()).willReturn(true, true, false);
+		given(resultSet.getString("id")).willReturn("1", "2");
+
+		try (Stream<Document> documents = pgVectorStore
+			.similaritySearchStream(SearchRequest.builder().query("foo").topK(2).build())) {
+			assertThat(documents).extracting(Document::getId).containsExactly("1", "2");
+		}
+
+		var inOrder = inOrder(connection, statement, resultSet);
+		inOrder.verify(connection).setAutoCommit(false);
+		inOrder.verify(statement).setFetchSize(25);
+		inOrder.verify(statement).executeQuery();
+		inOrder.verify(resultSet).close();
+		inOrder.verify(statement).close();
+		inOrder.verify(connection).rollback();
+		inOrder.verify(connection).setAutoCommit(true);
+		inOrder.verify(connection).close();
+		verify(connection, never()).commit();
+	}
+
+	@Test
+	void shouldReleaseTheCursorWhenTheStreamIsClosedEarly() throws SQLException {
+		var connection = mock(Connection.class);
+		var statement = mock(PreparedStatement.class);
+		var resultSet = mock(ResultSet.class);
+		var pgVectorStore = streamingStore(connection, statement, resultSet);
+		given(resultSet.next()).willReturn(true);
+		given(resultSet.getString("id")).willReturn("1");
+
+		Stream<Document> documents = pgVectorStore
+			.similaritySearchStream(SearchRequest.builder().query("foo").topK(100).build());
+		assertThat(documents.iterator().next().getId()).isEqualTo("1");
+		documents.close();
+
+		verify(resultSet, times(1)).next();
+		verify(resultSet).close();
+		verify(statement).close();
+		verify(connection).rollback();
+		verify(connection).setAutoCommit(true);
+		verify(connection).close();
+	}
+
+	@Test
+	void shouldReleaseTheConnectionWhenTheCursorCannotBeOpened() throws SQLException {
+		var connection = mock(Connection.class);
+		var statement = mock(PreparedStatement.class);
+		var pgVectorStore = streamingStore(connection, statement, mock(ResultSet.class));
+		given(statement.executeQuery()).willThrow(new SQLException("cursor"));
+
+		assertThatExceptionOfType(DataAccessException.class)
+			.isThrownBy(() -> pgVectorStore.similaritySearchStream(SearchRequest.builder().query("foo").build()));
+
+		verify(statement).close();
+		verify(connection).rollback();
+		verify(connection).setAutoCommit(true);
+		verify(connection).close();
+	}
+
+	@Test
+	void shouldRollBackTheIndexOptionsOfAStreamJoiningATransaction() throws SQLException {
+		var connection = mock(Connection.class);
+		var statement = mock(PreparedStatement.class);
+		var resultSet = mock(ResultSet.class);
+		var savepoint = mock(Savepoint.class);
+		var pgVectorStore = streamingStore(connection, statement, resultSet);
+		given(connection.getAutoCommit()).willReturn(false);
+		given(connection.setSavepoint()).willReturn(savepoint);
+
+		try (Stream<Document> documents = pgVectorStore.similaritySearchStream(
+				SearchRequest.builder().query("foo").hint(PgVectorStore.HNSW_EF_SEARCH_HINT, 100).build())) {
+			assertThat(documents).isEmpty();
+		}
+
+		var inOrder = inOrder(connection, statement);
+		inOrder.verify(connection).setSavepoint();
+		inOrder.verify(statement).setString(1, PgVectorStore.HNSW_EF_SEARCH_HINT);
+		inOrder.verify(statement).executeQuery();
+		inOrder.verify(connection).rollback(savepoint);
+		inOrder.verify(connection).releaseSavepoint(savepoint);
+		verify(connection, never()).rollback();
+		verify(connection, never()).setAutoCommit(anyBoolean());
+	}
+
+	@Test
+	void shouldRollBackTheIndexOptionsOfASearchJoiningATransaction() throws SQLException {
+		var connection = mock(Connection.class);
+		var statement = mock(PreparedStatement.class);
+		var resultSet = mock(ResultSet.class);
+		var savepoint = mock(Savepoint.class);
+		var pgVectorStore = streamingStore(connection, statement, resultSet);
+		given(connection.getAutoCommit()).willReturn(false);
+		given(connection.setSavepoint()).willReturn(savepoint);
+
+		var documents = pgVectorStore.similaritySearch(
+				SearchRequest.builder().query("foo").hint(PgVectorStore.HNSW_EF_SEARCH_HINT, 100).build());
+
+		assertThat(documents).isEmpty();
+		var inOrder = inOrder(connection, statement);
+		inOrder.verify(connection).setSavepoint();
+		inOrder.verify(statement).setString(1, PgVectorStore.HNSW_EF_SEARCH_HINT);
+		inOrder.verify(statement).executeQuery();
+		inOrder.verify(connection).rollback(savepoint);
+		inOrder.verify(connection).releaseSavepoint(savepoint);
+		verify(connection, never()).commit();
+		verify(connection, never()).rollback();
+	}
+
+	@Test
+	void shouldWriteRowsInTheBinaryCopyFormat() throws IOException {
+		var out = new ByteArrayOutputStream();
+		var writer = new PgBinaryCopyWriter(out);
+
+		writer.writeHeader();
+		writer.writeRow(7, "id", null, "{}", new float[] { 1.5f, -2f });
+		writer.writeTrailer();
+
+		var in = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+		assertThat(new String(in.readNBytes(11), StandardCharsets.ISO_8859_1)).isEqualTo("PGCOPY\n\u00ff\r\n\0");
+		assertThat(in.readInt()).isZero();
+		assertThat(in.readInt()).isZero();
+		assertThat(in.readShort()).isEqualTo((short) PgBinaryCopyWriter.COLUMNS);
+		assertThat(in.readInt()).isEqualTo(8);
+		assertThat(in.readLong()).isEqualTo(7);
+		assertThat(in.readInt()).isEqualTo(2);
+		assertThat(new String(in.readNBytes(2), StandardCharsets.UTF_8)).isEqualTo("id");
+		assertThat(in.readInt()).isEqualTo(-1);
+		assertThat(in.readInt()).isEqualTo(2);
+		assertThat(new String(in.readNBytes(2), StandardCharsets.UTF_8)).isEqualTo("{}");
+		assertThat(in.readInt()).isEqualTo(12);
+		assertThat(in.readShort()).isEqualTo((short) 2);
+		assertThat(in.readShort()).isZero();
+		assertThat(in.readFloat()).isEqualTo(1.5f);
+		assertThat(in.readFloat()).isEqualTo(-2f);
+		assertThat(in.readShort()).isEqualTo((short) -1);
+		assertThat(in.available()).isZero();
+	}
+
+	@Test
+	void shouldCreateTheVectorIndexOverTheQuantizedVectors() {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		var embeddingModel = mock(EmbeddingModel.class);
+
+		PgVectorStore.builder(jdbcTemplate, embeddingModel)
+			.dimensions(3)
+			.quantizationType(PgQuantizationType.HALFVEC)
+			.build()
+			.createVectorIndex();
+		PgVectorStore.builder(jdbcTemplate, embeddingModel)
+			.dimensions(3)
+			.quantizationType(PgQuantizationType.BIT)
+			.build()
+			.createVectorIndex();
+
+		verify(jdbcTemplate).execute(contains("USING HNSW (((embedding)::halfvec(3)) halfvec_cosine_ops)"));
+		verify(jdbcTemplate).execute(contains("USING HNSW ((binary_quantize(embedding)::bit(3)) bit_hamming_ops)"));
+	}
+
+	@Test
+	void shouldRescoreOversampledQuantizedCandidates() {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		var embeddingModel = mock(EmbeddingModel.class);
+		given(embeddingModel.embed(anyString())).willReturn(new float[] { 1, 2, 3 });
+		var pgVectorStore = PgVectorStore.builder(jdbcTemplate, embeddingModel)
+			.dimensions(3)
+			.quantizationType(PgQuantizationType.BIT)
+			.quantizationOversampling(3)
+			.build();
+
+		pgVectorStore.doSimilaritySearch(SearchRequest.builder().query("query").topK(5).build());
+
+		var sqlCaptor = ArgumentCaptor.forClass(String.class);
+		var argsCaptor = ArgumentCaptor.forClass(Object[].class);
+		verify(jdbcTemplate).query(sqlCaptor.capture(), any(RowMapper.class), argsCaptor.capture());
+		assertThat(sqlCaptor.getValue())
+			.contains("ORDER BY binary_quantize(embedding)::bit(3) <~> binary_quantize(?::vector)::bit(3) LIMIT ?")
+			.contains("candidates WHERE embedding <=> ? < ? ORDER BY distance LIMIT ?");
+		Object[] args = argsCaptor.getValue();
+		assertThat(args).hasSize(6);
+		assertThat(args[2]).as("candidates").isEqualTo(15);
+		assertThat(args[5]).as("top K").isEqualTo(5);
+	}
+
+	@Test
+	void shouldApplyTheIndexHintsInTheTransactionOfTheSearch() throws SQLException {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		var embeddingModel = mock(EmbeddingModel.class);
+		given(embeddingModel.embed(anyString())).willReturn(new float[] { 1, 2, 3 });
+		var pgVectorStore = PgVectorStore.builder(jdbcTemplate, embeddingModel).dimensions(3).build();
+
+		pgVectorStore.doSimilaritySearch(SearchRequest.builder()
+			.query("query")
+			.hint(PgVectorStore.HNSW_EF_SEARCH_HINT, 100)
+			.hint(PgVectorStore.IVFFLAT_PROBES_HINT, "10")
+			.build());
+
+		var callbackCaptor = ArgumentCaptor.forClass(ConnectionCallback.class);
+		verify(jdbcTemplate).execute(callbackCaptor.capture());
+		var connection = mock(Connection.class);
+		var setConfig = mock(PreparedStatement.class);
+		var search = mock(PreparedStatement.class);
+		given(connection.getAutoCommit()).willReturn(true);
+		given(connection.prepareStatement(startsWith("SELECT set_config"))).willReturn(setConfig);
+		given(connection.prepareStatement(argThat(sql -> sql.contains("ORDER BY distance")))).willReturn(search);
+		given(search.executeQuery()).willReturn(mock(ResultSet.class));
+
+		assertThat((List<?>) callbackCaptor.getValue().doInConnection(connection)).isEmpty();
+
+		verify(setConfig).setString(1, "hnsw.ef_search");
+		verify(setConfig).setString(2, "100");
+		verify(setConfig).setString(1, "ivfflat.probes");
+		verify(setConfig).setString(2, "10");
+		verify(setConfig, times(2)).execute();
+		verify(connection).setAutoCommit(false);
+		verify(connection).commit();
+		verify(connection).setAutoCommit(true);
+	}
+
+	@Test
+	void shouldSearchTheFewMatchingRowsWithoutTheIndex() throws SQLException {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		var embeddingModel = mock(EmbeddingModel.class);
+		given(embeddingModel.embed(anyString())).willReturn(new float[] { 1, 2, 3 });
+		given(jdbcTemplate.queryForObject(startsWith("SELECT COALESCE"), eq(Long.class), eq("public.vector_store")))
+			.willReturn(-1L);
+		given(jdbcTemplate.queryForObject("SELECT count(*) FROM public.vector_store", Long.class)).willReturn(2L);
+		given(jdbcTemplate.query(startsWith("SELECT metadata FROM public.vector_store LIMIT"),
+				ArgumentMatchers.<RowMapper<Map<String, Object>>>any(), eq(FilteredSearchPlanner.DEFAULT_SAMPLE_SIZE)))
+			.willReturn(List.of(Map.of("country", "NL"), Map.of("country", "UK")));
+		var pgVectorStore = PgVectorStore.builder(jdbcTemplate, embeddingModel)
+			.dimensions(3)
+			.filteredSearchPlanner(FilteredSearchPlanner.builder().build())
+			.build();
+
+		pgVectorStore
+			.doSimilaritySearch(SearchRequest.builder().query("query").filterExpression("country == 'NL'").build());
+
+		var callbackCaptor = ArgumentCaptor.forClass(ConnectionCallback.class);
+		verify(jdbcTemplate).execute(callbackCaptor.capture());
+		var connection = mock(Connection.class);
+		var setConfig = mock(PreparedStatement.class);
+		var search = mock(PreparedStatement.class);
+		given(connection.prepareStatement(startsWith("SELECT set_config"))).willReturn(setConfig);
+		given(connection.prepareStatement(argThat(sql -> sql.contains("ORDER BY distance")))).willReturn(search);
+		given(search.executeQuery()).willReturn(mock(ResultSet.class));
+		callbackCaptor.getValue().doInConnection(connection);
+
+		verify(setConfig).setString(1, "enable_indexscan");
+		verify(setConfig).setString(2, "off");
+		verify(setConfig, times(1)).execute();
+	}
+
+	@Test
+	void shouldRaiseTheCandidatesOfPostFilteredSearchesUntilEnoughRowsMatch() {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		var embeddingModel = mock(EmbeddingModel.class);
+		given(embeddingModel.embed(anyString())).willReturn(new float[] { 1, 2, 3 });
+		given(jdbcTemplate.queryForObject(startsWith("SELECT COALESCE"), eq(Long.class), eq("public.vector_store")))
+			.willReturn(1_000_000L);
+		// 1 row in 10 is in NL
+		given(jdbcTemplate.query(contains("TABLESAMPLE BERNOULLI"),
+				ArgumentMatchers.<RowMapper<Map<String, Object>>>any(), eq(0.2),
+				eq(FilteredSearchPlanner.DEFAULT_SAMPLE_SIZE)))
+			.willReturn(IntStream.range(0, 1000)
+				.<Map<String, Object>>mapToObj(i -> Map.of("country", (i % 10 == 0) ? "NL" : "UK"))
+				.toList());
+		given(jdbcTemplate.execute(any(ConnectionCallback.class))).willReturn(List.of(new Document("foo")));
+		var pgVectorStore = PgVectorStore.builder(jdbcTemplate, embeddingModel)
+			.dimensions(3)
+			.filteredSearchPlanner(FilteredSearchPlanner.builder().build())
+			.build();
+
+		var documents = pgVectorStore.doSimilaritySearch(
+				SearchRequest.builder().query("query").topK(4).filterExpression("country == 'NL'").build());
+
+		assertThat(documents).hasSize(1);
+		// 40 candidates, the default hnsw.ef_search, matching no row, then 80 matching 1
+		// row, then 160 matching no more rows
+		verify(jdbcTemplate).query(contains("ORDER BY distance"), any(RowMapper.class), any(), any(), any(), eq(4));
+		verify(jdbcTemplate, times(2)).execute(any(ConnectionCallback.class));
+	}
+
+	private static PgVectorStore streamingStore(Connection connection, PreparedStatement statement, ResultSet resultSet)
+			throws SQLException {
+		var dataSource = mock(DataSource.class);
+		var jdbcTemplate = new JdbcTemplate(dataSource);
+		var embeddingModel = mock(EmbeddingModel.class);
+		given(embeddingModel.embed(anyString())).willReturn(new float[] { 1, 2, 3 });
+		given(dataSource.getConnection()).willReturn(connection);
+		given(connection.getAutoCommit()).willReturn(true);
+		given(connection.prepareStatement(anyString())).willReturn(statement);
+		given(statement.executeQuery()).willReturn(resultSet);
+		given(resultSet.getString("content")).willReturn("foo");
+		given(resultSet.getObject("metadata", PGobject.class)).willReturn(jsonb("{}"));
+		return PgVectorStore.builder(jdbcTemplate, embeddingModel).dimensions(3).fetchSize(25).build();
+	}
+
+	private static PGobject jsonb(String value) throws SQLException {
+		var pgObject = new PGobject();
+		pgObject.setType("jsonb");
+		pgObject.setValue(value);
+		return pgObject;
+	}
+
 }
@@ -37,10 +37,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
 import org.springframework.ai.embedding.EmbeddingModel;
-import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.model.EmbeddingUtils;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
 import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
+import org.springframework.ai.vectorstore.EmbeddedDocumentBatch;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.filter.Filter;
 import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
@@ -137,24 +137,26 @@ public class PineconeVectorStore extends AbstractObservationVectorStore {
 	 * @param namespace The namespace to add the documents to
 	 */
 	public void add(List<Document> documents, String namespace) {
-		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
-				this.batchingStrategy);
-		List<VectorWithUnsignedIndices> upsertVectors = new ArrayList<>();
-		for (Document document : documents) {
+		add(EmbeddedDocumentBatch.embed(documents, this.embeddingModel, this.batchingStrategy), namespace);
+	}
+
+	private void add(EmbeddedDocumentBatch batch, String namespace) {
+		List<VectorWithUnsignedIndices> upsertVectors = new ArrayList<>(batch.size());
+		for (var embeddedDocument : batch) {
+			Document document = embeddedDocument.document();
 			upsertVectors.add(io.pinecone.commons.IndexInterface.buildUpsertVectorWithUnsignedIndices(document.getId(),
-					EmbeddingUtils.toList(embeddings.get(documents.indexOf(document))), null, null,
-					metadataToStruct(document)));
+					EmbeddingUtils.toList(embeddedDocument.embedding()), null, null, metadataToStruct(document)));
 		}
 		this.pinecone.getIndexConnection(this.pineconeIndexName).upsert(upsertVectors, namespace);
 	}
 
 	/**
-	 * Adds a list of documents to the vector store.
-	 * @param documents The list of documents to be added.
+	 * Adds a batch of embedded documents to the configured namespace.
+	 * @param batch The documents to be added and their embeddings.
 	 */
 	@Override
-	public void doAdd(List<Document> documents) {
-		add(documents, this.pineconeNamespace);
+	protected void doAdd(EmbeddedDocumentBatch batch) {
+		add(batch, this.pineconeNamespace);
 	}
 
 	/**
@@ -208,7 +210,7 @@ public class PineconeVectorStore extends AbstractObservationVectorStore {
 		String nativeExpressionFilters = (request.getFilterExpression() != null)
 				? this.filterExpressionConverter.convertExpression(request.getFilterExpression()) : "";
 
-		float[] queryEmbedding = this.embeddingModel.embed(request.getQuery());
+		float[] queryEmbedding = getQueryEmbedding(request);
 
 		var queryRequestBuilder = QueryRequest.newBuilder()
 			.addAllVector(EmbeddingUtils.toList(queryEmbedding))
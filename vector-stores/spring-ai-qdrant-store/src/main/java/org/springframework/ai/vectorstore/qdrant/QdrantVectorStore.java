@@ -16,36 +16,64 @@
 
 package org.springframework.ai.vectorstore.qdrant;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.qdrant.client.ConditionFactory;
 import io.qdrant.client.QdrantClient;
+import io.qdrant.client.ShardKeySelectorFactory;
+import io.qdrant.client.grpc.Collections.CreateCollection;
+import io.qdrant.client.grpc.Collections.CreateShardKey;
+import io.qdrant.client.grpc.Collections.CreateShardKeyRequest;
 import io.qdrant.client.grpc.Collections.Distance;
+import io.qdrant.client.grpc.Collections.HnswConfigDiff;
+import io.qdrant.client.grpc.Collections.KeywordIndexParams;
+import io.qdrant.client.grpc.Collections.PayloadIndexParams;
+import io.qdrant.client.grpc.Collections.PayloadSchemaType;
+import io.qdrant.client.grpc.Collections.ShardKey;
+import io.qdrant.client.grpc.Collections.ShardingMethod;
 import io.qdrant.client.grpc.Collections.VectorParams;
+import io.qdrant.client.grpc.Collections.VectorsConfig;
 import io.qdrant.client.grpc.JsonWithInt.Value;
 import io.qdrant.client.grpc.Points.Filter;
 import io.qdrant.client.grpc.Points.PointId;
 import io.qdrant.client.grpc.Points.PointStruct;
 import io.qdrant.client.grpc.Points.ScoredPoint;
 import io.qdrant.client.grpc.Points.SearchPoints;
+import io.qdrant.client.grpc.Points.UpsertPoints;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
 import org.springframework.ai.embedding.EmbeddingModel;
-import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.model.EmbeddingUtils;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
 import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
+import org.springframework.ai.vectorstore.EmbeddedDocumentBatch;
+import org.springframework.ai.vectorstore.EmbeddedDocumentBatch.EmbeddedDocument;
+import org.springframework.ai.vectorstore.MetadataIndex;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.observation.AbstractObservationVectorStore;
 import org.springframework.ai.vectorstore.observation.VectorStoreObservationContext;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 /**
  * Qdrant vectorStore implementation. This store supports creating, updating, deleting,
@@ -139,6 +167,10 @@ public class QdrantVectorStore extends AbstractObservationVectorStore implements
 
 	private final boolean initializeSchema;
 
+	private final QdrantTenantRouting tenantRouting;
+
+	private final Set<String> createdShardKeys = ConcurrentHashMap.newKeySet();
+
 	/**
 	 * Protected constructor for creating a QdrantVectorStore instance using the builder
 	 * pattern.
@@ -155,6 +187,7 @@ public class QdrantVectorStore extends AbstractObservationVectorStore implements
 		this.qdrantClient = builder.qdrantClient;
 		this.collectionName = builder.collectionName;
 		this.initializeSchema = builder.initializeSchema;
+		this.tenantRouting = builder.tenantRouting;
 	}
 
 	/**
@@ -172,28 +205,89 @@ public class QdrantVectorStore extends AbstractObservationVectorStore implements
 	 * @param documents The list of documents to be added.
 	 */
 	@Override
-	public void doAdd(List<Document> documents) {
+	protected void doAdd(EmbeddedDocumentBatch batch) {
 		try {
-
-			// Compute and assign an embedding to the document.
-			List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
-					this.batchingStrategy);
-
-			List<PointStruct> points = documents.stream()
-				.map(document -> PointStruct.newBuilder()
-					.setId(io.qdrant.client.PointIdFactory.id(UUID.fromString(document.getId())))
-					.setVectors(io.qdrant.client.VectorsFactory.vectors(embeddings.get(documents.indexOf(document))))
-					.putAllPayload(toPayload(document))
-					.build())
-				.toList();
-
-			this.qdrantClient.upsertAsync(this.collectionName, points).get();
+			for (UpsertPoints upsert : toUpserts(batch)) {
+				if (upsert.hasShardKeySelector()) {
+					createShardKey(upsert.getShardKeySelector().getShardKeys(0)).get();
+				}
+				this.qdrantClient.upsertAsync(upsert).get();
+			}
 		}
 		catch (InterruptedException | ExecutionException | IllegalArgumentException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+	@Override
+	protected Mono<Void> doReactiveAdd(List<Document> documents) {
+		return embedReactive(documents).flatMapIterable(this::toUpserts)
+			.concatMap(upsert -> (upsert.hasShardKeySelector()
+					? toMono(createShardKey(upsert.getShardKeySelector().getShardKeys(0))) : Mono.empty())
+				.then(Mono.defer(() -> toMono(this.qdrantClient.upsertAsync(upsert)))))
+			.then();
+	}
+
+	/**
+	 * Returns the upserts of the points of the documents: a single one, or one per tenant
+	 * with {@link QdrantTenantRouting#SHARD_KEY}.
+	 */
+	private List<UpsertPoints> toUpserts(EmbeddedDocumentBatch batch) {
+		Map<String, List<PointStruct>> pointsByShardKey = new LinkedHashMap<>();
+		for (EmbeddedDocument embeddedDocument : batch) {
+			Document document = embeddedDocument.document();
+			String tenantId = (this.tenantRouting != QdrantTenantRouting.NONE) ? getTenantId(document) : null;
+			PointStruct point = PointStruct.newBuilder()
+				.setId(io.qdrant.client.PointIdFactory.id(UUID.fromString(document.getId())))
+				.setVectors(io.qdrant.client.VectorsFactory.vectors(embeddedDocument.embedding()))
+				.putAllPayload(toPayload(document))
+				.build();
+			String shardKey = (this.tenantRouting == QdrantTenantRouting.SHARD_KEY) ? tenantId : "";
+			pointsByShardKey.computeIfAbsent(shardKey, key -> new ArrayList<>()).add(point);
+		}
+		return pointsByShardKey.entrySet().stream().map(points -> {
+			UpsertPoints.Builder upsert = UpsertPoints.newBuilder()
+				.setCollectionName(this.collectionName)
+				.setWait(true)
+				.addAllPoints(points.getValue());
+			if (this.tenantRouting == QdrantTenantRouting.SHARD_KEY) {
+				upsert.setShardKeySelector(ShardKeySelectorFactory.shardKeySelector(points.getKey()));
+			}
+			return upsert.build();
+		}).toList();
+	}
+
+	private String getTenantId(Document document) {
+		Object tenantId = document.getMetadata().get(DocumentMetadata.TENANT_ID.value());
+		Assert.isTrue(tenantId instanceof String && StringUtils.hasText((String) tenantId),
+				() -> "Document " + document.getId() + " has no " + DocumentMetadata.TENANT_ID + " metadata");
+		return (String) tenantId;
+	}
+
+	/**
+	 * Creates the shard key of a tenant the first time documents of the tenant are added.
+	 */
+	private ListenableFuture<?> createShardKey(ShardKey shardKey) {
+		String tenantId = shardKey.getKeyword();
+		if (this.createdShardKeys.contains(tenantId)) {
+			return Futures.immediateVoidFuture();
+		}
+		var request = CreateShardKeyRequest.newBuilder()
+			.setCollectionName(this.collectionName)
+			.setRequest(CreateShardKey.newBuilder().setShardKey(shardKey))
+			.build();
+		ListenableFuture<?> created = Futures.catching(this.qdrantClient.createShardKeyAsync(request),
+				RuntimeException.class, ex -> {
+					// the shard key was created by another instance or before a restart
+					if (ex.getMessage() == null || !ex.getMessage().contains("already exists")) {
+						throw ex;
+					}
+					return null;
+				}, MoreExecutors.directExecutor());
+		return Futures.transform(created, result -> this.createdShardKeys.add(tenantId),
+				MoreExecutors.directExecutor());
+	}
+
 	/**
 	 * Deletes a list of documents by their IDs.
 	 * @param documentIds The list of document IDs to be deleted.
@@ -201,16 +295,23 @@ public class QdrantVectorStore extends AbstractObservationVectorStore implements
 	@Override
 	public void doDelete(List<String> documentIds) {
 		try {
-			List<PointId> ids = documentIds.stream()
-				.map(id -> io.qdrant.client.PointIdFactory.id(UUID.fromString(id)))
-				.toList();
-			this.qdrantClient.deleteAsync(this.collectionName, ids).get();
+			this.qdrantClient.deleteAsync(this.collectionName, toPointIds(documentIds)).get();
 		}
 		catch (Exception e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+	@Override
+	protected Mono<Void> doReactiveDelete(List<String> documentIds) {
+		return Mono.defer(() -> toMono(this.qdrantClient.deleteAsync(this.collectionName, toPointIds(documentIds))))
+			.then();
+	}
+
+	private static List<PointId> toPointIds(List<String> documentIds) {
+		return documentIds.stream().map(id -> io.qdrant.client.PointIdFactory.id(UUID.fromString(id))).toList();
+	}
+
 	@Override
 	protected void doDelete(org.springframework.ai.vectorstore.filter.Filter.Expression filterExpression) {
 		Assert.notNull(filterExpression, "Filter expression must not be null");
@@ -243,31 +344,115 @@ public class QdrantVectorStore extends AbstractObservationVectorStore implements
 	@Override
 	public List<Document> doSimilaritySearch(SearchRequest request) {
 		try {
-			Filter filter = (request.getFilterExpression() != null)
-					? this.filterExpressionConverter.convertExpression(request.getFilterExpression())
-					: Filter.getDefaultInstance();
+			var queryResponse = this.qdrantClient.searchAsync(toSearchPoints(request, getQueryEmbedding(request)))
+				.get();
 
-			float[] queryEmbedding = this.embeddingModel.embed(request.getQuery());
+			return queryResponse.stream().map(this::toDocument).toList();
 
-			var searchPoints = SearchPoints.newBuilder()
-				.setCollectionName(this.collectionName)
-				.setLimit(request.getTopK())
-				.setWithPayload(io.qdrant.client.WithPayloadSelectorFactory.enable(true))
-				.addAllVector(EmbeddingUtils.toList(queryEmbedding))
-				.setFilter(filter)
-				.setScoreThreshold((float) request.getSimilarityThreshold())
-				.build();
+		}
+		catch (InterruptedException | ExecutionException | IllegalArgumentException e) {
+			throw new RuntimeException(e);
+		}
+	}
 
-			var queryResponse = this.qdrantClient.searchAsync(searchPoints).get();
+	@Override
+	protected Mono<List<Document>> doReactiveSimilaritySearch(SearchRequest request) {
+		return getReactiveQueryEmbedding(request)
+			.flatMap(queryEmbedding -> toMono(this.qdrantClient.searchAsync(toSearchPoints(request, queryEmbedding))))
+			.map(points -> points.stream().map(this::toDocument).toList());
+	}
 
-			return queryResponse.stream().map(this::toDocument).toList();
+	/**
+	 * Runs all the searches in a single {@code SearchBatchPoints} request.
+	 * @param requests The search requests.
+	 * @param queryEmbeddings The embedding to search with for each request.
+	 * @return The documents similar to each query, in the order of the requests.
+	 */
+	@Override
+	protected List<List<Document>> doBatchSimilaritySearch(List<SearchRequest> requests,
+			List<float[]> queryEmbeddings) {
+		try {
+			List<SearchPoints> searches = new ArrayList<>(requests.size());
+			for (int i = 0; i < requests.size(); i++) {
+				SearchRequest request = requests.get(i);
+				searches.add(toSearchPoints(request,
+						Objects.requireNonNullElseGet(queryEmbeddings.get(i), () -> getQueryEmbedding(request))));
+			}
+
+			var batchResults = this.qdrantClient.searchBatchAsync(this.collectionName, searches, null).get();
 
+			return batchResults.stream()
+				.map(batchResult -> batchResult.getResultList().stream().map(this::toDocument).toList())
+				.toList();
 		}
 		catch (InterruptedException | ExecutionException | IllegalArgumentException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+	private SearchPoints toSearchPoints(SearchRequest request, float[] queryEmbedding) {
+		Filter filter = (request.getFilterExpression() != null)
+				? this.filterExpressionConverter.convertExpression(request.getFilterExpression())
+				: Filter.getDefaultInstance();
+
+		String tenantId = request.getTenantId();
+		if (tenantId != null && this.tenantRouting == QdrantTenantRouting.PAYLOAD) {
+			filter = filter.toBuilder()
+				.addMust(ConditionFactory.matchKeyword(DocumentMetadata.TENANT_ID.value(), tenantId))
+				.build();
+		}
+
+		SearchPoints.Builder searchPoints = SearchPoints.newBuilder()
+			.setCollectionName(this.collectionName)
+			.setLimit(request.getTopK())
+			.setWithPayload(io.qdrant.client.WithPayloadSelectorFactory.enable(true))
+			.addAllVector(EmbeddingUtils.toList(queryEmbedding))
+			.setFilter(filter)
+			.setScoreThreshold((float) request.getSimilarityThreshold());
+		if (tenantId != null && this.tenantRouting == QdrantTenantRouting.SHARD_KEY) {
+			searchPoints.setShardKeySelector(ShardKeySelectorFactory.shardKeySelector(tenantId));
+		}
+		return searchPoints.build();
+	}
+
+	@Override
+	protected boolean supportsTenantRouting() {
+		return this.tenantRouting != QdrantTenantRouting.NONE;
+	}
+
+	@Override
+	@Nullable
+	protected Set<String> getFilterableMetadataKeys() {
+		if (this.getMetadataIndexes().isEmpty()) {
+			return null;
+		}
+		Set<String> keys = new HashSet<>();
+		this.getMetadataIndexes().forEach(metadataIndex -> keys.add(metadataIndex.name()));
+		if (this.tenantRouting == QdrantTenantRouting.PAYLOAD) {
+			keys.add(DocumentMetadata.TENANT_ID.value());
+		}
+		return keys;
+	}
+
+	private static <T> Mono<T> toMono(ListenableFuture<T> future) {
+		return Mono.create(sink -> {
+			Futures.addCallback(future, new FutureCallback<>() {
+
+				@Override
+				public void onSuccess(T result) {
+					sink.success(result);
+				}
+
+				@Override
+				public void onFailure(Throwable ex) {
+					sink.error(ex);
+				}
+
+			}, MoreExecutors.directExecutor());
+			sink.onCancel(() -> future.cancel(true));
+		});
+	}
+
 	/**
 	 * Returns {@link Document} using the {@link ScoredPoint}
 	 * @param point ScoredPoint containing the query response.
@@ -318,10 +503,49 @@ public class QdrantVectorStore extends AbstractObservationVectorStore implements
 				.setDistance(Distance.Cosine)
 				.setSize(this.embeddingModel.dimensions())
 				.build();
-			this.qdrantClient.createCollectionAsync(this.collectionName, vectorParams).get();
+			var createCollection = CreateCollection.newBuilder()
+				.setCollectionName(this.collectionName)
+				.setVectorsConfig(VectorsConfig.newBuilder().setParams(vectorParams));
+			if (this.tenantRouting == QdrantTenantRouting.PAYLOAD) {
+				// build the HNSW graphs per tenant rather than for the whole collection
+				createCollection.setHnswConfig(HnswConfigDiff.newBuilder().setPayloadM(16).setM(0));
+			}
+			else if (this.tenantRouting == QdrantTenantRouting.SHARD_KEY) {
+				createCollection.setShardingMethod(ShardingMethod.Custom);
+			}
+			this.qdrantClient.createCollectionAsync(createCollection.build()).get();
+
+			if (this.tenantRouting == QdrantTenantRouting.PAYLOAD) {
+				var tenantIndexParams = PayloadIndexParams.newBuilder()
+					.setKeywordIndexParams(KeywordIndexParams.newBuilder().setIsTenant(true))
+					.build();
+				this.qdrantClient
+					.createPayloadIndexAsync(this.collectionName, DocumentMetadata.TENANT_ID.value(),
+							PayloadSchemaType.Keyword, tenantIndexParams, true, null, null)
+					.get();
+			}
+		}
+
+		// Creating an existing payload index is a no-op, so the indexes declared after
+		// the collection was created are added too.
+		for (MetadataIndex metadataIndex : this.getMetadataIndexes()) {
+			this.qdrantClient
+				.createPayloadIndexAsync(this.collectionName, metadataIndex.name(),
+						toPayloadSchemaType(metadataIndex.type()), null, true, null, null)
+				.get();
 		}
 	}
 
+	private static PayloadSchemaType toPayloadSchemaType(MetadataIndex.Type type) {
+		return switch (type) {
+			case KEYWORD -> PayloadSchemaType.Keyword;
+			case TEXT -> PayloadSchemaType.Text;
+			case INTEGER -> PayloadSchemaType.Integer;
+			case NUMBER -> PayloadSchemaType.Float;
+			case BOOLEAN -> PayloadSchemaType.Bool;
+		};
+	}
+
 	private boolean isCollectionExists() {
 		try {
 			return this.qdrantClient.listCollectionsAsync().get().stream().anyMatch(c -> c.equals(this.collectionName));
@@ -361,6 +585,8 @@ public class QdrantVectorStore extends AbstractObservationVectorStore implements
 
 		private boolean initializeSchema = false;
 
+		private QdrantTenantRouting tenantRouting = QdrantTenantRouting.NONE;
+
 		/**
 		 * Creates a new builder instance with the required QdrantClient and
 		 * EmbeddingModel.
@@ -396,6 +622,21 @@ public class QdrantVectorStore extends AbstractObservationVectorStore implements
 			return this;
 		}
 
+		/**
+		 * Configures how the searches of a {@link SearchRequest#getTenantId() tenant} are
+		 * routed to the documents of the tenant, given by their
+		 * {@link DocumentMetadata#TENANT_ID} metadata. The collection is created for the
+		 * routing when the schema is initialized.
+		 * @param tenantRouting the tenant routing (defaults to
+		 * {@link QdrantTenantRouting#NONE})
+		 * @return this builder instance
+		 */
+		public Builder tenantRouting(QdrantTenantRouting tenantRouting) {
+			Assert.notNull(tenantRouting, "tenantRouting must not be null");
+			this.tenantRouting = tenantRouting;
+			return this;
+		}
+
 		/**
 		 * Builds and returns a new QdrantVectorStore instance with the configured
 		 * settings.
@@ -409,4 +650,32 @@ public class QdrantVectorStore extends AbstractObservationVectorStore implements
 
 	}
 
+	/**
+	 * How the documents of the tenants are organized in the collection.
+	 */
+	public enum QdrantTenantRouting {
+
+		/**
+		 * The documents of all tenants share the collection. Tenant searches filter the
+		 * points on their tenant payload.
+		 */
+		NONE,
+
+		/**
+		 * The tenant payload has a keyword index flagged as the tenant of the points,
+		 * which Qdrant uses to store the points of a tenant together, and the HNSW graphs
+		 * are built per tenant. Tenant searches filter on that index. Suited to many
+		 * tenants.
+		 */
+		PAYLOAD,
+
+		/**
+		 * The collection is sharded by tenant, each tenant having its own shard key,
+		 * created on the first insert of the tenant. Tenant searches only reach the shard
+		 * of the tenant. Suited to a few large tenants.
+		 */
+		SHARD_KEY
+
+	}
+
 }
@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.embedding.TokenCountBatchingStrategy;
+import org.springframework.ai.vectorstore.qdrant.QdrantVectorStore.QdrantTenantRouting;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -52,6 +53,7 @@ class QdrantVectorStoreBuilderTests {
 		assertThat(vectorStore).hasFieldOrPropertyWithValue("collectionName", "vector_store");
 		assertThat(vectorStore).hasFieldOrPropertyWithValue("initializeSchema", false);
 		assertThat(vectorStore).hasFieldOrPropertyWithValue("batchingStrategy.class", TokenCountBatchingStrategy.class);
+		assertThat(vectorStore).hasFieldOrPropertyWithValue("tenantRouting", QdrantTenantRouting.NONE);
 	}
 
 	@Test
@@ -60,11 +62,13 @@ class QdrantVectorStoreBuilderTests {
 			.collectionName("custom_collection")
 			.initializeSchema(true)
 			.batchingStrategy(new TokenCountBatchingStrategy())
+			.tenantRouting(QdrantTenantRouting.SHARD_KEY)
 			.build();
 
 		assertThat(vectorStore).hasFieldOrPropertyWithValue("collectionName", "custom_collection");
 		assertThat(vectorStore).hasFieldOrPropertyWithValue("initializeSchema", true);
 		assertThat(vectorStore).hasFieldOrPropertyWithValue("batchingStrategy.class", TokenCountBatchingStrategy.class);
+		assertThat(vectorStore).hasFieldOrPropertyWithValue("tenantRouting", QdrantTenantRouting.SHARD_KEY);
 	}
 
 	@Test
@@ -88,6 +92,14 @@ class QdrantVectorStoreBuilderTests {
 			.hasMessage("collectionName must not be empty");
 	}
 
+	@Test
+	void nullTenantRoutingShouldThrowException() {
+		assertThatThrownBy(
+				() -> QdrantVectorStore.builder(this.qdrantClient, this.embeddingModel).tenantRouting(null).build())
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("tenantRouting must not be null");
+	}
+
 	@Test
 	void nullBatchingStrategyShouldThrowException() {
 		assertThatThrownBy(
@@ -22,7 +22,9 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -31,6 +33,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import redis.clients.jedis.JedisPooled;
 import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.json.Path2;
 import redis.clients.jedis.search.FTCreateParams;
 import redis.clients.jedis.search.IndexDataType;
@@ -48,10 +51,11 @@ import redis.clients.jedis.search.schemafields.VectorField.VectorAlgorithm;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
 import org.springframework.ai.embedding.EmbeddingModel;
-import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
 import org.springframework.ai.observation.conventions.VectorStoreSimilarityMetric;
 import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
+import org.springframework.ai.vectorstore.EmbeddedDocumentBatch;
+import org.springframework.ai.vectorstore.MetadataIndex;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.ai.vectorstore.filter.Filter;
@@ -240,25 +244,45 @@ public class RedisVectorStore extends AbstractObservationVectorStore implements
 		this.contentFieldName = builder.contentFieldName;
 		this.embeddingFieldName = builder.embeddingFieldName;
 		this.vectorAlgorithm = builder.vectorAlgorithm;
-		this.metadataFields = builder.metadataFields;
+		this.metadataFields = metadataFields(builder.metadataFields, builder.getMetadataIndexes());
 		this.initializeSchema = builder.initializeSchema;
 		this.filterExpressionConverter = new RedisFilterExpressionConverter(this.metadataFields);
 	}
 
+	/**
+	 * Adds the declared metadata indexes that are not configured as metadata fields:
+	 * keywords and booleans as TAG fields, texts as TEXT fields and numbers as NUMERIC
+	 * fields.
+	 */
+	private static List<MetadataField> metadataFields(List<MetadataField> metadataFields,
+			List<MetadataIndex> metadataIndexes) {
+		List<MetadataField> fields = new ArrayList<>(metadataFields);
+		Set<String> names = metadataFields.stream().map(MetadataField::name).collect(Collectors.toSet());
+		for (MetadataIndex metadataIndex : metadataIndexes) {
+			if (names.add(metadataIndex.name())) {
+				MetadataField field = switch (metadataIndex.type()) {
+					case KEYWORD, BOOLEAN -> MetadataField.tag(metadataIndex.name());
+					case TEXT -> MetadataField.text(metadataIndex.name());
+					case INTEGER, NUMBER -> MetadataField.numeric(metadataIndex.name());
+				};
+				fields.add(field);
+			}
+		}
+		return fields;
+	}
+
 	public JedisPooled getJedis() {
 		return this.jedis;
 	}
 
 	@Override
-	public void doAdd(List<Document> documents) {
+	protected void doAdd(EmbeddedDocumentBatch batch) {
 		try (Pipeline pipeline = this.jedis.pipelined()) {
 
-			List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
-					this.batchingStrategy);
-
-			for (Document document : documents) {
+			for (var embeddedDocument : batch) {
+				Document document = embeddedDocument.document();
 				var fields = new HashMap<String, Object>();
-				fields.put(this.embeddingFieldName, embeddings.get(documents.indexOf(document)));
+				fields.put(this.embeddingFieldName, embeddedDocument.embedding());
 				fields.put(this.contentFieldName, document.getText());
 				fields.putAll(document.getMetadata());
 				pipeline.jsonSetWithEscape(key(document.getId()), JSON_SET_PATH, fields);
@@ -336,7 +360,38 @@ public class RedisVectorStore extends AbstractObservationVectorStore implements
 
 	@Override
 	public List<Document> doSimilaritySearch(SearchRequest request) {
+		SearchResult result = this.jedis.ftSearch(this.indexName, toQuery(request, getQueryEmbedding(request)));
+		return toDocuments(result, request);
+	}
 
+	/**
+	 * Sends the searches in a single pipeline, so that they share one round trip to
+	 * Redis.
+	 */
+	@Override
+	protected List<List<Document>> doBatchSimilaritySearch(List<SearchRequest> requests,
+			List<float[]> queryEmbeddings) {
+		List<Query> queries = new ArrayList<>(requests.size());
+		for (int i = 0; i < requests.size(); i++) {
+			SearchRequest request = requests.get(i);
+			queries.add(toQuery(request,
+					Objects.requireNonNullElseGet(queryEmbeddings.get(i), () -> getQueryEmbedding(request))));
+		}
+		List<Response<SearchResult>> responses = new ArrayList<>(queries.size());
+		try (Pipeline pipeline = this.jedis.pipelined()) {
+			for (Query query : queries) {
+				responses.add(pipeline.ftSearch(this.indexName, query));
+			}
+			pipeline.sync();
+		}
+		List<List<Document>> results = new ArrayList<>(requests.size());
+		for (int i = 0; i < requests.size(); i++) {
+			results.add(toDocuments(responses.get(i).get(), requests.get(i)));
+		}
+		return results;
+	}
+
+	private Query toQuery(SearchRequest request, float[] embedding) {
 		Assert.isTrue(request.getTopK() > 0, "The number of documents to be returned must be greater than zero");
 		Assert.isTrue(request.getSimilarityThreshold() >= 0 && request.getSimilarityThreshold() <= 1,
 				"The similarity score is bounded between 0 and 1; least to most similar respectively.");
@@ -351,14 +406,14 @@ public class RedisVectorStore extends AbstractObservationVectorStore implements
 		returnFields.add(this.embeddingFieldName);
 		returnFields.add(this.contentFieldName);
 		returnFields.add(DISTANCE_FIELD_NAME);
-		var embedding = this.embeddingModel.embed(request.getQuery());
-		Query query = new Query(queryString).addParam(EMBEDDING_PARAM_NAME, RediSearchUtil.toByteArray(embedding))
+		return new Query(queryString).addParam(EMBEDDING_PARAM_NAME, RediSearchUtil.toByteArray(embedding))
 			.returnFields(returnFields.toArray(new String[0]))
 			.setSortBy(DISTANCE_FIELD_NAME, true)
 			.limit(0, request.getTopK())
 			.dialect(2);
+	}
 
-		SearchResult result = this.jedis.ftSearch(this.indexName, query);
+	private List<Document> toDocuments(SearchResult result, SearchRequest request) {
 		return result.getDocuments()
 			.stream()
 			.filter(d -> similarityScore(d) >= request.getSimilarityThreshold())
@@ -453,6 +508,15 @@ public class RedisVectorStore extends AbstractObservationVectorStore implements
 		return JSON_PATH_PREFIX + field;
 	}
 
+	/**
+	 * Redis only filters on the fields of the search index, so the filters on other
+	 * metadata keys match no document.
+	 */
+	@Override
+	protected Set<String> getFilterableMetadataKeys() {
+		return this.metadataFields.stream().map(MetadataField::name).collect(Collectors.toSet());
+	}
+
 	@Override
 	public VectorStoreObservationContext.Builder createObservationContextBuilder(String operationName) {
 
@@ -40,10 +40,11 @@ import org.typesense.model.MultiSearchSearchesParameter;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
 import org.springframework.ai.embedding.EmbeddingModel;
-import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
 import org.springframework.ai.observation.conventions.VectorStoreSimilarityMetric;
 import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
+import org.springframework.ai.vectorstore.EmbeddedDocumentBatch;
+import org.springframework.ai.vectorstore.MetadataIndex;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.filter.Filter;
 import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
@@ -140,16 +141,18 @@ public class TypesenseVectorStore extends AbstractObservationVectorStore impleme
 	@Override
 	public void doAdd(List<Document> documents) {
 		Assert.notNull(documents, "Documents must not be null");
+		super.doAdd(documents);
+	}
 
-		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
-				this.batchingStrategy);
-
-		List<HashMap<String, Object>> documentList = documents.stream().map(document -> {
+	@Override
+	protected void doAdd(EmbeddedDocumentBatch batch) {
+		List<HashMap<String, Object>> documentList = batch.stream().map(embeddedDocument -> {
+			Document document = embeddedDocument.document();
 			HashMap<String, Object> typesenseDoc = new HashMap<>();
 			typesenseDoc.put(DOC_ID_FIELD_NAME, document.getId());
 			typesenseDoc.put(CONTENT_FIELD_NAME, document.getText());
 			typesenseDoc.put(METADATA_FIELD_NAME, document.getMetadata());
-			typesenseDoc.put(EMBEDDING_FIELD_NAME, embeddings.get(documents.indexOf(document)));
+			typesenseDoc.put(EMBEDDING_FIELD_NAME, embeddedDocument.embedding());
 
 			return typesenseDoc;
 		}).toList();
@@ -223,7 +226,7 @@ public class TypesenseVectorStore extends AbstractObservationVectorStore impleme
 
 		logger.info("Filter expression: {}", nativeFilterExpressions);
 
-		float[] embedding = this.embeddingModel.embed(request.getQuery());
+		float[] embedding = getQueryEmbedding(request);
 
 		MultiSearchCollectionParameters multiSearchCollectionParameters = new MultiSearchCollectionParameters();
 		multiSearchCollectionParameters.collection(this.collectionName);
@@ -326,6 +329,14 @@ public class TypesenseVectorStore extends AbstractObservationVectorStore impleme
 				.numDim(this.embeddingDimensions())
 				.optional(false))
 			.enableNestedFields(true);
+		// The nested fields of the metadata are indexed with the type detected from the
+		// first document, the declared ones with their declared type.
+		for (MetadataIndex metadataIndex : this.getMetadataIndexes()) {
+			collectionSchema.addFieldsItem(new Field().name(METADATA_FIELD_NAME + "." + metadataIndex.name())
+				.type(fieldType(metadataIndex.type()))
+				.facet(metadataIndex.cardinality() == MetadataIndex.Cardinality.LOW)
+				.optional(true));
+		}
 
 		try {
 			this.client.collections().create(collectionSchema);
@@ -336,6 +347,15 @@ public class TypesenseVectorStore extends AbstractObservationVectorStore impleme
 		}
 	}
 
+	private static String fieldType(MetadataIndex.Type type) {
+		return switch (type) {
+			case KEYWORD, TEXT -> FieldTypes.STRING;
+			case INTEGER -> FieldTypes.INT64;
+			case NUMBER -> FieldTypes.FLOAT;
+			case BOOLEAN -> FieldTypes.BOOL;
+		};
+	}
+
 	void dropCollection() {
 		if (!this.hasCollection()) {
 			logger.info("Collection {} does not exist", this.collectionName);
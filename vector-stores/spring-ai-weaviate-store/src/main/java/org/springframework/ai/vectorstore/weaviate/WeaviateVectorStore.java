@@ -22,6 +22,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -49,10 +50,11 @@ import org.slf4j.LoggerFactory;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
 import org.springframework.ai.embedding.EmbeddingModel;
-import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.model.EmbeddingUtils;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
 import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
+import org.springframework.ai.vectorstore.EmbeddedDocumentBatch;
+import org.springframework.ai.vectorstore.MetadataIndex;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.filter.Filter;
 import org.springframework.ai.vectorstore.observation.AbstractObservationVectorStore;
@@ -160,12 +162,33 @@ public class WeaviateVectorStore extends AbstractObservationVectorStore {
 		this.weaviateClient = builder.weaviateClient;
 		this.consistencyLevel = builder.consistencyLevel;
 		this.weaviateObjectClass = builder.weaviateObjectClass;
-		this.filterMetadataFields = builder.filterMetadataFields;
+		this.filterMetadataFields = filterMetadataFields(builder.filterMetadataFields, builder.getMetadataIndexes());
 		this.filterExpressionConverter = new WeaviateFilterExpressionConverter(
 				this.filterMetadataFields.stream().map(MetadataField::name).toList());
 		this.weaviateSimilaritySearchFields = buildWeaviateSimilaritySearchFields();
 	}
 
+	/**
+	 * Adds the declared metadata indexes that are not configured as filter metadata
+	 * fields.
+	 */
+	private static List<MetadataField> filterMetadataFields(List<MetadataField> filterMetadataFields,
+			List<MetadataIndex> metadataIndexes) {
+		List<MetadataField> fields = new ArrayList<>(filterMetadataFields);
+		Set<String> names = filterMetadataFields.stream().map(MetadataField::name).collect(Collectors.toSet());
+		for (MetadataIndex metadataIndex : metadataIndexes) {
+			if (names.add(metadataIndex.name())) {
+				MetadataField field = switch (metadataIndex.type()) {
+					case KEYWORD, TEXT -> MetadataField.text(metadataIndex.name());
+					case INTEGER, NUMBER -> MetadataField.number(metadataIndex.name());
+					case BOOLEAN -> MetadataField.bool(metadataIndex.name());
+				};
+				fields.add(field);
+			}
+		}
+		return fields;
+	}
+
 	/**
 	 * Creates a new WeaviateBuilder instance. This is the recommended way to instantiate
 	 * a WeaviateVectorStore.
@@ -201,12 +224,14 @@ public class WeaviateVectorStore extends AbstractObservationVectorStore {
 		if (CollectionUtils.isEmpty(documents)) {
 			return;
 		}
+		super.doAdd(documents);
+	}
 
-		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
-				this.batchingStrategy);
+	@Override
+	protected void doAdd(EmbeddedDocumentBatch batch) {
 
-		List<WeaviateObject> weaviateObjects = documents.stream()
-			.map(document -> toWeaviateObject(document, documents, embeddings))
+		List<WeaviateObject> weaviateObjects = batch.stream()
+			.map(embeddedDocument -> toWeaviateObject(embeddedDocument.document(), embeddedDocument.embedding()))
 			.toList();
 
 		Result<ObjectGetResponse[]> response = this.weaviateClient.batch()
@@ -243,7 +268,7 @@ public class WeaviateVectorStore extends AbstractObservationVectorStore {
 		}
 	}
 
-	private WeaviateObject toWeaviateObject(Document document, List<Document> documents, List<float[]> embeddings) {
+	private WeaviateObject toWeaviateObject(Document document, float[] embedding) {
 
 		// https://weaviate.io/developers/weaviate/config-refs/datatypes
 		Map<String, Object> fields = new HashMap<>();
@@ -267,7 +292,7 @@ public class WeaviateVectorStore extends AbstractObservationVectorStore {
 		return WeaviateObject.builder()
 			.className(this.weaviateObjectClass)
 			.id(document.getId())
-			.vector(EmbeddingUtils.toFloatArray(embeddings.get(documents.indexOf(document))))
+			.vector(EmbeddingUtils.toFloatArray(embedding))
 			.properties(fields)
 			.build();
 	}
@@ -332,7 +357,7 @@ public class WeaviateVectorStore extends AbstractObservationVectorStore {
 	@Override
 	public List<Document> doSimilaritySearch(SearchRequest request) {
 
-		float[] embedding = this.embeddingModel.embed(request.getQuery());
+		float[] embedding = getQueryEmbedding(request);
 
 		GetBuilder.GetBuilderBuilder builder = GetBuilder.builder();
 
@@ -429,6 +454,15 @@ public class WeaviateVectorStore extends AbstractObservationVectorStore {
 			.build(); // @formatter:on
 	}
 
+	/**
+	 * The filters only apply to the filter metadata fields, which are the properties of
+	 * the objects.
+	 */
+	@Override
+	protected Set<String> getFilterableMetadataKeys() {
+		return this.filterMetadataFields.stream().map(MetadataField::name).collect(Collectors.toSet());
+	}
+
 	@Override
 	public VectorStoreObservationContext.Builder createObservationContextBuilder(String operationName) {
 